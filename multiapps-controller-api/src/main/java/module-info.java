@@ -10,6 +10,7 @@ open module org.cloudfoundry.multiapps.controller.api {
     requires transitive spring.web;
 
     requires org.cloudfoundry.multiapps.common;
+    requires spring.core;
 
     requires static java.compiler;
     requires static jakarta.inject;
@@ -36,6 +36,9 @@ public class Constants {
 
         public static final String LAST = "last";
         public static final String STATE = "state";
+        public static final String OFFSET = "offset";
+        public static final String PAGE_SIZE = "pageSize";
+        public static final String CURSOR = "cursor";
     }
 
     public static class Resources {
@@ -68,6 +71,7 @@ public class Constants {
         public static final String OPERATION_ACTIONS = OPERATION + "/actions";
         public static final String ASYNC_UPLOAD = "/async";
         public static final String ASYNC_UPLOAD_JOB = "/jobs/{" + PathVariables.JOB_ID + "}";
+        public static final String BATCH_UPLOAD = "/batch";
 
     }
 
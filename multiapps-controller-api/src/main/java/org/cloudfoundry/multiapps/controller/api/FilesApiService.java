@@ -14,6 +14,8 @@ public interface FilesApiService {
 
     ResponseEntity<FileMetadata> uploadFile(MultipartHttpServletRequest request, String spaceGuid, String namespace);
 
+    ResponseEntity<List<FileMetadata>> uploadFiles(MultipartHttpServletRequest request, String spaceGuid, String namespace);
+
     ResponseEntity<Void> startUploadFromUrl(String spaceGuid, String namespace, FileUrl fileUrl);
 
     ResponseEntity<AsyncUploadResult> getUploadFromUrlJob(String spaceGuid, String namespace, String jobId);
@@ -6,6 +6,7 @@ import jakarta.servlet.http.HttpServletRequest;
 
 import org.cloudfoundry.multiapps.controller.api.model.Log;
 import org.cloudfoundry.multiapps.controller.api.model.Operation;
+import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
 
 public interface OperationsApiService {
@@ -14,13 +15,15 @@ public interface OperationsApiService {
 
     ResponseEntity<Void> executeOperationAction(HttpServletRequest request, String spaceGuid, String operationId, String actionId);
 
-    ResponseEntity<List<Operation>> getOperations(String spaceGuid, String mtaId, List<String> states, Integer last);
+    ResponseEntity<List<Operation>> getOperations(String spaceGuid, String mtaId, List<String> states, Integer last, Integer pageSize,
+                                                  String cursor);
 
     ResponseEntity<Operation> getOperation(String spaceGuid, String operationId, String embed);
 
     ResponseEntity<List<Log>> getOperationLogs(String spaceGuid, String operationId);
 
-    ResponseEntity<String> getOperationLogContent(String spaceGuid, String operationId, String logId);
+    ResponseEntity<Resource> getOperationLogContent(String spaceGuid, String operationId, String logId, Long offset, String range,
+                                                    String acceptEncoding);
 
     ResponseEntity<Operation> startOperation(HttpServletRequest request, String spaceGuid, Operation operation);
 
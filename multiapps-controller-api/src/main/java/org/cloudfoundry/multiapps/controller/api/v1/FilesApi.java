@@ -63,6 +63,19 @@ public class FilesApi {
         return delegate.uploadFile(request, spaceGuid, namespace);
     }
 
+    @PostMapping(path = Endpoints.BATCH_UPLOAD, consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "", nickname = "uploadMtaFiles", notes = "Uploads several files, such as the parts of a Multi Target Application archive, with a single request ", response = FileMetadata.class, responseContainer = "List", authorizations = {
+        @Authorization(value = "oauth2", scopes = {
+
+        }) }, tags = {})
+    @ApiResponses(value = { @ApiResponse(code = 201, message = "Created", response = FileMetadata.class, responseContainer = "List") })
+    public ResponseEntity<List<FileMetadata>>
+           uploadFiles(MultipartHttpServletRequest request,
+                       @ApiParam(value = "GUID of space you wish to deploy in") @PathVariable(PathVariables.SPACE_GUID) String spaceGuid,
+                       @ApiParam(value = "file namespace") @RequestParam(name = RequestVariables.NAMESPACE, required = false) String namespace) {
+        return delegate.uploadFiles(request, spaceGuid, namespace);
+    }
+
     @PostMapping(path = Endpoints.ASYNC_UPLOAD, consumes = MediaType.APPLICATION_JSON_VALUE)
     @ApiOperation(value = "", nickname = "startUploadFromUrl", notes = "Uploads a Multi Target Application archive or an Extension Descriptor from a remote endpoint", authorizations = {
         @Authorization(value = "oauth2", scopes = {
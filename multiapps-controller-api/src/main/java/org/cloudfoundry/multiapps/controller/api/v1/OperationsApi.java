@@ -13,12 +13,15 @@ import org.cloudfoundry.multiapps.controller.api.Constants.Resources;
 import org.cloudfoundry.multiapps.controller.api.OperationsApiService;
 import org.cloudfoundry.multiapps.controller.api.model.Log;
 import org.cloudfoundry.multiapps.controller.api.model.Operation;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -79,11 +82,16 @@ public class OperationsApi {
         @Authorization(value = "oauth2", scopes = {
 
         }) }, tags = {})
-    @ApiResponses(value = { @ApiResponse(code = 200, message = "OK", response = String.class) })
-    public ResponseEntity<String> getOperationLogContent(@PathVariable(PathVariables.SPACE_GUID) String spaceGuid,
-                                                         @PathVariable(PathVariables.OPERATION_ID) String operationId,
-                                                         @PathVariable(PathVariables.LOG_ID) String logId) {
-        return delegate.getOperationLogContent(spaceGuid, operationId, logId);
+    @ApiResponses(value = { @ApiResponse(code = 200, message = "OK", response = String.class),
+        @ApiResponse(code = 206, message = "Partial Content", response = String.class),
+        @ApiResponse(code = 416, message = "Range Not Satisfiable") })
+    public ResponseEntity<Resource> getOperationLogContent(@PathVariable(PathVariables.SPACE_GUID) String spaceGuid,
+                                                           @PathVariable(PathVariables.OPERATION_ID) String operationId,
+                                                           @PathVariable(PathVariables.LOG_ID) String logId,
+                                                           @ApiParam(value = "Offset in bytes from which to retrieve the log, so that polling clients receive only the content appended since their previous request") @RequestParam(name = QueryVariables.OFFSET, required = false) Long offset,
+                                                           @ApiParam(value = "Single byte range of the log to retrieve, e.g. \"bytes=1024-\" to read the log from the given offset") @RequestHeader(name = HttpHeaders.RANGE, required = false) String range,
+                                                           @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return delegate.getOperationLogContent(spaceGuid, operationId, logId, offset, range, acceptEncoding);
     }
 
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
@@ -95,8 +103,10 @@ public class OperationsApi {
     public ResponseEntity<List<Operation>> getOperations(@PathVariable(PathVariables.SPACE_GUID) String spaceGuid,
                                                          @RequestParam(name = RequestVariables.MTA_ID, required = false) String mtaId,
                                                          @RequestParam(name = QueryVariables.LAST, required = false) Integer last,
-                                                         @RequestParam(name = QueryVariables.STATE, required = false) List<String> states) {
-        return delegate.getOperations(spaceGuid, mtaId, states, last);
+                                                         @RequestParam(name = QueryVariables.STATE, required = false) List<String> states,
+                                                         @ApiParam(value = "Maximum number of operations to retrieve, ordered by their start time. The URL of the next page is returned in the Link header of the response") @RequestParam(name = QueryVariables.PAGE_SIZE, required = false) Integer pageSize,
+                                                         @ApiParam(value = "Opaque position from which to continue the retrieval of operations, as returned in the Link header of the previous page") @RequestParam(name = QueryVariables.CURSOR, required = false) String cursor) {
+        return delegate.getOperations(spaceGuid, mtaId, states, last, pageSize, cursor);
     }
 
     @GetMapping(path = Endpoints.OPERATION_ACTIONS, produces = MediaType.APPLICATION_JSON_VALUE)
@@ -25,6 +25,7 @@ open module org.cloudfoundry.multiapps.controller.client {
     requires org.cloudfoundry.util;
     requires org.slf4j;
     requires java.net.http;
+    requires micrometer.core;
     requires spring.core;
     requires spring.webflux;
     requires reactor.core;
@@ -9,6 +9,8 @@ import org.cloudfoundry.multiapps.controller.client.facade.util.RestUtil;
 import org.cloudfoundry.client.CloudFoundryClient;
 import org.immutables.value.Value;
 
+import io.micrometer.core.instrument.Metrics;
+
 import java.net.URL;
 import java.time.Duration;
 import java.util.Collections;
@@ -62,7 +64,7 @@ public abstract class CloudControllerRestClientFactory {
                                                   OAuthClient oAuthClient, Map<String, String> requestTags) {
         oAuthClient.init(credentials);
         CloudFoundryClient delegate = getCloudFoundryClientFactory().createClient(controllerUrl, oAuthClient, requestTags);
-        return new CloudControllerRestClientImpl(delegate, target);
+        return MeteredCloudControllerRestClient.wrap(new CloudControllerRestClientImpl(delegate, target), Metrics.globalRegistry);
     }
 
     private OAuthClient createOAuthClient(URL controllerUrl, String origin) {
@@ -0,0 +1,66 @@
+package org.cloudfoundry.multiapps.controller.client.facade.rest;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records the latency of each call to the operations of a {@link CloudControllerRestClient}, tagged by the name of the operation and
+ * whether it failed.
+ */
+class MeteredCloudControllerRestClient implements InvocationHandler {
+
+    static final String CALL_METRIC_NAME = "multiapps.cloud.controller.call";
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_FAILURE = "failure";
+
+    private final CloudControllerRestClient delegate;
+    private final MeterRegistry meterRegistry;
+
+    private MeteredCloudControllerRestClient(CloudControllerRestClient delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    static CloudControllerRestClient wrap(CloudControllerRestClient delegate, MeterRegistry meterRegistry) {
+        return (CloudControllerRestClient) Proxy.newProxyInstance(CloudControllerRestClient.class.getClassLoader(),
+                                                                  new Class<?>[] { CloudControllerRestClient.class },
+                                                                  new MeteredCloudControllerRestClient(delegate, meterRegistry));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (!isRemoteOperation(method)) {
+            return invokeDelegate(method, args);
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = OUTCOME_FAILURE;
+        try {
+            Object result = invokeDelegate(method, args);
+            outcome = OUTCOME_SUCCESS;
+            return result;
+        } finally {
+            sample.stop(Timer.builder(CALL_METRIC_NAME)
+                             .tag("operation", method.getName())
+                             .tag("outcome", outcome)
+                             .register(meterRegistry));
+        }
+    }
+
+    private boolean isRemoteOperation(Method method) {
+        return method.getDeclaringClass() != Object.class && !"getTarget".equals(method.getName());
+    }
+
+    private Object invokeDelegate(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(delegate, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+}
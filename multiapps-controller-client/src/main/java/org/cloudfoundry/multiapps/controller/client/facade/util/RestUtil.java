@@ -49,24 +49,31 @@ public class RestUtil {
     }
 
     public WebClient createWebClient(boolean trustSelfSignedCerts) {
+        return createWebClient(HttpClient.create(), trustSelfSignedCerts);
+    }
+
+    /**
+     * Creates a web client, which sends its requests through the given HTTP client and thus shares its connection pool with all other
+     * web clients created from the same HTTP client.
+     */
+    public WebClient createWebClient(HttpClient httpClient, boolean trustSelfSignedCerts) {
         return WebClient.builder()
                         .exchangeStrategies(ExchangeStrategies.builder()
                                                               .codecs(configurer -> configurer.defaultCodecs()
                                                                                               .maxInMemorySize(MAX_IN_MEMORY_SIZE))
                                                               .build())
-                        .clientConnector(buildClientConnector(trustSelfSignedCerts))
+                        .clientConnector(buildClientConnector(httpClient, trustSelfSignedCerts))
                         .build();
     }
 
-    private ClientHttpConnector buildClientConnector(boolean trustSelfSignedCerts) {
-        HttpClient httpClient = HttpClient.create()
-                                          .followRedirect(true);
+    private ClientHttpConnector buildClientConnector(HttpClient httpClient, boolean trustSelfSignedCerts) {
+        HttpClient redirectingHttpClient = httpClient.followRedirect(true);
         if (trustSelfSignedCerts) {
-            httpClient = httpClient.secure(sslContextSpec -> sslContextSpec.sslContext(buildSslContext()));
+            redirectingHttpClient = redirectingHttpClient.secure(sslContextSpec -> sslContextSpec.sslContext(buildSslContext()));
         } else {
-            httpClient = httpClient.secure();
+            redirectingHttpClient = redirectingHttpClient.secure();
         }
-        return new ReactorClientHttpConnector(httpClient);
+        return new ReactorClientHttpConnector(redirectingHttpClient);
     }
 
     private SslContext buildSslContext() {
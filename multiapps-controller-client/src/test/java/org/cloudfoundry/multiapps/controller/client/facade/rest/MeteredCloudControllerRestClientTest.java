@@ -0,0 +1,76 @@
+package org.cloudfoundry.multiapps.controller.client.facade.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+
+import org.cloudfoundry.multiapps.controller.client.facade.CloudOperationException;
+import org.cloudfoundry.multiapps.controller.client.facade.domain.CloudApplication;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MeteredCloudControllerRestClientTest {
+
+    private static final String APPLICATION_NAME = "foo";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private CloudControllerRestClient delegate;
+
+    private CloudControllerRestClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this)
+                          .close();
+        client = MeteredCloudControllerRestClient.wrap(delegate, meterRegistry);
+    }
+
+    @Test
+    void testSuccessfulCallIsRecorded() {
+        CloudApplication application = Mockito.mock(CloudApplication.class);
+        when(delegate.getApplication(APPLICATION_NAME)).thenReturn(application);
+
+        assertSame(application, client.getApplication(APPLICATION_NAME));
+        assertEquals(1, getCallCount("getApplication", "success"));
+    }
+
+    @Test
+    void testFailedCallIsRecordedAndExceptionIsPropagated() {
+        CloudOperationException exception = new CloudOperationException(HttpStatus.NOT_FOUND);
+        doThrow(exception).when(delegate)
+                          .deleteApplication(APPLICATION_NAME);
+
+        assertSame(exception, assertThrows(CloudOperationException.class, () -> client.deleteApplication(APPLICATION_NAME)));
+        assertEquals(1, getCallCount("deleteApplication", "failure"));
+    }
+
+    @Test
+    void testGetTargetIsNotRecorded() {
+        client.getTarget();
+
+        assertTrue(meterRegistry.find(MeteredCloudControllerRestClient.CALL_METRIC_NAME)
+                                .timers()
+                                .isEmpty());
+    }
+
+    private long getCallCount(String operation, String outcome) {
+        return meterRegistry.get(MeteredCloudControllerRestClient.CALL_METRIC_NAME)
+                            .tag("operation", operation)
+                            .tag("outcome", outcome)
+                            .timer()
+                            .count();
+    }
+
+}
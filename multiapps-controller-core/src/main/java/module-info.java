@@ -76,6 +76,8 @@ open module org.cloudfoundry.multiapps.controller.core {
     requires spring.security.oauth2.core;
     requires reactor.netty;
     requires io.netty.handler;
+    requires io.netty.transport;
+    requires micrometer.core;
 
     requires static java.compiler;
     requires static org.immutables.value;
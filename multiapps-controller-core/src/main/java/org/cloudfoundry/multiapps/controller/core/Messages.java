@@ -43,6 +43,7 @@ public final class Messages {
     public static final String NAMESPACE_IS_TOO_LONG = "Cannot shorten \"{0}-{1}\" to {2} characters - the namespace is too long for a prefix";
     public static final String ERROR_GETTING_APPLICATIONS = "Error getting Cloud Foundry applications";
     public static final String COULD_NOT_PARSE_ATTRIBUTES_OF_APP_0 = "Could not parse attributes of application \"{0}\"";
+    public static final String COULD_NOT_PARSE_PAGE_OF_RESOURCES = "Could not parse page of resources";
     public static final String ATTRIBUTE_0_OF_APP_1_IS_OF_TYPE_2_INSTEAD_OF_3 = "Attribute \"{0}\" of application \"{1}\" is of type {2} instead of {3}!";
     public static final String ILLEGAL_DESIRED_STATE = "Illegal desired application state: {0}";
     public static final String ILLEGAL_SERVICE_OPERATION_STATE = "Illegal service operation state: {0}";
@@ -109,9 +110,13 @@ public final class Messages {
     public static final String ORG_NAME_NOT_SPECIFIED = "Org name is not specified in the environment.";
     public static final String DEPLOY_SERVICE_URL_NOT_SPECIFIED = "Deploy service URL is not specified in the environment.";
     public static final String INVALID_SUPPORT_COMPONENTS = "Invalid SUPPORT_COMPONENTS \"{0}\"";
+    public static final String INVALID_RATE_LIMIT_ENDPOINT_QUOTAS = "Invalid RATE_LIMIT_ENDPOINT_QUOTAS \"{0}\"";
+    public static final String INVALID_PROCESS_LOGS_LEVEL = "Invalid PROCESS_LOGS_LEVEL \"{0}\"";
     public static final String INCOMPATIBLE_PARAMETERS = "Module \"{0}\" has parameters {1} that will be replaced by \"{2}\" due to inconsistency";
     public static final String MODULE_0_DEPENDS_ON_MODULE_1_WHICH_CANNOT_BE_RESOLVED = "Module \"{0}\" depends on module \"{1}\", which is not an application and its state cannot be calculated. This dependency will be ignored during deployment.";
     public static final String MODULE_0_WILL_BE_SKIPPED_DURING_DEPLOYMENT = "Module \"{0}\" will be skipped during deployment";
+    public static final String AUDIT_LOG_WRITER_FOR_CATEGORY_0_STOPPED_WITH_1_PENDING_EVENTS = "Audit log writer for category \"{0}\" stopped with {1} pending events";
+    public static final String COULD_NOT_WRITE_BATCH_OF_0_AUDIT_LOG_EVENTS_FOR_CATEGORY_1_WRITING_THEM_ONE_BY_ONE = "Could not write batch of {0} audit log events for category \"{1}\", writing them one by one";
 
     // Info messages
     public static final String PLATFORMS_NOT_SPECIFIED = "No platforms are specified in the environment.";
@@ -196,6 +201,22 @@ public final class Messages {
     public static final String ON_START_FILES_CLEANER_WITHOUT_CONTENT_ENABLED_0 = "On start files cleaner without content enabled: {0}";
     public static final String THREADS_FOR_FILE_UPLOAD_TO_CONTROLLER_0 = "Threads for file upload to controller: {0}";
     public static final String THREADS_FOR_FILE_STORAGE_UPLOAD_0 = "Threads for file storage upload: {0}";
+    public static final String THREADS_FOR_FILE_STORAGE_DOWNLOAD_0 = "Threads for file storage download: {0}";
+    public static final String FILE_STORAGE_DOWNLOAD_CHUNK_SIZE_0 = "File storage download chunk size: {0}";
+    public static final String FILE_STORAGE_DOWNLOAD_MAX_CHUNKS_IN_FLIGHT_0 = "File storage download max chunks in flight: {0}";
+    public static final String FILE_STORAGE_DOWNLOAD_MAX_BUFFERED_SIZE_0 = "File storage download max buffered size: {0}";
+    public static final String FILE_STORAGE_UPLOAD_PART_SIZE_0 = "File storage upload part size: {0}";
+    public static final String FILE_STORAGE_UPLOAD_MAX_PARTS_IN_FLIGHT_0 = "File storage upload max parts in flight: {0}";
+    public static final String FILE_STORAGE_UPLOAD_MAX_BUFFERED_SIZE_0 = "File storage upload max buffered size: {0}";
+    public static final String PROCESS_LOGS_LEVEL_0 = "Process logs level: {0}";
+    public static final String ARCHIVE_ENTRY_CACHE_MAX_SIZE_0 = "Archive entry cache max size: {0}";
+    public static final String AUDIT_LOG_QUEUE_CAPACITY_0 = "Audit log queue capacity: {0}";
+    public static final String AUDIT_LOG_DROP_EVENTS_ON_OVERFLOW_0 = "Drop audit log events on overflow: {0}";
+    public static final String IS_DISTRIBUTED_RATE_LIMITING_ENABLED_0 = "Is distributed rate limiting enabled: {0}";
+    public static final String RATE_LIMIT_ENDPOINT_QUOTAS_0 = "Rate limit endpoint quotas: {0}";
+    public static final String HISTORIC_PROCESSES_DELETION_THREADS_0 = "Historic processes deletion threads: {0}";
+    public static final String CLEAN_UP_JOB_MAX_PARALLEL_CLEANERS_0 = "Clean-up job max parallel cleaners: {0}";
+    public static final String CLEAN_UP_JOB_CLEANER_TIME_BUDGET_IN_MINUTES_0 = "Clean-up job cleaner time budget in minutes: {0}";
     public static final String DELETED_ORPHANED_MTA_DESCRIPTORS_COUNT = "Deleted orphaned mta descriptors count: {0}";
     public static final String IS_HEALTH_CHECK_ENABLED = "Is health check enabled: {0}";
 
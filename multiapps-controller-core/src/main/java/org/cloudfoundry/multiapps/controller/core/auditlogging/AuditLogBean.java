@@ -3,7 +3,9 @@ package org.cloudfoundry.multiapps.controller.core.auditlogging;
 import javax.sql.DataSource;
 
 import jakarta.inject.Inject;
+import org.cloudfoundry.multiapps.controller.core.auditlogging.impl.AuditLogQueueOptions;
 import org.cloudfoundry.multiapps.controller.core.auditlogging.impl.AuditLoggingFacadeSLImpl;
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -12,8 +14,11 @@ public class AuditLogBean {
 
     @Bean
     @Inject
-    public AuditLoggingFacade buildAuditLoggingFacade(DataSource dataSource, UserInfoProvider userInfoProvider) {
-        return new AuditLoggingFacadeSLImpl(dataSource, userInfoProvider);
+    public AuditLoggingFacade buildAuditLoggingFacade(DataSource dataSource, UserInfoProvider userInfoProvider,
+                                                      ApplicationConfiguration applicationConfiguration) {
+        AuditLogQueueOptions queueOptions = new AuditLogQueueOptions(applicationConfiguration.getAuditLogQueueCapacity(),
+                                                                     applicationConfiguration.shouldDropAuditLogEventsOnOverflow());
+        return new AuditLoggingFacadeSLImpl(dataSource, userInfoProvider, queueOptions);
     }
 
     @Bean
@@ -9,25 +9,33 @@ import org.apache.logging.log4j.core.config.LoggerConfig;
 import org.cloudfoundry.multiapps.controller.core.auditlogging.UserInfoProvider;
 import org.cloudfoundry.multiapps.controller.core.auditlogging.impl.DBAppender.LogEventAdapter;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import javax.sql.DataSource;
 
 class AuditLogManager {
 
-    private static final String AUDIT_LOG_INSERT_STATEMENT = "INSERT INTO AUDIT_LOG (USER, MODIFIED, CATEGORY, SEVERITY, MESSAGE) VALUES (?, ?, ?, ?, ?)";
+    private static final String AUDIT_LOG_INSERT_STATEMENT = "INSERT INTO AUDIT_LOG (\"user\", MODIFIED, CATEGORY, SEVERITY, MESSAGE) VALUES (?, ?, ?, ?, ?)";
+    private static final long STOP_TIMEOUT_IN_SECONDS = 30;
 
     private static final LogEventAdapter EVENT_ADAPTER = (category, event, userInfo, stmt) -> {
         stmt.setString(1, userInfo == null ? null : userInfo.getName());
-        stmt.setTimestamp(2, new Timestamp(System.currentTimeMillis()));
+        stmt.setTimestamp(2, new Timestamp(event.getTimeMillis()));
         stmt.setString(3, category);
         stmt.setString(4, event.getLevel()
                                .toString());
         stmt.setString(5, event.getMessage()
-                               .toString());
+                               .getFormattedMessage());
     };
 
     private final AuditLoggingExceptionHandler exceptionHandler = new AuditLoggingExceptionHandler();
 
+    private final List<DBAppender> appenders = new ArrayList<>();
+
     private Logger securityLogger = null;
 
     private final Logger configLogger;
@@ -50,28 +58,40 @@ class AuditLogManager {
         return exceptionHandler.getException();
     }
 
-    AuditLogManager(DataSource dataSource, UserInfoProvider userInfoProvider) {
-        securityLogger = setUpLogger(dataSource, userInfoProvider, "SECURITY");
-        configLogger = setUpLogger(dataSource, userInfoProvider, "CONFIG");
-        actionLogger = setUpLogger(dataSource, userInfoProvider, "ACTION");
+    AuditLogManager(DataSource dataSource, UserInfoProvider userInfoProvider, AuditLogQueueOptions queueOptions,
+                    MeterRegistry meterRegistry) {
+        securityLogger = setUpLogger(dataSource, userInfoProvider, "SECURITY", queueOptions, meterRegistry);
+        configLogger = setUpLogger(dataSource, userInfoProvider, "CONFIG", queueOptions, meterRegistry);
+        actionLogger = setUpLogger(dataSource, userInfoProvider, "ACTION", queueOptions, meterRegistry);
+    }
+
+    /**
+     * Stops the audit loggers, writing the events which are still queued in their appenders.
+     */
+    void stop() {
+        appenders.forEach(appender -> appender.stop(STOP_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS));
     }
 
-    private Logger setUpLogger(DataSource dataSource, UserInfoProvider userInfoProvider, String name) {
-        try (LoggerContext loggerContext = new LoggerContext(name)) {
-            DBAppender auditLogAppender = initializeDBAppender(dataSource, AUDIT_LOG_INSERT_STATEMENT, EVENT_ADAPTER, exceptionHandler,
-                                                               userInfoProvider, name);
-            auditLogAppender.start();
-            loggerContext.getConfiguration()
-                         .addAppender(auditLogAppender);
-            LoggerConfig loggerConfig = initializeLoggerConfig(loggerContext);
-            addAppenderToRootLogger(loggerContext, auditLogAppender);
-            return (Logger) LogManager.getLogger(loggerConfig);
-        }
+    private Logger setUpLogger(DataSource dataSource, UserInfoProvider userInfoProvider, String name, AuditLogQueueOptions queueOptions,
+                               MeterRegistry meterRegistry) {
+        // The context is not closed, since closing it would stop the appender before the logged events are written
+        LoggerContext loggerContext = new LoggerContext(name);
+        DBAppender auditLogAppender = initializeDBAppender(dataSource, AUDIT_LOG_INSERT_STATEMENT, EVENT_ADAPTER, exceptionHandler,
+                                                           userInfoProvider, name, queueOptions, meterRegistry);
+        auditLogAppender.start();
+        appenders.add(auditLogAppender);
+        loggerContext.getConfiguration()
+                     .addAppender(auditLogAppender);
+        initializeLoggerConfig(loggerContext);
+        addAppenderToRootLogger(loggerContext, auditLogAppender);
+        return loggerContext.getLogger(name);
     }
 
     private DBAppender initializeDBAppender(DataSource dataSource, String logInsertStatement, LogEventAdapter logEventAdapter,
-                                            AuditLoggingExceptionHandler exceptionHandler, UserInfoProvider userInfoProvider, String name) {
-        return new DBAppender(dataSource, logInsertStatement, logEventAdapter, exceptionHandler, userInfoProvider, name);
+                                            AuditLoggingExceptionHandler exceptionHandler, UserInfoProvider userInfoProvider, String name,
+                                            AuditLogQueueOptions queueOptions, MeterRegistry meterRegistry) {
+        return new DBAppender(dataSource, logInsertStatement, logEventAdapter, exceptionHandler, userInfoProvider, name,
+                              queueOptions.capacity(), queueOptions.dropEventsOnOverflow(), meterRegistry);
     }
 
     private LoggerConfig initializeLoggerConfig(LoggerContext loggerContext) {
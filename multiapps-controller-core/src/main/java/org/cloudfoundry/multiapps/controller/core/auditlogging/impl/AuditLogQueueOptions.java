@@ -0,0 +1,10 @@
+package org.cloudfoundry.multiapps.controller.core.auditlogging.impl;
+
+/**
+ * Options of the queue in which audit log events wait to be written to the database.
+ *
+ * @param capacity the maximum number of events in the queue
+ * @param dropEventsOnOverflow whether events logged while the queue is full are dropped instead of waiting for space in the queue
+ */
+public record AuditLogQueueOptions(int capacity, boolean dropEventsOnOverflow) {
+}
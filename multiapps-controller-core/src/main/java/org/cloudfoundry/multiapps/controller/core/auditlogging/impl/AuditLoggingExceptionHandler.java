@@ -1,12 +1,19 @@
 package org.cloudfoundry.multiapps.controller.core.auditlogging.impl;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.cloudfoundry.multiapps.controller.core.Messages;
+
 class AuditLoggingExceptionHandler implements DBAppender.ExceptionHandler {
 
-    private Exception exception;
+    private static final Logger LOGGER = LogManager.getLogger(AuditLoggingExceptionHandler.class);
+
+    private volatile Exception exception;
 
     @Override
     public void handleException(Exception e) {
         this.setException(e);
+        LOGGER.error(Messages.AUDIT_LOGGING_FAILED, e);
     }
 
     Exception getException() {
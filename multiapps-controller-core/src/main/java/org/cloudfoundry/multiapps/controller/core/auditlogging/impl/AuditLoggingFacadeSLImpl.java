@@ -3,22 +3,22 @@ package org.cloudfoundry.multiapps.controller.core.auditlogging.impl;
 import javax.sql.DataSource;
 
 import org.apache.logging.log4j.Level;
-import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.core.Logger;
-import org.cloudfoundry.multiapps.controller.core.Messages;
 import org.cloudfoundry.multiapps.controller.core.auditlogging.AuditLoggingFacade;
 import org.cloudfoundry.multiapps.controller.core.auditlogging.UserInfoProvider;
 import org.cloudfoundry.multiapps.controller.core.auditlogging.model.AuditLogConfiguration;
 import org.cloudfoundry.multiapps.controller.core.auditlogging.model.ConfigurationChangeActions;
 import org.cloudfoundry.multiapps.mta.model.AuditableConfiguration;
+import org.springframework.beans.factory.DisposableBean;
 
-public class AuditLoggingFacadeSLImpl implements AuditLoggingFacade {
+import io.micrometer.core.instrument.Metrics;
+
+public class AuditLoggingFacadeSLImpl implements AuditLoggingFacade, DisposableBean {
 
-    private static final Logger LOGGER = (Logger) LogManager.getLogger(AuditLoggingFacadeSLImpl.class);
     private final AuditLogManager auditLogManager;
 
-    public AuditLoggingFacadeSLImpl(DataSource dataSource, UserInfoProvider userInfoProvider) {
-        this.auditLogManager = new AuditLogManager(dataSource, userInfoProvider);
+    public AuditLoggingFacadeSLImpl(DataSource dataSource, UserInfoProvider userInfoProvider, AuditLogQueueOptions queueOptions) {
+        this.auditLogManager = new AuditLogManager(dataSource, userInfoProvider, queueOptions, Metrics.globalRegistry);
     }
 
     @Override
@@ -45,14 +45,13 @@ public class AuditLoggingFacadeSLImpl implements AuditLoggingFacade {
     }
 
     private void writeMessage(Logger logger, String message, Level level) {
-        Exception loggingException = null;
-        synchronized (auditLogManager) {
-            logger.log(level, message);
-            loggingException = auditLogManager.getException();
-        }
-        if (loggingException != null) {
-            LOGGER.error(Messages.AUDIT_LOGGING_FAILED, loggingException);
-        }
+        // The message is written to the database asynchronously and failures are logged by the exception handler of the appender
+        logger.log(level, message);
+    }
+
+    @Override
+    public void destroy() {
+        auditLogManager.stop();
     }
 
 }
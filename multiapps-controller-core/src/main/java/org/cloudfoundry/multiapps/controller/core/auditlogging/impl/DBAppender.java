@@ -1,20 +1,42 @@
 package org.cloudfoundry.multiapps.controller.core.auditlogging.impl;
 
 import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.core.Filter;
 import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.appender.AbstractAppender;
 import org.apache.logging.log4j.core.filter.ThresholdFilter;
 import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.cloudfoundry.multiapps.controller.core.Messages;
 import org.cloudfoundry.multiapps.controller.core.auditlogging.UserInfoProvider;
 import org.cloudfoundry.multiapps.controller.core.util.UserInfo;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.sql.DataSource;
 
+/**
+ * Appender which writes audit log events to the database in batches from a background thread. The events are queued in a bounded
+ * queue, so that logging does not wait for the database. When the queue is full, logging either waits for space in it or drops the
+ * event, depending on the configured overflow policy. The events still in the queue are written when the appender is stopped.
+ */
 class DBAppender extends AbstractAppender {
 
     interface LogEventAdapter {
@@ -25,10 +47,15 @@ class DBAppender extends AbstractAppender {
         void handleException(Exception e);
     }
 
+    static final String METRICS_PREFIX = "multiapps.audit.log.";
+
+    private static final Logger LOGGER = LogManager.getLogger(DBAppender.class);
     private static final Level LEVEL = Level.INFO;
     private static final ThresholdFilter FILTER = ThresholdFilter.createFilter(LEVEL, Filter.Result.ACCEPT, Filter.Result.ACCEPT);
     private static final PatternLayout LAYOUT = PatternLayout.createDefaultLayout();
     private static final String DEFAULT_NAME = "DBAppender";
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final long POLL_TIMEOUT_IN_MILLIS = 500;
 
     private final DataSource dataSource;
     private final LogEventAdapter eventAdapter;
@@ -36,9 +63,18 @@ class DBAppender extends AbstractAppender {
     private final ExceptionHandler exceptionHandler;
     private final UserInfoProvider userInfoProvider;
     private final String appenderName;
+    private final BlockingQueue<QueuedEvent> queue;
+    private final boolean dropEventsOnOverflow;
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final MeterRegistry meterRegistry;
+    private final Timer writeTimer;
+    private final List<Meter> meters;
+    private final Thread writer;
+    private volatile boolean isWriterRunning;
 
     DBAppender(DataSource dataSource, String sql, LogEventAdapter eventAdapter, ExceptionHandler exceptionHandler,
-               UserInfoProvider userInfoProvider, String appenderName) {
+               UserInfoProvider userInfoProvider, String appenderName, int queueCapacity, boolean dropEventsOnOverflow,
+               MeterRegistry meterRegistry) {
         super(DEFAULT_NAME, FILTER, LAYOUT, false, null);
         this.dataSource = Objects.requireNonNull(dataSource);
         this.sql = Objects.requireNonNull(sql);
@@ -46,14 +82,133 @@ class DBAppender extends AbstractAppender {
         this.exceptionHandler = Objects.requireNonNull(exceptionHandler);
         this.userInfoProvider = userInfoProvider;
         this.appenderName = appenderName;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.dropEventsOnOverflow = dropEventsOnOverflow;
+        this.meterRegistry = meterRegistry;
+        this.writeTimer = Timer.builder(METRICS_PREFIX + "write")
+                               .tag("category", appenderName)
+                               .register(meterRegistry);
+        this.meters = List.of(writeTimer, Gauge.builder(METRICS_PREFIX + "queue.size", queue, Collection::size)
+                                               .tag("category", appenderName)
+                                               .register(meterRegistry),
+                              FunctionCounter.builder(METRICS_PREFIX + "dropped", droppedEvents, AtomicLong::get)
+                                             .tag("category", appenderName)
+                                             .register(meterRegistry));
+        this.writer = new Thread(this::writeQueuedEvents, "audit-log-writer-" + appenderName);
+        this.writer.setDaemon(true);
+    }
+
+    @Override
+    public void start() {
+        isWriterRunning = true;
+        writer.start();
+        super.start();
     }
 
     @Override
     public void append(LogEvent event) {
+        // The user is bound to the thread which logs the event, so it must be resolved before the event is queued
+        QueuedEvent queuedEvent = new QueuedEvent(event.toImmutable(), userInfoProvider.getUserInfo());
+        if (dropEventsOnOverflow) {
+            if (!queue.offer(queuedEvent)) {
+                droppedEvents.incrementAndGet();
+            }
+            return;
+        }
+        try {
+            queue.put(queuedEvent);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            droppedEvents.incrementAndGet();
+        }
+    }
+
+    /**
+     * Stops accepting events and waits for the queued ones to be written for at most the given timeout.
+     */
+    @Override
+    public boolean stop(long timeout, TimeUnit timeUnit) {
+        setStopping();
+        isWriterRunning = false;
+        try {
+            writer.join(timeUnit.toMillis(timeout));
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        }
+        boolean isStopped = !writer.isAlive();
+        if (!isStopped) {
+            LOGGER.warn(MessageFormat.format(Messages.AUDIT_LOG_WRITER_FOR_CATEGORY_0_STOPPED_WITH_1_PENDING_EVENTS, appenderName,
+                                             queue.size()));
+        }
+        meters.forEach(meterRegistry::remove);
+        setStopped();
+        return isStopped;
+    }
+
+    long getDroppedEventsCount() {
+        return droppedEvents.get();
+    }
+
+    private void writeQueuedEvents() {
+        List<QueuedEvent> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (isWriterRunning || !queue.isEmpty()) {
+            QueuedEvent firstEvent = pollQueue();
+            if (firstEvent == null) {
+                continue;
+            }
+            batch.add(firstEvent);
+            queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+            writeBatch(batch);
+            batch.clear();
+        }
+    }
+
+    private QueuedEvent pollQueue() {
+        try {
+            return queue.poll(POLL_TIMEOUT_IN_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            // The writer is stopped only through the running flag, so that the queued events are not lost
+            return null;
+        }
+    }
+
+    private void writeBatch(List<QueuedEvent> batch) {
+        long startTime = System.nanoTime();
+        try (Connection connection = dataSource.getConnection(); PreparedStatement stmt = connection.prepareStatement(sql)) {
+            for (QueuedEvent queuedEvent : batch) {
+                eventAdapter.eventToStatement(getName(), queuedEvent.event(), queuedEvent.userInfo(), stmt);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        } catch (SQLException | RuntimeException e) {
+            handleFailedBatch(batch, e);
+        } finally {
+            writeTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Writes the events of a failed batch one by one, so that a single event which cannot be written does not cause the loss of the
+     * others. Only the events which fail again are passed to the exception handler.
+     */
+    private void handleFailedBatch(List<QueuedEvent> batch, Exception e) {
+        if (batch.size() == 1) {
+            exceptionHandler.handleException(e);
+            return;
+        }
+        LOGGER.warn(MessageFormat.format(Messages.COULD_NOT_WRITE_BATCH_OF_0_AUDIT_LOG_EVENTS_FOR_CATEGORY_1_WRITING_THEM_ONE_BY_ONE,
+                                         batch.size(), appenderName),
+                    e);
+        batch.forEach(this::writeEvent);
+    }
+
+    private void writeEvent(QueuedEvent queuedEvent) {
         try (Connection connection = dataSource.getConnection(); PreparedStatement stmt = connection.prepareStatement(sql)) {
-            eventAdapter.eventToStatement(getName(), event, userInfoProvider.getUserInfo(), stmt);
+            eventAdapter.eventToStatement(getName(), queuedEvent.event(), queuedEvent.userInfo(), stmt);
             stmt.executeUpdate();
-        } catch (SQLException e) {
+        } catch (SQLException | RuntimeException e) {
             exceptionHandler.handleException(e);
         }
     }
@@ -62,4 +217,7 @@ class DBAppender extends AbstractAppender {
     public String getName() {
         return appenderName;
     }
+
+    private record QueuedEvent(LogEvent event, UserInfo userInfo) {
+    }
 }
@@ -15,12 +15,15 @@ import org.springframework.beans.factory.DisposableBean;
 @Named
 public class CloudControllerClientProvider implements DisposableBean {
 
+    private static final int MAX_CACHED_CLIENTS = 2000;
+
     @Inject
     private CloudControllerClientFactory clientFactory;
     @Inject
     private TokenService tokenService;
 
-    private final CachedMap<String, CloudControllerClient> clients = new CachedMap<>(Duration.ofMinutes(30));
+    private final CachedMap<String, CloudControllerClient> clients = new CachedMap<>("cloud-controller-clients", Duration.ofMinutes(30),
+                                                                                   MAX_CACHED_CLIENTS);
 
     /**
      * Returns a client for the specified user guid and space id by either getting it from the clients cache or creating a new one.
@@ -6,11 +6,13 @@ import org.cloudfoundry.multiapps.controller.client.facade.oauth2.OAuthClient;
 import org.cloudfoundry.multiapps.controller.client.facade.util.RestUtil;
 import org.cloudfoundry.multiapps.controller.client.uaa.UAAClient;
 import org.cloudfoundry.multiapps.controller.core.security.token.TokenService;
+import org.springframework.web.reactive.function.client.WebClient;
 
 @Named
 public class OAuthClientFactory {
 
-    private final RestUtil restUtil = new RestUtil();
+    // Shared by all OAuth clients, so that they reuse the connections to the UAA:
+    private final WebClient webClient = new RestUtil().createWebClient(true);
 
     @Inject
     private TokenService tokenService;
@@ -18,7 +20,7 @@ public class OAuthClientFactory {
     private UAAClient uaaClient;
 
     public OAuthClient createOAuthClient() {
-        return new OAuthClientExtended(uaaClient.getUaaUrl(), tokenService, restUtil.createWebClient(true));
+        return new OAuthClientExtended(uaaClient.getUaaUrl(), tokenService, webClient);
     }
 
 }
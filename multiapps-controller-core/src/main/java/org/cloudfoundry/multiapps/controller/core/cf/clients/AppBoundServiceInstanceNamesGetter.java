@@ -27,13 +27,21 @@ public class AppBoundServiceInstanceNamesGetter extends CustomControllerClient {
 
     protected static class ServiceInstanceNamesResponseMapper extends ResourcesResponseMapper<String> {
 
+        @Override
+        protected List<String> mapResources(List<Map<String, Object>> resources, Map<String, List<Object>> includedResources) {
+            return includedResources.getOrDefault("service_instances", Collections.emptyList())
+                                    .stream()
+                                    .map(service -> (String) ((Map<String, Object>) service).get("name"))
+                                    .collect(Collectors.toList());
+        }
+
         @Override
         public List<String> getMappedResources() {
-            return getIncludedResources().getOrDefault("service_instances", Collections.emptyList())
-                                         .stream()
-                                         .map(service -> (String) ((Map<String, Object>) service).get("name"))
-                                         .distinct()
-                                         .collect(Collectors.toList());
+            // The same service instance is included in each page with bindings to it:
+            return super.getMappedResources()
+                        .stream()
+                        .distinct()
+                        .collect(Collectors.toList());
         }
     }
 
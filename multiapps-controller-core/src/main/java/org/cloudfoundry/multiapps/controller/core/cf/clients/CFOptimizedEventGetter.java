@@ -28,11 +28,11 @@ public class CFOptimizedEventGetter extends CustomControllerClient {
     protected static class EventSpaceIdsResponseMapper extends ResourcesResponseMapper<String> {
 
         @Override
-        public List<String> getMappedResources() {
-            return getQueriedResources().stream()
-                                        .map(this::extractSpaceId)
-                                        .filter(Objects::nonNull)
-                                        .collect(Collectors.toList());
+        protected List<String> mapResources(List<Map<String, Object>> resources, Map<String, List<Object>> includedResources) {
+            return resources.stream()
+                            .map(this::extractSpaceId)
+                            .filter(Objects::nonNull)
+                            .collect(Collectors.toList());
         }
 
         @SuppressWarnings("unchecked")
@@ -38,10 +38,10 @@ public class CfRolesGetter extends CustomControllerClient {
     private static class UserRoleMapper extends ResourcesResponseMapper<UserRole> {
 
         @Override
-        public List<UserRole> getMappedResources() {
-            return getQueriedResources().stream()
-                                        .map(this::mapToUserRole)
-                                        .collect(Collectors.toList());
+        protected List<UserRole> mapResources(List<Map<String, Object>> resources, Map<String, List<Object>> includedResources) {
+            return resources.stream()
+                            .map(this::mapToUserRole)
+                            .collect(Collectors.toList());
         }
 
         private UserRole mapToUserRole(Map<String, Object> role) {
@@ -1,15 +1,16 @@
 package org.cloudfoundry.multiapps.controller.core.cf.clients;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
 
-import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.cloudfoundry.multiapps.common.util.JsonUtil;
 import org.cloudfoundry.multiapps.controller.client.facade.CloudCredentials;
 import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerHeaderConfiguration;
+import org.cloudfoundry.multiapps.controller.core.cf.clients.ResourcesPageParser.ResourcesPage;
 import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
@@ -34,24 +35,60 @@ public abstract class CustomControllerClient {
         this.headerConfiguration = new CloudControllerHeaderConfiguration(configuration.getVersion());
     }
 
+    /**
+     * Reads all pages of resources from the given URI. The next page is requested as soon as its URI is read from the current page, so
+     * that it is transferred while the current page is being mapped.
+     */
     protected <T> List<T> getListOfResources(ResourcesResponseMapper<T> responseMapper, String uri, Object... urlVariables) {
-        PaginationV3 pagination = addPageOfResources(uri, responseMapper, urlVariables);
-        while (!StringUtils.isEmpty(pagination.getNextUri())) {
-            pagination = addPageOfResources(pagination.getNextUri(), responseMapper);
+        CompletableFuture<byte[]> page = requestPage(uri, urlVariables);
+        AtomicReference<CompletableFuture<byte[]>> nextPage = new AtomicReference<>();
+        try {
+            while (page != null) {
+                nextPage.set(null);
+                ResourcesPage resourcesPage = ResourcesPageParser.parse(getPageContent(page),
+                                                                        pagination -> requestNextPage(pagination, nextPage));
+                responseMapper.addPage(resourcesPage);
+                page = nextPage.get();
+            }
+        } catch (RuntimeException e) {
+            cancelPage(nextPage.get());
+            throw e;
         }
         return responseMapper.getMappedResources();
     }
 
-    private PaginationV3 addPageOfResources(String uri, ResourcesResponseMapper<?> responseMapper, Object... urlVariables) {
-        String responseString = webClient.get()
-                                         .uri(uri, urlVariables)
-                                         .headers(httpHeaders -> httpHeaders.addAll(generateRequestHeaders()))
-                                         .retrieve()
-                                         .bodyToMono(String.class)
-                                         .block();
-        Map<String, Object> responseMap = JsonUtil.convertJsonToMap(responseString);
-        responseMapper.addResources(responseMap);
-        return PaginationV3.fromResponse(responseMap);
+    private void requestNextPage(PaginationV3 pagination, AtomicReference<CompletableFuture<byte[]>> nextPage) {
+        String nextUri = pagination.getNextUri();
+        if (!StringUtils.isEmpty(nextUri)) {
+            nextPage.set(requestPage(nextUri));
+        }
+    }
+
+    private CompletableFuture<byte[]> requestPage(String uri, Object... urlVariables) {
+        return webClient.get()
+                        .uri(uri, urlVariables)
+                        .headers(httpHeaders -> httpHeaders.addAll(generateRequestHeaders()))
+                        .retrieve()
+                        .bodyToMono(byte[].class)
+                        .toFuture();
+    }
+
+    private static byte[] getPageContent(CompletableFuture<byte[]> page) {
+        try {
+            return page.join();
+        } catch (CompletionException e) {
+            // The errors of the requests are handled by the callers, so they have to be thrown as they are:
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static void cancelPage(CompletableFuture<byte[]> page) {
+        if (page != null) {
+            page.cancel(true);
+        }
     }
 
     private MultiValueMap<String, String> generateRequestHeaders() {
@@ -61,31 +98,22 @@ public abstract class CustomControllerClient {
         return result;
     }
 
+    /**
+     * Maps the resources of each page as soon as the page is read, so that only the mapped resources are kept for the following pages.
+     */
     public static abstract class ResourcesResponseMapper<T> {
-        List<Map<String, Object>> queriedResources = new ArrayList<>();
-        Map<String, List<Object>> includedResources = new HashMap<>();
-
-        @SuppressWarnings("unchecked")
-        public void addResources(Map<String, Object> responseMap) {
-            List<Map<String, Object>> newResources = (List<Map<String, Object>>) responseMap.get("resources");
-            if (newResources != null) {
-                queriedResources.addAll(newResources);
-            }
-            Map<String, List<Object>> included = (Map<String, List<Object>>) responseMap.get("included");
-            if (included != null) {
-                included.forEach((key, resources) -> includedResources.merge(key, resources, ListUtils::union));
-            }
-        }
 
-        public List<Map<String, Object>> getQueriedResources() {
-            return queriedResources;
-        }
+        private final List<T> mappedResources = new ArrayList<>();
 
-        public Map<String, List<Object>> getIncludedResources() {
-            return includedResources;
+        void addPage(ResourcesPage page) {
+            mappedResources.addAll(mapResources(page.resources(), page.includedResources()));
         }
 
-        public abstract List<T> getMappedResources();
+        protected abstract List<T> mapResources(List<Map<String, Object>> resources, Map<String, List<Object>> includedResources);
+
+        public List<T> getMappedResources() {
+            return mappedResources;
+        }
     }
 
 }
@@ -77,29 +77,30 @@ public class CustomServiceKeysClient extends CustomControllerClient {
 
     protected class ServiceKeysResponseMapper extends ResourcesResponseMapper<DeployedMtaServiceKey> {
 
-        List<DeployedMtaService> mtaServices;
+        private final Map<String, CloudServiceInstance> mtaServicesMapping;
 
         public ServiceKeysResponseMapper(List<DeployedMtaService> mtaServices) {
-            this.mtaServices = mtaServices;
+            this.mtaServicesMapping = mtaServices == null ? null : getMtaServicesMapping(mtaServices);
+        }
+
+        private Map<String, CloudServiceInstance> getMtaServicesMapping(List<DeployedMtaService> mtaServices) {
+            return mtaServices.stream()
+                              .collect(Collectors.toMap(service -> service.getGuid()
+                                                                          .toString(), Function.identity()));
         }
 
         @Override
-        public List<DeployedMtaServiceKey> getMappedResources() {
-            Map<String, CloudServiceInstance> serviceMapping;
-            if (mtaServices != null) {
-                serviceMapping = mtaServices.stream()
-                                            .collect(Collectors.toMap(service -> service.getGuid()
-                                                                                        .toString(), Function.identity()));
-            } else {
-                serviceMapping = getIncludedServiceInstancesMapping();
-            }
-            return getQueriedResources().stream()
-                                        .map(resource -> resourceMapper.mapServiceKeyResource(resource, serviceMapping))
-                                        .collect(Collectors.toList());
+        protected List<DeployedMtaServiceKey> mapResources(List<Map<String, Object>> resources,
+                                                           Map<String, List<Object>> includedResources) {
+            Map<String, CloudServiceInstance> serviceMapping = mtaServicesMapping != null ? mtaServicesMapping
+                : getIncludedServiceInstancesMapping(includedResources);
+            return resources.stream()
+                            .map(resource -> resourceMapper.mapServiceKeyResource(resource, serviceMapping))
+                            .collect(Collectors.toList());
         }
 
-        public Map<String, CloudServiceInstance> getIncludedServiceInstancesMapping() {
-            List<Object> serviceInstances = getIncludedResources().getOrDefault("service_instances", Collections.emptyList());
+        public Map<String, CloudServiceInstance> getIncludedServiceInstancesMapping(Map<String, List<Object>> includedResources) {
+            List<Object> serviceInstances = includedResources.getOrDefault("service_instances", Collections.emptyList());
 
             return serviceInstances.stream()
                                    .distinct()
@@ -9,7 +9,11 @@ public class PaginationV3 extends ResponseUrisV3 {
     }
 
     public static PaginationV3 fromResponse(Map<String, Object> responseMap) {
-        return new PaginationV3((Map<String, Object>) responseMap.get("pagination"));
+        return fromPagination((Map<String, Object>) responseMap.get("pagination"));
+    }
+
+    public static PaginationV3 fromPagination(Map<String, Object> pagination) {
+        return new PaginationV3(pagination);
     }
 
     public String getFirstUri() {
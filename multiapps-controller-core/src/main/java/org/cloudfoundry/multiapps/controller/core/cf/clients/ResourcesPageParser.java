@@ -0,0 +1,78 @@
+package org.cloudfoundry.multiapps.controller.core.cf.clients;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.cloudfoundry.multiapps.common.ParsingException;
+import org.cloudfoundry.multiapps.controller.core.Messages;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Parses a page of a Cloud Controller V3 list response with a streaming JSON parser. Only the resources and the included resources are
+ * read into maps, one resource at a time, and the other fields of the page are skipped. The pagination is passed to the caller as soon as
+ * it is read, which is before the resources in the Cloud Controller responses, so that the next page can be requested in the meantime.
+ */
+class ResourcesPageParser {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+    private static final TypeReference<Map<String, List<Object>>> INCLUDED_RESOURCES_TYPE = new TypeReference<>() {
+    };
+
+    private ResourcesPageParser() {
+    }
+
+    static ResourcesPage parse(byte[] content, Consumer<PaginationV3> paginationConsumer) {
+        if (content == null || content.length == 0) {
+            return new ResourcesPage(Collections.emptyList(), Collections.emptyMap());
+        }
+        try (JsonParser parser = OBJECT_MAPPER.createParser(content)) {
+            return parse(parser, paginationConsumer);
+        } catch (IOException e) {
+            throw new ParsingException(e, Messages.COULD_NOT_PARSE_PAGE_OF_RESOURCES);
+        }
+    }
+
+    private static ResourcesPage parse(JsonParser parser, Consumer<PaginationV3> paginationConsumer) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new ParsingException(Messages.COULD_NOT_PARSE_PAGE_OF_RESOURCES);
+        }
+        List<Map<String, Object>> resources = Collections.emptyList();
+        Map<String, List<Object>> includedResources = Collections.emptyMap();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken valueToken = parser.nextToken();
+            if (valueToken == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (fieldName) {
+                case "pagination" -> paginationConsumer.accept(PaginationV3.fromPagination(parser.readValueAs(MAP_TYPE)));
+                case "resources" -> resources = readResources(parser);
+                case "included" -> includedResources = parser.readValueAs(INCLUDED_RESOURCES_TYPE);
+                default -> parser.skipChildren();
+            }
+        }
+        return new ResourcesPage(resources, includedResources);
+    }
+
+    private static List<Map<String, Object>> readResources(JsonParser parser) throws IOException {
+        List<Map<String, Object>> resources = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            resources.add(parser.readValueAs(MAP_TYPE));
+        }
+        return resources;
+    }
+
+    record ResourcesPage(List<Map<String, Object>> resources, Map<String, List<Object>> includedResources) {
+    }
+
+}
@@ -26,10 +26,9 @@ public class ServiceInstanceRoutesGetter extends CustomControllerClient {
 
     private List<ServiceRouteBinding> doGetServiceRouteBindings(Collection<String> routeGuids) {
         var batchedRouteGuids = getBatchedRouteGuids(routeGuids);
-        var responseMapper = new ServiceRouteBindingsResponseMapper();
         return batchedRouteGuids.stream()
                                 .map(this::getServiceRouteBindingsUrl)
-                                .map(url -> getListOfResources(responseMapper, url))
+                                .map(url -> getListOfResources(new ServiceRouteBindingsResponseMapper(), url))
                                 .flatMap(List::stream)
                                 .collect(Collectors.toList());
     }
@@ -62,10 +61,11 @@ public class ServiceInstanceRoutesGetter extends CustomControllerClient {
         private final CloudEntityResourceMapper resourceMapper = new CloudEntityResourceMapper();
 
         @Override
-        public List<ServiceRouteBinding> getMappedResources() {
-            return getQueriedResources().stream()
-                                        .map(this::buildServiceRouteBinding)
-                                        .collect(Collectors.toList());
+        protected List<ServiceRouteBinding> mapResources(List<Map<String, Object>> resources,
+                                                         Map<String, List<Object>> includedResources) {
+            return resources.stream()
+                            .map(this::buildServiceRouteBinding)
+                            .collect(Collectors.toList());
         }
 
         private ServiceRouteBinding buildServiceRouteBinding(Map<String, Object> resource) {
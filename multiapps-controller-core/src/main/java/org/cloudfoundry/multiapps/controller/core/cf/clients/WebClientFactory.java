@@ -1,33 +1,80 @@
 package org.cloudfoundry.multiapps.controller.core.cf.clients;
 
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import org.cloudfoundry.multiapps.controller.client.facade.CloudCredentials;
+import org.cloudfoundry.multiapps.controller.client.facade.oauth2.OAuthClient;
 import org.cloudfoundry.multiapps.controller.client.facade.util.RestUtil;
 import org.cloudfoundry.multiapps.controller.core.cf.OAuthClientFactory;
 import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import io.netty.channel.ChannelOption;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Creates the web clients of the custom Cloud Controller clients. All web clients of a controller share a single connection pool, so that
+ * their requests reuse the open connections and TLS sessions. The bearer token is added to each request, so that expired tokens are
+ * refreshed.
+ */
 @Named
 public class WebClientFactory {
 
+    private static final String CONNECTION_POOL_NAME = "custom-controller-client";
+
+    private final Map<String, WebClient> webClientCache = new ConcurrentHashMap<>();
+
     @Inject
     private ApplicationConfiguration configuration;
     @Inject
     private OAuthClientFactory oAuthClientFactory;
 
     public WebClient getWebClient(CloudCredentials credentials) {
-        WebClient.Builder webClientBuilder = new RestUtil().createWebClient(false)
-                                                           .mutate()
-                                                           .baseUrl(configuration.getControllerUrl()
-                                                                                 .toString());
-        webClientBuilder.defaultHeaders(httpHeaders -> httpHeaders.setBearerAuth(computeAuthorizationToken(credentials)));
-        return webClientBuilder.build();
+        OAuthClient oAuthClient = oAuthClientFactory.createOAuthClient();
+        oAuthClient.init(credentials);
+        return getOrCreateWebClient(configuration.getControllerUrl()).mutate()
+                                                                     .filter(createAuthorizationFilter(oAuthClient))
+                                                                     .build();
     }
 
-    private String computeAuthorizationToken(CloudCredentials credentials) {
-        var oAuthClient = oAuthClientFactory.createOAuthClient();
-        oAuthClient.init(credentials);
+    private WebClient getOrCreateWebClient(URL controllerUrl) {
+        return webClientCache.computeIfAbsent(controllerUrl.toString(), this::createWebClient);
+    }
+
+    protected WebClient createWebClient(String controllerUrl) {
+        return new RestUtil().createWebClient(createHttpClient(), false)
+                             .mutate()
+                             .baseUrl(controllerUrl)
+                             .build();
+    }
+
+    HttpClient createHttpClient() {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder(CONNECTION_POOL_NAME)
+                                                                  .maxConnections(configuration.getControllerClientConnectionPoolSize())
+                                                                  .build();
+        return HttpClient.create(connectionProvider)
+                         .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) configuration.getControllerClientConnectTimeout()
+                                                                                          .toMillis())
+                         .responseTimeout(configuration.getControllerClientResponseTimeout());
+    }
+
+    private static ExchangeFilterFunction createAuthorizationFilter(OAuthClient oAuthClient) {
+        return (request, next) -> Mono.fromSupplier(() -> computeAuthorizationToken(oAuthClient))
+                                      .map(token -> ClientRequest.from(request)
+                                                                 .headers(httpHeaders -> httpHeaders.setBearerAuth(token))
+                                                                 .build())
+                                      .flatMap(next::exchange);
+    }
+
+    private static String computeAuthorizationToken(OAuthClient oAuthClient) {
         return oAuthClient.getToken()
                           .getOAuth2AccessToken()
                           .getTokenValue();
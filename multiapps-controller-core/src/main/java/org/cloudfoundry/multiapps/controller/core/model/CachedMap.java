@@ -1,37 +1,112 @@
 package org.cloudfoundry.multiapps.controller.core.model;
 
 import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * Map whose entries expire after a fixed time and which holds at most a fixed number of entries, evicting the ones closest to
+ * expiration first. The loaded entries are kept in the order of their expiration, so that an eviction does not have to sort them.
+ * Optionally, the expiration of an entry is postponed whenever it is accessed, so that only idle entries expire.
+ * Values are loaded at most once per key at a time, so concurrent misses for the same key wait for a single load.
+ * Expired entries are removed by a scheduler shared between all instances. The size, hits, misses, loads and evictions of each map are
+ * published as meters tagged with the name of the map.
+ */
 public class CachedMap<K, V> {
 
+    public static final String METRICS_PREFIX = "multiapps.cache.";
+
+    private static final Duration DEFAULT_EVICTION_CHECK_PERIOD = Duration.ofMinutes(10);
+    private static final ScheduledExecutorService EVICTION_SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cached-map-eviction");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private final Duration expirationTime;
-    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
-    private final Map<K, CachedObject<V>> cache = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final boolean isExpirationExtendedOnAccess;
+    private final Map<K, CacheEntry<V>> cache = new ConcurrentHashMap<>();
+    private final Map<K, CacheEntry<V>> expirationOrder;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final ScheduledFuture<?> evictionTask;
+    private final MeterRegistry meterRegistry;
+    private final List<Meter> meters;
+
+    public CachedMap(String name, Duration expirationTime) {
+        this(name, expirationTime, Integer.MAX_VALUE);
+    }
+
+    public CachedMap(String name, Duration expirationTime, int maxSize) {
+        this(name, expirationTime, maxSize, false);
+    }
+
+    public CachedMap(String name, Duration expirationTime, int maxSize, boolean isExpirationExtendedOnAccess) {
+        this(name, expirationTime, maxSize, DEFAULT_EVICTION_CHECK_PERIOD, isExpirationExtendedOnAccess, Metrics.globalRegistry);
+    }
 
-    public CachedMap(Duration expirationTime) {
-        this(expirationTime, 10, TimeUnit.MINUTES);
+    public CachedMap(String name, Duration expirationTime, int maxSize, Duration evictionCheckPeriod, MeterRegistry meterRegistry) {
+        this(name, expirationTime, maxSize, evictionCheckPeriod, false, meterRegistry);
     }
 
-    public CachedMap(Duration expirationTime, long evictionCheckPeriod, TimeUnit evictionCheckTimeUnit) {
+    public CachedMap(String name, Duration expirationTime, int maxSize, Duration evictionCheckPeriod, boolean isExpirationExtendedOnAccess,
+                     MeterRegistry meterRegistry) {
         this.expirationTime = expirationTime;
-        executor.scheduleAtFixedRate(this::clearStaleEntries, evictionCheckPeriod, evictionCheckPeriod, evictionCheckTimeUnit);
+        this.maxSize = maxSize;
+        this.isExpirationExtendedOnAccess = isExpirationExtendedOnAccess;
+        this.expirationOrder = new LinkedHashMap<>(16, 0.75f, isExpirationExtendedOnAccess);
+        this.meterRegistry = meterRegistry;
+        this.meters = registerMeters(name);
+        this.evictionTask = EVICTION_SCHEDULER.scheduleAtFixedRate(this::clearStaleEntries, evictionCheckPeriod.toMillis(),
+                                                                   evictionCheckPeriod.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private List<Meter> registerMeters(String name) {
+        return List.of(Gauge.builder(METRICS_PREFIX + "size", cache, Map::size)
+                            .tag("cache", name)
+                            .register(meterRegistry),
+                       registerCounter(name, "hits", hits),
+                       registerCounter(name, "misses", misses),
+                       registerCounter(name, "loads", loads),
+                       registerCounter(name, "evictions", evictions));
+    }
+
+    private Meter registerCounter(String name, String counterName, AtomicLong counter) {
+        return FunctionCounter.builder(METRICS_PREFIX + counterName, counter, AtomicLong::get)
+                              .tag("cache", name)
+                              .register(meterRegistry);
     }
 
     public V get(K key) {
-        var value = cache.get(key);
-        if (value != null) {
-            if (!value.isExpired()) {
-                return value.get();
-            }
-            cache.remove(key);
+        CacheEntry<V> entry = getValidEntry(key);
+        if (entry == null || !entry.isLoaded()) {
+            misses.incrementAndGet();
+            return null;
         }
-        return null;
+        hits.incrementAndGet();
+        extendExpiration(key, entry);
+        return entry.getValue();
     }
 
     public V getOrDefault(K key, V defaultValue) {
@@ -39,33 +114,212 @@ public class CachedMap<K, V> {
         return value == null ? defaultValue : value;
     }
 
-    public V computeIfAbsent(K key, Supplier<V> creator) {
-        V value = get(key);
-        if (value != null) {
-            return value;
+    public V computeIfAbsent(K key, Supplier<V> loader) {
+        return computeIfAbsent(key, loader, value -> false);
+    }
+
+    /**
+     * Returns the value mapped to the key, loading it if there is no such value or if the mapped value is stale. Concurrent calls for
+     * the same key share a single load and its failure, if any.
+     */
+    public V computeIfAbsent(K key, Supplier<V> loader, Predicate<V> isStale) {
+        while (true) {
+            CacheEntry<V> entry = getValidEntry(key);
+            if (entry != null) {
+                V value = entry.awaitValue();
+                if (value != null && !isStale.test(value)) {
+                    hits.incrementAndGet();
+                    extendExpiration(key, entry);
+                    return value;
+                }
+                removeEntry(key, entry);
+                continue;
+            }
+            CacheEntry<V> newEntry = new CacheEntry<>();
+            if (cache.putIfAbsent(key, newEntry) == null) {
+                misses.incrementAndGet();
+                return load(key, newEntry, loader);
+            }
+        }
+    }
+
+    private V load(K key, CacheEntry<V> entry, Supplier<V> loader) {
+        V value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException e) {
+            cache.remove(key, entry);
+            entry.fail(e);
+            throw e;
         }
-        value = creator.get();
-        put(key, value);
+        loads.incrementAndGet();
+        if (value == null) {
+            cache.remove(key, entry);
+            entry.complete(null, expirationTime);
+            return null;
+        }
+        entry.complete(value, expirationTime);
+        addToExpirationOrder(key, entry);
+        evictEntriesAboveMaxSize();
         return value;
     }
 
     public void put(K key, V value) {
-        cache.put(key, new CachedObject<>(value, expirationTime));
+        CacheEntry<V> entry = new CacheEntry<>();
+        entry.complete(value, expirationTime);
+        cache.put(key, entry);
+        addToExpirationOrder(key, entry);
+        evictEntriesAboveMaxSize();
     }
 
     public void remove(K key) {
-        cache.remove(key);
+        CacheEntry<V> entry = cache.remove(key);
+        if (entry != null) {
+            removeFromExpirationOrder(key, entry);
+        }
+    }
+
+    public int size() {
+        return cache.size();
     }
 
     public void clear() {
         cache.clear();
-        executor.shutdown();
+        synchronized (expirationOrder) {
+            expirationOrder.clear();
+        }
+        evictionTask.cancel(false);
+        meters.forEach(meterRegistry::remove);
+    }
+
+    private CacheEntry<V> getValidEntry(K key) {
+        CacheEntry<V> entry = cache.get(key);
+        if (entry != null && entry.isExpired(System.currentTimeMillis())) {
+            removeEntry(key, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    private void extendExpiration(K key, CacheEntry<V> entry) {
+        if (isExpirationExtendedOnAccess) {
+            entry.extendExpiration(expirationTime);
+            synchronized (expirationOrder) {
+                // Moves the entry to the end of the access-ordered map
+                expirationOrder.get(key);
+            }
+        }
+    }
+
+    /**
+     * Adds the entry to the expiration order, unless it was replaced or removed in the meantime, for example by a put during its load.
+     * Otherwise, the entry which replaced it would no longer be tracked by the order, and would be neither evicted nor expired.
+     */
+    private void addToExpirationOrder(K key, CacheEntry<V> entry) {
+        synchronized (expirationOrder) {
+            if (cache.get(key) != entry) {
+                return;
+            }
+            expirationOrder.remove(key);
+            expirationOrder.put(key, entry);
+        }
+    }
+
+    private void removeFromExpirationOrder(K key, CacheEntry<V> entry) {
+        synchronized (expirationOrder) {
+            expirationOrder.remove(key, entry);
+        }
+    }
+
+    private void removeEntry(K key, CacheEntry<V> entry) {
+        if (cache.remove(key, entry)) {
+            removeFromExpirationOrder(key, entry);
+        }
+    }
+
+    /**
+     * Evicts the entries at the head of the expiration order. Entries which are still loading are not part of the order, so they are
+     * never evicted while there are callers waiting for them.
+     */
+    private void evictEntriesAboveMaxSize() {
+        if (cache.size() <= maxSize) {
+            return;
+        }
+        synchronized (expirationOrder) {
+            Iterator<Map.Entry<K, CacheEntry<V>>> iterator = expirationOrder.entrySet()
+                                                                            .iterator();
+            while (cache.size() > maxSize && iterator.hasNext()) {
+                Map.Entry<K, CacheEntry<V>> entry = iterator.next();
+                iterator.remove();
+                evict(entry.getKey(), entry.getValue());
+            }
+        }
     }
 
     private void clearStaleEntries() {
         long currentTime = System.currentTimeMillis();
-        cache.values()
-             .removeIf(obj -> obj.isExpired(currentTime));
+        synchronized (expirationOrder) {
+            Iterator<Map.Entry<K, CacheEntry<V>>> iterator = expirationOrder.entrySet()
+                                                                            .iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<K, CacheEntry<V>> entry = iterator.next();
+                // Entries replaced or removed concurrently with their addition to the order are dropped as well
+                if (entry.getValue()
+                         .isExpired(currentTime) || cache.get(entry.getKey()) != entry.getValue()) {
+                    iterator.remove();
+                    evict(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+    }
+
+    private void evict(K key, CacheEntry<V> entry) {
+        if (cache.remove(key, entry)) {
+            evictions.incrementAndGet();
+        }
+    }
+
+    private static class CacheEntry<V> {
+
+        private final CompletableFuture<V> value = new CompletableFuture<>();
+        private volatile long expirationTimestamp = Long.MAX_VALUE;
+
+        void complete(V value, Duration expirationTime) {
+            expirationTimestamp = System.currentTimeMillis() + expirationTime.toMillis();
+            this.value.complete(value);
+        }
+
+        void extendExpiration(Duration expirationTime) {
+            expirationTimestamp = System.currentTimeMillis() + expirationTime.toMillis();
+        }
+
+        void fail(RuntimeException e) {
+            value.completeExceptionally(e);
+        }
+
+        boolean isLoaded() {
+            return value.isDone() && !value.isCompletedExceptionally();
+        }
+
+        V getValue() {
+            return value.getNow(null);
+        }
+
+        V awaitValue() {
+            try {
+                return value.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        boolean isExpired(long currentTime) {
+            return currentTime >= expirationTimestamp;
+        }
+
     }
 
 }
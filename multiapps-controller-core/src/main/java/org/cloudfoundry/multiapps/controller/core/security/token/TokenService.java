@@ -15,7 +15,6 @@ import java.util.stream.Collectors;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import org.cloudfoundry.multiapps.controller.client.facade.oauth2.OAuth2AccessTokenWithAdditionalInfo;
-import org.cloudfoundry.multiapps.controller.client.util.TokenProperties;
 import org.cloudfoundry.multiapps.controller.core.Constants;
 import org.cloudfoundry.multiapps.controller.core.Messages;
 import org.cloudfoundry.multiapps.controller.core.model.CachedMap;
@@ -31,10 +30,13 @@ import org.springframework.beans.factory.DisposableBean;
 @Named
 public class TokenService implements DisposableBean {
 
+    private static final int MAX_CACHED_TOKENS = 5000;
+
     private final AccessTokenService accessTokenService;
     private final TokenParserChain tokenParserChain;
     private final Duration tokenExpirationTime = Duration.ofMinutes(10);
-    private final CachedMap<String, OAuth2AccessTokenWithAdditionalInfo> cachedTokens = new CachedMap<>(tokenExpirationTime);
+    private final CachedMap<String, OAuth2AccessTokenWithAdditionalInfo> cachedTokens = new CachedMap<>("access-tokens", tokenExpirationTime,
+                                                                                                        MAX_CACHED_TOKENS);
     private final ExecutorService threadPoolForTokensDeletion = new ThreadPoolExecutor(Constants.TOKEN_SERVICE_DELETION_CORE_POOL_SIZE,
                                                                                        Constants.TOKEN_SERVICE_DELETION_MAXIMUM_POOL_SIZE,
                                                                                        Constants.TOKEN_SERVICE_DELETION_KEEP_ALIVE_THREAD_IN_SECONDS,
@@ -55,18 +57,15 @@ public class TokenService implements DisposableBean {
      */
     public OAuth2AccessTokenWithAdditionalInfo getToken(String username, String userGuid) {
         if (userGuid != null) {
-            OAuth2AccessTokenWithAdditionalInfo cachedAccessToken = cachedTokens.get(userGuid);
-            if (shouldUseCachedToken(cachedAccessToken)) {
-                return cachedAccessToken;
-            }
-            return getLatestAccessTokenByUserGuid(userGuid);
+            return cachedTokens.computeIfAbsent(userGuid, () -> getLatestAccessTokenByUserGuid(userGuid),
+                                                cachedAccessToken -> !shouldUseCachedToken(cachedAccessToken));
         }
         // TODO: If no tokens are found for the userGuid, try to find tokens by username. This is temporary and should be removed in the next release.
         return getLatestAccessTokenByUsername(username);
     }
 
     private boolean shouldUseCachedToken(OAuth2AccessTokenWithAdditionalInfo cachedAccessToken) {
-        return cachedAccessToken != null && !cachedAccessToken.getOAuth2AccessToken()
+        return !cachedAccessToken.getOAuth2AccessToken()
                                                               .getExpiresAt()
                                                               .isBefore(Instant.now()
                                                                                .plus(120, ChronoUnit.SECONDS));
@@ -78,7 +77,9 @@ public class TokenService implements DisposableBean {
             throw new IllegalStateException(MessageFormat.format(Messages.NO_VALID_TOKEN_FOUND, userGuid));
         }
         OAuth2AccessTokenWithAdditionalInfo latestToken = getLatestToken(tokensByGuid);
-        addTokenToCache(latestToken, tokensByGuid);
+        if (tokensByGuid.size() > 1) {
+            deleteTokens(tokensByGuid.subList(1, tokensByGuid.size()));
+        }
         return latestToken;
     }
 
@@ -89,14 +90,6 @@ public class TokenService implements DisposableBean {
                                  .list();
     }
 
-    private void addTokenToCache(OAuth2AccessTokenWithAdditionalInfo token, List<AccessToken> accessTokens) {
-        cachedTokens.put((String) token.getAdditionalInfo()
-                                       .get(TokenProperties.USER_ID_KEY), token);
-        if (accessTokens.size() > 1) {
-            deleteTokens(accessTokens.subList(1, accessTokens.size()));
-        }
-    }
-
     private OAuth2AccessTokenWithAdditionalInfo getLatestAccessTokenByUsername(String username) {
         List<AccessToken> tokensByUsername = getSortedAccessTokensByUsername(username);
         if (tokensByUsername.isEmpty()) {
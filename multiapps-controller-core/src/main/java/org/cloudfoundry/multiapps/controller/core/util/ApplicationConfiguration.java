@@ -4,6 +4,7 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.time.Duration;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -25,6 +26,7 @@ import org.cloudfoundry.multiapps.mta.handlers.ConfigurationParser;
 import org.cloudfoundry.multiapps.mta.model.Platform;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.scheduling.support.CronExpression;
 
@@ -99,6 +101,22 @@ public class ApplicationConfiguration {
     static final String CFG_ENABLE_ON_START_FILES_WITHOUT_CONTENT_CLEANER = "ENABLE_ON_START_FILES_WITHOUT_CONTENT_CLEANER";
     static final String CFG_THREADS_FOR_FILE_UPLOAD_TO_CONTROLLER = "THREADS_FOR_FILE_UPLOAD_TO_CONTROLLER";
     static final String CFG_THREADS_FOR_FILE_STORAGE_UPLOAD = "THREADS_FOR_FILE_STORAGE_UPLOAD";
+    static final String CFG_THREADS_FOR_FILE_STORAGE_DOWNLOAD = "THREADS_FOR_FILE_STORAGE_DOWNLOAD";
+    static final String CFG_FILE_STORAGE_DOWNLOAD_CHUNK_SIZE = "FILE_STORAGE_DOWNLOAD_CHUNK_SIZE";
+    static final String CFG_FILE_STORAGE_DOWNLOAD_MAX_CHUNKS_IN_FLIGHT = "FILE_STORAGE_DOWNLOAD_MAX_CHUNKS_IN_FLIGHT";
+    static final String CFG_FILE_STORAGE_DOWNLOAD_MAX_BUFFERED_SIZE = "FILE_STORAGE_DOWNLOAD_MAX_BUFFERED_SIZE";
+    static final String CFG_FILE_STORAGE_UPLOAD_PART_SIZE = "FILE_STORAGE_UPLOAD_PART_SIZE";
+    static final String CFG_FILE_STORAGE_UPLOAD_MAX_PARTS_IN_FLIGHT = "FILE_STORAGE_UPLOAD_MAX_PARTS_IN_FLIGHT";
+    static final String CFG_FILE_STORAGE_UPLOAD_MAX_BUFFERED_SIZE = "FILE_STORAGE_UPLOAD_MAX_BUFFERED_SIZE";
+    static final String CFG_PROCESS_LOGS_LEVEL = "PROCESS_LOGS_LEVEL";
+    static final String CFG_ARCHIVE_ENTRY_CACHE_MAX_SIZE = "ARCHIVE_ENTRY_CACHE_MAX_SIZE";
+    static final String CFG_AUDIT_LOG_QUEUE_CAPACITY = "AUDIT_LOG_QUEUE_CAPACITY";
+    static final String CFG_AUDIT_LOG_DROP_EVENTS_ON_OVERFLOW = "AUDIT_LOG_DROP_EVENTS_ON_OVERFLOW";
+    static final String CFG_IS_DISTRIBUTED_RATE_LIMITING_ENABLED = "IS_DISTRIBUTED_RATE_LIMITING_ENABLED";
+    static final String CFG_RATE_LIMIT_ENDPOINT_QUOTAS = "RATE_LIMIT_ENDPOINT_QUOTAS";
+    static final String CFG_HISTORIC_PROCESSES_DELETION_THREADS = "HISTORIC_PROCESSES_DELETION_THREADS";
+    static final String CFG_CLEAN_UP_JOB_MAX_PARALLEL_CLEANERS = "CLEAN_UP_JOB_MAX_PARALLEL_CLEANERS";
+    static final String CFG_CLEAN_UP_JOB_CLEANER_TIME_BUDGET_IN_MINUTES = "CLEAN_UP_JOB_CLEANER_TIME_BUDGET_IN_MINUTES";
     static final String CFG_IS_HEALTH_CHECK_ENABLED = "IS_HEALTH_CHECK_ENABLED";
 
     private static final List<String> VCAP_APPLICATION_URIS_KEYS = List.of("full_application_uris", "application_uris", "uris");
@@ -156,6 +174,21 @@ public class ApplicationConfiguration {
     public static final boolean DEFAULT_ENABLE_ON_START_FILES_WITHOUT_CONTENT_CLEANER = false;
     public static final int DEFAULT_THREADS_FOR_FILE_UPLOAD_TO_CONTROLLER = 6;
     public static final int DEFAULT_THREADS_FOR_FILE_STORAGE_UPLOAD = 7;
+    public static final int DEFAULT_THREADS_FOR_FILE_STORAGE_DOWNLOAD = 8;
+    public static final long DEFAULT_FILE_STORAGE_DOWNLOAD_CHUNK_SIZE = 8 * 1024 * 1024L; // 8 MB
+    public static final int DEFAULT_FILE_STORAGE_DOWNLOAD_MAX_CHUNKS_IN_FLIGHT = 4;
+    public static final long DEFAULT_FILE_STORAGE_DOWNLOAD_MAX_BUFFERED_SIZE = 256 * 1024 * 1024L; // 256 MB
+    public static final long DEFAULT_FILE_STORAGE_UPLOAD_PART_SIZE = 16 * 1024 * 1024L; // 16 MB
+    public static final int DEFAULT_FILE_STORAGE_UPLOAD_MAX_PARTS_IN_FLIGHT = 4;
+    public static final long DEFAULT_FILE_STORAGE_UPLOAD_MAX_BUFFERED_SIZE = 256 * 1024 * 1024L; // 256 MB
+    public static final Level DEFAULT_PROCESS_LOGS_LEVEL = Level.TRACE;
+    public static final long DEFAULT_ARCHIVE_ENTRY_CACHE_MAX_SIZE = 512 * 1024 * 1024L; // 512 MB
+    public static final int DEFAULT_AUDIT_LOG_QUEUE_CAPACITY = 10000;
+    public static final boolean DEFAULT_AUDIT_LOG_DROP_EVENTS_ON_OVERFLOW = false;
+    public static final boolean DEFAULT_IS_DISTRIBUTED_RATE_LIMITING_ENABLED = true;
+    public static final int DEFAULT_HISTORIC_PROCESSES_DELETION_THREADS = 2;
+    public static final int DEFAULT_CLEAN_UP_JOB_MAX_PARALLEL_CLEANERS = 3;
+    public static final int DEFAULT_CLEAN_UP_JOB_CLEANER_TIME_BUDGET_IN_MINUTES = 60;
     public static final boolean DEFAULT_IS_HEALTH_CHECK_ENABLED = false;
     public static final Boolean DEFAULT_IS_READINESS_HEALTH_CHECK_ENABLED = Boolean.FALSE;
 
@@ -214,6 +247,22 @@ public class ApplicationConfiguration {
     private Boolean isOnStartFilesWithoutContentCleanerEnabledThroughEnvironment;
     private Integer threadsForFileUploadToController;
     private Integer threadsForFileStorageUpload;
+    private Integer threadsForFileStorageDownload;
+    private Long fileStorageDownloadChunkSize;
+    private Integer fileStorageDownloadMaxChunksInFlight;
+    private Long fileStorageDownloadMaxBufferedSize;
+    private Long fileStorageUploadPartSize;
+    private Integer fileStorageUploadMaxPartsInFlight;
+    private Long fileStorageUploadMaxBufferedSize;
+    private Level processLogsLevel;
+    private Long archiveEntryCacheMaxSizeInBytes;
+    private Integer auditLogQueueCapacity;
+    private Boolean shouldDropAuditLogEventsOnOverflow;
+    private Boolean isDistributedRateLimitingEnabled;
+    private Map<String, Integer> rateLimitEndpointQuotas;
+    private Integer historicProcessesDeletionThreads;
+    private Integer cleanUpJobMaxParallelCleaners;
+    private Integer cleanUpJobCleanerTimeBudgetInMinutes;
     private Boolean isHealthCheckEnabled;
     private Set<String> objectStoreRegions;
     private Boolean isReadinessHealthCheckEnabled;
@@ -660,6 +709,121 @@ public class ApplicationConfiguration {
         return threadsForFileStorageUpload;
     }
 
+    public int getThreadsForFileStorageDownload() {
+        if (threadsForFileStorageDownload == null) {
+            threadsForFileStorageDownload = getThreadsForFileStorageDownloadFromEnvironment();
+        }
+        return threadsForFileStorageDownload;
+    }
+
+    public long getFileStorageDownloadChunkSize() {
+        if (fileStorageDownloadChunkSize == null) {
+            fileStorageDownloadChunkSize = getFileStorageDownloadChunkSizeFromEnvironment();
+        }
+        return fileStorageDownloadChunkSize;
+    }
+
+    public int getFileStorageDownloadMaxChunksInFlight() {
+        if (fileStorageDownloadMaxChunksInFlight == null) {
+            fileStorageDownloadMaxChunksInFlight = getFileStorageDownloadMaxChunksInFlightFromEnvironment();
+        }
+        return fileStorageDownloadMaxChunksInFlight;
+    }
+
+    public long getFileStorageUploadPartSize() {
+        if (fileStorageUploadPartSize == null) {
+            fileStorageUploadPartSize = getFileStorageUploadPartSizeFromEnvironment();
+        }
+        return fileStorageUploadPartSize;
+    }
+
+    public int getFileStorageUploadMaxPartsInFlight() {
+        if (fileStorageUploadMaxPartsInFlight == null) {
+            fileStorageUploadMaxPartsInFlight = getFileStorageUploadMaxPartsInFlightFromEnvironment();
+        }
+        return fileStorageUploadMaxPartsInFlight;
+    }
+
+    public long getFileStorageDownloadMaxBufferedSize() {
+        if (fileStorageDownloadMaxBufferedSize == null) {
+            fileStorageDownloadMaxBufferedSize = getFileStorageDownloadMaxBufferedSizeFromEnvironment();
+        }
+        return fileStorageDownloadMaxBufferedSize;
+    }
+
+    public long getFileStorageUploadMaxBufferedSize() {
+        if (fileStorageUploadMaxBufferedSize == null) {
+            fileStorageUploadMaxBufferedSize = getFileStorageUploadMaxBufferedSizeFromEnvironment();
+        }
+        return fileStorageUploadMaxBufferedSize;
+    }
+
+    public Level getProcessLogsLevel() {
+        if (processLogsLevel == null) {
+            processLogsLevel = getProcessLogsLevelFromEnvironment();
+        }
+        return processLogsLevel;
+    }
+
+    public long getArchiveEntryCacheMaxSizeInBytes() {
+        if (archiveEntryCacheMaxSizeInBytes == null) {
+            archiveEntryCacheMaxSizeInBytes = getArchiveEntryCacheMaxSizeInBytesFromEnvironment();
+        }
+        return archiveEntryCacheMaxSizeInBytes;
+    }
+
+    public int getAuditLogQueueCapacity() {
+        if (auditLogQueueCapacity == null) {
+            auditLogQueueCapacity = getAuditLogQueueCapacityFromEnvironment();
+        }
+        return auditLogQueueCapacity;
+    }
+
+    public boolean shouldDropAuditLogEventsOnOverflow() {
+        if (shouldDropAuditLogEventsOnOverflow == null) {
+            shouldDropAuditLogEventsOnOverflow = shouldDropAuditLogEventsOnOverflowFromEnvironment();
+        }
+        return shouldDropAuditLogEventsOnOverflow;
+    }
+
+    public boolean isDistributedRateLimitingEnabled() {
+        if (isDistributedRateLimitingEnabled == null) {
+            isDistributedRateLimitingEnabled = isDistributedRateLimitingEnabledFromEnvironment();
+        }
+        return isDistributedRateLimitingEnabled;
+    }
+
+    /**
+     * @return the maximum number of requests per hour for the endpoints matching each path pattern, in the order of the patterns
+     */
+    public Map<String, Integer> getRateLimitEndpointQuotas() {
+        if (rateLimitEndpointQuotas == null) {
+            rateLimitEndpointQuotas = getRateLimitEndpointQuotasFromEnvironment();
+        }
+        return rateLimitEndpointQuotas;
+    }
+
+    public Integer getHistoricProcessesDeletionThreads() {
+        if (historicProcessesDeletionThreads == null) {
+            historicProcessesDeletionThreads = getHistoricProcessesDeletionThreadsFromEnvironment();
+        }
+        return historicProcessesDeletionThreads;
+    }
+
+    public Integer getCleanUpJobMaxParallelCleaners() {
+        if (cleanUpJobMaxParallelCleaners == null) {
+            cleanUpJobMaxParallelCleaners = getCleanUpJobMaxParallelCleanersFromEnvironment();
+        }
+        return cleanUpJobMaxParallelCleaners;
+    }
+
+    public Integer getCleanUpJobCleanerTimeBudgetInMinutes() {
+        if (cleanUpJobCleanerTimeBudgetInMinutes == null) {
+            cleanUpJobCleanerTimeBudgetInMinutes = getCleanUpJobCleanerTimeBudgetInMinutesFromEnvironment();
+        }
+        return cleanUpJobCleanerTimeBudgetInMinutes;
+    }
+
     public boolean isHealthCheckEnabled() {
         if (isHealthCheckEnabled == null) {
             isHealthCheckEnabled = isHealthCheckEnabledFromEnvironment();
@@ -1091,6 +1255,150 @@ public class ApplicationConfiguration {
         return value;
     }
 
+    private int getThreadsForFileStorageDownloadFromEnvironment() {
+        int value = environment.getInteger(CFG_THREADS_FOR_FILE_STORAGE_DOWNLOAD, DEFAULT_THREADS_FOR_FILE_STORAGE_DOWNLOAD);
+        if (value <= 0) {
+            value = DEFAULT_THREADS_FOR_FILE_STORAGE_DOWNLOAD;
+        }
+        logEnvironmentVariable(CFG_THREADS_FOR_FILE_STORAGE_DOWNLOAD, Messages.THREADS_FOR_FILE_STORAGE_DOWNLOAD_0, value);
+        return value;
+    }
+
+    private long getFileStorageDownloadChunkSizeFromEnvironment() {
+        long value = environment.getLong(CFG_FILE_STORAGE_DOWNLOAD_CHUNK_SIZE, DEFAULT_FILE_STORAGE_DOWNLOAD_CHUNK_SIZE);
+        if (value <= 0) {
+            value = DEFAULT_FILE_STORAGE_DOWNLOAD_CHUNK_SIZE;
+        }
+        logEnvironmentVariable(CFG_FILE_STORAGE_DOWNLOAD_CHUNK_SIZE, Messages.FILE_STORAGE_DOWNLOAD_CHUNK_SIZE_0, value);
+        return value;
+    }
+
+    private int getFileStorageDownloadMaxChunksInFlightFromEnvironment() {
+        int value = environment.getInteger(CFG_FILE_STORAGE_DOWNLOAD_MAX_CHUNKS_IN_FLIGHT, DEFAULT_FILE_STORAGE_DOWNLOAD_MAX_CHUNKS_IN_FLIGHT);
+        if (value <= 0) {
+            value = DEFAULT_FILE_STORAGE_DOWNLOAD_MAX_CHUNKS_IN_FLIGHT;
+        }
+        logEnvironmentVariable(CFG_FILE_STORAGE_DOWNLOAD_MAX_CHUNKS_IN_FLIGHT, Messages.FILE_STORAGE_DOWNLOAD_MAX_CHUNKS_IN_FLIGHT_0, value);
+        return value;
+    }
+
+    private long getFileStorageUploadPartSizeFromEnvironment() {
+        long value = environment.getLong(CFG_FILE_STORAGE_UPLOAD_PART_SIZE, DEFAULT_FILE_STORAGE_UPLOAD_PART_SIZE);
+        if (value <= 0) {
+            value = DEFAULT_FILE_STORAGE_UPLOAD_PART_SIZE;
+        }
+        logEnvironmentVariable(CFG_FILE_STORAGE_UPLOAD_PART_SIZE, Messages.FILE_STORAGE_UPLOAD_PART_SIZE_0, value);
+        return value;
+    }
+
+    private int getFileStorageUploadMaxPartsInFlightFromEnvironment() {
+        int value = environment.getInteger(CFG_FILE_STORAGE_UPLOAD_MAX_PARTS_IN_FLIGHT, DEFAULT_FILE_STORAGE_UPLOAD_MAX_PARTS_IN_FLIGHT);
+        if (value <= 0) {
+            value = DEFAULT_FILE_STORAGE_UPLOAD_MAX_PARTS_IN_FLIGHT;
+        }
+        logEnvironmentVariable(CFG_FILE_STORAGE_UPLOAD_MAX_PARTS_IN_FLIGHT, Messages.FILE_STORAGE_UPLOAD_MAX_PARTS_IN_FLIGHT_0, value);
+        return value;
+    }
+
+    private long getFileStorageDownloadMaxBufferedSizeFromEnvironment() {
+        long value = environment.getLong(CFG_FILE_STORAGE_DOWNLOAD_MAX_BUFFERED_SIZE, DEFAULT_FILE_STORAGE_DOWNLOAD_MAX_BUFFERED_SIZE);
+        if (value <= 0) {
+            value = DEFAULT_FILE_STORAGE_DOWNLOAD_MAX_BUFFERED_SIZE;
+        }
+        logEnvironmentVariable(CFG_FILE_STORAGE_DOWNLOAD_MAX_BUFFERED_SIZE, Messages.FILE_STORAGE_DOWNLOAD_MAX_BUFFERED_SIZE_0, value);
+        return value;
+    }
+
+    private long getFileStorageUploadMaxBufferedSizeFromEnvironment() {
+        long value = environment.getLong(CFG_FILE_STORAGE_UPLOAD_MAX_BUFFERED_SIZE, DEFAULT_FILE_STORAGE_UPLOAD_MAX_BUFFERED_SIZE);
+        if (value <= 0) {
+            value = DEFAULT_FILE_STORAGE_UPLOAD_MAX_BUFFERED_SIZE;
+        }
+        logEnvironmentVariable(CFG_FILE_STORAGE_UPLOAD_MAX_BUFFERED_SIZE, Messages.FILE_STORAGE_UPLOAD_MAX_BUFFERED_SIZE_0, value);
+        return value;
+    }
+
+    private Level getProcessLogsLevelFromEnvironment() {
+        String value = environment.getString(CFG_PROCESS_LOGS_LEVEL, DEFAULT_PROCESS_LOGS_LEVEL.name());
+        Level level;
+        try {
+            level = Level.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn(format(Messages.INVALID_PROCESS_LOGS_LEVEL, value), e);
+            level = DEFAULT_PROCESS_LOGS_LEVEL;
+        }
+        logEnvironmentVariable(CFG_PROCESS_LOGS_LEVEL, Messages.PROCESS_LOGS_LEVEL_0, level);
+        return level;
+    }
+
+    private long getArchiveEntryCacheMaxSizeInBytesFromEnvironment() {
+        long value = environment.getLong(CFG_ARCHIVE_ENTRY_CACHE_MAX_SIZE, DEFAULT_ARCHIVE_ENTRY_CACHE_MAX_SIZE);
+        if (value < 0) {
+            value = DEFAULT_ARCHIVE_ENTRY_CACHE_MAX_SIZE;
+        }
+        logEnvironmentVariable(CFG_ARCHIVE_ENTRY_CACHE_MAX_SIZE, Messages.ARCHIVE_ENTRY_CACHE_MAX_SIZE_0, value);
+        return value;
+    }
+
+    private int getAuditLogQueueCapacityFromEnvironment() {
+        int value = environment.getInteger(CFG_AUDIT_LOG_QUEUE_CAPACITY, DEFAULT_AUDIT_LOG_QUEUE_CAPACITY);
+        if (value <= 0) {
+            value = DEFAULT_AUDIT_LOG_QUEUE_CAPACITY;
+        }
+        logEnvironmentVariable(CFG_AUDIT_LOG_QUEUE_CAPACITY, Messages.AUDIT_LOG_QUEUE_CAPACITY_0, value);
+        return value;
+    }
+
+    private boolean shouldDropAuditLogEventsOnOverflowFromEnvironment() {
+        boolean value = environment.getBoolean(CFG_AUDIT_LOG_DROP_EVENTS_ON_OVERFLOW, DEFAULT_AUDIT_LOG_DROP_EVENTS_ON_OVERFLOW);
+        logEnvironmentVariable(CFG_AUDIT_LOG_DROP_EVENTS_ON_OVERFLOW, Messages.AUDIT_LOG_DROP_EVENTS_ON_OVERFLOW_0, value);
+        return value;
+    }
+
+    private boolean isDistributedRateLimitingEnabledFromEnvironment() {
+        boolean value = environment.getBoolean(CFG_IS_DISTRIBUTED_RATE_LIMITING_ENABLED, DEFAULT_IS_DISTRIBUTED_RATE_LIMITING_ENABLED);
+        logEnvironmentVariable(CFG_IS_DISTRIBUTED_RATE_LIMITING_ENABLED, Messages.IS_DISTRIBUTED_RATE_LIMITING_ENABLED_0, value);
+        return value;
+    }
+
+    private Map<String, Integer> getRateLimitEndpointQuotasFromEnvironment() {
+        String value = environment.getString(CFG_RATE_LIMIT_ENDPOINT_QUOTAS);
+        if (value == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, Integer> quotas = new LinkedHashMap<>();
+        try {
+            JsonUtil.convertJsonToMap(value)
+                    .forEach((pathPattern, limit) -> quotas.put(pathPattern, ((Number) limit).intValue()));
+        } catch (ParsingException | ClassCastException e) {
+            LOGGER.warn(format(Messages.INVALID_RATE_LIMIT_ENDPOINT_QUOTAS, value), e);
+            return Collections.emptyMap();
+        }
+        logEnvironmentVariable(CFG_RATE_LIMIT_ENDPOINT_QUOTAS, Messages.RATE_LIMIT_ENDPOINT_QUOTAS_0, quotas);
+        return quotas;
+    }
+
+    private Integer getHistoricProcessesDeletionThreadsFromEnvironment() {
+        Integer value = environment.getPositiveInteger(CFG_HISTORIC_PROCESSES_DELETION_THREADS,
+                                                       DEFAULT_HISTORIC_PROCESSES_DELETION_THREADS);
+        logEnvironmentVariable(CFG_HISTORIC_PROCESSES_DELETION_THREADS, Messages.HISTORIC_PROCESSES_DELETION_THREADS_0, value);
+        return value;
+    }
+
+    private Integer getCleanUpJobMaxParallelCleanersFromEnvironment() {
+        Integer value = environment.getPositiveInteger(CFG_CLEAN_UP_JOB_MAX_PARALLEL_CLEANERS, DEFAULT_CLEAN_UP_JOB_MAX_PARALLEL_CLEANERS);
+        logEnvironmentVariable(CFG_CLEAN_UP_JOB_MAX_PARALLEL_CLEANERS, Messages.CLEAN_UP_JOB_MAX_PARALLEL_CLEANERS_0, value);
+        return value;
+    }
+
+    private Integer getCleanUpJobCleanerTimeBudgetInMinutesFromEnvironment() {
+        Integer value = environment.getPositiveInteger(CFG_CLEAN_UP_JOB_CLEANER_TIME_BUDGET_IN_MINUTES,
+                                                       DEFAULT_CLEAN_UP_JOB_CLEANER_TIME_BUDGET_IN_MINUTES);
+        logEnvironmentVariable(CFG_CLEAN_UP_JOB_CLEANER_TIME_BUDGET_IN_MINUTES, Messages.CLEAN_UP_JOB_CLEANER_TIME_BUDGET_IN_MINUTES_0,
+                               value);
+        return value;
+    }
+
     public boolean isHealthCheckEnabledFromEnvironment() {
         boolean value = environment.getBoolean(CFG_IS_HEALTH_CHECK_ENABLED, DEFAULT_IS_HEALTH_CHECK_ENABLED);
         logEnvironmentVariable(CFG_IS_HEALTH_CHECK_ENABLED, Messages.IS_HEALTH_CHECK_ENABLED, value);
@@ -76,6 +76,7 @@ public class FileUtils {
         try {
             logger.debug(Messages.DELETING_TEMP_FILE, filePath);
             org.apache.commons.io.FileUtils.forceDelete(file);
+            TempFilesSpaceTracker.untrack(filePath);
         } catch (IOException e) {
             logger.warn(Messages.ERROR_DELETING_APP_TEMP_FILE, filePath.toAbsolutePath());
         }
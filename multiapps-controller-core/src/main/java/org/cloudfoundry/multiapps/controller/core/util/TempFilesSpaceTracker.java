@@ -0,0 +1,55 @@
+package org.cloudfoundry.multiapps.controller.core.util;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Accounts the disk space used by the temporary files of the application as they are written and deleted, so that the used space can be
+ * monitored without walking the file system. The files are untracked when they are deleted through {@link FileUtils#cleanUp}.
+ */
+public final class TempFilesSpaceTracker {
+
+    private static final Map<Path, Long> TRACKED_FILES = new ConcurrentHashMap<>();
+    private static final AtomicLong TRACKED_BYTES = new AtomicLong();
+
+    private TempFilesSpaceTracker() {
+    }
+
+    /**
+     * Starts tracking the current size of the given file or directory, replacing the size tracked for it previously.
+     */
+    public static void track(Path path) {
+        long size = getSize(path);
+        TRACKED_FILES.compute(normalize(path), (trackedPath, previousSize) -> {
+            TRACKED_BYTES.addAndGet(previousSize == null ? size : size - previousSize);
+            return size;
+        });
+    }
+
+    public static void untrack(Path path) {
+        Long size = TRACKED_FILES.remove(normalize(path));
+        if (size != null) {
+            TRACKED_BYTES.addAndGet(-size);
+        }
+    }
+
+    public static long getTrackedBytes() {
+        return TRACKED_BYTES.get();
+    }
+
+    private static long getSize(Path path) {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        return org.apache.commons.io.FileUtils.sizeOf(path.toFile());
+    }
+
+    private static Path normalize(Path path) {
+        return path.toAbsolutePath()
+                   .normalize();
+    }
+
+}
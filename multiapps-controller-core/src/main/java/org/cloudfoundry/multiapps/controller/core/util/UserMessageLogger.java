@@ -1,5 +1,7 @@
 package org.cloudfoundry.multiapps.controller.core.util;
 
+import java.util.function.Supplier;
+
 public interface UserMessageLogger {
 
     void logFlowableTask();
@@ -46,9 +48,23 @@ public interface UserMessageLogger {
 
     void debug(String pattern, Object... arguments);
 
+    /**
+     * Logs the supplied message, which is computed only if debug messages are logged.
+     */
+    void debug(Supplier<String> messageSupplier);
+
     void debug(String message);
 
     void trace(String pattern, Object... arguments);
 
+    /**
+     * Logs the supplied message, which is computed only if trace messages are logged.
+     */
+    void trace(Supplier<String> messageSupplier);
+
     void trace(String message);
+
+    boolean isDebugEnabled();
+
+    boolean isTraceEnabled();
 }
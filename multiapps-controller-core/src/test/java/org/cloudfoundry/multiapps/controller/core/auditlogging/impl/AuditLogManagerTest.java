@@ -1,5 +1,6 @@
 package org.cloudfoundry.multiapps.controller.core.auditlogging.impl;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 import org.apache.logging.log4j.core.Logger;
@@ -9,6 +10,12 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.List;
 import javax.sql.DataSource;
 
@@ -23,7 +30,8 @@ class AuditLogManagerTest {
     @BeforeEach
     void setUp() throws Exception {
         testDataSource = TestDataSourceProvider.getDataSource(AUDIT_LOG_CHANGELOG_LOCATION);
-        auditLogManager = new AuditLogManager(testDataSource, createTestUserInfoProvider());
+        auditLogManager = new AuditLogManager(testDataSource, createTestUserInfoProvider(), new AuditLogQueueOptions(10, false),
+                                              new SimpleMeterRegistry());
     }
 
     @AfterEach
@@ -33,12 +41,14 @@ class AuditLogManagerTest {
     }
 
     @Test
-    void testAuditLogManager() {
+    void testAuditLogManager() throws SQLException {
         List<Logger> loggers = loadAuditLoggers();
 
         logMessage(loggers);
+        auditLogManager.stop();
 
         assertNull(auditLogManager.getException());
+        assertEquals(loggers.size(), countAuditLogRows());
     }
 
     private List<Logger> loadAuditLoggers() {
@@ -49,6 +59,14 @@ class AuditLogManagerTest {
         loggers.forEach(logger -> logger.info("Test Message"));
     }
 
+    private int countAuditLogRows() throws SQLException {
+        try (Connection connection = testDataSource.getConnection(); Statement statement = connection.createStatement();
+            ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM AUDIT_LOG")) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
     private static UserInfoProvider createTestUserInfoProvider() {
         return () -> null;
     }
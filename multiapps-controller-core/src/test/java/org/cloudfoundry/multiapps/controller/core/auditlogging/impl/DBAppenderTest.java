@@ -0,0 +1,135 @@
+package org.cloudfoundry.multiapps.controller.core.auditlogging.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class DBAppenderTest {
+
+    private static final String CATEGORY = "ACTION";
+    private static final String SQL = "INSERT INTO AUDIT_LOG (MESSAGE) VALUES (?)";
+
+    private final List<String> writtenMessages = new ArrayList<>();
+    private final List<Exception> handledExceptions = new ArrayList<>();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private DataSource dataSource;
+    @Mock
+    private Connection connection;
+    @Mock
+    private PreparedStatement statement;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this)
+                          .close();
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(SQL)).thenReturn(statement);
+    }
+
+    @Test
+    void testQueuedEventsAreWrittenInOrderOnStop() throws SQLException {
+        DBAppender appender = createAppender(10, false);
+        appender.start();
+
+        for (int i = 0; i < 5; i++) {
+            appender.append(createEvent("message-" + i));
+        }
+
+        assertTrue(appender.stop(10, TimeUnit.SECONDS));
+        assertEquals(List.of("message-0", "message-1", "message-2", "message-3", "message-4"), writtenMessages);
+        verify(statement, times(5)).addBatch();
+        assertTrue(handledExceptions.isEmpty());
+    }
+
+    @Test
+    void testEventsAreDroppedWhenQueueIsFull() throws SQLException {
+        DBAppender appender = createAppender(2, true);
+
+        for (int i = 0; i < 5; i++) {
+            appender.append(createEvent("message-" + i));
+        }
+
+        assertEquals(3, appender.getDroppedEventsCount());
+        assertEquals(2, meterRegistry.get(DBAppender.METRICS_PREFIX + "queue.size")
+                                     .tag("category", CATEGORY)
+                                     .gauge()
+                                     .value());
+        assertEquals(3, meterRegistry.get(DBAppender.METRICS_PREFIX + "dropped")
+                                     .tag("category", CATEGORY)
+                                     .functionCounter()
+                                     .count());
+        verify(statement, never()).executeBatch();
+    }
+
+    @Test
+    void testFailedBatchIsPassedToExceptionHandler() throws SQLException {
+        SQLException exception = new SQLException("Insert failed");
+        when(statement.executeBatch()).thenThrow(exception);
+        DBAppender appender = createAppender(10, false);
+        appender.start();
+
+        appender.append(createEvent("message"));
+
+        assertTrue(appender.stop(10, TimeUnit.SECONDS));
+        assertEquals(List.of(exception), handledExceptions);
+    }
+
+    @Test
+    void testEventsOfFailedBatchAreWrittenOneByOne() throws SQLException {
+        SQLException batchException = new SQLException("Batch insert failed");
+        SQLException eventException = new SQLException("Insert failed");
+        when(statement.executeBatch()).thenThrow(batchException);
+        when(statement.executeUpdate()).thenThrow(eventException)
+                                       .thenReturn(1);
+        DBAppender appender = createAppender(10, false);
+
+        appender.append(createEvent("first-message"));
+        appender.append(createEvent("second-message"));
+        appender.start();
+
+        assertTrue(appender.stop(10, TimeUnit.SECONDS));
+        assertEquals(List.of("first-message", "second-message", "first-message", "second-message"), writtenMessages);
+        verify(statement, times(2)).executeUpdate();
+        assertEquals(List.of(eventException), handledExceptions);
+    }
+
+    private DBAppender createAppender(int queueCapacity, boolean dropEventsOnOverflow) {
+        return new DBAppender(dataSource, SQL, (category, event, userInfo, stmt) -> writtenMessages.add(event.getMessage()
+                                                                                                             .getFormattedMessage()),
+                              handledExceptions::add, () -> null, CATEGORY, queueCapacity, dropEventsOnOverflow, meterRegistry);
+    }
+
+    private LogEvent createEvent(String message) {
+        return Log4jLogEvent.newBuilder()
+                            .setLevel(Level.WARN)
+                            .setMessage(new SimpleMessage(message))
+                            .build();
+    }
+
+}
@@ -0,0 +1,127 @@
+package org.cloudfoundry.multiapps.controller.core.cf.clients;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.cloudfoundry.multiapps.controller.client.facade.CloudCredentials;
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+class CustomControllerClientTest {
+
+    private static final String CONTROLLER_URL = "https://api.cf.example.com";
+    private static final String FIRST_PAGE_URI = "/v3/roles?page=1";
+    private static final String SECOND_PAGE_URI = "/v3/roles?page=2";
+    private static final String THIRD_PAGE_URI = "/v3/roles?page=3";
+
+    private final List<String> requestedUris = new ArrayList<>();
+    private final Map<String, ClientResponse> responses = new HashMap<>();
+
+    @Mock
+    private ApplicationConfiguration configuration;
+    @Mock
+    private WebClientFactory webClientFactory;
+    @Mock
+    private CloudCredentials credentials;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this)
+                          .close();
+        when(configuration.getVersion()).thenReturn("1.0.0");
+        when(webClientFactory.getWebClient(any())).thenReturn(createWebClient());
+    }
+
+    @Test
+    void testGetListOfResourcesReadsAllPages() {
+        addPage(FIRST_PAGE_URI, SECOND_PAGE_URI, "first", "second");
+        addPage(SECOND_PAGE_URI, THIRD_PAGE_URI, "third");
+        addPage(THIRD_PAGE_URI, null, "fourth");
+
+        List<String> names = new TestCustomControllerClient().getNames(FIRST_PAGE_URI);
+
+        assertEquals(List.of("first", "second", "third", "fourth"), names);
+        assertEquals(List.of(FIRST_PAGE_URI, SECOND_PAGE_URI, THIRD_PAGE_URI), requestedUris);
+    }
+
+    @Test
+    void testGetListOfResourcesFailsWhenNextPageFails() {
+        addPage(FIRST_PAGE_URI, SECOND_PAGE_URI, "first");
+        responses.put(SECOND_PAGE_URI, ClientResponse.create(HttpStatus.INTERNAL_SERVER_ERROR)
+                                                     .build());
+        TestCustomControllerClient client = new TestCustomControllerClient();
+
+        WebClientResponseException exception = assertThrows(WebClientResponseException.class, () -> client.getNames(FIRST_PAGE_URI));
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, exception.getStatusCode());
+        assertEquals(List.of(FIRST_PAGE_URI, SECOND_PAGE_URI), requestedUris);
+    }
+
+    private WebClient createWebClient() {
+        return WebClient.builder()
+                        .baseUrl(CONTROLLER_URL)
+                        .exchangeFunction(request -> {
+                            String uri = getRequestUri(request.url());
+                            requestedUris.add(uri);
+                            return Mono.justOrEmpty(responses.get(uri));
+                        })
+                        .build();
+    }
+
+    private static String getRequestUri(URI url) {
+        return url.getPath() + "?" + url.getQuery();
+    }
+
+    private void addPage(String uri, String nextUri, String... names) {
+        String next = nextUri == null ? "null" : "{\"href\":\"" + CONTROLLER_URL + nextUri + "\"}";
+        String resources = String.join(",", Arrays.stream(names)
+                                                  .map(name -> "{\"name\":\"" + name + "\"}")
+                                                  .toList());
+        responses.put(uri, ClientResponse.create(HttpStatus.OK)
+                                         .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                         .body("{\"pagination\":{\"next\":" + next + "},\"resources\":[" + resources + "]}")
+                                         .build());
+    }
+
+    private class TestCustomControllerClient extends CustomControllerClient {
+
+        TestCustomControllerClient() {
+            super(configuration, webClientFactory, credentials);
+        }
+
+        List<String> getNames(String uri) {
+            return getListOfResources(new NamesResponseMapper(), uri);
+        }
+    }
+
+    private static class NamesResponseMapper extends CustomControllerClient.ResourcesResponseMapper<String> {
+
+        @Override
+        protected List<String> mapResources(List<Map<String, Object>> resources, Map<String, List<Object>> includedResources) {
+            return resources.stream()
+                            .map(resource -> (String) resource.get("name"))
+                            .toList();
+        }
+    }
+
+}
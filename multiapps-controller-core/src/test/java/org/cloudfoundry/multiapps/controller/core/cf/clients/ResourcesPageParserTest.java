@@ -0,0 +1,69 @@
+package org.cloudfoundry.multiapps.controller.core.cf.clients;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.cloudfoundry.multiapps.common.ParsingException;
+import org.cloudfoundry.multiapps.common.test.TestUtil;
+import org.cloudfoundry.multiapps.controller.core.cf.clients.ResourcesPageParser.ResourcesPage;
+import org.junit.jupiter.api.Test;
+
+class ResourcesPageParserTest {
+
+    @Test
+    void testParsePage() {
+        List<PaginationV3> paginations = new ArrayList<>();
+
+        ResourcesPage page = ResourcesPageParser.parse(getResourceAsBytes("service-credential-bindings-page.json"), paginations::add);
+
+        assertEquals(1, paginations.size());
+        assertEquals("/v3/service_credential_bindings?page=2&per_page=2", paginations.get(0)
+                                                                               .getNextUri());
+        assertNull(paginations.get(0)
+                              .getPreviousUri());
+        assertEquals(List.of("first-key", "second-key"), page.resources()
+                                                             .stream()
+                                                             .map(resource -> resource.get("name"))
+                                                             .toList());
+        List<Object> serviceInstances = page.includedResources()
+                                            .get("service_instances");
+        assertEquals(1, serviceInstances.size());
+        assertEquals("service", ((Map<?, ?>) serviceInstances.get(0)).get("name"));
+    }
+
+    @Test
+    void testParsePageWithoutResources() {
+        List<PaginationV3> paginations = new ArrayList<>();
+
+        ResourcesPage page = ResourcesPageParser.parse("{\"pagination\":{\"next\":null},\"resources\":[]}".getBytes(StandardCharsets.UTF_8),
+                                                       paginations::add);
+
+        assertNull(paginations.get(0)
+                              .getNextUri());
+        assertTrue(page.resources()
+                       .isEmpty());
+        assertTrue(page.includedResources()
+                       .isEmpty());
+    }
+
+    @Test
+    void testParseInvalidPage() {
+        byte[] content = "[]".getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(ParsingException.class, () -> ResourcesPageParser.parse(content, pagination -> {
+        }));
+    }
+
+    private byte[] getResourceAsBytes(String name) {
+        return TestUtil.getResourceAsString(name, getClass())
+                       .getBytes(StandardCharsets.UTF_8);
+    }
+
+}
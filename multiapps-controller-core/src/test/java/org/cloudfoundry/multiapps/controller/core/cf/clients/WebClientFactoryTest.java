@@ -0,0 +1,136 @@
+package org.cloudfoundry.multiapps.controller.core.cf.clients;
+
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.cloudfoundry.multiapps.controller.client.facade.CloudCredentials;
+import org.cloudfoundry.multiapps.controller.client.facade.oauth2.OAuth2AccessTokenWithAdditionalInfo;
+import org.cloudfoundry.multiapps.controller.client.facade.oauth2.OAuthClient;
+import org.cloudfoundry.multiapps.controller.core.cf.OAuthClientFactory;
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.netty.channel.ChannelOption;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+class WebClientFactoryTest {
+
+    private static final String CONTROLLER_URL = "https://api.cf.example.com";
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(7);
+
+    private final List<ClientRequest> sentRequests = new ArrayList<>();
+    private int createdWebClientsCount;
+
+    @Mock
+    private ApplicationConfiguration configuration;
+    @Mock
+    private OAuthClientFactory oAuthClientFactory;
+    @InjectMocks
+    private final WebClientFactory webClientFactory = new WebClientFactory() {
+        @Override
+        protected WebClient createWebClient(String controllerUrl) {
+            createdWebClientsCount++;
+            return WebClient.builder()
+                            .baseUrl(controllerUrl)
+                            .exchangeFunction(request -> {
+                                sentRequests.add(request);
+                                return Mono.just(ClientResponse.create(HttpStatus.OK)
+                                                               .build());
+                            })
+                            .build();
+        }
+    };
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this)
+                          .close();
+        when(configuration.getControllerUrl()).thenReturn(new URL(CONTROLLER_URL));
+        when(configuration.getControllerClientConnectionPoolSize()).thenReturn(10);
+        when(configuration.getControllerClientConnectTimeout()).thenReturn(CONNECT_TIMEOUT);
+        when(configuration.getControllerClientResponseTimeout()).thenReturn(Duration.ofMinutes(1));
+    }
+
+    @Test
+    void testWebClientsShareOneConnector() {
+        mockOAuthClient("first-token");
+        WebClient firstWebClient = webClientFactory.getWebClient(Mockito.mock(CloudCredentials.class));
+        mockOAuthClient("second-token");
+        WebClient secondWebClient = webClientFactory.getWebClient(Mockito.mock(CloudCredentials.class));
+
+        sendRequest(firstWebClient);
+        sendRequest(secondWebClient);
+
+        assertEquals(1, createdWebClientsCount);
+        assertEquals(2, sentRequests.size());
+        assertEquals("Bearer first-token", getAuthorizationHeader(sentRequests.get(0)));
+        assertEquals("Bearer second-token", getAuthorizationHeader(sentRequests.get(1)));
+    }
+
+    @Test
+    void testEachRequestHasCurrentToken() {
+        OAuthClient oAuthClient = mockOAuthClient("expired-token");
+        WebClient webClient = webClientFactory.getWebClient(Mockito.mock(CloudCredentials.class));
+
+        sendRequest(webClient);
+        when(oAuthClient.getToken()).thenReturn(createToken("refreshed-token"));
+        sendRequest(webClient);
+
+        assertEquals("Bearer expired-token", getAuthorizationHeader(sentRequests.get(0)));
+        assertEquals("Bearer refreshed-token", getAuthorizationHeader(sentRequests.get(1)));
+    }
+
+    @Test
+    void testHttpClientHasConnectTimeout() {
+        HttpClient httpClient = webClientFactory.createHttpClient();
+
+        assertEquals((int) CONNECT_TIMEOUT.toMillis(), httpClient.configuration()
+                                                                 .options()
+                                                                 .get(ChannelOption.CONNECT_TIMEOUT_MILLIS));
+    }
+
+    private OAuthClient mockOAuthClient(String tokenValue) {
+        OAuthClient oAuthClient = Mockito.mock(OAuthClient.class);
+        when(oAuthClient.getToken()).thenReturn(createToken(tokenValue));
+        when(oAuthClientFactory.createOAuthClient()).thenReturn(oAuthClient);
+        return oAuthClient;
+    }
+
+    private static OAuth2AccessTokenWithAdditionalInfo createToken(String tokenValue) {
+        Instant issuedAt = Instant.now();
+        return new OAuth2AccessTokenWithAdditionalInfo(new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, tokenValue, issuedAt,
+                                                                             issuedAt.plusSeconds(60)));
+    }
+
+    private static void sendRequest(WebClient webClient) {
+        webClient.get()
+                 .uri("/v3/apps")
+                 .retrieve()
+                 .toBodilessEntity()
+                 .block();
+    }
+
+    private static String getAuthorizationHeader(ClientRequest request) {
+        return request.headers()
+                      .getFirst(HttpHeaders.AUTHORIZATION);
+    }
+
+}
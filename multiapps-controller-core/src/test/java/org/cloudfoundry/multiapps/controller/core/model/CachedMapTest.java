@@ -1,23 +1,196 @@
 package org.cloudfoundry.multiapps.controller.core.model;
 
-import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 class CachedMapTest {
 
+    private static final String CACHE_NAME = "test";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CachedMap<String, String> map;
+
+    @AfterEach
+    void tearDown() {
+        map.clear();
+    }
+
     @Test
     void testEviction() throws InterruptedException {
-        CachedMap<String, String> map = new CachedMap<>(Duration.ofMillis(3), 10, TimeUnit.MILLISECONDS);
+        map = new CachedMap<>(CACHE_NAME, Duration.ofMillis(3), 10, Duration.ofMillis(10), meterRegistry);
         map.put("test", "test");
         assertNotNull(map.get("test"));
         TimeUnit.MILLISECONDS.sleep(15);
         assertNull(map.get("test"));
-        map.clear();
+    }
+
+    @Test
+    void testAccessedEntryIsNotEvictedWhenExpirationIsExtendedOnAccess() throws InterruptedException {
+        map = new CachedMap<>(CACHE_NAME, Duration.ofMillis(200), 10, Duration.ofMillis(10), true, meterRegistry);
+        map.put("accessed", "accessed");
+        map.put("idle", "idle");
+        for (int i = 0; i < 6; i++) {
+            TimeUnit.MILLISECONDS.sleep(50);
+            assertNotNull(map.get("accessed"));
+        }
+
+        assertNull(map.get("idle"));
+        assertEquals("accessed", map.get("accessed"));
+    }
+
+    @Test
+    void testEvictionAboveMaxSize() throws InterruptedException {
+        map = new CachedMap<>(CACHE_NAME, Duration.ofMinutes(1), 2, Duration.ofMinutes(1), meterRegistry);
+        map.put("a", "a");
+        TimeUnit.MILLISECONDS.sleep(2);
+        map.put("b", "b");
+        TimeUnit.MILLISECONDS.sleep(2);
+        map.put("c", "c");
+
+        assertEquals(2, map.size());
+        assertNull(map.get("a"));
+        assertEquals("c", map.get("c"));
+        assertEquals(1, getCounterValue("evictions"));
+    }
+
+    @Test
+    void testLeastRecentlyAccessedEntryIsEvictedAboveMaxSizeWhenExpirationIsExtendedOnAccess() {
+        map = new CachedMap<>(CACHE_NAME, Duration.ofMinutes(1), 2, Duration.ofMinutes(1), true, meterRegistry);
+        map.put("a", "a");
+        map.put("b", "b");
+        assertEquals("a", map.get("a"));
+        map.put("c", "c");
+
+        assertEquals(2, map.size());
+        assertNull(map.get("b"));
+        assertEquals("a", map.get("a"));
+        assertEquals("c", map.get("c"));
+    }
+
+    @Test
+    void testReplacedEntryIsEvictedLast() {
+        map = new CachedMap<>(CACHE_NAME, Duration.ofMinutes(1), 2, Duration.ofMinutes(1), meterRegistry);
+        map.put("a", "a");
+        map.put("b", "b");
+        map.put("a", "new-a");
+        map.put("c", "c");
+
+        assertNull(map.get("b"));
+        assertEquals("new-a", map.get("a"));
+        assertEquals(1, getCounterValue("evictions"));
+    }
+
+    @Test
+    void testValuePutDuringLoadIsEvictedAboveMaxSize() {
+        map = new CachedMap<>(CACHE_NAME, Duration.ofMinutes(1), 1, Duration.ofMinutes(1), meterRegistry);
+
+        String loadedValue = map.computeIfAbsent("a", () -> {
+            map.put("a", "put");
+            return "loaded";
+        });
+        map.put("b", "b");
+
+        assertEquals("loaded", loadedValue);
+        assertEquals(1, map.size());
+        assertNull(map.get("a"));
+        assertEquals("b", map.get("b"));
+    }
+
+    @Test
+    void testConcurrentMissesLoadValueOnce() throws Exception {
+        map = new CachedMap<>(CACHE_NAME, Duration.ofMinutes(1), 10, Duration.ofMinutes(1), meterRegistry);
+        AtomicInteger loadsCount = new AtomicInteger();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch loadAllowed = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> map.computeIfAbsent("key", () -> {
+                    loadsCount.incrementAndGet();
+                    loadStarted.countDown();
+                    await(loadAllowed);
+                    return "value";
+                })));
+            }
+            loadStarted.await();
+            loadAllowed.countDown();
+            for (Future<String> result : results) {
+                assertEquals("value", result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, loadsCount.get());
+        assertEquals(1, getCounterValue("loads"));
+    }
+
+    @Test
+    void testFailedLoadIsNotCached() {
+        map = new CachedMap<>(CACHE_NAME, Duration.ofMinutes(1), 10, Duration.ofMinutes(1), meterRegistry);
+        assertThrows(IllegalStateException.class, () -> map.computeIfAbsent("key", () -> {
+            throw new IllegalStateException();
+        }));
+
+        assertEquals("value", map.computeIfAbsent("key", () -> "value"));
+    }
+
+    @Test
+    void testStaleValueIsReloaded() {
+        map = new CachedMap<>(CACHE_NAME, Duration.ofMinutes(1), 10, Duration.ofMinutes(1), meterRegistry);
+        map.put("key", "stale");
+
+        assertEquals("fresh", map.computeIfAbsent("key", () -> "fresh", "stale"::equals));
+        assertEquals("fresh", map.get("key"));
+    }
+
+    @Test
+    void testMetrics() {
+        map = new CachedMap<>(CACHE_NAME, Duration.ofMinutes(1), 10, Duration.ofMinutes(1), meterRegistry);
+        map.computeIfAbsent("key", () -> "value");
+        map.computeIfAbsent("key", () -> "value");
+        map.get("missing");
+
+        assertEquals(1, getCounterValue("hits"));
+        assertEquals(2, getCounterValue("misses"));
+        assertEquals(1, meterRegistry.get(CachedMap.METRICS_PREFIX + "size")
+                                     .tag("cache", CACHE_NAME)
+                                     .gauge()
+                                     .value());
+    }
+
+    private double getCounterValue(String counterName) {
+        return meterRegistry.get(CachedMap.METRICS_PREFIX + counterName)
+                            .tag("cache", CACHE_NAME)
+                            .functionCounter()
+                            .count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        }
     }
 
 }
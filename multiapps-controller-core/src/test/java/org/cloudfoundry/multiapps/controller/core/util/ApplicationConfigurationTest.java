@@ -24,6 +24,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.slf4j.event.Level;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -487,6 +488,22 @@ class ApplicationConfigurationTest {
         assertTrue(configuration.isOnStartFilesWithoutContentCleanerEnabled());
     }
 
+    @Test
+    void testGetProcessLogsLevel() {
+        Mockito.when(environment.getString(ApplicationConfiguration.CFG_PROCESS_LOGS_LEVEL,
+                                           ApplicationConfiguration.DEFAULT_PROCESS_LOGS_LEVEL.name()))
+               .thenReturn("info");
+        assertEquals(Level.INFO, configuration.getProcessLogsLevel());
+    }
+
+    @Test
+    void testGetProcessLogsLevelWithInvalidValue() {
+        Mockito.when(environment.getString(ApplicationConfiguration.CFG_PROCESS_LOGS_LEVEL,
+                                           ApplicationConfiguration.DEFAULT_PROCESS_LOGS_LEVEL.name()))
+               .thenReturn("verbose");
+        assertEquals(ApplicationConfiguration.DEFAULT_PROCESS_LOGS_LEVEL, configuration.getProcessLogsLevel());
+    }
+
     @Test
     void testLoad() {
         Mockito.when(environment.getString(ApplicationConfiguration.OBJECTSTORE_REGIONS, Strings.EMPTY))
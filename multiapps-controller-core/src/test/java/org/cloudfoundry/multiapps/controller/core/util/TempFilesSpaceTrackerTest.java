@@ -0,0 +1,59 @@
+package org.cloudfoundry.multiapps.controller.core.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+class TempFilesSpaceTrackerTest {
+
+    private Path tempFile;
+    private long initiallyTrackedBytes;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        tempFile = Files.createTempFile("module", ".zip");
+        initiallyTrackedBytes = TempFilesSpaceTracker.getTrackedBytes();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        TempFilesSpaceTracker.untrack(tempFile);
+        Files.deleteIfExists(tempFile);
+    }
+
+    @Test
+    void testTrackedSizeIsReplacedWhenFileIsTrackedAgain() throws IOException {
+        Files.write(tempFile, new byte[100]);
+        TempFilesSpaceTracker.track(tempFile);
+        assertEquals(initiallyTrackedBytes + 100, TempFilesSpaceTracker.getTrackedBytes());
+
+        Files.write(tempFile, new byte[40]);
+        TempFilesSpaceTracker.track(tempFile);
+        assertEquals(initiallyTrackedBytes + 40, TempFilesSpaceTracker.getTrackedBytes());
+    }
+
+    @Test
+    void testFileIsUntrackedWhenCleanedUp() throws IOException {
+        Files.write(tempFile, new byte[100]);
+        TempFilesSpaceTracker.track(tempFile);
+
+        FileUtils.cleanUp(tempFile, LoggerFactory.getLogger(TempFilesSpaceTrackerTest.class));
+
+        assertEquals(initiallyTrackedBytes, TempFilesSpaceTracker.getTrackedBytes());
+    }
+
+    @Test
+    void testUntrackingUnknownFileHasNoEffect() {
+        TempFilesSpaceTracker.untrack(tempFile);
+
+        assertEquals(initiallyTrackedBytes, TempFilesSpaceTracker.getTrackedBytes());
+    }
+
+}
@@ -38,6 +38,7 @@ open module org.cloudfoundry.multiapps.controller.persistence {
     requires flowable.engine.common.api;
     requires flowable.variable.service.api;
     requires jakarta.inject;
+    requires micrometer.core;
     requires org.apache.logging.log4j;
     requires org.apache.logging.log4j.core;
     requires org.apache.commons.io;
@@ -46,6 +47,7 @@ open module org.cloudfoundry.multiapps.controller.persistence {
     requires org.cloudfoundry.multiapps.common;
     requires org.eclipse.persistence.core;
     requires org.slf4j;
+    requires spring.beans;
     requires spring.context;
     requires spring.core;
 
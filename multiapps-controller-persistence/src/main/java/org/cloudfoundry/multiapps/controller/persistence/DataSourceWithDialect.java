@@ -11,7 +11,7 @@ public class DataSourceWithDialect {
     private final DataSourceDialect dataSourceDialect;
 
     public DataSourceWithDialect(DataSource dataSource) {
-        this(dataSource, new DefaultDataSourceDialect());
+        this(dataSource, new DefaultDataSourceDialect(dataSource));
     }
 
     public DataSourceWithDialect(DataSource dataSource, DataSourceDialect dataSourceDialect) {
@@ -18,6 +18,7 @@ public final class Messages {
     public static final String ERROR_GETTING_FILES_WITH_SPACE_OPERATION_ID_AND_NAME = "Error getting files with space {0} operation id {1} and file name {2}";
     public static final String ERROR_GETTING_LOGS_WITH_SPACE_OPERATION_ID_AND_NAME = "Error getting logs with space {0} operation id {1} and file name {2}";
     public static final String ERROR_GETTING_ALL_FILES = "Error getting all files";
+    public static final String ERROR_READING_OPERATION_LOG_CHUNKS_0 = "Error reading operation log chunks {0}";
     public static final String ERROR_LOG_FILE_NOT_FOUND = "Log file with name \"{0}\" for operation \"{1}\" in space \"{2}\" was not found";
     public static final String ERROR_CORRELATION_ID_OR_ACTIVITY_ID_NULL = "Unable to retrieve correlation id or activity id for process \"{0}\" at activity \"{1}\" and space \"{2}\"";
     public static final String COLUMN_VALUE_SHOULD_NOT_BE_NULL = "Configuration subscription''s \"{0}\" column value should not be null";
@@ -47,19 +48,38 @@ public final class Messages {
     public static final String BACKUP_DESCRIPTOR_FOR_MTA_ID_0_AND_ID_1_ALREADY_EXIST = "Backup descriptor for mta id \"{0}\" and id \"{1}\" already exist";
     public static final String BACKUP_DESCRIPTOR_WITH_ID_NOT_EXIST = "Backup descriptor with ID \"{0}\" does not exist";
     public static final String DATABASE_HEALTH_CHECK_FAILED = "Database health check failed";
+    public static final String INVALID_CHUNK_SIZE_0_OR_CHUNKS_IN_FLIGHT_1 = "Invalid chunk size {0} or chunks in flight {1}, both must be positive";
+    public static final String STREAM_IS_CLOSED = "Stream is closed";
+    public static final String RANGE_0_1_OF_BLOB_2_HAS_UNEXPECTED_SIZE_3 = "Range [{0}-{1}] of blob \"{2}\" has unexpected size {3}";
+    public static final String ERROR_RESERVING_PERMITS_FROM_RATE_LIMIT_BUCKET_0 = "Error reserving permits from rate limit bucket \"{0}\"";
+    public static final String ERROR_DELETING_RATE_LIMIT_BUCKETS_REFILLED_BEFORE_0 = "Error deleting rate limit buckets refilled before {0}";
+    public static final String ERROR_ACQUIRING_LEASE_OF_CLEANER_0 = "Error acquiring lease of cleaner \"{0}\"";
+    public static final String ERROR_COMPLETING_LEASE_OF_CLEANER_0 = "Error completing lease of cleaner \"{0}\"";
+    public static final String ERROR_CHECKING_COMPLETION_OF_CLEANERS_0 = "Error checking completion of cleaners {0}";
+    public static final String MULTIPART_UPLOAD_OF_BLOB_0_FAILED = "Multipart upload of blob \"{0}\" to ObjectStore failed";
 
     // ERROR log messages:
     public static final String UPLOAD_STREAM_FAILED_TO_CLOSE = "Cannot close file upload stream";
+    public static final String COULD_NOT_PERSIST_OPERATION_LOG_0 = "Could not persist operation log \"{0}\"";
+    public static final String COULD_NOT_PERSIST_PROGRESS_MESSAGE_OF_PROCESS_0 = "Could not persist progress message of process \"{0}\"";
 
     // WARN log messages:
     public static final String COULD_NOT_CLOSE_RESULT_SET = "Could not close result set.";
     public static final String COULD_NOT_CLOSE_STATEMENT = "Could not close statement.";
     public static final String COULD_NOT_CLOSE_CONNECTION = "Could not close connection.";
     public static final String COULD_NOT_CLOSE_LOGGER_CONTEXT = "Could not close logger context";
+    public static final String COULD_NOT_DETERMINE_DATABASE_PRODUCT_NAME = "Could not determine the product name of the database, filtering JSON columns in Java";
     public static final String COULD_NOT_ROLLBACK_TRANSACTION = "Could not rollback transaction!";
     public static final String COULD_NOT_PERSIST_LOGS_FILE = "Could not persist logs file: {0}";
+    public static final String INTERRUPTED_WHILE_WAITING_TO_QUEUE_OPERATION_LOG_0 = "Interrupted while waiting to queue operation log \"{0}\", persisting it directly";
+    public static final String INTERRUPTED_WHILE_WAITING_TO_QUEUE_PROGRESS_MESSAGE_OF_PROCESS_0 = "Interrupted while waiting to queue progress message of process \"{0}\", persisting it directly";
+    public static final String COULD_NOT_PERSIST_BATCH_OF_0_OPERATION_LOGS_PERSISTING_THEM_ONE_BY_ONE = "Could not persist batch of {0} operation logs, persisting them one by one";
+    public static final String COULD_NOT_PERSIST_BATCH_OF_0_PROGRESS_MESSAGES_PERSISTING_THEM_ONE_BY_ONE = "Could not persist batch of {0} progress messages, persisting them one by one";
     public static final String ATTEMPT_TO_UPLOAD_BLOB_FAILED = "Attempt [{0}/{1}] to upload blob to ObjectStore failed with \"{2}\"";
+    public static final String ATTEMPT_TO_UPLOAD_PART_0_OF_BLOB_1_FAILED = "Attempt [{0}/{1}] to upload part {2} of blob {3} to ObjectStore failed with \"{4}\"";
+    public static final String COULD_NOT_ABORT_MULTIPART_UPLOAD_OF_BLOB_0 = "Could not abort multipart upload of blob \"{0}\"";
     public static final String ATTEMPT_TO_DOWNLOAD_MISSING_BLOB = "Attempt [{0}/{1}] to download missing blob {2} from ObjectStore";
+    public static final String ATTEMPT_TO_DOWNLOAD_RANGE_0_1_OF_BLOB_2_FAILED = "Attempt [{0}/{1}] to download range [{2}-{3}] of blob {4} from ObjectStore failed with \"{5}\"";
     public static final String USER_METADATA_OF_BLOB_0_EMPTY_AND_WILL_BE_DELETED = "User metadata of blob \"{0}\" is empty and will be deleted";
     public static final String DATE_METADATA_OF_BLOB_0_IS_NOT_IN_PROPER_FORMAT_AND_WILL_BE_DELETED = "Date metadata of blob \"{0}\" is not in a proper format and will be deleted";
 
@@ -70,6 +90,7 @@ public final class Messages {
     // DEBUG log messages:
     public static final String STORED_FILE_0 = "Stored file: \"{0}\"";
     public static final String STORED_FILE_0_WITH_SIZE_1 = "Stored file \"{0}\" with size {1}";
+    public static final String STORED_BLOB_0_IN_1_PARTS = "Stored blob \"{0}\" in {1} parts";
     public static final String DELETED_0_FILES_WITH_SPACEIDS_1 = "Deleted {0} files with space ids \"{1}\".";
     public static final String DELETED_0_FILES_WITH_SPACE_1_AND_NAMESPACE_2 = "Deleted {0} files with space \"{1}\" and namespace \"{2}\".";
     public static final String DELETED_0_FILES_MODIFIED_BEFORE_1 = "Deleted {0} files modified before \"{1}\".";
@@ -25,4 +25,10 @@ public interface DataSourceDialect {
     BigInteger getBigInteger(ResultSet rs, String columnName) throws SQLException;
 
     void setBigInteger(PreparedStatement ps, int index, BigInteger bi) throws SQLException;
+
+    /**
+     * Whether the database provides the {@code JSONB_CONTAINS_TEXT} function, which checks whether a JSON document stored as text
+     * contains another one. Filters on JSON columns are applied in Java when it does not.
+     */
+    boolean supportsJsonContainment();
 }
@@ -2,14 +2,30 @@ package org.cloudfoundry.multiapps.controller.persistence.dialects;
 
 import java.io.InputStream;
 import java.math.BigInteger;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
+import javax.sql.DataSource;
+
+import org.cloudfoundry.multiapps.controller.persistence.Messages;
 import org.cloudfoundry.multiapps.controller.persistence.query.options.StreamFetchingOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class DefaultDataSourceDialect implements DataSourceDialect {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultDataSourceDialect.class);
+    private static final String POSTGRESQL_PRODUCT_NAME = "PostgreSQL";
+
+    private final DataSource dataSource;
+    private volatile Boolean isPostgreSql;
+
+    public DefaultDataSourceDialect(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
     @Override
     public String getSequenceNextValueSyntax(String sequenceName) {
         return "nextval('" + sequenceName + "')";
@@ -57,4 +73,32 @@ public class DefaultDataSourceDialect implements DataSourceDialect {
         ps.setBinaryStream(index, is);
     }
 
+    /**
+     * The JSON functions are created by the database migration only on PostgreSQL, so the product name of the database is checked once.
+     * If it cannot be determined, the check is repeated on the next call.
+     */
+    @Override
+    public boolean supportsJsonContainment() {
+        Boolean result = isPostgreSql;
+        if (result == null) {
+            String databaseProductName = getDatabaseProductName();
+            if (databaseProductName == null) {
+                return false;
+            }
+            result = POSTGRESQL_PRODUCT_NAME.equals(databaseProductName);
+            isPostgreSql = result;
+        }
+        return result;
+    }
+
+    private String getDatabaseProductName() {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getMetaData()
+                             .getDatabaseProductName();
+        } catch (SQLException e) {
+            LOGGER.warn(Messages.COULD_NOT_DETERMINE_DATABASE_PRODUCT_NAME, e);
+            return null;
+        }
+    }
+
 }
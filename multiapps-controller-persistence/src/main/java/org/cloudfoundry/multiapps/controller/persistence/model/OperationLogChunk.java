@@ -0,0 +1,14 @@
+package org.cloudfoundry.multiapps.controller.persistence.model;
+
+import org.immutables.value.Value;
+
+@Value.Immutable
+public interface OperationLogChunk {
+
+    String getId();
+
+    /**
+     * @return the size of the uncompressed content of the chunk in bytes
+     */
+    long getSize();
+}
@@ -0,0 +1,22 @@
+package org.cloudfoundry.multiapps.controller.persistence.model;
+
+import org.immutables.value.Value;
+
+@Value.Immutable
+public interface RateLimitReservation {
+
+    /**
+     * @return the number of permits taken from the bucket, which is less than the requested one if the bucket did not have enough
+     */
+    long getReservedPermits();
+
+    /**
+     * @return the number of permits left in the bucket after the reservation
+     */
+    long getAvailablePermits();
+
+    /**
+     * @return the time until the bucket is refilled with at least one permit, or zero if it still has permits
+     */
+    long getMillisUntilNextPermit();
+}
@@ -1,6 +1,7 @@
 package org.cloudfoundry.multiapps.controller.persistence.query;
 
 import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
 import java.util.List;
 
 import org.cloudfoundry.multiapps.controller.api.model.Operation;
@@ -37,10 +38,18 @@ public interface OperationQuery extends Query<Operation, OperationQuery> {
 
     OperationQuery withStateAnyOf(List<Operation.State> states);
 
+    /**
+     * Restricts the results to the operations after the given one in the order of {@link #orderByStartTimeAndProcessId}, so that the
+     * operations can be paginated without scanning the previous pages.
+     */
+    OperationQuery startedAfter(ZonedDateTime startedAt, String processId);
+
     OperationQuery orderByProcessId(OrderDirection orderDirection);
 
     OperationQuery orderByEndTime(OrderDirection orderDirection);
 
     OperationQuery orderByStartTime(OrderDirection orderDirection);
 
+    OperationQuery orderByStartTimeAndProcessId(OrderDirection orderDirection);
+
 }
\ No newline at end of file
@@ -1,9 +1,12 @@
 package org.cloudfoundry.multiapps.controller.persistence.query.criteria;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
@@ -11,14 +14,25 @@ import jakarta.persistence.criteria.Root;
 public class QueryCriteria {
 
     private final Set<QueryAttributeRestriction<?>> attributeRestrictions = new HashSet<>();
+    private final List<Function<Root<?>, Predicate>> predicateBuilders = new ArrayList<>();
 
     public void addRestriction(QueryAttributeRestriction<?> attributeRestriction) {
         attributeRestrictions.add(attributeRestriction);
     }
 
+    /**
+     * Adds a restriction which cannot be expressed as a condition on a single attribute, e.g. because it combines several attributes.
+     */
+    public void addPredicate(Function<Root<?>, Predicate> predicateBuilder) {
+        predicateBuilders.add(predicateBuilder);
+    }
+
     public <E> List<Predicate> toQueryPredicates(Root<E> root) {
-        return attributeRestrictions.stream()
-                                    .map(attributeRestriction -> attributeRestriction.satisfiedBy(root))
-                                    .collect(Collectors.toList());
+        Stream<Predicate> attributePredicates = attributeRestrictions.stream()
+                                                                     .map(attributeRestriction -> attributeRestriction.satisfiedBy(root));
+        Stream<Predicate> otherPredicates = predicateBuilders.stream()
+                                                             .map(predicateBuilder -> predicateBuilder.apply(root));
+        return Stream.concat(attributePredicates, otherPredicates)
+                     .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+}
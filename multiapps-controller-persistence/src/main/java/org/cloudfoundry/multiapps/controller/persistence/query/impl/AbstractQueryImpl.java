@@ -1,5 +1,8 @@
 package org.cloudfoundry.multiapps.controller.persistence.query.impl;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 
 import jakarta.persistence.EntityManager;
@@ -7,6 +10,7 @@ import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaDelete;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 
@@ -21,8 +25,7 @@ public abstract class AbstractQueryImpl<R, T extends Query<R, T>> implements Que
     private final CriteriaBuilder criteriaBuilder;
     private Integer limit;
     private Integer offset;
-    private OrderDirection orderDirection;
-    private String orderAttribute;
+    private final Map<String, OrderDirection> orders = new LinkedHashMap<>();
 
     protected AbstractQueryImpl(EntityManager entityManager) {
         this.entityManager = entityManager;
@@ -42,8 +45,15 @@ public abstract class AbstractQueryImpl<R, T extends Query<R, T>> implements Que
     }
 
     protected T setOrder(String orderAttribute, OrderDirection orderDirection) {
-        this.orderAttribute = orderAttribute;
-        this.orderDirection = orderDirection;
+        orders.clear();
+        return addOrder(orderAttribute, orderDirection);
+    }
+
+    /**
+     * Orders the results by the given attribute among the results which are equal by the attributes of the previous orders.
+     */
+    protected T addOrder(String orderAttribute, OrderDirection orderDirection) {
+        orders.put(orderAttribute, orderDirection);
         return getSelf();
     }
 
@@ -57,13 +67,21 @@ public abstract class AbstractQueryImpl<R, T extends Query<R, T>> implements Que
     }
 
     private <E> CriteriaQuery<E> applyOrder(CriteriaQuery<E> criteriaQuery, Root<E> root) {
-        if (orderAttribute == null) {
+        if (orders.isEmpty()) {
             return criteriaQuery;
         }
+        List<Order> criteriaOrders = orders.entrySet()
+                                           .stream()
+                                           .map(order -> toCriteriaOrder(root, order.getKey(), order.getValue()))
+                                           .toList();
+        return criteriaQuery.orderBy(criteriaOrders);
+    }
+
+    private Order toCriteriaOrder(Root<?> root, String orderAttribute, OrderDirection orderDirection) {
         if (orderDirection == OrderDirection.ASCENDING) {
-            return criteriaQuery.orderBy(criteriaBuilder.asc(root.get(orderAttribute)));
+            return criteriaBuilder.asc(root.get(orderAttribute));
         }
-        return criteriaQuery.orderBy(criteriaBuilder.desc(root.get(orderAttribute)));
+        return criteriaBuilder.desc(root.get(orderAttribute));
     }
 
     protected <E> TypedQuery<E> createQuery(EntityManager entityManager, QueryCriteria criteria, Class<E> dtoClass) {
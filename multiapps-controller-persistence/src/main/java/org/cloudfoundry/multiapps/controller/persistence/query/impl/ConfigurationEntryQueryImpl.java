@@ -5,12 +5,21 @@ import java.util.List;
 import java.util.Map;
 import java.util.function.BiPredicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.cloudfoundry.multiapps.common.util.JsonUtil;
 import org.cloudfoundry.multiapps.controller.persistence.Messages;
+import org.cloudfoundry.multiapps.controller.persistence.dialects.DataSourceDialect;
 import org.cloudfoundry.multiapps.controller.persistence.dto.ConfigurationEntryDto;
 import org.cloudfoundry.multiapps.controller.persistence.dto.ConfigurationEntryDto.AttributeNames;
 import org.cloudfoundry.multiapps.controller.persistence.model.CloudTarget;
@@ -32,18 +41,22 @@ public class ConfigurationEntryQueryImpl extends AbstractQueryImpl<Configuration
     private static final BiPredicate<ConfigurationEntry, List<CloudTarget>> VISIBILITY_FILTER = new VisibilityFilter();
     private static final BiPredicate<CloudTarget, CloudTarget> TARGET_WILDCARD_FILTER = new TargetWildcardFilter();
     private static final BiPredicate<String, Map<String, Object>> CONTENT_FILTER = new ContentFilter();
+    private static final String JSON_CONTAINMENT_FUNCTION = "JSONB_CONTAINS_TEXT";
 
     protected final QueryCriteria queryCriteria = new QueryCriteria();
     private final ConfigurationEntryMapper entryMapper;
+    private final DataSourceDialect dataSourceDialect;
 
     private Map<String, Object> requiredProperties;
     private CloudTarget target;
     private List<CloudTarget> visibilityTargets;
     private String version;
 
-    public ConfigurationEntryQueryImpl(EntityManager entityManager, ConfigurationEntryMapper entryMapper) {
+    public ConfigurationEntryQueryImpl(EntityManager entityManager, ConfigurationEntryMapper entryMapper,
+                                       DataSourceDialect dataSourceDialect) {
         super(entityManager);
         this.entryMapper = entryMapper;
+        this.dataSourceDialect = dataSourceDialect;
     }
 
     @Override
@@ -107,14 +120,14 @@ public class ConfigurationEntryQueryImpl extends AbstractQueryImpl<Configuration
     @Override
     public ConfigurationEntryQuery target(CloudTarget target) {
         this.target = target;
-        if (target != null && !StringUtils.isEmpty(target.getSpaceName())) {
+        if (target != null && isSpecificTargetName(target.getSpaceName())) {
             queryCriteria.addRestriction(ImmutableQueryAttributeRestriction.builder()
                                                                            .attribute(AttributeNames.TARGET_SPACE)
                                                                            .condition(getCriteriaBuilder()::equal)
                                                                            .value(target.getSpaceName())
                                                                            .build());
         }
-        if (target != null && !StringUtils.isEmpty(target.getOrganizationName())) {
+        if (target != null && isSpecificTargetName(target.getOrganizationName())) {
             queryCriteria.addRestriction(ImmutableQueryAttributeRestriction.builder()
                                                                            .attribute(AttributeNames.TARGET_ORG)
                                                                            .condition(getCriteriaBuilder()::equal)
@@ -124,6 +137,10 @@ public class ConfigurationEntryQueryImpl extends AbstractQueryImpl<Configuration
         return this;
     }
 
+    private static boolean isSpecificTargetName(String targetName) {
+        return !StringUtils.isEmpty(targetName) && !TargetWildcardFilter.ANY_TARGET_WILDCARD.equals(targetName);
+    }
+
     @Override
     public ConfigurationEntryQuery spaceId(String spaceId) {
         queryCriteria.addRestriction(ImmutableQueryAttributeRestriction.builder()
@@ -155,15 +172,63 @@ public class ConfigurationEntryQueryImpl extends AbstractQueryImpl<Configuration
     @Override
     public ConfigurationEntryQuery visibilityTargets(List<CloudTarget> visibilityTargets) {
         this.visibilityTargets = visibilityTargets;
+        if (dataSourceDialect.supportsJsonContainment() && CollectionUtils.isNotEmpty(visibilityTargets)) {
+            queryCriteria.addPredicate(root -> getVisibilityPredicate(root, visibilityTargets));
+        }
         return this;
     }
 
     @Override
     public ConfigurationEntryQuery requiredProperties(Map<String, Object> requiredProperties) {
         this.requiredProperties = requiredProperties;
+        if (dataSourceDialect.supportsJsonContainment() && MapUtils.isNotEmpty(requiredProperties)) {
+            Map<String, Object> requiredNonNullProperties = getNonNullProperties(requiredProperties);
+            if (!requiredNonNullProperties.isEmpty()) {
+                String requiredContent = JsonUtil.toJson(requiredNonNullProperties);
+                queryCriteria.addPredicate(root -> getContainsJsonPredicate(root.get(AttributeNames.CONTENT), requiredContent));
+            }
+        }
         return this;
     }
 
+    // A required null value is also satisfied by a missing property in ContentFilter, which JSON containment does not allow for
+    private Map<String, Object> getNonNullProperties(Map<String, Object> properties) {
+        return properties.entrySet()
+                         .stream()
+                         .filter(property -> property.getValue() != null)
+                         .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    private Predicate getVisibilityPredicate(Root<?> root, List<CloudTarget> visibilityTargets) {
+        Path<String> visibility = root.get(AttributeNames.VISIBILITY);
+        List<Predicate> predicates = visibilityTargets.stream()
+                                                      .flatMap(this::getGrantingVisibilityTargets)
+                                                      .distinct()
+                                                      .map(grantingTarget -> getContainsJsonPredicate(visibility,
+                                                                                                      JsonUtil.toJson(List.of(grantingTarget))))
+                                                      .collect(Collectors.toList());
+        // Entries without visibility are visible in the organization of their target, as in VisibilityFilter
+        List<String> organizationNames = visibilityTargets.stream()
+                                                          .map(CloudTarget::getOrganizationName)
+                                                          .collect(Collectors.toList());
+        organizationNames.add(TargetWildcardFilter.ANY_TARGET_WILDCARD);
+        predicates.add(getCriteriaBuilder().and(getCriteriaBuilder().isNull(visibility), root.get(AttributeNames.TARGET_ORG)
+                                                                                             .in(organizationNames)));
+        return getCriteriaBuilder().or(predicates.toArray(new Predicate[0]));
+    }
+
+    private Stream<CloudTarget> getGrantingVisibilityTargets(CloudTarget visibilityTarget) {
+        String anyTarget = TargetWildcardFilter.ANY_TARGET_WILDCARD;
+        return Stream.of(visibilityTarget, new CloudTarget(anyTarget, anyTarget),
+                         new CloudTarget(anyTarget, visibilityTarget.getSpaceName()),
+                         new CloudTarget(visibilityTarget.getOrganizationName(), anyTarget));
+    }
+
+    private Predicate getContainsJsonPredicate(Expression<String> json, String containedJson) {
+        return getCriteriaBuilder().isTrue(getCriteriaBuilder().function(JSON_CONTAINMENT_FUNCTION, Boolean.class, json,
+                                                                         getCriteriaBuilder().literal(containedJson)));
+    }
+
     @Override
     public ConfigurationEntry singleResult() {
         ConfigurationEntryDto dto = executeInTransaction(manager -> createQuery(manager, queryCriteria,
@@ -185,6 +250,11 @@ public class ConfigurationEntryQueryImpl extends AbstractQueryImpl<Configuration
         return visibilityTargetsStringBuilder.toString();
     }
 
+    /**
+     * The content and visibility filters are applied in the database when its dialect supports JSON containment. They are still
+     * applied in Java afterwards, since they define the exact semantics, e.g. for nested values in the content. The version filter is
+     * always applied in Java, since version requirements cannot be evaluated in SQL.
+     */
     @Override
     public List<ConfigurationEntry> list() {
         List<ConfigurationEntryDto> dtos = executeInTransaction(manager -> createQuery(manager, queryCriteria,
@@ -1,11 +1,15 @@
 package org.cloudfoundry.multiapps.controller.persistence.query.impl;
 
 import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.Date;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
 
 import org.cloudfoundry.multiapps.controller.api.model.Operation;
 import org.cloudfoundry.multiapps.controller.api.model.ProcessType;
@@ -157,6 +161,20 @@ public class OperationQueryImpl extends AbstractQueryImpl<Operation, OperationQu
         return this;
     }
 
+    @Override
+    public OperationQuery startedAfter(ZonedDateTime startedAt, String processId) {
+        CriteriaBuilder criteriaBuilder = getCriteriaBuilder();
+        Date startedAtDate = Date.from(startedAt.toInstant());
+        queryCriteria.addPredicate(root -> {
+            Path<Date> startedAtAttribute = root.get(AttributeNames.STARTED_AT);
+            Path<String> processIdAttribute = root.get(AttributeNames.PROCESS_ID);
+            return criteriaBuilder.or(criteriaBuilder.greaterThan(startedAtAttribute, startedAtDate),
+                                      criteriaBuilder.and(criteriaBuilder.equal(startedAtAttribute, startedAtDate),
+                                                          criteriaBuilder.greaterThan(processIdAttribute, processId)));
+        });
+        return this;
+    }
+
     @Override
     public OperationQuery orderByProcessId(OrderDirection orderDirection) {
         setOrder(OperationDto.AttributeNames.PROCESS_ID, orderDirection);
@@ -175,6 +193,13 @@ public class OperationQueryImpl extends AbstractQueryImpl<Operation, OperationQu
         return this;
     }
 
+    @Override
+    public OperationQuery orderByStartTimeAndProcessId(OrderDirection orderDirection) {
+        setOrder(OperationDto.AttributeNames.STARTED_AT, orderDirection);
+        addOrder(OperationDto.AttributeNames.PROCESS_ID, orderDirection);
+        return this;
+    }
+
     @Override
     public Operation singleResult() {
         OperationDto dto = executeInTransaction(manager -> createQuery(manager, queryCriteria, OperationDto.class).getSingleResult());
@@ -0,0 +1,106 @@
+package org.cloudfoundry.multiapps.controller.persistence.query.providers;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.cloudfoundry.multiapps.controller.persistence.model.PersistenceMetadata;
+import org.cloudfoundry.multiapps.controller.persistence.query.SqlQuery;
+import org.cloudfoundry.multiapps.controller.persistence.util.JdbcUtil;
+
+/**
+ * Queries over the leases of the clean-up job cleaners. A lease is taken over when it has expired or when its owner is no longer reported
+ * as a live lock owner, and is never taken over for a cleaner that has completed since the given time.
+ */
+public class SqlCleanerLeaseQueryProvider {
+
+    private static final String UPDATE_LEASE_IF_AVAILABLE = "UPDATE %s SET LOCK_OWNER=?, LEASE_EXPIRATION_TIME=? WHERE CLEANER_NAME=? "
+        + "AND (LAST_COMPLETION_TIME IS NULL OR LAST_COMPLETION_TIME<?) "
+        + "AND (LEASE_EXPIRATION_TIME<? OR LOCK_OWNER NOT IN (SELECT LO.%s FROM %s LO))";
+    private static final String INSERT_LEASE = "INSERT INTO %s (CLEANER_NAME, LOCK_OWNER, LEASE_EXPIRATION_TIME) VALUES (?, ?, ?)";
+    private static final String COMPLETE_LEASE = "UPDATE %s SET LAST_COMPLETION_TIME=?, LEASE_EXPIRATION_TIME=? WHERE CLEANER_NAME=? AND LOCK_OWNER=?";
+    private static final String COUNT_LEASES_COMPLETED_SINCE = "SELECT COUNT(*) FROM %s WHERE LAST_COMPLETION_TIME>=? AND CLEANER_NAME IN (%s)";
+
+    private final String tableName;
+
+    public SqlCleanerLeaseQueryProvider(String tableName) {
+        this.tableName = tableName;
+    }
+
+    public SqlQuery<Integer> getUpdateLeaseIfAvailableQuery(String cleanerName, String lockOwner, Timestamp notCompletedSince,
+                                                            Timestamp currentTime, Timestamp leaseExpirationTime) {
+        return (Connection connection) -> {
+            PreparedStatement statement = null;
+            try {
+                statement = connection.prepareStatement(String.format(UPDATE_LEASE_IF_AVAILABLE, tableName,
+                                                                      PersistenceMetadata.TableColumnNames.LOCK_OWNER_LOCK_OWNER,
+                                                                      PersistenceMetadata.TableNames.LOCK_OWNERS_TABLE));
+                statement.setString(1, lockOwner);
+                statement.setTimestamp(2, leaseExpirationTime);
+                statement.setString(3, cleanerName);
+                statement.setTimestamp(4, notCompletedSince);
+                statement.setTimestamp(5, currentTime);
+                return statement.executeUpdate();
+            } finally {
+                JdbcUtil.closeQuietly(statement);
+            }
+        };
+    }
+
+    public SqlQuery<Integer> getInsertLeaseQuery(String cleanerName, String lockOwner, Timestamp leaseExpirationTime) {
+        return (Connection connection) -> {
+            PreparedStatement statement = null;
+            try {
+                statement = connection.prepareStatement(String.format(INSERT_LEASE, tableName));
+                statement.setString(1, cleanerName);
+                statement.setString(2, lockOwner);
+                statement.setTimestamp(3, leaseExpirationTime);
+                return statement.executeUpdate();
+            } finally {
+                JdbcUtil.closeQuietly(statement);
+            }
+        };
+    }
+
+    public SqlQuery<Integer> getCompleteLeaseQuery(String cleanerName, String lockOwner, Timestamp completionTime) {
+        return (Connection connection) -> {
+            PreparedStatement statement = null;
+            try {
+                statement = connection.prepareStatement(String.format(COMPLETE_LEASE, tableName));
+                statement.setTimestamp(1, completionTime);
+                statement.setTimestamp(2, completionTime);
+                statement.setString(3, cleanerName);
+                statement.setString(4, lockOwner);
+                return statement.executeUpdate();
+            } finally {
+                JdbcUtil.closeQuietly(statement);
+            }
+        };
+    }
+
+    public SqlQuery<Integer> getCountLeasesCompletedSinceQuery(Collection<String> cleanerNames, Timestamp completedSince) {
+        return (Connection connection) -> {
+            PreparedStatement statement = null;
+            ResultSet resultSet = null;
+            try {
+                statement = connection.prepareStatement(String.format(COUNT_LEASES_COMPLETED_SINCE, tableName,
+                                                                      String.join(", ", Collections.nCopies(cleanerNames.size(), "?"))));
+                statement.setTimestamp(1, completedSince);
+                int parameterIndex = 2;
+                for (String cleanerName : cleanerNames) {
+                    statement.setString(parameterIndex++, cleanerName);
+                }
+                resultSet = statement.executeQuery();
+                resultSet.next();
+                return resultSet.getInt(1);
+            } finally {
+                JdbcUtil.closeQuietly(resultSet);
+                JdbcUtil.closeQuietly(statement);
+            }
+        };
+    }
+
+}
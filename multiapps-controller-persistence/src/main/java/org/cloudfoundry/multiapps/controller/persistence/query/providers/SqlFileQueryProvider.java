@@ -9,6 +9,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Timestamp;
 import java.sql.Types;
 import java.text.MessageFormat;
@@ -115,15 +116,7 @@ public abstract class SqlFileQueryProvider {
             PreparedStatement statement = null;
             try {
                 statement = connection.prepareStatement(getQuery(INSERT_FILE_ATTRIBUTES));
-                statement.setString(1, fileEntry.getId());
-                statement.setString(2, fileEntry.getSpace());
-                statement.setString(3, fileEntry.getName());
-                setOrNull(statement, 4, fileEntry.getNamespace());
-                getDataSourceDialect().setBigInteger(statement, 5, fileEntry.getSize());
-                statement.setString(6, fileEntry.getDigest());
-                statement.setString(7, fileEntry.getDigestAlgorithm());
-                statement.setTimestamp(8, Timestamp.valueOf(fileEntry.getModified()));
-                statement.setString(9, fileEntry.getOperationId());
+                setFileAttributes(statement, fileEntry);
                 return statement.executeUpdate() > 0;
             } finally {
                 JdbcUtil.closeQuietly(statement);
@@ -131,6 +124,38 @@ public abstract class SqlFileQueryProvider {
         };
     }
 
+    public SqlQuery<Integer> getStoreFilesAttributesQuery(List<FileEntry> fileEntries) {
+        return (Connection connection) -> {
+            PreparedStatement statement = null;
+            try {
+                statement = connection.prepareStatement(getQuery(INSERT_FILE_ATTRIBUTES));
+                for (FileEntry fileEntry : fileEntries) {
+                    setFileAttributes(statement, fileEntry);
+                    statement.addBatch();
+                }
+                int[] batchResults = statement.executeBatch();
+                // Some drivers report only that the inserts succeeded, without the number of inserted rows:
+                return (int) IntStream.of(batchResults)
+                                      .filter(result -> result > 0 || result == Statement.SUCCESS_NO_INFO)
+                                      .count();
+            } finally {
+                JdbcUtil.closeQuietly(statement);
+            }
+        };
+    }
+
+    private void setFileAttributes(PreparedStatement statement, FileEntry fileEntry) throws SQLException {
+        statement.setString(1, fileEntry.getId());
+        statement.setString(2, fileEntry.getSpace());
+        statement.setString(3, fileEntry.getName());
+        setOrNull(statement, 4, fileEntry.getNamespace());
+        getDataSourceDialect().setBigInteger(statement, 5, fileEntry.getSize());
+        statement.setString(6, fileEntry.getDigest());
+        statement.setString(7, fileEntry.getDigestAlgorithm());
+        statement.setTimestamp(8, Timestamp.valueOf(fileEntry.getModified()));
+        statement.setString(9, fileEntry.getOperationId());
+    }
+
     public SqlQuery<List<FileEntry>> getListFilesQuery(String space, String namespace) {
         return (Connection connection) -> {
             PreparedStatement statement = null;
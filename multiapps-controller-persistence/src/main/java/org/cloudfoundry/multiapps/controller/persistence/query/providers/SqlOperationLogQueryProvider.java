@@ -1,5 +1,10 @@
 package org.cloudfoundry.multiapps.controller.persistence.query.providers;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -7,26 +12,43 @@ import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
+import org.cloudfoundry.multiapps.controller.persistence.dialects.DataSourceDialect;
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableOperationLogChunk;
 import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableOperationLogEntry;
+import org.cloudfoundry.multiapps.controller.persistence.model.OperationLogChunk;
 import org.cloudfoundry.multiapps.controller.persistence.model.OperationLogEntry;
 import org.cloudfoundry.multiapps.controller.persistence.query.SqlQuery;
 import org.cloudfoundry.multiapps.controller.persistence.util.JdbcUtil;
 
 public class SqlOperationLogQueryProvider {
 
-    public static final String INSERT_FILE_ATTRIBUTES_AND_CONTENT = "INSERT INTO %s (ID, SPACE, NAMESPACE, MODIFIED, OPERATION_ID, OPERATION_LOG, OPERATION_LOG_NAME) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    public static final String INSERT_FILE_ATTRIBUTES_AND_CONTENT = "INSERT INTO %s (ID, SPACE, NAMESPACE, MODIFIED, OPERATION_ID, OPERATION_LOG, OPERATION_LOG_NAME, OPERATION_LOG_SIZE, COMPRESSED_OPERATION_LOG, CHUNK_SEQUENCE) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, %s)";
     private static final String ID_COLUMN_LABEL = "id";
     private static final String OPERATION_LOG_COLUMN_LABEL = "operation_log";
     private static final String OPERATION_LOG_NAME_COLUMN_LABEL = "operation_log_name";
-    private static final String SELECT_LOGS_BY_SPACE_ID_OPERATION_ID_AND_OPERATION_LOG_NAME = "SELECT ID, OPERATION_LOG, OPERATION_LOG_NAME FROM %s WHERE SPACE=? AND OPERATION_ID=? AND OPERATION_LOG_NAME=? ORDER BY MODIFIED ASC";
+    private static final String OPERATION_LOG_SIZE_COLUMN_LABEL = "operation_log_size";
+    private static final String COMPRESSED_OPERATION_LOG_COLUMN_LABEL = "compressed_operation_log";
+    private static final String CHUNK_SEQUENCE_NAME = "process_log_chunk_sequence";
+    // Chunks persisted before the introduction of the sequence have no sequence number and precede all others. Their size is not stored
+    // either, so it is computed when they are read
+    private static final String SELECT_CHUNKS_BY_SPACE_ID_OPERATION_ID_AND_OPERATION_LOG_NAME = "SELECT ID, COALESCE(OPERATION_LOG_SIZE, OCTET_LENGTH(OPERATION_LOG)) AS OPERATION_LOG_SIZE FROM %s WHERE SPACE=? AND OPERATION_ID=? AND OPERATION_LOG_NAME=? ORDER BY CHUNK_SEQUENCE ASC NULLS FIRST, MODIFIED ASC";
+    private static final String SELECT_CHUNKS_CONTENT_BY_IDS = "SELECT ID, OPERATION_LOG, COMPRESSED_OPERATION_LOG FROM %s WHERE ID IN (%s)";
+    private static final int MIN_COMPRESSED_CHUNK_SIZE_IN_BYTES = 4 * 1024;
     private static final String SELECT_LOGS_BY_SPACE_ID_AND_NAME = "SELECT DISTINCT ID, OPERATION_LOG, OPERATION_LOG_NAME, MODIFIED FROM %s WHERE SPACE=? AND OPERATION_ID=? ORDER BY MODIFIED ASC";
     private final String tableName;
+    private final DataSourceDialect dataSourceDialect;
 
-
-    public SqlOperationLogQueryProvider(String tableName) {
+    public SqlOperationLogQueryProvider(String tableName, DataSourceDialect dataSourceDialect) {
         this.tableName = tableName;
+        this.dataSourceDialect = dataSourceDialect;
     }
 
     public SqlQuery<Integer> getStoreLogQuery(OperationLogEntry operationLogEntry) {
@@ -34,27 +56,56 @@ public class SqlOperationLogQueryProvider {
             PreparedStatement statement = null;
             try {
                 statement = connection.prepareStatement(getStoreLogQueryString());
-                statement.setString(1, operationLogEntry.getId());
-                statement.setString(2, operationLogEntry.getSpace());
+                setStoreLogParameters(statement, operationLogEntry);
+                return statement.executeUpdate();
+            } finally {
+                JdbcUtil.closeQuietly(statement);
+            }
+        };
+    }
 
-                if (operationLogEntry.getNamespace() == null) {
-                    statement.setNull(3, Types.NULL);
-                } else {
-                    statement.setString(3, operationLogEntry.getNamespace());
+    public SqlQuery<Integer> getStoreLogsQuery(List<OperationLogEntry> operationLogEntries) {
+        return (Connection connection) -> {
+            PreparedStatement statement = null;
+            try {
+                statement = connection.prepareStatement(getStoreLogQueryString());
+                for (OperationLogEntry operationLogEntry : operationLogEntries) {
+                    setStoreLogParameters(statement, operationLogEntry);
+                    statement.addBatch();
                 }
-
-                statement.setTimestamp(4, Timestamp.valueOf(operationLogEntry.getModified()));
-                statement.setString(5, operationLogEntry.getOperationId());
-                statement.setString(6, operationLogEntry.getOperationLog());
-                statement.setString(7, operationLogEntry.getOperationLogName());
-
-                return statement.executeUpdate();
+                int[] batchResults = statement.executeBatch();
+                return IntStream.of(batchResults)
+                                .sum();
             } finally {
                 JdbcUtil.closeQuietly(statement);
             }
         };
     }
 
+    private void setStoreLogParameters(PreparedStatement statement, OperationLogEntry operationLogEntry) throws SQLException {
+        statement.setString(1, operationLogEntry.getId());
+        statement.setString(2, operationLogEntry.getSpace());
+
+        if (operationLogEntry.getNamespace() == null) {
+            statement.setNull(3, Types.NULL);
+        } else {
+            statement.setString(3, operationLogEntry.getNamespace());
+        }
+
+        statement.setTimestamp(4, Timestamp.valueOf(operationLogEntry.getModified()));
+        statement.setString(5, operationLogEntry.getOperationId());
+        byte[] operationLog = getOperationLogBytes(operationLogEntry);
+        if (operationLog.length < MIN_COMPRESSED_CHUNK_SIZE_IN_BYTES) {
+            statement.setString(6, operationLogEntry.getOperationLog());
+            statement.setNull(9, Types.BINARY);
+        } else {
+            statement.setNull(6, Types.VARCHAR);
+            dataSourceDialect.setByteArrayAsBinaryStream(statement, 9, new ByteArrayInputStream(compress(operationLog)));
+        }
+        statement.setString(7, operationLogEntry.getOperationLogName());
+        statement.setLong(8, operationLog.length);
+    }
+
     public SqlQuery<List<OperationLogEntry>> getListFilesQueryBySpaceAndOperationId(String space, String operationId) {
         return (Connection connection) -> {
             PreparedStatement statement = null;
@@ -76,21 +127,49 @@ public class SqlOperationLogQueryProvider {
         };
     }
 
-    public SqlQuery<List<OperationLogEntry>> getListFilesQueryBySpaceOperationIdAndLogId(String space, String operationId, String logId) {
+    public SqlQuery<List<OperationLogChunk>> getListChunksQuery(String space, String operationId, String logName) {
         return (Connection connection) -> {
             PreparedStatement statement = null;
             ResultSet resultSet = null;
             try {
-                List<OperationLogEntry> logs = new ArrayList<>();
-                statement = connection.prepareStatement(getListFilesBySpaceOperationIdAndLogIdQueryString());
+                List<OperationLogChunk> chunks = new ArrayList<>();
+                statement = connection.prepareStatement(getListChunksQueryString());
                 statement.setString(1, space);
                 statement.setString(2, operationId);
-                statement.setString(3, logId);
+                statement.setString(3, logName);
                 resultSet = statement.executeQuery();
                 while (resultSet.next()) {
-                    logs.add(getOperationLogEntry(resultSet));
+                    chunks.add(ImmutableOperationLogChunk.builder()
+                                                         .id(resultSet.getString(ID_COLUMN_LABEL))
+                                                         .size(resultSet.getLong(OPERATION_LOG_SIZE_COLUMN_LABEL))
+                                                         .build());
                 }
-                return logs;
+                return chunks;
+            } finally {
+                JdbcUtil.closeQuietly(resultSet);
+                JdbcUtil.closeQuietly(statement);
+            }
+        };
+    }
+
+    /**
+     * @return the uncompressed content of the chunks with the given IDs, mapped by ID
+     */
+    public SqlQuery<Map<String, byte[]>> getChunksContentQuery(List<String> chunkIds) {
+        return (Connection connection) -> {
+            PreparedStatement statement = null;
+            ResultSet resultSet = null;
+            try {
+                Map<String, byte[]> chunksContent = new HashMap<>();
+                statement = connection.prepareStatement(getChunksContentQueryString(chunkIds.size()));
+                for (int i = 0; i < chunkIds.size(); i++) {
+                    statement.setString(i + 1, chunkIds.get(i));
+                }
+                resultSet = statement.executeQuery();
+                while (resultSet.next()) {
+                    chunksContent.put(resultSet.getString(ID_COLUMN_LABEL), getChunkContent(resultSet));
+                }
+                return chunksContent;
             } finally {
                 JdbcUtil.closeQuietly(resultSet);
                 JdbcUtil.closeQuietly(statement);
@@ -99,15 +178,19 @@ public class SqlOperationLogQueryProvider {
     }
 
     private String getStoreLogQueryString() {
-        return String.format(INSERT_FILE_ATTRIBUTES_AND_CONTENT, tableName);
+        return String.format(INSERT_FILE_ATTRIBUTES_AND_CONTENT, tableName, dataSourceDialect.getSequenceNextValueSyntax(CHUNK_SEQUENCE_NAME));
     }
 
-    private String getListFilesBySpaceAndOperationIdQueryString() {
-        return String.format(SELECT_LOGS_BY_SPACE_ID_AND_NAME, tableName);
+    private String getListChunksQueryString() {
+        return String.format(SELECT_CHUNKS_BY_SPACE_ID_OPERATION_ID_AND_OPERATION_LOG_NAME, tableName);
+    }
+
+    private String getChunksContentQueryString(int chunksCount) {
+        return String.format(SELECT_CHUNKS_CONTENT_BY_IDS, tableName, String.join(", ", Collections.nCopies(chunksCount, "?")));
     }
 
-    private String getListFilesBySpaceOperationIdAndLogIdQueryString() {
-        return String.format(SELECT_LOGS_BY_SPACE_ID_OPERATION_ID_AND_OPERATION_LOG_NAME, tableName);
+    private String getListFilesBySpaceAndOperationIdQueryString() {
+        return String.format(SELECT_LOGS_BY_SPACE_ID_AND_NAME, tableName);
     }
 
     private OperationLogEntry getOperationLogEntry(ResultSet resultSet) throws SQLException {
@@ -117,4 +200,38 @@ public class SqlOperationLogQueryProvider {
                                          .operationLogName(resultSet.getString(OPERATION_LOG_NAME_COLUMN_LABEL))
                                          .build();
     }
+
+    private byte[] getOperationLogBytes(OperationLogEntry operationLogEntry) {
+        String operationLog = operationLogEntry.getOperationLog();
+        return operationLog == null ? new byte[0] : operationLog.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] getChunkContent(ResultSet resultSet) throws SQLException {
+        try (InputStream compressedContent = dataSourceDialect.getBinaryStreamFromByteArray(resultSet,
+                                                                                            COMPRESSED_OPERATION_LOG_COLUMN_LABEL)) {
+            if (compressedContent != null) {
+                return decompress(compressedContent);
+            }
+        } catch (IOException e) {
+            throw new SQLException(e.getMessage(), e);
+        }
+        String operationLog = resultSet.getString(OPERATION_LOG_COLUMN_LABEL);
+        return operationLog == null ? new byte[0] : operationLog.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] compress(byte[] content) throws SQLException {
+        ByteArrayOutputStream compressedContent = new ByteArrayOutputStream(content.length / 4);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressedContent)) {
+            gzipOutputStream.write(content);
+        } catch (IOException e) {
+            throw new SQLException(e.getMessage(), e);
+        }
+        return compressedContent.toByteArray();
+    }
+
+    private static byte[] decompress(InputStream compressedContent) throws IOException {
+        try (GZIPInputStream gzipInputStream = new GZIPInputStream(compressedContent)) {
+            return gzipInputStream.readAllBytes();
+        }
+    }
 }
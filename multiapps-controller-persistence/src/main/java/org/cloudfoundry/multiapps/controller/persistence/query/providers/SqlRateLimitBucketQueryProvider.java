@@ -0,0 +1,139 @@
+package org.cloudfoundry.multiapps.controller.persistence.query.providers;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableRateLimitReservation;
+import org.cloudfoundry.multiapps.controller.persistence.model.RateLimitReservation;
+import org.cloudfoundry.multiapps.controller.persistence.query.SqlQuery;
+import org.cloudfoundry.multiapps.controller.persistence.util.JdbcUtil;
+
+/**
+ * Queries over token buckets whose state is shared between all instances. The tokens of a bucket are refilled continuously and reach
+ * its capacity after the refill period. Reservations lock the row of the bucket, so concurrent reservations for the same bucket are
+ * serialized by the database.
+ */
+public class SqlRateLimitBucketQueryProvider {
+
+    private static final String SELECT_BUCKET_FOR_UPDATE = "SELECT TOKENS, LAST_REFILL_TIME FROM %s WHERE BUCKET_KEY=? FOR UPDATE";
+    private static final String INSERT_BUCKET = "INSERT INTO %s (BUCKET_KEY, TOKENS, LAST_REFILL_TIME) VALUES (?, ?, ?)";
+    private static final String UPDATE_BUCKET = "UPDATE %s SET TOKENS=?, LAST_REFILL_TIME=? WHERE BUCKET_KEY=?";
+    private static final String DELETE_BUCKETS_REFILLED_BEFORE = "DELETE FROM %s WHERE LAST_REFILL_TIME<?";
+    private static final String TOKENS_COLUMN_LABEL = "tokens";
+    private static final String LAST_REFILL_TIME_COLUMN_LABEL = "last_refill_time";
+
+    private final String tableName;
+
+    public SqlRateLimitBucketQueryProvider(String tableName) {
+        this.tableName = tableName;
+    }
+
+    public SqlQuery<RateLimitReservation> getReservePermitsQuery(String bucketKey, long capacity, Duration refillPeriod, long permits,
+                                                                 long currentTimeMillis) {
+        return (Connection connection) -> {
+            BucketState bucketState = selectBucketForUpdate(connection, bucketKey);
+            if (bucketState == null) {
+                BucketState fullBucketState = new BucketState(capacity, currentTimeMillis);
+                return reservePermits(fullBucketState, capacity, refillPeriod, permits, currentTimeMillis,
+                                      newBucketState -> insertBucket(connection, bucketKey, newBucketState));
+            }
+            return reservePermits(bucketState, capacity, refillPeriod, permits, currentTimeMillis,
+                                  newBucketState -> updateBucket(connection, bucketKey, newBucketState));
+        };
+    }
+
+    public SqlQuery<Integer> getDeleteBucketsRefilledBeforeQuery(Timestamp refillTime) {
+        return (Connection connection) -> {
+            PreparedStatement statement = null;
+            try {
+                statement = connection.prepareStatement(String.format(DELETE_BUCKETS_REFILLED_BEFORE, tableName));
+                statement.setTimestamp(1, refillTime);
+                return statement.executeUpdate();
+            } finally {
+                JdbcUtil.closeQuietly(statement);
+            }
+        };
+    }
+
+    private BucketState selectBucketForUpdate(Connection connection, String bucketKey) throws SQLException {
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        try {
+            statement = connection.prepareStatement(String.format(SELECT_BUCKET_FOR_UPDATE, tableName));
+            statement.setString(1, bucketKey);
+            resultSet = statement.executeQuery();
+            if (!resultSet.next()) {
+                return null;
+            }
+            return new BucketState(resultSet.getDouble(TOKENS_COLUMN_LABEL), resultSet.getTimestamp(LAST_REFILL_TIME_COLUMN_LABEL)
+                                                                                    .getTime());
+        } finally {
+            JdbcUtil.closeQuietly(resultSet);
+            JdbcUtil.closeQuietly(statement);
+        }
+    }
+
+    private RateLimitReservation reservePermits(BucketState bucketState, long capacity, Duration refillPeriod, long permits,
+                                                long currentTimeMillis, BucketStateWriter bucketStateWriter)
+        throws SQLException {
+        double tokensPerMilli = (double) capacity / Math.max(1, refillPeriod.toMillis());
+        // The clocks of the instances are not synchronized, so the refill time is never moved back
+        long refillTime = Math.max(currentTimeMillis, bucketState.lastRefillTime());
+        double tokens = Math.min(capacity, bucketState.tokens() + (refillTime - bucketState.lastRefillTime()) * tokensPerMilli);
+        long reservedPermits = Math.max(0, Math.min(permits, (long) tokens));
+        double remainingTokens = tokens - reservedPermits;
+        bucketStateWriter.write(new BucketState(remainingTokens, refillTime));
+        return ImmutableRateLimitReservation.builder()
+                                            .reservedPermits(reservedPermits)
+                                            .availablePermits((long) remainingTokens)
+                                            .millisUntilNextPermit(getMillisUntilNextPermit(remainingTokens, tokensPerMilli))
+                                            .build();
+    }
+
+    private long getMillisUntilNextPermit(double tokens, double tokensPerMilli) {
+        if (tokens >= 1) {
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / tokensPerMilli);
+    }
+
+    private int insertBucket(Connection connection, String bucketKey, BucketState bucketState) throws SQLException {
+        PreparedStatement statement = null;
+        try {
+            statement = connection.prepareStatement(String.format(INSERT_BUCKET, tableName));
+            statement.setString(1, bucketKey);
+            statement.setDouble(2, bucketState.tokens());
+            statement.setTimestamp(3, new Timestamp(bucketState.lastRefillTime()));
+            return statement.executeUpdate();
+        } finally {
+            JdbcUtil.closeQuietly(statement);
+        }
+    }
+
+    private int updateBucket(Connection connection, String bucketKey, BucketState bucketState) throws SQLException {
+        PreparedStatement statement = null;
+        try {
+            statement = connection.prepareStatement(String.format(UPDATE_BUCKET, tableName));
+            statement.setDouble(1, bucketState.tokens());
+            statement.setTimestamp(2, new Timestamp(bucketState.lastRefillTime()));
+            statement.setString(3, bucketKey);
+            return statement.executeUpdate();
+        } finally {
+            JdbcUtil.closeQuietly(statement);
+        }
+    }
+
+    private record BucketState(double tokens, long lastRefillTime) {
+    }
+
+    @FunctionalInterface
+    private interface BucketStateWriter {
+
+        int write(BucketState bucketState) throws SQLException;
+    }
+
+}
@@ -0,0 +1,89 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import jakarta.inject.Named;
+
+import org.cloudfoundry.multiapps.common.SLException;
+import org.cloudfoundry.multiapps.controller.persistence.DataSourceWithDialect;
+import org.cloudfoundry.multiapps.controller.persistence.Messages;
+import org.cloudfoundry.multiapps.controller.persistence.query.providers.SqlCleanerLeaseQueryProvider;
+import org.cloudfoundry.multiapps.controller.persistence.util.SqlQueryExecutor;
+
+/**
+ * Leases through which the cleaners of the clean-up job are distributed between the instances, so that each cleaner is executed by a
+ * single instance per clean-up. The leases are held by the lock owners reported in {@link LockOwnerService}.
+ */
+@Named
+public class CleanerLeaseService {
+
+    public static final String TABLE_NAME = "cleaner_lease";
+    private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+
+    private final SqlQueryExecutor sqlQueryExecutor;
+    private final SqlCleanerLeaseQueryProvider sqlCleanerLeaseQueryProvider;
+
+    public CleanerLeaseService(DataSourceWithDialect dataSourceWithDialect) {
+        this.sqlQueryExecutor = new SqlQueryExecutor(dataSourceWithDialect.getDataSource());
+        this.sqlCleanerLeaseQueryProvider = new SqlCleanerLeaseQueryProvider(TABLE_NAME);
+    }
+
+    /**
+     * Acquires the lease of the given cleaner for the given duration, unless it is held by another live lock owner or the cleaner has
+     * completed since {@code notCompletedSince}.
+     *
+     * @return whether the lease was acquired
+     */
+    public boolean tryAcquireLease(String cleanerName, String lockOwner, LocalDateTime notCompletedSince, Duration leaseDuration) {
+        LocalDateTime currentTime = LocalDateTime.now();
+        Timestamp leaseExpirationTime = Timestamp.valueOf(currentTime.plus(leaseDuration));
+        try {
+            int updatedLeases = sqlQueryExecutor.execute(sqlCleanerLeaseQueryProvider.getUpdateLeaseIfAvailableQuery(cleanerName, lockOwner,
+                                                                                                                     Timestamp.valueOf(notCompletedSince),
+                                                                                                                     Timestamp.valueOf(currentTime),
+                                                                                                                     leaseExpirationTime));
+            if (updatedLeases > 0) {
+                return true;
+            }
+            return sqlQueryExecutor.execute(sqlCleanerLeaseQueryProvider.getInsertLeaseQuery(cleanerName, lockOwner,
+                                                                                             leaseExpirationTime)) > 0;
+        } catch (SQLException e) {
+            if (UNIQUE_VIOLATION_SQL_STATE.equals(e.getSQLState())) {
+                // The lease exists and is not available
+                return false;
+            }
+            throw new SLException(e, Messages.ERROR_ACQUIRING_LEASE_OF_CLEANER_0, cleanerName);
+        }
+    }
+
+    /**
+     * Marks the given cleaner as completed and releases its lease, if it is still held by the given lock owner.
+     */
+    public void completeLease(String cleanerName, String lockOwner) {
+        try {
+            sqlQueryExecutor.execute(sqlCleanerLeaseQueryProvider.getCompleteLeaseQuery(cleanerName, lockOwner,
+                                                                                        Timestamp.valueOf(LocalDateTime.now())));
+        } catch (SQLException e) {
+            throw new SLException(e, Messages.ERROR_COMPLETING_LEASE_OF_CLEANER_0, cleanerName);
+        }
+    }
+
+    /**
+     * @return whether all of the given cleaners have completed since {@code completedSince}
+     */
+    public boolean areLeasesCompleted(Collection<String> cleanerNames, LocalDateTime completedSince) {
+        try {
+            var countCompletedLeasesQuery = sqlCleanerLeaseQueryProvider.getCountLeasesCompletedSinceQuery(cleanerNames,
+                                                                                                           Timestamp.valueOf(completedSince));
+            int completedLeases = sqlQueryExecutor.execute(countCompletedLeasesQuery);
+            return completedLeases == cleanerNames.size();
+        } catch (SQLException e) {
+            throw new SLException(e, Messages.ERROR_CHECKING_COMPLETION_OF_CLEANERS_0, cleanerNames);
+        }
+    }
+
+}
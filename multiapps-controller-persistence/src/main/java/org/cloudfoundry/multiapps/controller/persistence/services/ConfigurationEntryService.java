@@ -12,6 +12,7 @@ import org.cloudfoundry.multiapps.common.ConflictException;
 import org.cloudfoundry.multiapps.common.NotFoundException;
 import org.cloudfoundry.multiapps.common.util.JsonUtil;
 import org.cloudfoundry.multiapps.controller.persistence.Messages;
+import org.cloudfoundry.multiapps.controller.persistence.dialects.DataSourceDialect;
 import org.cloudfoundry.multiapps.controller.persistence.dto.ConfigurationEntryDto;
 import org.cloudfoundry.multiapps.controller.persistence.model.CloudTarget;
 import org.cloudfoundry.multiapps.controller.persistence.model.ConfigurationEntry;
@@ -27,6 +28,8 @@ public class ConfigurationEntryService extends PersistenceService<ConfigurationE
 
     @Inject
     protected ConfigurationEntryMapper entryMapper;
+    @Inject
+    protected DataSourceDialect dataSourceDialect;
 
     @Inject
     public ConfigurationEntryService(EntityManagerFactory entityManagerFactory) {
@@ -34,7 +37,7 @@ public class ConfigurationEntryService extends PersistenceService<ConfigurationE
     }
 
     public ConfigurationEntryQuery createQuery() {
-        return new ConfigurationEntryQueryImpl(createEntityManager(), entryMapper);
+        return new ConfigurationEntryQueryImpl(createEntityManager(), entryMapper, dataSourceDialect);
     }
 
     @Override
@@ -30,30 +30,35 @@ public class DatabaseFileService extends FileService {
     @Override
     public <T> T processFileContentWithOffset(FileContentToProcess fileContentToProcess, FileContentProcessor<T> fileContentProcessor)
         throws FileStorageException {
-        try {
-            return getSqlQueryExecutor().execute(getSqlFileQueryProvider().getProcessFileWithContentQueryWithOffsetQuery(fileContentToProcess.getSpaceGuid(),
-                                                                                                                         fileContentToProcess.getGuid(),
-                                                                                                                         new StreamFetchingOptions(fileContentToProcess.getStartOffset(),
-                                                                                                                                                   fileContentToProcess.getEndOffset()),
-                                                                                                                         fileContentProcessor));
-        } catch (SQLException e) {
-            throw new FileStorageException(e.getMessage(), e);
-        }
+        return recordRead(() -> {
+            try {
+                return getSqlQueryExecutor().execute(getSqlFileQueryProvider().getProcessFileWithContentQueryWithOffsetQuery(fileContentToProcess.getSpaceGuid(),
+                                                                                                                             fileContentToProcess.getGuid(),
+                                                                                                                             new StreamFetchingOptions(fileContentToProcess.getStartOffset(),
+                                                                                                                                                       fileContentToProcess.getEndOffset()),
+                                                                                                                             meterReadBytes(fileContentProcessor)));
+            } catch (SQLException e) {
+                throw new FileStorageException(e.getMessage(), e);
+            }
+        });
     }
 
     @Override
     public <T> T processFileContent(String space, String id, FileContentProcessor<T> fileContentProcessor) throws FileStorageException {
-        try {
-            return getSqlQueryExecutor().execute(getSqlFileQueryProvider().getProcessFileWithContentQuery(space, id, fileContentProcessor));
-        } catch (SQLException e) {
-            throw new FileStorageException(e.getMessage(), e);
-        }
+        return recordRead(() -> {
+            try {
+                return getSqlQueryExecutor().execute(getSqlFileQueryProvider().getProcessFileWithContentQuery(space, id,
+                                                                                                              meterReadBytes(fileContentProcessor)));
+            } catch (SQLException e) {
+                throw new FileStorageException(e.getMessage(), e);
+            }
+        });
     }
 
     @Override
     public InputStream openInputStream(String space, String id) throws FileStorageException {
         try {
-            return getSqlQueryExecutor().executeWithoutCommit(getSqlFileQueryProvider().openFileWithContentQuery(space, id));
+            return meterReadBytes(getSqlQueryExecutor().executeWithoutCommit(getSqlFileQueryProvider().openFileWithContentQuery(space, id)));
         } catch (SQLException e) {
             throw new FileStorageException(e.getMessage(), e);
         }
@@ -89,7 +94,12 @@ public class DatabaseFileService extends FileService {
     }
 
     @Override
-    protected FileEntry storeFile(FileEntry fileEntry, InputStream fileStream) throws FileStorageException {
+    protected void storeFilesAttributes(List<FileEntry> fileEntries) {
+        // The attributes are stored together with the content of the files.
+    }
+
+    @Override
+    protected FileEntry storeFileContent(FileEntry fileEntry, InputStream fileStream) throws FileStorageException {
         try {
             String digest = getSqlQueryExecutor().execute(getSqlFileQueryProvider().getStoreFileAndComputeDigestQuery(fileEntry,
                                                                                                                       fileStream));
@@ -16,6 +16,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
+import org.apache.commons.io.input.ProxyInputStream;
 import org.cloudfoundry.multiapps.controller.persistence.Constants;
 import org.cloudfoundry.multiapps.controller.persistence.DataSourceWithDialect;
 import org.cloudfoundry.multiapps.controller.persistence.Messages;
@@ -27,18 +28,26 @@ import org.cloudfoundry.multiapps.controller.persistence.util.SqlQueryExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import jakarta.xml.bind.DatatypeConverter;
 
 public class FileService {
 
     protected static final String DEFAULT_TABLE_NAME = "LM_SL_PERSISTENCE_FILE";
     private static final int INPUT_STREAM_BUFFER_SIZE = 16 * 1024;
+    private static final String METRICS_PREFIX = "multiapps.file.storage.";
 
     protected final Logger logger = LoggerFactory.getLogger(getClass());
 
     private final FileStorage fileStorage;
     private final SqlQueryExecutor sqlQueryExecutor;
     private final SqlFileQueryProvider sqlFileQueryProvider;
+    private final Timer writeTimer;
+    private final Timer readTimer;
+    private final Counter writtenBytesCounter;
+    private final Counter readBytesCounter;
 
     public FileService(DataSourceWithDialect dataSourceWithDialect, FileStorage fileStorage) {
         this(DEFAULT_TABLE_NAME, dataSourceWithDialect, fileStorage);
@@ -52,17 +61,44 @@ public class FileService {
         this.sqlQueryExecutor = new SqlQueryExecutor(dataSourceWithDialect.getDataSource());
         this.sqlFileQueryProvider = sqlFileQueryProvider.withLogger(logger);
         this.fileStorage = fileStorage;
+        String serviceName = getClass().getSimpleName();
+        this.writeTimer = Timer.builder(METRICS_PREFIX + "write")
+                               .tag("service", serviceName)
+                               .register(Metrics.globalRegistry);
+        this.readTimer = Timer.builder(METRICS_PREFIX + "read")
+                              .tag("service", serviceName)
+                              .register(Metrics.globalRegistry);
+        this.writtenBytesCounter = Counter.builder(METRICS_PREFIX + "written.bytes")
+                                          .tag("service", serviceName)
+                                          .baseUnit("bytes")
+                                          .register(Metrics.globalRegistry);
+        this.readBytesCounter = Counter.builder(METRICS_PREFIX + "read.bytes")
+                                       .tag("service", serviceName)
+                                       .baseUnit("bytes")
+                                       .register(Metrics.globalRegistry);
     }
 
     public FileEntry addFile(FileEntry baseEntry, InputStream content) throws FileStorageException {
-        FileEntry entryWithoutDigest = ImmutableFileEntry.copyOf(baseEntry)
-                                                         .withId(generateRandomId())
-                                                         .withModified(LocalDateTime.now());
-        FileEntry fileEntry = storeFile(entryWithoutDigest, content);
+        FileEntry fileEntry = recordWrite(baseEntry, content, this::storeFile);
         logger.debug(MessageFormat.format(Messages.STORED_FILE_0, fileEntry));
         return fileEntry;
     }
 
+    /**
+     * Stores only the content of a file, which is not listed until its attributes are stored with {@link #addFilesAttributes}. This way
+     * the contents of several files can be stored concurrently and their attributes can be stored with a single batch.
+     */
+    public FileEntry addFileContent(FileEntry baseEntry, InputStream content) throws FileStorageException {
+        return recordWrite(baseEntry, content, this::storeFileContent);
+    }
+
+    public void addFilesAttributes(List<FileEntry> fileEntries) throws FileStorageException {
+        storeFilesAttributes(fileEntries);
+        for (FileEntry fileEntry : fileEntries) {
+            logger.debug(MessageFormat.format(Messages.STORED_FILE_0, fileEntry));
+        }
+    }
+
     public FileEntry addFile(FileEntry fileEntry, File existingFile) throws FileStorageException {
         try (InputStream content = new BufferedInputStream(new FileInputStream(existingFile), INPUT_STREAM_BUFFER_SIZE)) {
             return addFile(ImmutableFileEntry.copyOf(fileEntry)
@@ -138,15 +174,15 @@ public class FileService {
 
     public <T> T processFileContentWithOffset(FileContentToProcess fileContentToProcess, FileContentProcessor<T> fileContentProcessor)
         throws FileStorageException {
-        return fileStorage.processArchiveEntryContent(fileContentToProcess, fileContentProcessor);
+        return recordRead(() -> fileStorage.processArchiveEntryContent(fileContentToProcess, meterReadBytes(fileContentProcessor)));
     }
 
     public <T> T processFileContent(String space, String id, FileContentProcessor<T> fileContentProcessor) throws FileStorageException {
-        return fileStorage.processFileContent(space, id, fileContentProcessor);
+        return recordRead(() -> fileStorage.processFileContent(space, id, meterReadBytes(fileContentProcessor)));
     }
 
     public InputStream openInputStream(String space, String id) throws FileStorageException {
-        return fileStorage.openInputStream(space, id);
+        return meterReadBytes(fileStorage.openInputStream(space, id));
     }
 
     public int deleteBySpaceAndNamespace(String space, String namespace) throws FileStorageException {
@@ -189,19 +225,35 @@ public class FileService {
     }
 
     protected FileEntry storeFile(FileEntry fileEntry, InputStream content) throws FileStorageException {
+        FileEntry completeFileEntry = storeFileContent(fileEntry, content);
+        storeFilesAttributes(List.of(completeFileEntry));
+        return completeFileEntry;
+    }
+
+    protected FileEntry storeFileContent(FileEntry fileEntry, InputStream content) throws FileStorageException {
         try (DigestInputStream dis = new DigestInputStream(content, MessageDigest.getInstance(Constants.DIGEST_ALGORITHM))) {
             fileStorage.addFile(fileEntry, dis);
-            FileEntry completeFileEntry = ImmutableFileEntry.copyOf(fileEntry)
-                                                            .withDigest(DatatypeConverter.printHexBinary(dis.getMessageDigest()
-                                                                                                            .digest()))
-                                                            .withDigestAlgorithm(Constants.DIGEST_ALGORITHM);
-            storeFileAttributes(completeFileEntry);
-            return completeFileEntry;
+            return ImmutableFileEntry.copyOf(fileEntry)
+                                     .withDigest(DatatypeConverter.printHexBinary(dis.getMessageDigest()
+                                                                                     .digest()))
+                                     .withDigestAlgorithm(Constants.DIGEST_ALGORITHM);
         } catch (NoSuchAlgorithmException | IOException e) {
             throw new FileStorageException(e);
         }
     }
 
+    protected void storeFilesAttributes(List<FileEntry> fileEntries) throws FileStorageException {
+        try {
+            if (fileEntries.size() == 1) {
+                getSqlQueryExecutor().execute(getSqlFileQueryProvider().getStoreFileAttributesQuery(fileEntries.get(0)));
+                return;
+            }
+            getSqlQueryExecutor().execute(getSqlFileQueryProvider().getStoreFilesAttributesQuery(fileEntries));
+        } catch (SQLException e) {
+            throw new FileStorageException(e.getMessage(), e);
+        }
+    }
+
     protected boolean deleteFileAttribute(String space, String id) throws FileStorageException {
         try {
             return getSqlQueryExecutor().execute(getSqlFileQueryProvider().getDeleteFileEntryQuery(space, id));
@@ -250,16 +302,67 @@ public class FileService {
         return sqlFileQueryProvider;
     }
 
+    /**
+     * Executes the given operation and records its duration as a read from the file storage.
+     */
+    protected <T> T recordRead(FileStorageOperation<T> operation) throws FileStorageException {
+        Timer.Sample sample = Timer.start(Metrics.globalRegistry);
+        try {
+            return operation.execute();
+        } finally {
+            sample.stop(readTimer);
+        }
+    }
+
+    protected <T> FileContentProcessor<T> meterReadBytes(FileContentProcessor<T> fileContentProcessor) {
+        return content -> fileContentProcessor.process(meterReadBytes(content));
+    }
+
+    protected InputStream meterReadBytes(InputStream content) {
+        return new MeteredInputStream(content, readBytesCounter);
+    }
+
     protected String generateRandomId() {
         return UUID.randomUUID()
                    .toString();
     }
 
-    private boolean storeFileAttributes(FileEntry fileEntry) throws FileStorageException {
+    private FileEntry recordWrite(FileEntry baseEntry, InputStream content, FileWriteOperation writeOperation)
+        throws FileStorageException {
+        FileEntry entryWithoutDigest = ImmutableFileEntry.copyOf(baseEntry)
+                                                         .withId(generateRandomId())
+                                                         .withModified(LocalDateTime.now());
+        Timer.Sample sample = Timer.start(Metrics.globalRegistry);
         try {
-            return getSqlQueryExecutor().execute(getSqlFileQueryProvider().getStoreFileAttributesQuery(fileEntry));
-        } catch (SQLException e) {
-            throw new FileStorageException(e.getMessage(), e);
+            return writeOperation.write(entryWithoutDigest, new MeteredInputStream(content, writtenBytesCounter));
+        } finally {
+            sample.stop(writeTimer);
+        }
+    }
+
+    @FunctionalInterface
+    protected interface FileStorageOperation<T> {
+        T execute() throws FileStorageException;
+    }
+
+    @FunctionalInterface
+    private interface FileWriteOperation {
+        FileEntry write(FileEntry fileEntry, InputStream content) throws FileStorageException;
+    }
+
+    private static class MeteredInputStream extends ProxyInputStream {
+        private final Counter bytesCounter;
+
+        MeteredInputStream(InputStream proxy, Counter bytesCounter) {
+            super(proxy);
+            this.bytesCounter = bytesCounter;
+        }
+
+        @Override
+        protected void afterRead(int n) {
+            if (n > 0) {
+                bytesCounter.increment(n);
+            }
         }
     }
 
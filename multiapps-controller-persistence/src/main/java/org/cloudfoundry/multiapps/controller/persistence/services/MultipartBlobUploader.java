@@ -0,0 +1,250 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.cloudfoundry.multiapps.common.util.MiscUtil;
+import org.cloudfoundry.multiapps.controller.persistence.Messages;
+import org.jclouds.blobstore.BlobStore;
+import org.jclouds.blobstore.domain.Blob;
+import org.jclouds.blobstore.domain.BlobMetadata;
+import org.jclouds.blobstore.domain.MultipartPart;
+import org.jclouds.blobstore.domain.MultipartUpload;
+import org.jclouds.blobstore.options.PutOptions;
+import org.jclouds.io.Payload;
+import org.jclouds.io.Payloads;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Uploads blobs to the object store as multipart uploads. The parts are read one after another from the content and are uploaded in
+ * parallel, as each part is retried on its own with an exponential backoff. The multipart upload is aborted if any of its parts cannot be
+ * uploaded, so that no incomplete uploads are left in the object store. Blobs which fit in a single part are uploaded directly. Each part
+ * is buffered in memory only after acquiring its size from the buffer shared by all uploads, so that concurrent uploads wait for each
+ * other instead of exhausting the heap.
+ */
+class MultipartBlobUploader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MultipartBlobUploader.class);
+    // The parts are buffered in byte arrays:
+    private static final long MAX_PART_SIZE = Integer.MAX_VALUE - 8L;
+
+    private final BlobStore blobStore;
+    private final String container;
+    private final ParallelUploadOptions parallelUploadOptions;
+    private final int maxRetriesCount;
+    private final long retryBaseWaitTimeInMillis;
+
+    MultipartBlobUploader(BlobStore blobStore, String container, ParallelUploadOptions parallelUploadOptions, int maxRetriesCount,
+                          long retryBaseWaitTimeInMillis) {
+        this.blobStore = blobStore;
+        this.container = container;
+        this.parallelUploadOptions = parallelUploadOptions;
+        this.maxRetriesCount = maxRetriesCount;
+        this.retryBaseWaitTimeInMillis = retryBaseWaitTimeInMillis;
+    }
+
+    void upload(BlobMetadata blobMetadata, InputStream content, long contentLength) throws FileStorageException {
+        int partSize = computePartSize(contentLength);
+        // A part larger than the whole buffer is buffered alone:
+        int partBufferSize = (int) Math.min(partSize, parallelUploadOptions.maxBufferedBytes());
+        acquireBuffer(blobMetadata, partBufferSize);
+        byte[] firstPart;
+        try {
+            firstPart = content.readNBytes(partSize);
+        } catch (IOException e) {
+            releaseBuffer(partBufferSize);
+            throw new FileStorageException(MessageFormat.format(Messages.MULTIPART_UPLOAD_OF_BLOB_0_FAILED, blobMetadata.getName()), e);
+        }
+        if (firstPart.length < partSize) {
+            try {
+                putBlob(blobMetadata, firstPart);
+            } finally {
+                releaseBuffer(partBufferSize);
+            }
+            return;
+        }
+        try {
+            uploadInParts(blobMetadata, firstPart, content, partSize, partBufferSize);
+        } catch (IOException e) {
+            throw new FileStorageException(MessageFormat.format(Messages.MULTIPART_UPLOAD_OF_BLOB_0_FAILED, blobMetadata.getName()), e);
+        }
+    }
+
+    private void acquireBuffer(BlobMetadata blobMetadata, int bufferSize) throws FileStorageException {
+        try {
+            parallelUploadOptions.bufferedBytes()
+                                 .acquire(bufferSize);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw new FileStorageException(MessageFormat.format(Messages.MULTIPART_UPLOAD_OF_BLOB_0_FAILED, blobMetadata.getName()), e);
+        }
+    }
+
+    private void releaseBuffer(int bufferSize) {
+        parallelUploadOptions.bufferedBytes()
+                             .release(bufferSize);
+    }
+
+    private int computePartSize(long contentLength) {
+        long partSize = Math.max(parallelUploadOptions.partSizeInBytes(), blobStore.getMinimumMultipartPartSize());
+        // The parts must be large enough for the content to fit in the maximum number of parts allowed by the object store:
+        long minPartSizeForContent = (contentLength + blobStore.getMaximumNumberOfParts() - 1) / blobStore.getMaximumNumberOfParts();
+        partSize = Math.max(partSize, minPartSizeForContent);
+        return (int) Math.min(partSize, Math.min(blobStore.getMaximumMultipartPartSize(), MAX_PART_SIZE));
+    }
+
+    private void putBlob(BlobMetadata blobMetadata, byte[] content) {
+        Blob blob = blobStore.blobBuilder(blobMetadata.getName())
+                             .payload(createPayload(blobMetadata, content))
+                             .userMetadata(blobMetadata.getUserMetadata())
+                             .build();
+        for (int i = 1;; i++) {
+            try {
+                blobStore.putBlob(container, blob);
+                return;
+            } catch (RuntimeException e) {
+                LOGGER.warn(MessageFormat.format(Messages.ATTEMPT_TO_UPLOAD_BLOB_FAILED, i, maxRetriesCount, e.getMessage()), e);
+                if (i == maxRetriesCount) {
+                    throw e;
+                }
+            }
+            waitBeforeRetry(i);
+        }
+    }
+
+    /**
+     * Takes over the buffer of the first part. The buffer of each part is handed over to the upload of the part, so that no buffer is held
+     * while waiting for another one and the concurrent uploads cannot block each other.
+     */
+    private void uploadInParts(BlobMetadata blobMetadata, byte[] firstPart, InputStream content, int partSize, int partBufferSize)
+        throws IOException, FileStorageException {
+        MultipartUpload multipartUpload;
+        try {
+            multipartUpload = blobStore.initiateMultipartUpload(container, blobMetadata, new PutOptions());
+        } catch (RuntimeException e) {
+            releaseBuffer(partBufferSize);
+            throw e;
+        }
+        List<Future<MultipartPart>> uploadedParts = new ArrayList<>();
+        Semaphore partsInFlight = new Semaphore(parallelUploadOptions.maxPartsInFlight());
+        AtomicBoolean isAborted = new AtomicBoolean();
+        boolean isPartBuffered = true;
+        try {
+            byte[] part = firstPart;
+            for (int partNumber = 1; part.length > 0 && !isAborted.get(); partNumber++) {
+                partsInFlight.acquire();
+                isPartBuffered = false;
+                uploadedParts.add(submitPartUpload(multipartUpload, partNumber, part, partBufferSize, partsInFlight, isAborted));
+                parallelUploadOptions.bufferedBytes()
+                                     .acquire(partBufferSize);
+                isPartBuffered = true;
+                part = content.readNBytes(partSize);
+            }
+            releaseBuffer(partBufferSize);
+            isPartBuffered = false;
+            List<MultipartPart> parts = new ArrayList<>(uploadedParts.size());
+            for (Future<MultipartPart> uploadedPart : uploadedParts) {
+                parts.add(uploadedPart.get());
+            }
+            blobStore.completeMultipartUpload(multipartUpload, parts);
+            LOGGER.debug(MessageFormat.format(Messages.STORED_BLOB_0_IN_1_PARTS, blobMetadata.getName(), parts.size()));
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            abort(multipartUpload, isAborted);
+            throw new FileStorageException(MessageFormat.format(Messages.MULTIPART_UPLOAD_OF_BLOB_0_FAILED, blobMetadata.getName()), e);
+        } catch (ExecutionException e) {
+            abort(multipartUpload, isAborted);
+            throw new FileStorageException(MessageFormat.format(Messages.MULTIPART_UPLOAD_OF_BLOB_0_FAILED, blobMetadata.getName()),
+                                           e.getCause());
+        } catch (IOException | RuntimeException e) {
+            abort(multipartUpload, isAborted);
+            throw e;
+        } finally {
+            if (isPartBuffered) {
+                releaseBuffer(partBufferSize);
+            }
+        }
+    }
+
+    private Future<MultipartPart> submitPartUpload(MultipartUpload multipartUpload, int partNumber, byte[] part, int partBufferSize,
+                                                   Semaphore partsInFlight, AtomicBoolean isAborted) {
+        try {
+            return parallelUploadOptions.executorService()
+                                        .submit(() -> {
+                                            try {
+                                                return uploadPartWithRetries(multipartUpload, partNumber, part, isAborted);
+                                            } catch (RuntimeException e) {
+                                                isAborted.set(true);
+                                                throw e;
+                                            } finally {
+                                                partsInFlight.release();
+                                                releaseBuffer(partBufferSize);
+                                            }
+                                        });
+        } catch (RuntimeException e) {
+            partsInFlight.release();
+            releaseBuffer(partBufferSize);
+            throw e;
+        }
+    }
+
+    private MultipartPart uploadPartWithRetries(MultipartUpload multipartUpload, int partNumber, byte[] part, AtomicBoolean isAborted) {
+        for (int i = 1;; i++) {
+            if (isAborted.get()) {
+                // The part will not be part of the completed upload, and its buffer should be released for the other uploads:
+                return null;
+            }
+            try {
+                return blobStore.uploadMultipartPart(multipartUpload, partNumber, Payloads.newByteArrayPayload(part));
+            } catch (RuntimeException e) {
+                LOGGER.warn(MessageFormat.format(Messages.ATTEMPT_TO_UPLOAD_PART_0_OF_BLOB_1_FAILED, i, maxRetriesCount, partNumber,
+                                                 multipartUpload.blobName(), e.getMessage()),
+                            e);
+                if (i == maxRetriesCount) {
+                    throw e;
+                }
+            }
+            waitBeforeRetry(i);
+        }
+    }
+
+    private void waitBeforeRetry(int attempt) {
+        // The jitter spreads the retries of the parts which failed together, e.g. because of a transient outage:
+        long backoff = retryBaseWaitTimeInMillis << (attempt - 1);
+        MiscUtil.sleep(backoff / 2 + ThreadLocalRandom.current()
+                                                      .nextLong(backoff / 2 + 1));
+    }
+
+    private void abort(MultipartUpload multipartUpload, AtomicBoolean isAborted) {
+        // The parts which are still queued are not cancelled, as they release their buffers only when they run:
+        isAborted.set(true);
+        try {
+            blobStore.abortMultipartUpload(multipartUpload);
+        } catch (RuntimeException e) {
+            LOGGER.warn(MessageFormat.format(Messages.COULD_NOT_ABORT_MULTIPART_UPLOAD_OF_BLOB_0, multipartUpload.blobName()), e);
+        }
+    }
+
+    private Payload createPayload(BlobMetadata blobMetadata, byte[] content) {
+        Payload payload = Payloads.newByteArrayPayload(content);
+        payload.getContentMetadata()
+               .setContentType(blobMetadata.getContentMetadata()
+                                           .getContentType());
+        payload.getContentMetadata()
+               .setContentDisposition(blobMetadata.getContentMetadata()
+                                                  .getContentDisposition());
+        return payload;
+    }
+
+}
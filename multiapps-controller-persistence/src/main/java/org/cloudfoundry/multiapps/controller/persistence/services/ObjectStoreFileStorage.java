@@ -20,9 +20,11 @@ import org.cloudfoundry.multiapps.controller.persistence.Constants;
 import org.cloudfoundry.multiapps.controller.persistence.Messages;
 import org.cloudfoundry.multiapps.controller.persistence.model.FileEntry;
 import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableFileEntry;
+import org.cloudfoundry.multiapps.controller.persistence.stream.ChunkedRangeInputStream;
 import org.jclouds.blobstore.BlobStore;
 import org.jclouds.blobstore.ContainerNotFoundException;
 import org.jclouds.blobstore.domain.Blob;
+import org.jclouds.blobstore.domain.BlobMetadata;
 import org.jclouds.blobstore.domain.PageSet;
 import org.jclouds.blobstore.domain.StorageMetadata;
 import org.jclouds.blobstore.options.GetOptions;
@@ -43,10 +45,23 @@ public class ObjectStoreFileStorage implements FileStorage {
 
     private final BlobStore blobStore;
     private final String container;
+    private final ParallelDownloadOptions parallelDownloadOptions;
+    private final ParallelUploadOptions parallelUploadOptions;
 
     public ObjectStoreFileStorage(BlobStore blobStore, String container) {
+        this(blobStore, container, null);
+    }
+
+    public ObjectStoreFileStorage(BlobStore blobStore, String container, ParallelDownloadOptions parallelDownloadOptions) {
+        this(blobStore, container, parallelDownloadOptions, null);
+    }
+
+    public ObjectStoreFileStorage(BlobStore blobStore, String container, ParallelDownloadOptions parallelDownloadOptions,
+                                  ParallelUploadOptions parallelUploadOptions) {
         this.blobStore = blobStore;
         this.container = container;
+        this.parallelDownloadOptions = parallelDownloadOptions;
+        this.parallelUploadOptions = parallelUploadOptions;
     }
 
     @Override
@@ -62,7 +77,12 @@ public class ObjectStoreFileStorage implements FileStorage {
                              .userMetadata(createFileEntryMetadata(fileEntry))
                              .build();
         try {
-            putBlobWithRetries(blob, 3);
+            if (parallelUploadOptions == null) {
+                putBlobWithRetries(blob, MAX_RETRIES_COUNT);
+            } else {
+                new MultipartBlobUploader(blobStore, container, parallelUploadOptions, MAX_RETRIES_COUNT,
+                                          getRetryWaitTime()).upload(blob.getMetadata(), content, fileSize);
+            }
             LOGGER.debug(MessageFormat.format(Messages.STORED_FILE_0_WITH_SIZE_1, fileEntry.getId(), fileSize));
         } catch (ContainerNotFoundException e) {
             throw new FileStorageException(MessageFormat.format(Messages.FILE_UPLOAD_FAILED, fileEntry.getName(),
@@ -103,9 +123,8 @@ public class ObjectStoreFileStorage implements FileStorage {
     @Override
     public <T> T processFileContent(String space, String id, FileContentProcessor<T> fileContentProcessor) throws FileStorageException {
         FileEntry fileEntry = createFileEntry(space, id);
-        try {
-            Payload payload = getBlobPayload(fileEntry);
-            return processContent(fileContentProcessor, payload);
+        try (InputStream fileContentStream = openFileContentStream(fileEntry)) {
+            return fileContentProcessor.process(fileContentStream);
         } catch (Exception e) {
             throw new FileStorageException(e);
         }
@@ -161,8 +180,72 @@ public class ObjectStoreFileStorage implements FileStorage {
     @Override
     public InputStream openInputStream(String space, String id) throws FileStorageException {
         FileEntry fileEntry = createFileEntry(space, id);
-        Payload payload = getBlobPayload(fileEntry);
-        return openPayloadInputStream(payload);
+        return openFileContentStream(fileEntry);
+    }
+
+    private InputStream openFileContentStream(FileEntry fileEntry) throws FileStorageException {
+        Long blobSize = getBlobSizeIfDownloadableInParallel(fileEntry);
+        if (blobSize == null) {
+            return openPayloadInputStream(getBlobPayload(fileEntry));
+        }
+        // A chunk must fit in the bytes buffered by all downloads:
+        long chunkSize = Math.min(parallelDownloadOptions.chunkSizeInBytes(), parallelDownloadOptions.maxBufferedBytes());
+        return new ChunkedRangeInputStream((startOffset, endOffset) -> downloadRangeWithRetries(fileEntry, startOffset, endOffset),
+                                           parallelDownloadOptions.executorService(),
+                                           blobSize,
+                                           chunkSize,
+                                           parallelDownloadOptions.maxChunksInFlight(),
+                                           parallelDownloadOptions.bufferedBytes());
+    }
+
+    private Long getBlobSizeIfDownloadableInParallel(FileEntry fileEntry) {
+        if (parallelDownloadOptions == null) {
+            return null;
+        }
+        BlobMetadata blobMetadata = blobStore.blobMetadata(container, fileEntry.getId());
+        if (blobMetadata == null || blobMetadata.getContentMetadata() == null) {
+            return null;
+        }
+        Long blobSize = blobMetadata.getContentMetadata()
+                                    .getContentLength();
+        if (blobSize == null || blobSize <= parallelDownloadOptions.chunkSizeInBytes()) {
+            return null;
+        }
+        return blobSize;
+    }
+
+    private byte[] downloadRangeWithRetries(FileEntry fileEntry, long startOffset, long endOffset) throws Exception {
+        for (int i = 1;; i++) {
+            try {
+                return downloadRange(fileEntry, startOffset, endOffset);
+            } catch (Exception e) {
+                LOGGER.warn(MessageFormat.format(Messages.ATTEMPT_TO_DOWNLOAD_RANGE_0_1_OF_BLOB_2_FAILED, i, MAX_RETRIES_COUNT,
+                                                 String.valueOf(startOffset), String.valueOf(endOffset), fileEntry.getId(),
+                                                 e.getMessage()),
+                            e);
+                if (i == MAX_RETRIES_COUNT) {
+                    throw e;
+                }
+            }
+            MiscUtil.sleep(i * getRetryWaitTime());
+        }
+    }
+
+    private byte[] downloadRange(FileEntry fileEntry, long startOffset, long endOffset) throws IOException, FileStorageException {
+        Blob blob = blobStore.getBlob(container, fileEntry.getId(), new GetOptions().range(startOffset, endOffset));
+        if (blob == null) {
+            throw new FileStorageException(MessageFormat.format(Messages.FILE_WITH_ID_AND_SPACE_DOES_NOT_EXIST, fileEntry.getId(),
+                                                                fileEntry.getSpace()));
+        }
+        try (InputStream rangeContent = blob.getPayload()
+                                            .openStream()) {
+            byte[] content = rangeContent.readAllBytes();
+            if (content.length != endOffset - startOffset + 1) {
+                throw new IOException(MessageFormat.format(Messages.RANGE_0_1_OF_BLOB_2_HAS_UNEXPECTED_SIZE_3, String.valueOf(startOffset),
+                                                           String.valueOf(endOffset), fileEntry.getId(), content.length));
+            }
+            return content;
+        }
     }
 
     private InputStream openPayloadInputStream(Payload payload) throws FileStorageException {
@@ -0,0 +1,109 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+import org.cloudfoundry.multiapps.controller.persistence.model.OperationLogChunk;
+
+/**
+ * Reads a range of the content of the chunks of an operation log in order, loading the content of at most {@code chunksPerLoad} chunks
+ * at a time, so that only a small part of the log is kept in memory.
+ */
+class OperationLogInputStream extends InputStream {
+
+    private final Deque<OperationLogChunk> remainingChunks;
+    private final OperationLogChunksLoader chunksLoader;
+    private final int chunksPerLoad;
+    private final Deque<byte[]> loadedChunks = new ArrayDeque<>();
+    private byte[] currentChunk = new byte[0];
+    private int positionInCurrentChunk;
+    private long remainingLength;
+
+    OperationLogInputStream(List<OperationLogChunk> chunks, long offset, long length, OperationLogChunksLoader chunksLoader,
+                            int chunksPerLoad) {
+        this.remainingChunks = new ArrayDeque<>(chunks);
+        this.remainingLength = length;
+        this.chunksLoader = chunksLoader;
+        this.chunksPerLoad = chunksPerLoad;
+        skipChunksBefore(offset);
+    }
+
+    private void skipChunksBefore(long offset) {
+        long remainingOffset = offset;
+        while (!remainingChunks.isEmpty() && remainingChunks.peekFirst()
+                                                            .getSize() <= remainingOffset) {
+            remainingOffset -= remainingChunks.pollFirst()
+                                              .getSize();
+        }
+        // The rest of the offset falls within the first remaining chunk, which is skipped when it is loaded
+        positionInCurrentChunk = (int) remainingOffset;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureAvailableContent()) {
+            return -1;
+        }
+        remainingLength--;
+        return currentChunk[positionInCurrentChunk++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!ensureAvailableContent()) {
+            return -1;
+        }
+        int bytesToRead = (int) Math.min(Math.min(length, currentChunk.length - positionInCurrentChunk), remainingLength);
+        System.arraycopy(currentChunk, positionInCurrentChunk, buffer, offset, bytesToRead);
+        positionInCurrentChunk += bytesToRead;
+        remainingLength -= bytesToRead;
+        return bytesToRead;
+    }
+
+    private boolean ensureAvailableContent() throws IOException {
+        if (remainingLength <= 0) {
+            return false;
+        }
+        while (positionInCurrentChunk >= currentChunk.length) {
+            if (loadedChunks.isEmpty() && !loadNextChunks()) {
+                return false;
+            }
+            int skippedBytes = positionInCurrentChunk - currentChunk.length;
+            currentChunk = loadedChunks.pollFirst();
+            positionInCurrentChunk = Math.max(skippedBytes, 0);
+        }
+        return true;
+    }
+
+    private boolean loadNextChunks() throws IOException {
+        if (remainingChunks.isEmpty()) {
+            return false;
+        }
+        List<String> chunkIds = remainingChunks.stream()
+                                               .limit(chunksPerLoad)
+                                               .map(OperationLogChunk::getId)
+                                               .toList();
+        Map<String, byte[]> chunksContent = chunksLoader.load(chunkIds);
+        for (String chunkId : chunkIds) {
+            remainingChunks.pollFirst();
+            // Chunks deleted after the listing of the log are read as empty
+            loadedChunks.addLast(chunksContent.getOrDefault(chunkId, new byte[0]));
+        }
+        return true;
+    }
+
+    @FunctionalInterface
+    interface OperationLogChunksLoader {
+
+        Map<String, byte[]> load(List<String> chunkIds) throws IOException;
+
+    }
+
+}
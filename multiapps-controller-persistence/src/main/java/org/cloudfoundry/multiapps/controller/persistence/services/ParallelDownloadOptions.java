@@ -0,0 +1,19 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Blobs larger than {@code chunkSizeInBytes} are downloaded as ranges of that size on {@code executorService}, keeping at most
+ * {@code maxChunksInFlight} ranges ahead of the reader. The ranges of all downloads which use the same options are buffered in at most
+ * {@code maxBufferedBytes}, tracked by the permits of {@code bufferedBytes}.
+ */
+public record ParallelDownloadOptions(long chunkSizeInBytes, int maxChunksInFlight, long maxBufferedBytes, Semaphore bufferedBytes,
+                                      ExecutorService executorService) {
+
+    public ParallelDownloadOptions(long chunkSizeInBytes, int maxChunksInFlight, long maxBufferedBytes, ExecutorService executorService) {
+        this(chunkSizeInBytes, maxChunksInFlight, maxBufferedBytes, new Semaphore((int) Math.min(maxBufferedBytes, Integer.MAX_VALUE)),
+             executorService);
+    }
+
+}
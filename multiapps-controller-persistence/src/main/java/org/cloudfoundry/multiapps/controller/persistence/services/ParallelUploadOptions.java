@@ -0,0 +1,19 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Blobs larger than {@code partSizeInBytes} are uploaded as multipart uploads with parts of that size on {@code executorService},
+ * keeping at most {@code maxPartsInFlight} parts of each upload in memory. The parts of all uploads which use the same options are
+ * buffered in at most {@code maxBufferedBytes}, tracked by the permits of {@code bufferedBytes}.
+ */
+public record ParallelUploadOptions(long partSizeInBytes, int maxPartsInFlight, long maxBufferedBytes, Semaphore bufferedBytes,
+                                    ExecutorService executorService) {
+
+    public ParallelUploadOptions(long partSizeInBytes, int maxPartsInFlight, long maxBufferedBytes, ExecutorService executorService) {
+        this(partSizeInBytes, maxPartsInFlight, maxBufferedBytes, new Semaphore((int) Math.min(maxBufferedBytes, Integer.MAX_VALUE)),
+             executorService);
+    }
+
+}
@@ -1,6 +1,7 @@
 package org.cloudfoundry.multiapps.controller.persistence.services;
 
 import java.text.MessageFormat;
+import java.util.List;
 import java.util.function.Function;
 
 import jakarta.persistence.EntityManager;
@@ -38,6 +39,20 @@ public abstract class PersistenceService<T, D extends DtoWithPrimaryKey<P>, P> {
         return null;
     }
 
+    /**
+     * Persists all objects in a single transaction. Either all of them are persisted, or none of them is, in which case the
+     * {@link RollbackException} is propagated to the caller.
+     */
+    public void addAll(List<T> objects) {
+        List<D> dtos = objects.stream()
+                              .map(getPersistenceObjectMapper()::toDto)
+                              .toList();
+        executeInTransaction(manager -> {
+            dtos.forEach(manager::persist);
+            return null;
+        });
+    }
+
     public T update(T oldObject, T newObject) {
         D oldDto = getPersistenceObjectMapper().toDto(oldObject);
         D newDto = getPersistenceObjectMapper().toDto(newObject);
@@ -11,6 +11,11 @@ import org.cloudfoundry.multiapps.controller.persistence.model.OperationLogEntry
 import java.util.Objects;
 import java.util.UUID;
 
+/**
+ * Collects the formatted messages of a log of an activity in a buffer, until they are persisted by {@link ProcessLoggerPersister}. The
+ * same logger is returned by {@link ProcessLoggerProvider} for all messages of the log, so the messages are appended to the buffer as they
+ * are logged.
+ */
 public class ProcessLogger {
 
     private final AbstractStringLayout layout;
@@ -18,7 +23,7 @@ public class ProcessLogger {
     private final String logName;
     private final UUID id;
     private OperationLogEntry operationLogEntry;
-    private String logMessage;
+    private final StringBuilder logMessages = new StringBuilder();
 
     private boolean headerIsSet = false;
 
@@ -62,8 +67,8 @@ public class ProcessLogger {
         createLogMessage(message, Level.WARN, t);
     }
 
-    public String getLogMessage() {
-        return logMessage;
+    public synchronized String getLogMessage() {
+        return logMessages.toString();
     }
 
     public AbstractStringLayout getLayout() {
@@ -101,22 +106,13 @@ public class ProcessLogger {
         return new Log4jLogEvent(logName, null, null, stackTrace, logLevel, logMessage, null, t);
     }
 
-    private void setLogMessage(String formattedLogMessage) {
+    private synchronized void setLogMessage(String formattedLogMessage) {
         byte[] header = layout.getHeader();
         if (header != null && !headerIsSet) {
-            setLogMessageWithHeader(formattedLogMessage, header);
-        } else {
-            logMessage = formattedLogMessage;
+            logMessages.append(new String(header));
+            headerIsSet = true;
         }
-    }
-
-    private void setLogMessageWithHeader(String formattedLogMessage, byte[] header) {
-        StringBuilder builder = new StringBuilder();
-        String headerString = new String(header);
-        builder.append(headerString);
-        builder.append(formattedLogMessage);
-        logMessage = builder.toString();
-        headerIsSet = true;
+        logMessages.append(formattedLogMessage);
     }
 
     @Override
@@ -128,14 +124,14 @@ public class ProcessLogger {
             return false;
         }
         ProcessLogger processLogger = (ProcessLogger) incommingObject;
+        // The buffered messages are not compared, as they change while the logger is used:
         return Objects.equals(id, processLogger.id) && Objects.equals(layout, processLogger.layout) && Objects.equals(activityId,
                                                                                                                       processLogger.activityId) && Objects.equals(
-            logName, processLogger.logName) && Objects.equals(operationLogEntry, processLogger.operationLogEntry) && Objects.equals(
-            logMessage, processLogger.logMessage);
+            logName, processLogger.logName) && Objects.equals(operationLogEntry, processLogger.operationLogEntry);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, layout, activityId, logName, operationLogEntry, logMessage);
+        return Objects.hash(id, layout, activityId, logName, operationLogEntry);
     }
 }
@@ -4,7 +4,6 @@ import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableOperationLogEntry;
 import org.cloudfoundry.multiapps.controller.persistence.model.OperationLogEntry;
-import org.springframework.scheduling.annotation.Async;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -16,18 +15,20 @@ import java.util.UUID;
 public class ProcessLoggerPersister {
 
     private final ProcessLoggerProvider processLoggerProvider;
-    private final ProcessLogsPersistenceService processLogsPersistenceService;
+    private final ProcessLogsBatchPersister processLogsBatchPersister;
 
     @Inject
-    public ProcessLoggerPersister(ProcessLoggerProvider processLoggerProvider,
-                                  ProcessLogsPersistenceService processLogsPersistenceService) {
+    public ProcessLoggerPersister(ProcessLoggerProvider processLoggerProvider, ProcessLogsBatchPersister processLogsBatchPersister) {
         this.processLoggerProvider = processLoggerProvider;
-        this.processLogsPersistenceService = processLogsPersistenceService;
+        this.processLogsBatchPersister = processLogsBatchPersister;
     }
 
-    @Async("asyncExecutor")
+    /**
+     * Queues the logs of the activity for persisting. The logs are written to the database in batches by
+     * {@link ProcessLogsBatchPersister}.
+     */
     public void persistLogs(String correlationId, String taskId) {
-        List<ProcessLogger> processLoggers = processLoggerProvider.getExistingLoggers(correlationId, taskId);
+        List<ProcessLogger> processLoggers = processLoggerProvider.removeExistingLoggers(correlationId, taskId);
         Map<String, StringBuilder> processLogsMessages = new HashMap<>();
 
         if (processLoggers.isEmpty()) {
@@ -46,8 +47,6 @@ public class ProcessLoggerPersister {
                 processLogsMessages.put(processLogger.getOperationLogEntry()
                                                      .getOperationLogName(), logMessage);
             }
-
-            processLoggerProvider.removeProcessLoggerFromCache(processLogger);
         }
 
         OperationLogEntry operationLogEntryWithExistingData = processLoggers.get(0)
@@ -61,7 +60,7 @@ public class ProcessLoggerPersister {
                                                                             .withOperationLog(processLogsMessage.getValue()
                                                                                                                 .toString())
                                                                             .withModified(LocalDateTime.now());
-            processLogsPersistenceService.persistLog(operationLogEntry);
+            processLogsBatchPersister.add(operationLogEntry);
         }
     }
 }
@@ -1,9 +1,12 @@
 package org.cloudfoundry.multiapps.controller.persistence.services;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import jakarta.inject.Named;
 
@@ -16,18 +19,28 @@ import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableOperatio
 import org.cloudfoundry.multiapps.controller.persistence.model.OperationLogEntry;
 import org.flowable.engine.delegate.DelegateExecution;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+
 @Named("processLoggerProvider")
 public class ProcessLoggerProvider {
     static final String LOG_LAYOUT = "#%d{yyyy MM dd HH:mm:ss.SSS}#%d{XXX}#%p#%c#%t#%n%m#%n";
     private static final String DEFAULT_LOG_NAME = "OPERATION";
     private static final String LOG_FILE_EXTENSION = ".log";
+    private static final String LIVE_LOGGERS_METRIC_NAME = "multiapps.process.loggers.live";
     private final LoggerContext loggerContext = (LoggerContext) LogManager.getContext(false);
     private final PatternLayout patternLayout = PatternLayout.newBuilder()
                                                              .withPattern(LOG_LAYOUT)
                                                              .withConfiguration(loggerContext.getConfiguration())
                                                              .build();
 
-    private final Queue<ProcessLogger> loggerChache = new ConcurrentLinkedQueue<>();
+    private final Map<LoggersKey, ActivityLoggers> loggersCache = new ConcurrentHashMap<>();
+    private final AtomicInteger liveLoggersCount = new AtomicInteger();
+
+    public ProcessLoggerProvider() {
+        Gauge.builder(LIVE_LOGGERS_METRIC_NAME, liveLoggersCount, AtomicInteger::get)
+             .register(Metrics.globalRegistry);
+    }
 
     public ProcessLogger getLogger(DelegateExecution execution) {
         return getLogger(execution, DEFAULT_LOG_NAME);
@@ -37,20 +50,32 @@ public class ProcessLoggerProvider {
         return getLogger(execution, logName, loggerContextDel -> patternLayout);
     }
 
+    /**
+     * Returns the logger of the log with the given name of the current activity, creating it if it does not exist. The messages of the
+     * logger are buffered until the logs of the activity are persisted, so the layout is applied only when the logger is created.
+     */
     public ProcessLogger getLogger(DelegateExecution execution, String logName,
                                    Function<LoggerContext, AbstractStringLayout> layoutCreatorFunction) {
-        String name = getLoggerName(execution, logName);
         String correlationId = getCorrelationId(execution);
         String spaceId = getSpaceId(execution);
         String activityId = getTaskId(execution);
-        String logNameWithExtension = logName + LOG_FILE_EXTENSION;
-        AbstractStringLayout layout = layoutCreatorFunction.apply(loggerContext);
         if (correlationId == null || activityId == null) {
             return new NullProcessLogger(spaceId, execution.getProcessInstanceId(), activityId);
         }
-        ProcessLogger processLogger = createProcessLogger(spaceId, correlationId, activityId, name, logNameWithExtension, layout);
-        loggerChache.add(processLogger);
-        return processLogger;
+        String logNameWithExtension = logName + LOG_FILE_EXTENSION;
+        // The loggers are looked up and created while holding the lock of the key, so that they are not lost if the loggers of the
+        // activity are removed concurrently
+        ProcessLogger[] processLoggerHolder = new ProcessLogger[1];
+        loggersCache.compute(new LoggersKey(correlationId, activityId), (key, activityLoggers) -> {
+            ActivityLoggers loggers = activityLoggers != null ? activityLoggers : new ActivityLoggers();
+            processLoggerHolder[0] = loggers.getOrCreate(logNameWithExtension, () -> {
+                liveLoggersCount.incrementAndGet();
+                return createProcessLogger(spaceId, correlationId, activityId, getLoggerName(execution, logName),
+                                           logNameWithExtension, layoutCreatorFunction.apply(loggerContext));
+            });
+            return loggers;
+        });
+        return processLoggerHolder[0];
     }
 
     private String getLoggerName(DelegateExecution execution, String logName) {
@@ -77,22 +102,90 @@ public class ProcessLoggerProvider {
     }
 
     public List<ProcessLogger> getExistingLoggers(String operationId, String activityId) {
-        return loggerChache.stream()
-                           .filter(logger -> hasLoggerSpecificProcessIdAndActivityId(operationId, activityId, logger))
-                           .toList();
+        ActivityLoggers activityLoggers = loggersCache.get(new LoggersKey(operationId, activityId));
+        return activityLoggers != null ? activityLoggers.getLoggers() : List.of();
     }
 
-    private boolean hasLoggerSpecificProcessIdAndActivityId(String operationId, String activityId, ProcessLogger logger) {
-        return operationId.equals(logger.getOperationLogEntry()
-                                        .getOperationId())
-            && activityId.equals(logger.getActivityId());
+    /**
+     * Removes the loggers of the activity from the cache and returns them. Loggers created afterwards are cached anew.
+     */
+    public List<ProcessLogger> removeExistingLoggers(String operationId, String activityId) {
+        ActivityLoggers activityLoggers = loggersCache.remove(new LoggersKey(operationId, activityId));
+        if (activityLoggers == null) {
+            return List.of();
+        }
+        List<ProcessLogger> loggers = activityLoggers.getLoggers();
+        liveLoggersCount.addAndGet(-loggers.size());
+        return loggers;
     }
 
     public void removeProcessLoggerFromCache(ProcessLogger processLogger) {
-        loggerChache.remove(processLogger);
+        loggersCache.computeIfPresent(LoggersKey.of(processLogger), (key, activityLoggers) -> {
+            if (activityLoggers.remove(processLogger)) {
+                liveLoggersCount.decrementAndGet();
+            }
+            return activityLoggers.isEmpty() ? null : activityLoggers;
+        });
+    }
+
+    /**
+     * @return the keys of the activities whose loggers were not persisted and were not used since the given time
+     */
+    public List<LoggersKey> getLoggersNotUpdatedSince(LocalDateTime time) {
+        return loggersCache.entrySet()
+                           .stream()
+                           .filter(entry -> entry.getValue()
+                                                 .getLastUpdateTime()
+                                                 .isBefore(time))
+                           .map(Map.Entry::getKey)
+                           .toList();
+    }
+
+    public int getLiveLoggersCount() {
+        return liveLoggersCount.get();
     }
 
     private String getSpaceId(DelegateExecution execution) {
         return (String) execution.getVariable(Constants.VARIABLE_NAME_SPACE_ID);
     }
-}
\ No newline at end of file
+
+    public record LoggersKey(String operationId, String activityId) {
+
+        static LoggersKey of(ProcessLogger processLogger) {
+            return new LoggersKey(processLogger.getOperationLogEntry()
+                                               .getOperationId(),
+                                  processLogger.getActivityId());
+        }
+
+    }
+
+    private static class ActivityLoggers {
+
+        private final Map<String, ProcessLogger> loggers = new ConcurrentHashMap<>();
+        private volatile LocalDateTime lastUpdateTime = LocalDateTime.now();
+
+        ProcessLogger getOrCreate(String logName, Supplier<ProcessLogger> processLoggerCreator) {
+            lastUpdateTime = LocalDateTime.now();
+            return loggers.computeIfAbsent(logName, name -> processLoggerCreator.get());
+        }
+
+        boolean remove(ProcessLogger processLogger) {
+            return loggers.remove(processLogger.getOperationLogEntry()
+                                               .getOperationLogName(), processLogger);
+        }
+
+        boolean isEmpty() {
+            return loggers.isEmpty();
+        }
+
+        List<ProcessLogger> getLoggers() {
+            return List.copyOf(loggers.values());
+        }
+
+        LocalDateTime getLastUpdateTime() {
+            return lastUpdateTime;
+        }
+
+    }
+
+}
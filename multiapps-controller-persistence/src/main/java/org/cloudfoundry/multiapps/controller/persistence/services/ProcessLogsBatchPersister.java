@@ -0,0 +1,127 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import org.cloudfoundry.multiapps.controller.persistence.Messages;
+import org.cloudfoundry.multiapps.controller.persistence.model.OperationLogEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+/**
+ * Write-behind buffer of operation logs, which persists the logs of all executions in JDBC batches. A batch is flushed once it reaches
+ * its maximum size or when the flush period elapses, whichever comes first. Callers are blocked while the maximum number of pending logs
+ * is reached, so that the buffer does not grow without bound when the database is slow.
+ */
+@Named("processLogsBatchPersister")
+public class ProcessLogsBatchPersister implements DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProcessLogsBatchPersister.class);
+    private static final int MAX_PENDING_LOGS = 10000;
+    private static final int MAX_BATCH_SIZE = 200;
+    private static final Duration FLUSH_PERIOD = Duration.ofMillis(500);
+
+    private final ProcessLogsPersistenceService processLogsPersistenceService;
+    private final BlockingQueue<OperationLogEntry> pendingLogs;
+    private final int maxBatchSize;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean isFlushScheduled = new AtomicBoolean();
+    private final ScheduledExecutorService flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "process-logs-batch-persister");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Inject
+    public ProcessLogsBatchPersister(ProcessLogsPersistenceService processLogsPersistenceService) {
+        this(processLogsPersistenceService, MAX_PENDING_LOGS, MAX_BATCH_SIZE, FLUSH_PERIOD);
+    }
+
+    ProcessLogsBatchPersister(ProcessLogsPersistenceService processLogsPersistenceService, int maxPendingLogs, int maxBatchSize,
+                              Duration flushPeriod) {
+        this.processLogsPersistenceService = processLogsPersistenceService;
+        this.pendingLogs = new ArrayBlockingQueue<>(maxPendingLogs);
+        this.maxBatchSize = maxBatchSize;
+        flushExecutor.scheduleWithFixedDelay(this::flush, flushPeriod.toMillis(), flushPeriod.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void add(OperationLogEntry operationLogEntry) {
+        try {
+            pendingLogs.put(operationLogEntry);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            LOGGER.warn(MessageFormat.format(Messages.INTERRUPTED_WHILE_WAITING_TO_QUEUE_OPERATION_LOG_0,
+                                             operationLogEntry.getOperationLogName()));
+            processLogsPersistenceService.persistLog(operationLogEntry);
+            return;
+        }
+        if (pendingLogs.size() >= maxBatchSize && isFlushScheduled.compareAndSet(false, true)) {
+            flushExecutor.execute(() -> {
+                isFlushScheduled.set(false);
+                flush();
+            });
+        }
+    }
+
+    /**
+     * Persists all logs added before the call. Concurrent flushes are serialized, so that the logs are persisted in the order in which
+     * they were added.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<OperationLogEntry> batch = drainBatch();
+            while (!batch.isEmpty()) {
+                persistBatch(batch);
+                batch = drainBatch();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private List<OperationLogEntry> drainBatch() {
+        List<OperationLogEntry> batch = new ArrayList<>(maxBatchSize);
+        pendingLogs.drainTo(batch, maxBatchSize);
+        return batch;
+    }
+
+    private void persistBatch(List<OperationLogEntry> batch) {
+        try {
+            processLogsPersistenceService.persistLogs(batch);
+        } catch (RuntimeException e) {
+            LOGGER.warn(MessageFormat.format(Messages.COULD_NOT_PERSIST_BATCH_OF_0_OPERATION_LOGS_PERSISTING_THEM_ONE_BY_ONE, batch.size()),
+                        e);
+            batch.forEach(this::persistLog);
+        }
+    }
+
+    private void persistLog(OperationLogEntry operationLogEntry) {
+        try {
+            processLogsPersistenceService.persistLog(operationLogEntry);
+        } catch (RuntimeException e) {
+            LOGGER.error(MessageFormat.format(Messages.COULD_NOT_PERSIST_OPERATION_LOG_0, operationLogEntry.getOperationLogName()), e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flushExecutor.shutdownNow();
+        flush();
+    }
+
+}
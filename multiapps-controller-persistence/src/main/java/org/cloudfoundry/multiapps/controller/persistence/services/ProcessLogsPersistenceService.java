@@ -3,13 +3,17 @@ package org.cloudfoundry.multiapps.controller.persistence.services;
 import jakarta.inject.Named;
 import org.cloudfoundry.multiapps.controller.persistence.DataSourceWithDialect;
 import org.cloudfoundry.multiapps.controller.persistence.Messages;
+import org.cloudfoundry.multiapps.controller.persistence.model.OperationLogChunk;
 import org.cloudfoundry.multiapps.controller.persistence.model.OperationLogEntry;
 import org.cloudfoundry.multiapps.controller.persistence.query.providers.ByteArraySqlFileQueryProvider;
 import org.cloudfoundry.multiapps.controller.persistence.query.providers.SqlOperationLogQueryProvider;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.sql.SQLException;
 import java.text.MessageFormat;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
@@ -17,11 +21,12 @@ import java.util.stream.Collectors;
 public class ProcessLogsPersistenceService extends DatabaseFileService {
 
     public static final String TABLE_NAME = "process_log";
+    private static final int CHUNKS_PER_LOAD = 50;
     private final SqlOperationLogQueryProvider sqlOperationLogQueryProvider;
 
     public ProcessLogsPersistenceService(DataSourceWithDialect dataSourceWithDialect) {
         super(dataSourceWithDialect, new ByteArraySqlFileQueryProvider(TABLE_NAME, dataSourceWithDialect.getDataSourceDialect()));
-        sqlOperationLogQueryProvider = new SqlOperationLogQueryProvider(TABLE_NAME);
+        sqlOperationLogQueryProvider = new SqlOperationLogQueryProvider(TABLE_NAME, dataSourceWithDialect.getDataSourceDialect());
     }
 
     public List<String> getLogNames(String space, String operationId) throws FileStorageException {
@@ -42,24 +47,31 @@ public class ProcessLogsPersistenceService extends DatabaseFileService {
         }
     }
 
-    public String getOperationLog(String space, String operationId, String logId) throws FileStorageException {
-        List<OperationLogEntry> operationLogs = listOperationLogs(space, operationId, logId);
-
-        StringBuilder builder = new StringBuilder();
-        for (OperationLogEntry operationLog : operationLogs) {
-            builder.append(operationLog.getOperationLog());
+    /**
+     * @return the chunks of the log in the order in which they were appended
+     */
+    public List<OperationLogChunk> listOperationLogChunks(String space, String operationId, String logId) throws FileStorageException {
+        try {
+            return getSqlQueryExecutor().execute(sqlOperationLogQueryProvider.getListChunksQuery(space, operationId, logId));
+        } catch (SQLException e) {
+            throw new FileStorageException(
+                MessageFormat.format(Messages.ERROR_GETTING_LOGS_WITH_SPACE_OPERATION_ID_AND_NAME, space, operationId, logId), e);
         }
-        return builder.toString();
     }
 
-    private List<OperationLogEntry> listOperationLogs(final String space, final String operationId, String logId)
-        throws FileStorageException {
+    /**
+     * Opens a stream over at most {@code length} bytes of the content of the given chunks, starting from the given offset in bytes. The
+     * content of the chunks is loaded lazily while the stream is read.
+     */
+    public InputStream openOperationLog(List<OperationLogChunk> chunks, long offset, long length) {
+        return new OperationLogInputStream(chunks, offset, length, this::getChunksContent, CHUNKS_PER_LOAD);
+    }
+
+    private Map<String, byte[]> getChunksContent(List<String> chunkIds) throws IOException {
         try {
-            return getSqlQueryExecutor().execute(
-                sqlOperationLogQueryProvider.getListFilesQueryBySpaceOperationIdAndLogId(space, operationId, logId));
+            return getSqlQueryExecutor().execute(sqlOperationLogQueryProvider.getChunksContentQuery(chunkIds));
         } catch (SQLException e) {
-            throw new FileStorageException(
-                MessageFormat.format(Messages.ERROR_GETTING_LOGS_WITH_SPACE_OPERATION_ID_AND_NAME, space, operationId, logId), e);
+            throw new IOException(MessageFormat.format(Messages.ERROR_READING_OPERATION_LOG_CHUNKS_0, chunkIds), e);
         }
     }
 
@@ -70,4 +82,12 @@ public class ProcessLogsPersistenceService extends DatabaseFileService {
             throw new OperationLogStorageException(Messages.FAILED_TO_SAVE_OPERATION_LOG_IN_DATABASE, e);
         }
     }
+
+    public void persistLogs(List<OperationLogEntry> operationLogEntries) {
+        try {
+            getSqlQueryExecutor().execute(sqlOperationLogQueryProvider.getStoreLogsQuery(operationLogEntries));
+        } catch (SQLException e) {
+            throw new OperationLogStorageException(Messages.FAILED_TO_SAVE_OPERATION_LOG_IN_DATABASE, e);
+        }
+    }
 }
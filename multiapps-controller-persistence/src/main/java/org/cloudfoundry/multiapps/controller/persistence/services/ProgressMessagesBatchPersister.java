@@ -0,0 +1,139 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import org.cloudfoundry.multiapps.controller.persistence.Messages;
+import org.cloudfoundry.multiapps.controller.persistence.model.ProgressMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+/**
+ * Write-behind buffer of progress messages, which persists the messages of all executions in a single transaction per batch. A batch is
+ * flushed once it reaches its maximum size or when the flush period elapses, whichever comes first. The pending messages have no IDs yet,
+ * so readers of the progress messages of a process should call {@link #flush(String)} before querying them.
+ */
+@Named
+public class ProgressMessagesBatchPersister implements DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProgressMessagesBatchPersister.class);
+    private static final int MAX_PENDING_MESSAGES = 10000;
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final Duration FLUSH_PERIOD = Duration.ofMillis(500);
+
+    private final ProgressMessageService progressMessageService;
+    private final BlockingQueue<ProgressMessage> pendingMessages;
+    private final int maxBatchSize;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean isFlushScheduled = new AtomicBoolean();
+    private final ScheduledExecutorService flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "progress-messages-batch-persister");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Inject
+    public ProgressMessagesBatchPersister(ProgressMessageService progressMessageService) {
+        this(progressMessageService, MAX_PENDING_MESSAGES, MAX_BATCH_SIZE, FLUSH_PERIOD);
+    }
+
+    ProgressMessagesBatchPersister(ProgressMessageService progressMessageService, int maxPendingMessages, int maxBatchSize,
+                                   Duration flushPeriod) {
+        this.progressMessageService = progressMessageService;
+        this.pendingMessages = new ArrayBlockingQueue<>(maxPendingMessages);
+        this.maxBatchSize = maxBatchSize;
+        flushExecutor.scheduleWithFixedDelay(this::flush, flushPeriod.toMillis(), flushPeriod.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void add(ProgressMessage progressMessage) {
+        try {
+            pendingMessages.put(progressMessage);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            LOGGER.warn(MessageFormat.format(Messages.INTERRUPTED_WHILE_WAITING_TO_QUEUE_PROGRESS_MESSAGE_OF_PROCESS_0,
+                                             progressMessage.getProcessId()));
+            progressMessageService.add(progressMessage);
+            return;
+        }
+        if (pendingMessages.size() >= maxBatchSize && isFlushScheduled.compareAndSet(false, true)) {
+            flushExecutor.execute(() -> {
+                isFlushScheduled.set(false);
+                flush();
+            });
+        }
+    }
+
+    /**
+     * Persists all messages added before the call. Concurrent flushes are serialized, so that the messages are persisted in the order in
+     * which they were added.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<ProgressMessage> batch = drainBatch();
+            while (!batch.isEmpty()) {
+                persistBatch(batch);
+                batch = drainBatch();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Persists all messages added before the call, if any of them belongs to the given process. A flush in progress may hold messages of
+     * the process as well, so it is waited for.
+     */
+    public void flush(String processId) {
+        if (flushLock.isLocked() || pendingMessages.stream()
+                                                   .anyMatch(progressMessage -> processId.equals(progressMessage.getProcessId()))) {
+            flush();
+        }
+    }
+
+    private List<ProgressMessage> drainBatch() {
+        List<ProgressMessage> batch = new ArrayList<>(maxBatchSize);
+        pendingMessages.drainTo(batch, maxBatchSize);
+        return batch;
+    }
+
+    private void persistBatch(List<ProgressMessage> batch) {
+        try {
+            progressMessageService.addAll(batch);
+        } catch (RuntimeException e) {
+            LOGGER.warn(MessageFormat.format(Messages.COULD_NOT_PERSIST_BATCH_OF_0_PROGRESS_MESSAGES_PERSISTING_THEM_ONE_BY_ONE,
+                                             batch.size()),
+                        e);
+            batch.forEach(this::persistMessage);
+        }
+    }
+
+    private void persistMessage(ProgressMessage progressMessage) {
+        try {
+            progressMessageService.add(progressMessage);
+        } catch (RuntimeException e) {
+            LOGGER.error(MessageFormat.format(Messages.COULD_NOT_PERSIST_PROGRESS_MESSAGE_OF_PROCESS_0, progressMessage.getProcessId()), e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flushExecutor.shutdownNow();
+        flush();
+    }
+
+}
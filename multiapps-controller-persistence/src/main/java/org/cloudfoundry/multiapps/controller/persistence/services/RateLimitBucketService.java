@@ -0,0 +1,66 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import jakarta.inject.Named;
+
+import org.cloudfoundry.multiapps.common.SLException;
+import org.cloudfoundry.multiapps.controller.persistence.DataSourceWithDialect;
+import org.cloudfoundry.multiapps.controller.persistence.Messages;
+import org.cloudfoundry.multiapps.controller.persistence.model.RateLimitReservation;
+import org.cloudfoundry.multiapps.controller.persistence.query.SqlQuery;
+import org.cloudfoundry.multiapps.controller.persistence.query.providers.SqlRateLimitBucketQueryProvider;
+import org.cloudfoundry.multiapps.controller.persistence.util.SqlQueryExecutor;
+
+/**
+ * Token buckets shared between all instances through the database, so that rate limits apply to the whole deployment rather than to
+ * each instance.
+ */
+@Named
+public class RateLimitBucketService {
+
+    public static final String TABLE_NAME = "rate_limit_bucket";
+    private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+
+    private final SqlQueryExecutor sqlQueryExecutor;
+    private final SqlRateLimitBucketQueryProvider sqlRateLimitBucketQueryProvider;
+
+    public RateLimitBucketService(DataSourceWithDialect dataSourceWithDialect) {
+        this.sqlQueryExecutor = new SqlQueryExecutor(dataSourceWithDialect.getDataSource());
+        this.sqlRateLimitBucketQueryProvider = new SqlRateLimitBucketQueryProvider(TABLE_NAME);
+    }
+
+    /**
+     * Takes at most {@code permits} permits from the bucket with the given key, creating a full bucket if there is no such bucket.
+     */
+    public RateLimitReservation reservePermits(String bucketKey, long capacity, Duration refillPeriod, long permits) {
+        SqlQuery<RateLimitReservation> reservePermitsQuery = sqlRateLimitBucketQueryProvider.getReservePermitsQuery(bucketKey, capacity,
+                                                                                                                   refillPeriod, permits,
+                                                                                                                   System.currentTimeMillis());
+        try {
+            return sqlQueryExecutor.execute(reservePermitsQuery);
+        } catch (SQLException e) {
+            if (!UNIQUE_VIOLATION_SQL_STATE.equals(e.getSQLState())) {
+                throw new SLException(e, Messages.ERROR_RESERVING_PERMITS_FROM_RATE_LIMIT_BUCKET_0, bucketKey);
+            }
+        }
+        // Another instance created the bucket concurrently, so the reservation is retried against the existing row
+        try {
+            return sqlQueryExecutor.execute(reservePermitsQuery);
+        } catch (SQLException e) {
+            throw new SLException(e, Messages.ERROR_RESERVING_PERMITS_FROM_RATE_LIMIT_BUCKET_0, bucketKey);
+        }
+    }
+
+    public int deleteBucketsRefilledBefore(LocalDateTime refillTime) {
+        try {
+            return sqlQueryExecutor.execute(sqlRateLimitBucketQueryProvider.getDeleteBucketsRefilledBeforeQuery(Timestamp.valueOf(refillTime)));
+        } catch (SQLException e) {
+            throw new SLException(e, Messages.ERROR_DELETING_RATE_LIMIT_BUCKETS_REFILLED_BEFORE_0, refillTime);
+        }
+    }
+
+}
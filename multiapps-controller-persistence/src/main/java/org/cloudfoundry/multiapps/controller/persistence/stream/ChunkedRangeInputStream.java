@@ -0,0 +1,189 @@
+package org.cloudfoundry.multiapps.controller.persistence.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.text.MessageFormat;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import org.cloudfoundry.multiapps.controller.persistence.Messages;
+
+/**
+ * Reads content of a known size as consecutive byte ranges which are fetched concurrently and returned in order. At most
+ * {@code maxChunksInFlight} ranges are requested ahead of the reader, which bounds the memory held by the stream. The memory held by all
+ * streams which share {@code bufferedBytes} is bounded by its permits: each range acquires its size before it is requested and releases it
+ * once it is read. A stream waits for permits only when it holds none and requests the ranges ahead of the reader only while permits are
+ * available, so that streams read by different threads cannot deadlock. A single thread must not read several such streams alternately.
+ */
+public class ChunkedRangeInputStream extends InputStream {
+
+    private static final byte[] NO_CONTENT = new byte[0];
+
+    private final RangeReader rangeReader;
+    private final ExecutorService executorService;
+    private final long size;
+    private final long chunkSize;
+    private final int maxChunksInFlight;
+    private final Semaphore bufferedBytes;
+    private final Deque<ChunkInFlight> chunksInFlight = new ArrayDeque<>();
+
+    private long nextChunkStartOffset;
+    private byte[] currentChunk = NO_CONTENT;
+    private int positionInCurrentChunk;
+    private int currentChunkBufferedBytes;
+    private int heldBufferedBytes;
+    private boolean closed;
+
+    public ChunkedRangeInputStream(RangeReader rangeReader, ExecutorService executorService, long size, long chunkSize,
+                                   int maxChunksInFlight, Semaphore bufferedBytes) {
+        if (chunkSize <= 0 || maxChunksInFlight <= 0) {
+            throw new IllegalArgumentException(MessageFormat.format(Messages.INVALID_CHUNK_SIZE_0_OR_CHUNKS_IN_FLIGHT_1, chunkSize,
+                                                                    maxChunksInFlight));
+        }
+        this.rangeReader = rangeReader;
+        this.executorService = executorService;
+        this.size = size;
+        this.chunkSize = chunkSize;
+        this.maxChunksInFlight = maxChunksInFlight;
+        this.bufferedBytes = bufferedBytes;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!hasAvailableContent()) {
+            return -1;
+        }
+        return currentChunk[positionInCurrentChunk++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        if (length == 0) {
+            return 0;
+        }
+        if (!hasAvailableContent()) {
+            return -1;
+        }
+        int bytesToCopy = Math.min(length, currentChunk.length - positionInCurrentChunk);
+        System.arraycopy(currentChunk, positionInCurrentChunk, buffer, offset, bytesToCopy);
+        positionInCurrentChunk += bytesToCopy;
+        return bytesToCopy;
+    }
+
+    @Override
+    public int available() throws IOException {
+        ensureOpen();
+        return currentChunk.length - positionInCurrentChunk;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        currentChunk = NO_CONTENT;
+        chunksInFlight.forEach(chunk -> chunk.content()
+                                             .cancel(true));
+        chunksInFlight.clear();
+        releaseBufferedBytes(heldBufferedBytes);
+    }
+
+    private boolean hasAvailableContent() throws IOException {
+        ensureOpen();
+        while (positionInCurrentChunk >= currentChunk.length) {
+            releaseBufferedBytes(currentChunkBufferedBytes);
+            currentChunk = NO_CONTENT;
+            currentChunkBufferedBytes = 0;
+            requestNextChunks();
+            ChunkInFlight nextChunk = chunksInFlight.poll();
+            if (nextChunk == null) {
+                return false;
+            }
+            requestNextChunks();
+            currentChunk = awaitChunk(nextChunk.content());
+            currentChunkBufferedBytes = nextChunk.length();
+            positionInCurrentChunk = 0;
+        }
+        return true;
+    }
+
+    private void requestNextChunks() throws IOException {
+        while (chunksInFlight.size() < maxChunksInFlight && nextChunkStartOffset < size) {
+            long startOffset = nextChunkStartOffset;
+            long endOffset = Math.min(startOffset + chunkSize, size) - 1;
+            int chunkLength = (int) (endOffset - startOffset + 1);
+            if (!acquireBufferedBytes(chunkLength)) {
+                return;
+            }
+            chunksInFlight.add(new ChunkInFlight(executorService.submit(() -> rangeReader.read(startOffset, endOffset)), chunkLength));
+            nextChunkStartOffset = endOffset + 1;
+        }
+    }
+
+    private boolean acquireBufferedBytes(int chunkLength) throws IOException {
+        if (heldBufferedBytes > 0) {
+            if (!bufferedBytes.tryAcquire(chunkLength)) {
+                return false;
+            }
+        } else {
+            try {
+                bufferedBytes.acquire(chunkLength);
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+                close();
+                throw new InterruptedIOException(e.getMessage());
+            }
+        }
+        heldBufferedBytes += chunkLength;
+        return true;
+    }
+
+    private void releaseBufferedBytes(int length) {
+        bufferedBytes.release(length);
+        heldBufferedBytes -= length;
+    }
+
+    private byte[] awaitChunk(Future<byte[]> chunk) throws IOException {
+        try {
+            return chunk.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            close();
+            throw new InterruptedIOException(e.getMessage());
+        } catch (ExecutionException e) {
+            close();
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException(Messages.STREAM_IS_CLOSED);
+        }
+    }
+
+    private record ChunkInFlight(Future<byte[]> content, int length) {
+    }
+
+    @FunctionalInterface
+    public interface RangeReader {
+
+        /**
+         * @param startOffset the first byte of the range
+         * @param endOffset the last byte of the range, inclusive
+         */
+        byte[] read(long startOffset, long endOffset) throws Exception;
+
+    }
+
+}
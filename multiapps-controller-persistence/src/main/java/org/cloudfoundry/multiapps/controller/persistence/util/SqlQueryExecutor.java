@@ -7,35 +7,60 @@ import javax.sql.DataSource;
 
 import org.cloudfoundry.multiapps.controller.persistence.query.SqlQuery;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
 public class SqlQueryExecutor {
 
+    static final String QUERY_METRIC_NAME = "multiapps.db.query";
+    private static final String MODE_AUTO_COMMIT = "auto_commit";
+    private static final String MODE_TRANSACTION = "transaction";
+    private static final String MODE_WITHOUT_COMMIT = "without_commit";
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_FAILURE = "failure";
+
     private final DataSource dataSource;
+    private final MeterRegistry meterRegistry;
 
     public SqlQueryExecutor(DataSource dataSource) {
+        this(dataSource, Metrics.globalRegistry);
+    }
+
+    public SqlQueryExecutor(DataSource dataSource, MeterRegistry meterRegistry) {
         this.dataSource = dataSource;
+        this.meterRegistry = meterRegistry;
     }
 
     public <R> R executeWithAutoCommit(SqlQuery<R> sqlQuery) throws SQLException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = OUTCOME_FAILURE;
         Connection connection = null;
         try {
             connection = dataSource.getConnection();
             connection.setAutoCommit(true);
-            return sqlQuery.execute(connection);
+            R result = sqlQuery.execute(connection);
+            outcome = OUTCOME_SUCCESS;
+            return result;
         } catch (SQLException e) {
             JdbcUtil.rollback(connection);
             throw e;
         } finally {
             JdbcUtil.closeQuietly(connection);
+            recordQuery(sample, MODE_AUTO_COMMIT, outcome);
         }
     }
 
     public <R> R execute(SqlQuery<R> sqlQuery) throws SQLException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = OUTCOME_FAILURE;
         Connection connection = null;
         try {
             connection = dataSource.getConnection();
             connection.setAutoCommit(false);
             R result = sqlQuery.execute(connection);
             JdbcUtil.commit(connection);
+            outcome = OUTCOME_SUCCESS;
             return result;
         } catch (SQLException e) {
             JdbcUtil.rollback(connection);
@@ -43,21 +68,35 @@ public class SqlQueryExecutor {
         } finally {
             JdbcUtil.setAutoCommitSafely(connection);
             JdbcUtil.closeQuietly(connection);
+            recordQuery(sample, MODE_TRANSACTION, outcome);
         }
     }
 
     public <R> R executeWithoutCommit(SqlQuery<R> sqlQuery) throws SQLException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = OUTCOME_FAILURE;
         Connection connection = null;
         try {
             connection = dataSource.getConnection();
             connection.setAutoCommit(false);
-            return sqlQuery.execute(connection);
+            R result = sqlQuery.execute(connection);
+            outcome = OUTCOME_SUCCESS;
+            return result;
         } catch (SQLException e) {
             JdbcUtil.rollback(connection);
             JdbcUtil.setAutoCommitSafely(connection);
             JdbcUtil.closeQuietly(connection);
             throw e;
+        } finally {
+            recordQuery(sample, MODE_WITHOUT_COMMIT, outcome);
         }
     }
 
+    private void recordQuery(Timer.Sample sample, String mode, String outcome) {
+        sample.stop(Timer.builder(QUERY_METRIC_NAME)
+                         .tag("mode", mode)
+                         .tag("outcome", outcome)
+                         .register(meterRegistry));
+    }
+
 }
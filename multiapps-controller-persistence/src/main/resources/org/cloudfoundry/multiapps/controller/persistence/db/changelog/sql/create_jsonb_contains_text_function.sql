@@ -0,0 +1,5 @@
+CREATE OR REPLACE FUNCTION JSONB_CONTAINS_TEXT(json_text TEXT, contained_json_text TEXT) RETURNS BOOLEAN AS
+$$
+  SELECT TO_JSONB_OR_NULL(json_text) @> contained_json_text::JSONB
+$$
+LANGUAGE 'sql' IMMUTABLE;
@@ -0,0 +1,9 @@
+CREATE OR REPLACE FUNCTION TO_JSONB_OR_NULL(json_text TEXT) RETURNS JSONB AS
+$$
+  BEGIN
+    RETURN json_text::JSONB;
+  EXCEPTION
+    WHEN invalid_text_representation THEN RETURN NULL;
+  END;
+$$
+LANGUAGE 'plpgsql' IMMUTABLE;
@@ -0,0 +1,2 @@
+DROP FUNCTION IF EXISTS JSONB_CONTAINS_TEXT(TEXT, TEXT);
+DROP FUNCTION IF EXISTS TO_JSONB_OR_NULL(TEXT);
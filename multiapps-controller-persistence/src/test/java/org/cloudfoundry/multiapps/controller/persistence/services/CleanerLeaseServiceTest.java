@@ -0,0 +1,112 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.cloudfoundry.multiapps.controller.persistence.DataSourceWithDialect;
+import org.cloudfoundry.multiapps.controller.persistence.test.TestDataSourceProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CleanerLeaseServiceTest {
+
+    private static final String LIQUIBASE_CHANGELOG_LOCATION = "org/cloudfoundry/multiapps/controller/persistence/db/changelog/db-changelog.xml";
+    private static final String CLEANER_NAME = "TokensCleaner";
+    private static final String LOCK_OWNER_1 = "lock-owner-1";
+    private static final String LOCK_OWNER_2 = "lock-owner-2";
+    private static final Duration LEASE_DURATION = Duration.ofHours(1);
+
+    private final LocalDateTime cleanUpStartTime = LocalDateTime.now()
+                                                                .minusMinutes(1);
+    private DataSourceWithDialect testDataSource;
+    private CleanerLeaseService cleanerLeaseService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        testDataSource = new DataSourceWithDialect(TestDataSourceProvider.getDataSource(LIQUIBASE_CHANGELOG_LOCATION));
+        cleanerLeaseService = new CleanerLeaseService(testDataSource);
+        addLockOwner(1, LOCK_OWNER_1);
+        addLockOwner(2, LOCK_OWNER_2);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        try (Connection connection = testDataSource.getDataSource()
+                                                   .getConnection();
+            Statement statement = connection.createStatement()) {
+            statement.executeUpdate("DELETE FROM " + CleanerLeaseService.TABLE_NAME);
+            statement.executeUpdate("DELETE FROM lock_owners");
+        }
+    }
+
+    @Test
+    void testLeaseIsNotAcquiredWhileHeldByLiveLockOwner() {
+        assertTrue(cleanerLeaseService.tryAcquireLease(CLEANER_NAME, LOCK_OWNER_1, cleanUpStartTime, LEASE_DURATION));
+
+        assertFalse(cleanerLeaseService.tryAcquireLease(CLEANER_NAME, LOCK_OWNER_2, cleanUpStartTime, LEASE_DURATION));
+        assertTrue(cleanerLeaseService.tryAcquireLease("FilesCleaner", LOCK_OWNER_2, cleanUpStartTime, LEASE_DURATION));
+    }
+
+    @Test
+    void testExpiredLeaseIsAcquired() {
+        cleanerLeaseService.tryAcquireLease(CLEANER_NAME, LOCK_OWNER_1, cleanUpStartTime, Duration.ofSeconds(-1));
+
+        assertTrue(cleanerLeaseService.tryAcquireLease(CLEANER_NAME, LOCK_OWNER_2, cleanUpStartTime, LEASE_DURATION));
+    }
+
+    @Test
+    void testLeaseOfStaleLockOwnerIsAcquired() {
+        cleanerLeaseService.tryAcquireLease(CLEANER_NAME, "stale-lock-owner", cleanUpStartTime, LEASE_DURATION);
+
+        assertTrue(cleanerLeaseService.tryAcquireLease(CLEANER_NAME, LOCK_OWNER_2, cleanUpStartTime, LEASE_DURATION));
+    }
+
+    @Test
+    void testCompletedCleanerIsNotExecutedAgainInTheSameCleanUp() {
+        cleanerLeaseService.tryAcquireLease(CLEANER_NAME, LOCK_OWNER_1, cleanUpStartTime, LEASE_DURATION);
+        cleanerLeaseService.completeLease(CLEANER_NAME, LOCK_OWNER_1);
+
+        assertFalse(cleanerLeaseService.tryAcquireLease(CLEANER_NAME, LOCK_OWNER_2, cleanUpStartTime, LEASE_DURATION));
+        assertTrue(cleanerLeaseService.tryAcquireLease(CLEANER_NAME, LOCK_OWNER_2, LocalDateTime.now()
+                                                                                             .plusSeconds(1),
+                                                       LEASE_DURATION));
+    }
+
+    @Test
+    void testLeasesAreCompletedOnceAllCleanersComplete() {
+        List<String> cleanerNames = List.of(CLEANER_NAME, "FilesCleaner");
+        cleanerLeaseService.tryAcquireLease(CLEANER_NAME, LOCK_OWNER_1, cleanUpStartTime, LEASE_DURATION);
+        cleanerLeaseService.tryAcquireLease("FilesCleaner", LOCK_OWNER_2, cleanUpStartTime, LEASE_DURATION);
+        cleanerLeaseService.completeLease(CLEANER_NAME, LOCK_OWNER_1);
+
+        assertFalse(cleanerLeaseService.areLeasesCompleted(cleanerNames, cleanUpStartTime));
+
+        cleanerLeaseService.completeLease("FilesCleaner", LOCK_OWNER_2);
+
+        assertTrue(cleanerLeaseService.areLeasesCompleted(cleanerNames, cleanUpStartTime));
+        assertFalse(cleanerLeaseService.areLeasesCompleted(cleanerNames, LocalDateTime.now()
+                                                                                      .plusSeconds(1)));
+    }
+
+    private void addLockOwner(long id, String lockOwner) throws SQLException {
+        try (Connection connection = testDataSource.getDataSource()
+                                                   .getConnection();
+            PreparedStatement statement = connection.prepareStatement("INSERT INTO lock_owners VALUES (?, ?, ?)")) {
+            statement.setLong(1, id);
+            statement.setString(2, lockOwner);
+            statement.setTimestamp(3, Timestamp.valueOf(LocalDateTime.now()));
+            statement.executeUpdate();
+        }
+    }
+
+}
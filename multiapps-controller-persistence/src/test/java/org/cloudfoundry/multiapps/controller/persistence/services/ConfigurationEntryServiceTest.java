@@ -5,13 +5,17 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.text.MessageFormat;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Persistence;
 
 import org.cloudfoundry.multiapps.common.ConflictException;
 import org.cloudfoundry.multiapps.controller.persistence.Messages;
+import org.cloudfoundry.multiapps.controller.persistence.dialects.DataSourceDialect;
 import org.cloudfoundry.multiapps.controller.persistence.model.CloudTarget;
 import org.cloudfoundry.multiapps.controller.persistence.model.ConfigurationEntry;
 import org.cloudfoundry.multiapps.controller.persistence.query.ConfigurationEntryQuery;
@@ -19,6 +23,7 @@ import org.cloudfoundry.multiapps.controller.persistence.services.ConfigurationE
 import org.cloudfoundry.multiapps.mta.model.Version;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 
 class ConfigurationEntryServiceTest {
 
@@ -30,7 +35,7 @@ class ConfigurationEntryServiceTest {
                                                                                              "namespace", "org3", "space3", "content3");
     private static final List<ConfigurationEntry> ALL_ENTRIES = List.of(CONFIGURATION_ENTRY_1, CONFIGURATION_ENTRY_2,
                                                                         CONFIGURATION_ENTRY_3);
-    private final ConfigurationEntryService configurationEntryService = createConfigurationEntryService();
+    private final ConfigurationEntryService configurationEntryService = createConfigurationEntryService(false);
 
     @AfterEach
     void cleanUp() {
@@ -99,6 +104,84 @@ class ConfigurationEntryServiceTest {
         testQueryByCriteria((query, entry) -> query.target(entry.getTargetSpace()));
     }
 
+    @Test
+    void testQueryByTargetWithWildcards() {
+        addConfigurationEntries(ALL_ENTRIES);
+
+        assertEquals(3, configurationEntryService.createQuery()
+                                                 .target(new CloudTarget("*", "*"))
+                                                 .list()
+                                                 .size());
+        assertEquals(1, configurationEntryService.createQuery()
+                                                 .target(new CloudTarget("*", "space2"))
+                                                 .list()
+                                                 .size());
+        assertEquals(1, configurationEntryService.createQuery()
+                                                 .target(new CloudTarget("org3", "*"))
+                                                 .list()
+                                                 .size());
+    }
+
+    @Test
+    void testQueryByRequiredProperties() {
+        ConfigurationEntry entryWithContent = createConfigurationEntry(4L, "providerNid4", "providerId4", "1.0", null, "org4", "space4",
+                                                                       "{\"name\":\"foo\",\"port\":8080}");
+        addConfigurationEntries(List.of(CONFIGURATION_ENTRY_1, entryWithContent));
+
+        assertEquals(1, configurationEntryService.createQuery()
+                                                 .requiredProperties(Map.of("name", "foo"))
+                                                 .list()
+                                                 .size());
+        assertEquals(0, configurationEntryService.createQuery()
+                                                 .requiredProperties(Map.of("name", "bar"))
+                                                 .list()
+                                                 .size());
+    }
+
+    @Test
+    void testQueryByRequiredPropertiesInDatabase() {
+        ConfigurationEntryService service = createConfigurationEntryService(true);
+        ConfigurationEntry entryWithContent = createConfigurationEntry(4L, "providerNid4", "providerId4", "1.0", null, "org4", "space4",
+                                                                       "{\"name\":\"foo\",\"port\":8080}");
+        ConfigurationEntry entryWithOtherContent = createConfigurationEntry(5L, "providerNid5", "providerId5", "1.0", null, "org5",
+                                                                            "space5", "{\"name\":\"bar\",\"port\":8080}");
+        addConfigurationEntries(List.of(CONFIGURATION_ENTRY_1, entryWithContent, entryWithOtherContent));
+
+        assertEquals(List.of(entryWithContent.getId()), getIds(service.createQuery()
+                                                                      .requiredProperties(Map.of("name", "foo"))));
+        assertEquals(2, service.createQuery()
+                               .requiredProperties(Map.of("port", 8080))
+                               .list()
+                               .size());
+        Map<String, Object> propertiesWithNullValue = new HashMap<>();
+        propertiesWithNullValue.put("name", "foo");
+        propertiesWithNullValue.put("host", null);
+        assertEquals(List.of(entryWithContent.getId()), getIds(service.createQuery()
+                                                                      .requiredProperties(propertiesWithNullValue)));
+    }
+
+    @Test
+    void testQueryByVisibilityTargetsInDatabase() {
+        ConfigurationEntryService service = createConfigurationEntryService(true);
+        ConfigurationEntry entryWithoutVisibility = createConfigurationEntry(6L, "providerNid6", "providerId6", "1.0", "org7", "space7",
+                                                                             null);
+        ConfigurationEntry entryVisibleInSpace = createConfigurationEntry(4L, "providerNid4", "providerId4", "1.0", "org4", "space4",
+                                                                          List.of(new CloudTarget("org5", "space5")));
+        ConfigurationEntry entryVisibleInAnyOrg = createConfigurationEntry(5L, "providerNid5", "providerId5", "1.0", "org4", "space4",
+                                                                           List.of(new CloudTarget("*", "space6")));
+        addConfigurationEntries(List.of(entryWithoutVisibility, entryVisibleInSpace, entryVisibleInAnyOrg));
+
+        assertEquals(List.of(entryWithoutVisibility.getId()), getIds(service.createQuery()
+                                                                            .visibilityTargets(List.of(new CloudTarget("org7",
+                                                                                                                       "other-space")))));
+        assertEquals(List.of(entryVisibleInSpace.getId()), getIds(service.createQuery()
+                                                                         .visibilityTargets(List.of(new CloudTarget("org5", "space5")))));
+        assertEquals(List.of(entryVisibleInAnyOrg.getId()), getIds(service.createQuery()
+                                                                          .visibilityTargets(List.of(new CloudTarget("org6", "space6")))));
+        assertEquals(List.of(), getIds(service.createQuery()
+                                              .visibilityTargets(List.of(new CloudTarget("org4", "space4")))));
+    }
+
     @Test
     void testQueryBySpaceId() {
         testQueryByCriteria((query, entry) -> query.spaceId(entry.getSpaceId()));
@@ -176,6 +259,27 @@ class ConfigurationEntryServiceTest {
                                  .singleResult();
     }
 
+    private static List<Long> getIds(ConfigurationEntryQuery query) {
+        return query.list()
+                    .stream()
+                    .map(ConfigurationEntry::getId)
+                    .toList();
+    }
+
+    private static ConfigurationEntry createConfigurationEntry(long id, String providerNid, String providerId, String version, String org,
+                                                               String space, List<CloudTarget> visibility) {
+        return new ConfigurationEntry(id,
+                                      providerNid,
+                                      providerId,
+                                      Version.parseVersion(version),
+                                      null,
+                                      new CloudTarget(org, space),
+                                      "{}",
+                                      visibility,
+                                      space,
+                                      null);
+    }
+
     private static ConfigurationEntry createConfigurationEntry(long id, String providerNid, String providerId, String version,
                                                                String providerNamespace, String org, String space, String content) {
         return new ConfigurationEntry(id,
@@ -190,12 +294,36 @@ class ConfigurationEntryServiceTest {
                                       null);
     }
 
-    private ConfigurationEntryService createConfigurationEntryService() {
+    private ConfigurationEntryService createConfigurationEntryService(boolean supportsJsonContainment) {
         EntityManagerFactory entityManagerFactory = Persistence.createEntityManagerFactory("TestDefault");
         ConfigurationEntryService configurationEntryService = new ConfigurationEntryService(entityManagerFactory);
         configurationEntryService.entryMapper = new ConfigurationEntryMapper();
+        // The in-memory database provides JSON containment only through the Java functions registered for the tests that need it
+        configurationEntryService.dataSourceDialect = Mockito.mock(DataSourceDialect.class);
+        if (supportsJsonContainment) {
+            createJsonContainmentFunction(entityManagerFactory);
+            Mockito.when(configurationEntryService.dataSourceDialect.supportsJsonContainment())
+                   .thenReturn(true);
+        }
         return configurationEntryService;
+    }
 
+    private static void createJsonContainmentFunction(EntityManagerFactory entityManagerFactory) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction()
+                         .begin();
+            Number functionsCount = (Number) entityManager.createNativeQuery(DerbyJsonFunctions.COUNT_JSONB_CONTAINS_TEXT_FUNCTIONS)
+                                                          .getSingleResult();
+            if (functionsCount.longValue() == 0) {
+                entityManager.createNativeQuery(DerbyJsonFunctions.CREATE_JSONB_CONTAINS_TEXT_FUNCTION)
+                             .executeUpdate();
+            }
+            entityManager.getTransaction()
+                         .commit();
+        } finally {
+            entityManager.close();
+        }
     }
 
 }
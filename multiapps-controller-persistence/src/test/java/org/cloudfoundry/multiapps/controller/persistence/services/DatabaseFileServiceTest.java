@@ -22,6 +22,7 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
@@ -40,6 +41,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockitoAnnotations;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 class DatabaseFileServiceTest {
 
     protected static final String SPACE_1 = "myspace";
@@ -207,6 +212,51 @@ class DatabaseFileServiceTest {
         }
     }
 
+    @Test
+    void testAddedFileIsMetered() throws Exception {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        Metrics.globalRegistry.add(meterRegistry);
+        try {
+            addTestFile(SPACE_1, NAMESPACE_1);
+
+            String serviceName = fileService.getClass()
+                                            .getSimpleName();
+            assertEquals(PIC_SIZE, meterRegistry.get("multiapps.file.storage.written.bytes")
+                                                .tag("service", serviceName)
+                                                .counter()
+                                                .count());
+            assertEquals(1, meterRegistry.get("multiapps.file.storage.write")
+                                         .tag("service", serviceName)
+                                         .timer()
+                                         .count());
+        } finally {
+            Metrics.globalRegistry.remove(meterRegistry);
+        }
+    }
+
+    @Test
+    void testAddFilesContentsAndAttributes() throws Exception {
+        List<FileEntry> fileEntries = new ArrayList<>();
+        for (String fileName : List.of("part.0", "part.1")) {
+            fileEntries.add(fileService.addFileContent(ImmutableFileEntry.builder()
+                                                                         .space(SPACE_1)
+                                                                         .namespace(NAMESPACE_1)
+                                                                         .name(fileName)
+                                                                         .size(BigInteger.valueOf(PIC_SIZE))
+                                                                         .build(),
+                                                       getResource(PIC_RESOURCE_NAME)));
+        }
+        fileService.addFilesAttributes(fileEntries);
+
+        List<FileEntry> listFiles = fileService.listFiles(SPACE_1, NAMESPACE_1);
+        assertEquals(2, listFiles.size());
+        for (FileEntry fileEntry : fileEntries) {
+            assertEquals(PIC_MD5_DIGEST, fileEntry.getDigest()
+                                                  .toLowerCase());
+            verifyFileIsStored(fileEntry);
+        }
+    }
+
     protected FileService createFileService(DataSourceWithDialect dataSource) {
         return new DatabaseFileService(dataSource);
     }
@@ -0,0 +1,59 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.cloudfoundry.multiapps.common.ParsingException;
+import org.cloudfoundry.multiapps.common.util.JsonUtil;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+/**
+ * Java implementation of the JSON functions which the database migration creates on PostgreSQL, registered as stored functions of the
+ * in-memory Derby database, so that the queries filtering JSON columns in the database can be tested.
+ */
+public final class DerbyJsonFunctions {
+
+    static final String CREATE_JSONB_CONTAINS_TEXT_FUNCTION = "CREATE FUNCTION JSONB_CONTAINS_TEXT(JSON_TEXT CLOB, CONTAINED_JSON_TEXT CLOB) RETURNS BOOLEAN LANGUAGE JAVA PARAMETER STYLE JAVA NO SQL RETURNS NULL ON NULL INPUT EXTERNAL NAME 'org.cloudfoundry.multiapps.controller.persistence.services.DerbyJsonFunctions.jsonbContainsText'";
+    static final String COUNT_JSONB_CONTAINS_TEXT_FUNCTIONS = "SELECT COUNT(*) FROM SYS.SYSALIASES WHERE ALIAS = 'JSONB_CONTAINS_TEXT'";
+
+    private DerbyJsonFunctions() {
+    }
+
+    public static Boolean jsonbContainsText(Clob jsonText, Clob containedJsonText) throws SQLException {
+        Object json = parse(jsonText);
+        if (json == null) {
+            return null;
+        }
+        return contains(json, parse(containedJsonText));
+    }
+
+    private static Object parse(Clob jsonText) throws SQLException {
+        try {
+            return JsonUtil.fromJson(jsonText.getSubString(1, (int) jsonText.length()), new TypeReference<Object>() {
+            });
+        } catch (ParsingException e) {
+            // TO_JSONB_OR_NULL maps invalid JSON to null
+            return null;
+        }
+    }
+
+    private static boolean contains(Object json, Object containedJson) {
+        if (json instanceof Map<?, ?> map && containedJson instanceof Map<?, ?> containedMap) {
+            return containedMap.entrySet()
+                               .stream()
+                               .allMatch(containedEntry -> map.containsKey(containedEntry.getKey())
+                                   && contains(map.get(containedEntry.getKey()), containedEntry.getValue()));
+        }
+        if (json instanceof List<?> list && containedJson instanceof List<?> containedList) {
+            return containedList.stream()
+                                .allMatch(containedElement -> list.stream()
+                                                                  .anyMatch(element -> contains(element, containedElement)));
+        }
+        return Objects.equals(json, containedJson);
+    }
+
+}
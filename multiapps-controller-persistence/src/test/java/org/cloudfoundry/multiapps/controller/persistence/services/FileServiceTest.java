@@ -13,6 +13,7 @@ import static org.mockito.Mockito.when;
 import java.io.InputStream;
 import java.math.BigInteger;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.commons.io.IOUtils;
@@ -191,6 +192,34 @@ class FileServiceTest extends DatabaseFileServiceTest {
         assertEquals("123", updatedFileEntry.getOperationId());
     }
 
+    @Test
+    void addFilesAttributesWithBatchTest() throws Exception {
+        List<FileEntry> fileEntries = new ArrayList<>();
+        for (String fileName : List.of("part.0", "part.1", "part.2")) {
+            fileEntries.add(fileService.addFileContent(ImmutableFileEntry.builder()
+                                                                         .space(SPACE_1)
+                                                                         .namespace(NAMESPACE_1)
+                                                                         .name(fileName)
+                                                                         .size(BigInteger.valueOf(PIC_SIZE))
+                                                                         .build(),
+                                                       getResource(PIC_RESOURCE_NAME)));
+        }
+        assertTrue(fileService.listFiles(SPACE_1, NAMESPACE_1)
+                              .isEmpty());
+
+        fileService.addFilesAttributes(fileEntries);
+
+        assertEquals(fileEntries.size(), fileService.listFiles(SPACE_1, NAMESPACE_1)
+                                                    .size());
+        for (FileEntry fileEntry : fileEntries) {
+            FileEntry storedFileEntry = fileService.getFile(SPACE_1, fileEntry.getId());
+            assertEquals(fileEntry.getName(), storedFileEntry.getName());
+            assertEquals(fileEntry.getSize(), storedFileEntry.getSize());
+            assertEquals(fileEntry.getDigest(), storedFileEntry.getDigest());
+            assertEquals(fileEntry.getDigestAlgorithm(), storedFileEntry.getDigestAlgorithm());
+        }
+    }
+
     @Override
     protected FileEntry addFile(String space, String namespace, String fileName, String resourceName, String operationId) throws Exception {
         FileEntry fileEntry = super.addFile(space, namespace, fileName, resourceName, operationId);
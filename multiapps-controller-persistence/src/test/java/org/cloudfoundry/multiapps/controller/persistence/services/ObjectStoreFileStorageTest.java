@@ -1,9 +1,18 @@
 package org.cloudfoundry.multiapps.controller.persistence.services;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
@@ -20,6 +29,10 @@ import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import jakarta.xml.bind.DatatypeConverter;
 
@@ -41,6 +54,13 @@ class ObjectStoreFileStorageTest {
     private static final String SECOND_FILE_TEST_LOCATION = "src/test/resources/pexels-photo-463467.jpeg";
     private static final String DIGEST_METHOD = "MD5";
     private static final String CONTAINER = "container4e";
+    private static final long DOWNLOAD_CHUNK_SIZE = 256 * 1024L;
+    private static final int DOWNLOAD_MAX_CHUNKS_IN_FLIGHT = 3;
+    private static final long DOWNLOAD_MAX_BUFFERED_SIZE = 2 * DOWNLOAD_CHUNK_SIZE;
+    private static final long UPLOAD_PART_SIZE = 256 * 1024L;
+    private static final int UPLOAD_MAX_PARTS_IN_FLIGHT = 3;
+    private static final long UPLOAD_MAX_BUFFERED_SIZE = 2 * UPLOAD_PART_SIZE;
+    private static final int MAX_RETRIES_COUNT = 3;
 
     private String spaceId;
     private String namespace;
@@ -71,6 +91,40 @@ class ObjectStoreFileStorageTest {
                         .createContainerInLocation(null, CONTAINER);
     }
 
+    private ObjectStoreFileStorage createFileStorageWithParallelDownload(ExecutorService executorService) {
+        return createFileStorageWithParallelDownload(createParallelDownloadOptions(executorService));
+    }
+
+    private ParallelDownloadOptions createParallelDownloadOptions(ExecutorService executorService) {
+        return new ParallelDownloadOptions(DOWNLOAD_CHUNK_SIZE, DOWNLOAD_MAX_CHUNKS_IN_FLIGHT, DOWNLOAD_MAX_BUFFERED_SIZE, executorService);
+    }
+
+    private ObjectStoreFileStorage createFileStorageWithParallelDownload(ParallelDownloadOptions parallelDownloadOptions) {
+        return new ObjectStoreFileStorage(blobStoreContext.getBlobStore(), CONTAINER, parallelDownloadOptions) {
+            @Override
+            protected long getRetryWaitTime() {
+                return 1;
+            }
+        };
+    }
+
+    private ObjectStoreFileStorage createFileStorageWithParallelUpload(ExecutorService executorService) {
+        return createFileStorageWithParallelUpload(blobStoreContext.getBlobStore(), createParallelUploadOptions(executorService));
+    }
+
+    private ParallelUploadOptions createParallelUploadOptions(ExecutorService executorService) {
+        return new ParallelUploadOptions(UPLOAD_PART_SIZE, UPLOAD_MAX_PARTS_IN_FLIGHT, UPLOAD_MAX_BUFFERED_SIZE, executorService);
+    }
+
+    private ObjectStoreFileStorage createFileStorageWithParallelUpload(BlobStore blobStore, ParallelUploadOptions parallelUploadOptions) {
+        return new ObjectStoreFileStorage(blobStore, CONTAINER, null, parallelUploadOptions) {
+            @Override
+            protected long getRetryWaitTime() {
+                return 1;
+            }
+        };
+    }
+
     @AfterEach
     public void tearDown() {
         if (blobStoreContext != null) {
@@ -205,6 +259,152 @@ class ObjectStoreFileStorageTest {
         validateFileContent(fileEntry, testFileDigest);
     }
 
+    @Test
+    void processFileContentWithParallelDownload() throws Exception {
+        FileEntry fileEntry = addFile(TEST_FILE_LOCATION);
+        String testFileDigest = DigestHelper.computeFileChecksum(Paths.get(TEST_FILE_LOCATION), DIGEST_METHOD)
+                                            .toLowerCase();
+        ExecutorService executorService = Executors.newFixedThreadPool(DOWNLOAD_MAX_CHUNKS_IN_FLIGHT);
+        try {
+            fileStorage = createFileStorageWithParallelDownload(executorService);
+            validateFileContent(fileEntry, testFileDigest);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void processFileContentWithParallelUpload() throws Exception {
+        String testFileDigest = DigestHelper.computeFileChecksum(Paths.get(TEST_FILE_LOCATION), DIGEST_METHOD)
+                                            .toLowerCase();
+        ExecutorService executorService = Executors.newFixedThreadPool(UPLOAD_MAX_PARTS_IN_FLIGHT);
+        try {
+            fileStorage = createFileStorageWithParallelUpload(executorService);
+            FileEntry fileEntry = addFile(TEST_FILE_LOCATION);
+            validateFileContent(fileEntry, testFileDigest);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void processSmallFileContentWithParallelUpload() throws Exception {
+        byte[] content = "small-content".getBytes();
+        ExecutorService executorService = Executors.newFixedThreadPool(UPLOAD_MAX_PARTS_IN_FLIGHT);
+        try {
+            fileStorage = createFileStorageWithParallelUpload(executorService);
+            FileEntry fileEntry = addFileContent("small-file", content);
+            try (InputStream storedContent = fileStorage.openInputStream(fileEntry.getSpace(), fileEntry.getId())) {
+                assertArrayEquals(content, storedContent.readAllBytes());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void addFileWithParallelUploadRetriesFailedPart() throws Exception {
+        String testFileDigest = DigestHelper.computeFileChecksum(Paths.get(TEST_FILE_LOCATION), DIGEST_METHOD)
+                                            .toLowerCase();
+        BlobStore blobStore = spy(blobStoreContext.getBlobStore());
+        doThrow(new IllegalStateException("transient failure")).doCallRealMethod()
+                                                                .when(blobStore)
+                                                                .uploadMultipartPart(any(), eq(2), any());
+        ExecutorService executorService = Executors.newFixedThreadPool(UPLOAD_MAX_PARTS_IN_FLIGHT);
+        ParallelUploadOptions parallelUploadOptions = createParallelUploadOptions(executorService);
+        try {
+            fileStorage = createFileStorageWithParallelUpload(blobStore, parallelUploadOptions);
+            FileEntry fileEntry = addFile(TEST_FILE_LOCATION);
+            validateFileContent(fileEntry, testFileDigest);
+        } finally {
+            executorService.shutdownNow();
+        }
+        verify(blobStore, times(2)).uploadMultipartPart(any(), eq(2), any());
+        verify(blobStore).completeMultipartUpload(any(), any());
+        verify(blobStore, never()).abortMultipartUpload(any());
+        assertEquals(UPLOAD_MAX_BUFFERED_SIZE, parallelUploadOptions.bufferedBytes()
+                                                                    .availablePermits());
+    }
+
+    @Test
+    void addFileWithParallelUploadAbortsUploadWithFailedPart() throws Exception {
+        BlobStore blobStore = spy(blobStoreContext.getBlobStore());
+        doThrow(new IllegalStateException("permanent failure")).when(blobStore)
+                                                                .uploadMultipartPart(any(), eq(2), any());
+        ExecutorService executorService = Executors.newFixedThreadPool(UPLOAD_MAX_PARTS_IN_FLIGHT);
+        ParallelUploadOptions parallelUploadOptions = createParallelUploadOptions(executorService);
+        try {
+            fileStorage = createFileStorageWithParallelUpload(blobStore, parallelUploadOptions);
+            assertThrows(FileStorageException.class, () -> addFile(TEST_FILE_LOCATION));
+        } finally {
+            executorService.shutdown();
+            executorService.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        verify(blobStore, times(MAX_RETRIES_COUNT)).uploadMultipartPart(any(), eq(2), any());
+        verify(blobStore).abortMultipartUpload(any());
+        verify(blobStore, never()).completeMultipartUpload(any(), any());
+        // The parts which were still queued when the upload was aborted must release their buffers, too:
+        assertEquals(UPLOAD_MAX_BUFFERED_SIZE, parallelUploadOptions.bufferedBytes()
+                                                                    .availablePermits());
+    }
+
+    @Test
+    void openInputStreamWithParallelDownload() throws Exception {
+        FileEntry fileEntry = addFile(SECOND_FILE_TEST_LOCATION);
+        ExecutorService executorService = Executors.newFixedThreadPool(DOWNLOAD_MAX_CHUNKS_IN_FLIGHT);
+        try (InputStream content = createFileStorageWithParallelDownload(executorService).openInputStream(fileEntry.getSpace(),
+                                                                                                           fileEntry.getId())) {
+            assertArrayEquals(Files.readAllBytes(Paths.get(SECOND_FILE_TEST_LOCATION)), content.readAllBytes());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void openInputStreamsWithParallelDownloadShareBufferedBytes() throws Exception {
+        FileEntry fileEntry = addFile(SECOND_FILE_TEST_LOCATION);
+        byte[] expectedContent = Files.readAllBytes(Paths.get(SECOND_FILE_TEST_LOCATION));
+        ExecutorService executorService = Executors.newFixedThreadPool(DOWNLOAD_MAX_CHUNKS_IN_FLIGHT);
+        ExecutorService readersExecutor = Executors.newFixedThreadPool(4);
+        ParallelDownloadOptions parallelDownloadOptions = createParallelDownloadOptions(executorService);
+        ObjectStoreFileStorage parallelDownloadFileStorage = createFileStorageWithParallelDownload(parallelDownloadOptions);
+        try {
+            List<Future<byte[]>> readContents = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                readContents.add(readersExecutor.submit(() -> {
+                    try (InputStream content = parallelDownloadFileStorage.openInputStream(fileEntry.getSpace(), fileEntry.getId())) {
+                        return content.readAllBytes();
+                    }
+                }));
+            }
+            for (Future<byte[]> readContent : readContents) {
+                assertArrayEquals(expectedContent, readContent.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            readersExecutor.shutdownNow();
+            executorService.shutdownNow();
+        }
+        assertEquals(DOWNLOAD_MAX_BUFFERED_SIZE, parallelDownloadOptions.bufferedBytes()
+                                                                        .availablePermits());
+    }
+
+    @Test
+    void closePartiallyReadInputStreamWithParallelDownloadReleasesBufferedBytes() throws Exception {
+        FileEntry fileEntry = addFile(SECOND_FILE_TEST_LOCATION);
+        ExecutorService executorService = Executors.newFixedThreadPool(DOWNLOAD_MAX_CHUNKS_IN_FLIGHT);
+        ParallelDownloadOptions parallelDownloadOptions = createParallelDownloadOptions(executorService);
+        try (InputStream content = createFileStorageWithParallelDownload(parallelDownloadOptions).openInputStream(fileEntry.getSpace(),
+                                                                                                                   fileEntry.getId())) {
+            content.read();
+            assertTrue(parallelDownloadOptions.bufferedBytes()
+                                              .availablePermits() < DOWNLOAD_MAX_BUFFERED_SIZE);
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertEquals(DOWNLOAD_MAX_BUFFERED_SIZE, parallelDownloadOptions.bufferedBytes()
+                                                                        .availablePermits());
+    }
+
     @Test
     void testFileContentNotExisting() throws Exception {
         String fileId = "not-existing-file-id";
@@ -0,0 +1,72 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableOperationLogChunk;
+import org.cloudfoundry.multiapps.controller.persistence.model.OperationLogChunk;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class OperationLogInputStreamTest {
+
+    private static final Map<String, String> CHUNKS_CONTENT = Map.of("1", "first line\n", "2", "second line\n", "3", "", "4",
+                                                                     "third line\n");
+    private static final String LOG_CONTENT = "first line\nsecond line\nthird line\n";
+    private static final List<OperationLogChunk> CHUNKS = List.of(buildChunk("1"), buildChunk("2"), buildChunk("3"), buildChunk("4"));
+
+    private final List<List<String>> loadedChunkIds = new ArrayList<>();
+
+    @ParameterizedTest
+    @CsvSource({ "0, 34", "0, 5", "11, 12", "15, 100", "23, 11", "34, 10" })
+    void testReadRange(long offset, long length) throws IOException {
+        String expectedContent = LOG_CONTENT.substring((int) offset, (int) Math.min(offset + length, LOG_CONTENT.length()));
+
+        try (InputStream inputStream = new OperationLogInputStream(CHUNKS, offset, length, this::loadChunks, 2)) {
+            assertEquals(expectedContent, new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void testChunksAreLoadedInBatches() throws IOException {
+        try (InputStream inputStream = new OperationLogInputStream(CHUNKS, 0, LOG_CONTENT.length(), this::loadChunks, 2)) {
+            inputStream.readAllBytes();
+        }
+
+        assertEquals(List.of(List.of("1", "2"), List.of("3", "4")), loadedChunkIds);
+    }
+
+    @Test
+    void testChunksBeforeOffsetAreNotLoaded() throws IOException {
+        try (InputStream inputStream = new OperationLogInputStream(CHUNKS, 23, LOG_CONTENT.length(), this::loadChunks, 2)) {
+            assertEquals("third line\n", new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        assertEquals(List.of(List.of("4")), loadedChunkIds);
+    }
+
+    private Map<String, byte[]> loadChunks(List<String> chunkIds) {
+        loadedChunkIds.add(chunkIds);
+        return chunkIds.stream()
+                       .collect(Collectors.toMap(Function.identity(), chunkId -> CHUNKS_CONTENT.get(chunkId)
+                                                                                              .getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static OperationLogChunk buildChunk(String id) {
+        return ImmutableOperationLogChunk.builder()
+                                         .id(id)
+                                         .size(CHUNKS_CONTENT.get(id)
+                                                             .length())
+                                         .build();
+    }
+
+}
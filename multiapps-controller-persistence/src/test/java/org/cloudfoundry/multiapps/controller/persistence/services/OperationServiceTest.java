@@ -16,6 +16,7 @@ import org.cloudfoundry.multiapps.controller.api.model.ImmutableOperation;
 import org.cloudfoundry.multiapps.controller.api.model.Operation;
 import org.cloudfoundry.multiapps.controller.api.model.ProcessType;
 import org.cloudfoundry.multiapps.controller.persistence.Messages;
+import org.cloudfoundry.multiapps.controller.persistence.OrderDirection;
 import org.cloudfoundry.multiapps.controller.persistence.query.OperationQuery;
 import org.cloudfoundry.multiapps.controller.persistence.services.OperationService.OperationMapper;
 import org.junit.jupiter.api.AfterEach;
@@ -145,6 +146,26 @@ class OperationServiceTest {
         testQueryByCriteria((query, operation) -> query.inFinalState(), operation1, OPERATION_2);
     }
 
+    @Test
+    void testQueryStartedAfterInStartTimeAndProcessIdOrder() {
+        Operation operation3 = ImmutableOperation.copyOf(OPERATION_2)
+                                                 .withProcessId("3");
+        addOperations(List.of(OPERATION_1, operation3, OPERATION_2));
+
+        List<Operation> operations = operationService.createQuery()
+                                                     .startedAfter(OPERATION_1.getStartedAt(), OPERATION_1.getProcessId())
+                                                     .orderByStartTimeAndProcessId(OrderDirection.ASCENDING)
+                                                     .list();
+
+        assertEquals(List.of("2", "3"), operations.stream()
+                                                  .map(Operation::getProcessId)
+                                                  .toList());
+        assertEquals(1, operationService.createQuery()
+                                        .startedAfter(OPERATION_2.getStartedAt(), OPERATION_2.getProcessId())
+                                        .list()
+                                        .size());
+    }
+
     private void testQueryByCriteria(OperationQueryBuilder operationQueryBuilder, Operation operation1, Operation operation2) {
         addOperations(List.of(operation1, operation2));
         assertEquals(1, operationQueryBuilder.build(operationService.createQuery(), operation1)
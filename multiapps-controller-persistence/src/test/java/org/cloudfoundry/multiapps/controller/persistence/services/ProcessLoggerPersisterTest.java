@@ -28,7 +28,7 @@ class ProcessLoggerPersisterTest {
     @Mock
     private DelegateExecution delegateExecution;
     @Mock
-    private ProcessLogsPersistenceService processLogsPersistenceService;
+    private ProcessLogsBatchPersister processLogsBatchPersister;
 
     @Spy
     private ProcessLoggerProvider processLoggerProvider;
@@ -44,46 +44,43 @@ class ProcessLoggerPersisterTest {
         when(delegateExecution.getCurrentActivityId()).thenReturn(TEST_TASK_ID);
         when(delegateExecution.getVariable(Constants.VARIABLE_NAME_SPACE_ID)).thenReturn(TEST_SPACE_ID);
         when(delegateExecution.getProcessInstanceId()).thenReturn(TEST_TASK_ID);
-        processLoggerPersister = new ProcessLoggerPersister(processLoggerProvider, processLogsPersistenceService);
+        processLoggerPersister = new ProcessLoggerPersister(processLoggerProvider, processLogsBatchPersister);
     }
 
     @Test
     void testPersistLog() {
-        ProcessLogger processLogger = processLoggerProvider.getLogger(delegateExecution);
-        ProcessLogger processLoggerSecond = processLoggerProvider.getLogger(delegateExecution, TEST_LOG_NAME);
+        processLoggerProvider.getLogger(delegateExecution);
+        processLoggerProvider.getLogger(delegateExecution, TEST_LOG_NAME);
 
         processLoggerPersister.persistLogs(TEST_CORRELATION_ID, TEST_TASK_ID);
 
-        Mockito.verify(processLoggerProvider).getExistingLoggers(TEST_CORRELATION_ID, TEST_TASK_ID);
-        Mockito.verify(processLoggerProvider).removeProcessLoggerFromCache(processLogger);
-        Mockito.verify(processLoggerProvider).removeProcessLoggerFromCache(processLoggerSecond);
-        Mockito.verify(processLogsPersistenceService, times(2)).persistLog(any());
+        Mockito.verify(processLoggerProvider).removeExistingLoggers(TEST_CORRELATION_ID, TEST_TASK_ID);
+        Mockito.verify(processLogsBatchPersister, times(2)).add(any());
 
         Assertions.assertEquals(processLoggerProvider.getExistingLoggers(TEST_CORRELATION_ID, TEST_TASK_ID).size(), 0);
+        Assertions.assertEquals(0, processLoggerProvider.getLiveLoggersCount());
     }
 
     @Test
     void testPersistLogWithTwoLogsWithTheSameOperationLogName() {
-        ProcessLogger processLogger = processLoggerProvider.getLogger(delegateExecution);
-        ProcessLogger processLoggerSecond = processLoggerProvider.getLogger(delegateExecution, TEST_LOG_NAME);
-        ProcessLogger processLoggerThird = processLoggerProvider.getLogger(delegateExecution, TEST_LOG_NAME);
+        processLoggerProvider.getLogger(delegateExecution);
+        processLoggerProvider.getLogger(delegateExecution, TEST_LOG_NAME);
+        processLoggerProvider.getLogger(delegateExecution, TEST_LOG_NAME);
 
         processLoggerPersister.persistLogs(TEST_CORRELATION_ID, TEST_TASK_ID);
 
-        Mockito.verify(processLoggerProvider).getExistingLoggers(TEST_CORRELATION_ID, TEST_TASK_ID);
-        Mockito.verify(processLoggerProvider).removeProcessLoggerFromCache(processLogger);
-        Mockito.verify(processLoggerProvider).removeProcessLoggerFromCache(processLoggerSecond);
-        Mockito.verify(processLoggerProvider).removeProcessLoggerFromCache(processLoggerThird);
-        Mockito.verify(processLogsPersistenceService, times(2)).persistLog(any());
+        Mockito.verify(processLoggerProvider).removeExistingLoggers(TEST_CORRELATION_ID, TEST_TASK_ID);
+        Mockito.verify(processLogsBatchPersister, times(2)).add(any());
 
         Assertions.assertEquals(processLoggerProvider.getExistingLoggers(TEST_CORRELATION_ID, TEST_TASK_ID).size(), 0);
+        Assertions.assertEquals(0, processLoggerProvider.getLiveLoggersCount());
     }
 
     @Test
     void testPersistLogWithoutLogs() {
         processLoggerPersister.persistLogs(TEST_CORRELATION_ID, TEST_TASK_ID);
 
-        Mockito.verify(processLoggerProvider).getExistingLoggers(TEST_CORRELATION_ID, TEST_TASK_ID);
-        Mockito.verify(processLogsPersistenceService, times(0)).persistLog(any());
+        Mockito.verify(processLoggerProvider).removeExistingLoggers(TEST_CORRELATION_ID, TEST_TASK_ID);
+        Mockito.verify(processLogsBatchPersister, times(0)).add(any());
     }
 }
@@ -3,6 +3,7 @@ package org.cloudfoundry.multiapps.controller.persistence.services;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.mockito.Mockito.when;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.apache.logging.log4j.LogManager;
@@ -85,6 +86,20 @@ class ProcessLoggerProviderTest {
                                                                   .getOperationId());
     }
 
+    @Test
+    void testLoggerIsReusedForTheSameLog() {
+        ProcessLogger processLogger = processLoggerProvider.getLogger(delegateExecution, TEST_LOG_NAME);
+        processLogger.info("first message");
+        processLoggerProvider.getLogger(delegateExecution, TEST_LOG_NAME)
+                             .info("second message");
+
+        Assertions.assertSame(processLogger, processLoggerProvider.getLogger(delegateExecution, TEST_LOG_NAME));
+        Assertions.assertNotSame(processLogger, processLoggerProvider.getLogger(delegateExecution));
+        Assertions.assertTrue(processLogger.getLogMessage()
+                                           .matches("(?s).*first message.*second message.*"));
+        Assertions.assertEquals(2, processLoggerProvider.getLiveLoggersCount());
+    }
+
     @Test
     void testExistingLoggers() {
         processLoggerProvider.getLogger(delegateExecution);
@@ -108,4 +123,31 @@ class ProcessLoggerProviderTest {
         Assertions.assertEquals(0, processLoggerProvider.getExistingLoggers(TEST_CORRELATION_ID, TEST_TASK_ID)
                                                         .size());
     }
+
+    @Test
+    void testRemoveExistingLoggers() {
+        processLoggerProvider.getLogger(delegateExecution);
+        processLoggerProvider.getLogger(delegateExecution, TEST_LOG_NAME);
+        when(delegateExecution.getVariable(Constants.CORRELATION_ID)).thenReturn(TEST_SECOND_CORRELATION_ID);
+        processLoggerProvider.getLogger(delegateExecution);
+
+        List<ProcessLogger> processLoggers = processLoggerProvider.removeExistingLoggers(TEST_CORRELATION_ID, TEST_TASK_ID);
+
+        Assertions.assertEquals(2, processLoggers.size());
+        Assertions.assertTrue(processLoggerProvider.getExistingLoggers(TEST_CORRELATION_ID, TEST_TASK_ID)
+                                                   .isEmpty());
+        Assertions.assertEquals(1, processLoggerProvider.getLiveLoggersCount());
+    }
+
+    @Test
+    void testLoggersNotUpdatedSince() {
+        processLoggerProvider.getLogger(delegateExecution);
+
+        Assertions.assertTrue(processLoggerProvider.getLoggersNotUpdatedSince(LocalDateTime.now()
+                                                                                           .minusMinutes(1))
+                                                   .isEmpty());
+        Assertions.assertEquals(List.of(new ProcessLoggerProvider.LoggersKey(TEST_CORRELATION_ID, TEST_TASK_ID)),
+                                processLoggerProvider.getLoggersNotUpdatedSince(LocalDateTime.now()
+                                                                                             .plusMinutes(1)));
+    }
 }
@@ -0,0 +1,116 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableOperationLogEntry;
+import org.cloudfoundry.multiapps.controller.persistence.model.OperationLogEntry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+class ProcessLogsBatchPersisterTest {
+
+    private static final OperationLogEntry FIRST_LOG = buildOperationLogEntry("first");
+    private static final OperationLogEntry SECOND_LOG = buildOperationLogEntry("second");
+    private static final OperationLogEntry THIRD_LOG = buildOperationLogEntry("third");
+
+    @Mock
+    private ProcessLogsPersistenceService processLogsPersistenceService;
+
+    private ProcessLogsBatchPersister processLogsBatchPersister;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this)
+                          .close();
+    }
+
+    @AfterEach
+    void tearDown() {
+        processLogsBatchPersister.destroy();
+    }
+
+    @Test
+    void testFlushPersistsLogsInBatches() {
+        processLogsBatchPersister = new ProcessLogsBatchPersister(processLogsPersistenceService, 10, 2, Duration.ofHours(1));
+        processLogsBatchPersister.add(FIRST_LOG);
+        processLogsBatchPersister.add(THIRD_LOG);
+        processLogsBatchPersister.add(SECOND_LOG);
+
+        processLogsBatchPersister.flush();
+
+        InOrder inOrder = Mockito.inOrder(processLogsPersistenceService);
+        inOrder.verify(processLogsPersistenceService)
+               .persistLogs(List.of(FIRST_LOG, THIRD_LOG));
+        inOrder.verify(processLogsPersistenceService)
+               .persistLogs(List.of(SECOND_LOG));
+    }
+
+    @Test
+    void testFullBatchIsPersistedWithoutFlush() {
+        processLogsBatchPersister = new ProcessLogsBatchPersister(processLogsPersistenceService, 10, 2, Duration.ofHours(1));
+        processLogsBatchPersister.add(FIRST_LOG);
+        processLogsBatchPersister.add(SECOND_LOG);
+
+        verify(processLogsPersistenceService, timeout(5000)).persistLogs(List.of(FIRST_LOG, SECOND_LOG));
+    }
+
+    @Test
+    void testLogsArePersistedPeriodically() {
+        processLogsBatchPersister = new ProcessLogsBatchPersister(processLogsPersistenceService, 10, 5, Duration.ofMillis(10));
+        processLogsBatchPersister.add(FIRST_LOG);
+
+        verify(processLogsPersistenceService, timeout(5000)).persistLogs(List.of(FIRST_LOG));
+    }
+
+    @Test
+    void testFailedBatchDoesNotPreventPersistingOfNextBatches() {
+        processLogsBatchPersister = new ProcessLogsBatchPersister(processLogsPersistenceService, 10, 1, Duration.ofHours(1));
+        doThrow(new OperationLogStorageException("Failed")).when(processLogsPersistenceService)
+                                                           .persistLogs(List.of(FIRST_LOG));
+        processLogsBatchPersister.add(FIRST_LOG);
+        processLogsBatchPersister.add(SECOND_LOG);
+
+        processLogsBatchPersister.flush();
+
+        verify(processLogsPersistenceService, timeout(5000)).persistLogs(List.of(SECOND_LOG));
+        verify(processLogsPersistenceService).persistLog(FIRST_LOG);
+        verify(processLogsPersistenceService, Mockito.never()).persistLog(SECOND_LOG);
+    }
+
+    @Test
+    void testLogsOfFailedBatchArePersistedOneByOne() {
+        processLogsBatchPersister = new ProcessLogsBatchPersister(processLogsPersistenceService, 10, 2, Duration.ofHours(1));
+        doThrow(new OperationLogStorageException("Failed")).when(processLogsPersistenceService)
+                                                           .persistLogs(List.of(FIRST_LOG, SECOND_LOG));
+        doThrow(new OperationLogStorageException("Failed")).when(processLogsPersistenceService)
+                                                           .persistLog(FIRST_LOG);
+        processLogsBatchPersister.add(FIRST_LOG);
+        processLogsBatchPersister.add(SECOND_LOG);
+        processLogsBatchPersister.add(THIRD_LOG);
+
+        processLogsBatchPersister.flush();
+
+        verify(processLogsPersistenceService, timeout(5000)).persistLog(FIRST_LOG);
+        verify(processLogsPersistenceService, timeout(5000)).persistLog(SECOND_LOG);
+        verify(processLogsPersistenceService, timeout(5000)).persistLogs(List.of(THIRD_LOG));
+        verify(processLogsPersistenceService, Mockito.never()).persistLog(THIRD_LOG);
+    }
+
+    private static OperationLogEntry buildOperationLogEntry(String operationLog) {
+        return ImmutableOperationLogEntry.builder()
+                                         .id(operationLog)
+                                         .operationLog(operationLog)
+                                         .build();
+    }
+
+}
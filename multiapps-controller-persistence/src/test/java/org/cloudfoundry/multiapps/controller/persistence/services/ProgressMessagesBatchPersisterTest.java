@@ -0,0 +1,125 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.cloudfoundry.multiapps.common.SLException;
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableProgressMessage;
+import org.cloudfoundry.multiapps.controller.persistence.model.ProgressMessage;
+import org.cloudfoundry.multiapps.controller.persistence.model.ProgressMessage.ProgressMessageType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+class ProgressMessagesBatchPersisterTest {
+
+    private static final ProgressMessage FIRST_MESSAGE = buildProgressMessage("first-process", "first");
+    private static final ProgressMessage SECOND_MESSAGE = buildProgressMessage("first-process", "second");
+    private static final ProgressMessage THIRD_MESSAGE = buildProgressMessage("second-process", "third");
+
+    @Mock
+    private ProgressMessageService progressMessageService;
+
+    private ProgressMessagesBatchPersister progressMessagesBatchPersister;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this)
+                          .close();
+    }
+
+    @AfterEach
+    void tearDown() {
+        progressMessagesBatchPersister.destroy();
+    }
+
+    @Test
+    void testFlushPersistsMessagesInBatches() {
+        progressMessagesBatchPersister = new ProgressMessagesBatchPersister(progressMessageService, 10, 2, Duration.ofHours(1));
+        progressMessagesBatchPersister.add(FIRST_MESSAGE);
+        progressMessagesBatchPersister.add(THIRD_MESSAGE);
+        progressMessagesBatchPersister.add(SECOND_MESSAGE);
+
+        progressMessagesBatchPersister.flush();
+
+        InOrder inOrder = Mockito.inOrder(progressMessageService);
+        inOrder.verify(progressMessageService)
+               .addAll(List.of(FIRST_MESSAGE, THIRD_MESSAGE));
+        inOrder.verify(progressMessageService)
+               .addAll(List.of(SECOND_MESSAGE));
+    }
+
+    @Test
+    void testFlushOfProcessPersistsPendingMessages() {
+        progressMessagesBatchPersister = new ProgressMessagesBatchPersister(progressMessageService, 10, 5, Duration.ofHours(1));
+        progressMessagesBatchPersister.add(FIRST_MESSAGE);
+        progressMessagesBatchPersister.add(THIRD_MESSAGE);
+
+        progressMessagesBatchPersister.flush("second-process");
+
+        verify(progressMessageService).addAll(List.of(FIRST_MESSAGE, THIRD_MESSAGE));
+    }
+
+    @Test
+    void testFlushOfProcessWithoutPendingMessages() {
+        progressMessagesBatchPersister = new ProgressMessagesBatchPersister(progressMessageService, 10, 5, Duration.ofHours(1));
+        progressMessagesBatchPersister.add(THIRD_MESSAGE);
+
+        progressMessagesBatchPersister.flush("first-process");
+
+        verify(progressMessageService, Mockito.never()).addAll(any());
+    }
+
+    @Test
+    void testFullBatchIsPersistedWithoutFlush() {
+        progressMessagesBatchPersister = new ProgressMessagesBatchPersister(progressMessageService, 10, 2, Duration.ofHours(1));
+        progressMessagesBatchPersister.add(FIRST_MESSAGE);
+        progressMessagesBatchPersister.add(SECOND_MESSAGE);
+
+        verify(progressMessageService, timeout(5000)).addAll(List.of(FIRST_MESSAGE, SECOND_MESSAGE));
+    }
+
+    @Test
+    void testMessagesArePersistedPeriodically() {
+        progressMessagesBatchPersister = new ProgressMessagesBatchPersister(progressMessageService, 10, 5, Duration.ofMillis(10));
+        progressMessagesBatchPersister.add(FIRST_MESSAGE);
+
+        verify(progressMessageService, timeout(5000)).addAll(List.of(FIRST_MESSAGE));
+    }
+
+    @Test
+    void testMessagesOfFailedBatchArePersistedOneByOne() {
+        progressMessagesBatchPersister = new ProgressMessagesBatchPersister(progressMessageService, 10, 2, Duration.ofHours(1));
+        doThrow(new SLException("Failed")).when(progressMessageService)
+                                          .addAll(List.of(FIRST_MESSAGE, SECOND_MESSAGE));
+        doThrow(new SLException("Failed")).when(progressMessageService)
+                                          .add(FIRST_MESSAGE);
+        progressMessagesBatchPersister.add(FIRST_MESSAGE);
+        progressMessagesBatchPersister.add(SECOND_MESSAGE);
+        progressMessagesBatchPersister.add(THIRD_MESSAGE);
+
+        progressMessagesBatchPersister.flush();
+
+        verify(progressMessageService, timeout(5000)).add(SECOND_MESSAGE);
+        verify(progressMessageService, timeout(5000)).addAll(List.of(THIRD_MESSAGE));
+    }
+
+    private static ProgressMessage buildProgressMessage(String processId, String text) {
+        return ImmutableProgressMessage.builder()
+                                       .processId(processId)
+                                       .taskId("taskId")
+                                       .type(ProgressMessageType.INFO)
+                                       .text(text)
+                                       .build();
+    }
+
+}
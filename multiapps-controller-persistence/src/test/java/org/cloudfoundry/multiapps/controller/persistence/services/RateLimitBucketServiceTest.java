@@ -0,0 +1,96 @@
+package org.cloudfoundry.multiapps.controller.persistence.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.cloudfoundry.multiapps.controller.persistence.DataSourceWithDialect;
+import org.cloudfoundry.multiapps.controller.persistence.model.RateLimitReservation;
+import org.cloudfoundry.multiapps.controller.persistence.test.TestDataSourceProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RateLimitBucketServiceTest {
+
+    private static final String LIQUIBASE_CHANGELOG_LOCATION = "org/cloudfoundry/multiapps/controller/persistence/db/changelog/db-changelog.xml";
+    private static final String BUCKET_KEY = "/**:127.0.0.1";
+    private static final long CAPACITY = 10;
+    private static final Duration REFILL_PERIOD = Duration.ofHours(1);
+
+    private DataSourceWithDialect testDataSource;
+    private RateLimitBucketService rateLimitBucketService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        testDataSource = new DataSourceWithDialect(TestDataSourceProvider.getDataSource(LIQUIBASE_CHANGELOG_LOCATION));
+        rateLimitBucketService = new RateLimitBucketService(testDataSource);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        rateLimitBucketService.deleteBucketsRefilledBefore(LocalDateTime.now()
+                                                                        .plusDays(1));
+        testDataSource.getDataSource()
+                      .getConnection()
+                      .close();
+    }
+
+    @Test
+    void testReservePermitsFromNewBucket() {
+        RateLimitReservation reservation = rateLimitBucketService.reservePermits(BUCKET_KEY, CAPACITY, REFILL_PERIOD, 4);
+
+        assertEquals(4, reservation.getReservedPermits());
+        assertEquals(6, reservation.getAvailablePermits());
+        assertEquals(0, reservation.getMillisUntilNextPermit());
+    }
+
+    @Test
+    void testReservePermitsUntilBucketIsEmpty() {
+        rateLimitBucketService.reservePermits(BUCKET_KEY, CAPACITY, REFILL_PERIOD, 4);
+        rateLimitBucketService.reservePermits(BUCKET_KEY, CAPACITY, REFILL_PERIOD, 4);
+
+        RateLimitReservation reservation = rateLimitBucketService.reservePermits(BUCKET_KEY, CAPACITY, REFILL_PERIOD, 4);
+
+        assertEquals(2, reservation.getReservedPermits());
+        assertEquals(0, reservation.getAvailablePermits());
+        assertTrue(reservation.getMillisUntilNextPermit() > 0);
+        assertEquals(0, rateLimitBucketService.reservePermits(BUCKET_KEY, CAPACITY, REFILL_PERIOD, 4)
+                                              .getReservedPermits());
+    }
+
+    @Test
+    void testBucketsAreSeparatedByKey() {
+        rateLimitBucketService.reservePermits(BUCKET_KEY, CAPACITY, REFILL_PERIOD, CAPACITY);
+
+        RateLimitReservation reservation = rateLimitBucketService.reservePermits("/**:127.0.0.2", CAPACITY, REFILL_PERIOD, 1);
+
+        assertEquals(1, reservation.getReservedPermits());
+    }
+
+    @Test
+    void testEmptyBucketIsRefilled() throws InterruptedException {
+        Duration shortRefillPeriod = Duration.ofMillis(100);
+        rateLimitBucketService.reservePermits(BUCKET_KEY, CAPACITY, shortRefillPeriod, CAPACITY);
+
+        Thread.sleep(shortRefillPeriod.toMillis() * 2);
+
+        assertEquals(CAPACITY, rateLimitBucketService.reservePermits(BUCKET_KEY, CAPACITY, shortRefillPeriod, CAPACITY)
+                                                     .getReservedPermits());
+    }
+
+    @Test
+    void testDeleteBucketsRefilledBefore() {
+        rateLimitBucketService.reservePermits(BUCKET_KEY, CAPACITY, REFILL_PERIOD, CAPACITY);
+
+        assertEquals(0, rateLimitBucketService.deleteBucketsRefilledBefore(LocalDateTime.now()
+                                                                                         .minusMinutes(1)));
+        assertEquals(1, rateLimitBucketService.deleteBucketsRefilledBefore(LocalDateTime.now()
+                                                                                         .plusMinutes(1)));
+        assertEquals(CAPACITY, rateLimitBucketService.reservePermits(BUCKET_KEY, CAPACITY, REFILL_PERIOD, CAPACITY)
+                                                     .getReservedPermits());
+    }
+
+}
@@ -0,0 +1,74 @@
+package org.cloudfoundry.multiapps.controller.persistence.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SqlQueryExecutorTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private DataSource dataSource;
+    @Mock
+    private Connection connection;
+
+    private SqlQueryExecutor sqlQueryExecutor;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this)
+                          .close();
+        when(dataSource.getConnection()).thenReturn(connection);
+        sqlQueryExecutor = new SqlQueryExecutor(dataSource, meterRegistry);
+    }
+
+    @Test
+    void testExecuteRecordsSuccessfulQuery() throws SQLException {
+        assertEquals("result", sqlQueryExecutor.execute(connection -> "result"));
+
+        verify(connection).commit();
+        assertEquals(1, getQueryCount("transaction", "success"));
+    }
+
+    @Test
+    void testExecuteRecordsFailedQuery() throws SQLException {
+        assertThrows(SQLException.class, () -> sqlQueryExecutor.execute(connection -> {
+            throw new SQLException("Query failed");
+        }));
+
+        verify(connection).rollback();
+        assertEquals(1, getQueryCount("transaction", "failure"));
+    }
+
+    @Test
+    void testExecuteWithAutoCommitRecordsQuery() throws SQLException {
+        sqlQueryExecutor.executeWithAutoCommit(connection -> 1);
+        sqlQueryExecutor.executeWithAutoCommit(connection -> 2);
+
+        assertEquals(2, getQueryCount("auto_commit", "success"));
+    }
+
+    private long getQueryCount(String mode, String outcome) {
+        return meterRegistry.get(SqlQueryExecutor.QUERY_METRIC_NAME)
+                            .tag("mode", mode)
+                            .tag("outcome", outcome)
+                            .timer()
+                            .count();
+    }
+
+}
@@ -74,6 +74,7 @@ public class Messages {
     public static final String NOT_BOOLEAN_PARAMETER_VALUE = "Value \"{0}\" of parameter \"{1}\" is not boolean";
     public static final String ERROR_OCCURRED_DURING_APPLICATION_UPLOAD_0 = "Error occurred during application upload: {0}";
     public static final String COMPRESSION_METHOD_WITH_VALUE_0_NOT_FOUND = "Compression method with value: {0} not found";
+    public static final String ARCHIVE_ENTRY_0_IS_TRUNCATED = "Archive entry \"{0}\" is truncated";
     public static final String ROLLBACK_OF_MTA_ID_0_CANNOT_BE_DONE_MISSING_DEPLOYED_MTA = "Rollback of mta id \"{0}\" cannot be done, missing deployed/backup mta";
     public static final String MTA_VERSION_NOT_SET_IN_APPLICATION_ROLLBACK_CANNOT_BE_DONE = "MTA version is not set in the application metadata and rollback operation cannot be done";
     public static final String ROLLBACK_OPERATION_CANNOT_BE_DONE_BACKUP_APPLICATIONS_HAVE_DIFFERENT_MTA_VERSIONS = "Rollback operation cannot be done, backup applications have different MTA versions!";
@@ -240,6 +241,9 @@ public class Messages {
     public static final String DEFAULT_FAILED_OPERATION_DESCRIPTION = "The service broker returned an error with no description!";
     public static final String ERROR_DURING_CLEAN_UP_0 = "Error during clean-up: {0}";
     public static final String COULD_NOT_DELETE_HISTORIC_PROCESS_0 = "Could not delete historic process \"{0}\"";
+    public static final String CLEANERS_0_DID_NOT_COMPLETE_WITHIN_1_MINUTES = "Cleaners {0} did not complete within {1} minutes. Continuing with the next cleaners";
+    public static final String CLEANER_0_EXCEEDED_ITS_TIME_BUDGET_OF_1_MINUTES = "Cleaner \"{0}\" exceeded its time budget of {1} minutes and was interrupted. The rest of its data will be deleted by the next clean-up";
+    public static final String COULD_NOT_BULK_DELETE_HISTORIC_PROCESSES_0_DELETING_THEM_ONE_BY_ONE = "Could not bulk delete historic processes {0}, deleting them one by one...";
     public static final String COULD_NOT_ABORT_OPERATION_0 = "Could not abort operation \"{0}\"";
     public static final String SKIP_SERVICES_DELETION = "Skipping deletion of services, because the command line option \"--delete-services\" is not specified.";
     public static final String UNSUPPORTED_MINOR_VERSION = "Used version \"{0}\" is higher than the supported ones. Some features might not be implemented.";
@@ -271,6 +275,10 @@ public class Messages {
     public static final String SERVICE_INSTANCE_0_PARAMETERS_UPDATE_FAILED_IGNORING_FAILURE = "Service instance: \"{0}\" parameters update failed, ignoring failure...";
     public static final String SERVICE_INSTANCE_0_TAGS_UPDATE_FAILED_IGNORING_FAILURE = "Service instance: \"{0}\" tags update failed, ignoring failure...";
     public static final String ONLY_FIRST_SERVICE_WILL_BE_CREATED = "Only the first service will be created because the provided 'service-name' fields are duplicated! All other services with the same 'service-name' will be ignored! Duplicated names: {0}";
+    public static final String CENTRAL_DIRECTORY_OF_ARCHIVE_0_IS_NOT_USABLE_1 = "Central directory of archive \"{0}\" is not usable: {1}";
+    public static final String COULD_NOT_CACHE_CONTENT_OF_FILE_0_1 = "Could not cache content of file \"{0}\": {1}";
+    public static final String COULD_NOT_DELETE_CACHED_FILE_0 = "Could not delete cached file \"{0}\"";
+    public static final String LOGS_OF_OPERATION_0_AND_ACTIVITY_1_WERE_NOT_PERSISTED_SINCE_2 = "Logs of operation \"{0}\" and activity \"{1}\" were not persisted since \"{2}\". Persisting them now...";
 
     // INFO log messages
     public static final String ACQUIRING_LOCK = "Process \"{0}\" attempting to acquire lock for operation on MTA \"{1}\"";
@@ -285,11 +293,13 @@ public class Messages {
     public static final String SOME_INSTANCES_HAVE_CRASHED = "Some instances have crashed. Check the logs of your application for more information.";
     public static final String CLEAN_UP_JOB_STARTED_BY_APPLICATION_INSTANCE_0_AT_1 = "Clean-up job started by application instance {0} at: {1}";
     public static final String CLEAN_UP_JOB_WHICH_STARTED_AT_0_HAS_FINISHED_AT_1 = "Clean-up job, which started at: {0}, has finished at: {1}";
+    public static final String CLEANER_0_DELETED_1_ENTRIES_IN_2_MS = "Cleaner \"{0}\" deleted {1} entries in {2} ms";
     public static final String WILL_CLEAN_UP_DATA_STORED_BEFORE_0 = "Will clean-up data stored before: {0}";
     public static final String WILL_DELETE_HISTORIC_PROCESSES_BEFORE_0 = "Will delete Flowable historic processes before: {0}";
     public static final String DELETED_HISTORIC_PROCESSES_0 = "Deleted historic processes: {0}";
     public static final String DELETED_FILES_0 = "Deleted files: {0}";
     public static final String DELETED_FILE_UPLOAD_JOBS_0 = "Deleted file upload jobs: {0}";
+    public static final String DELETED_CACHED_ARCHIVE_ENTRIES_NOT_USED_SINCE_0_1 = "Deleted cached archive entries not used since {0}: {1}";
     public static final String FILES_FOR_OPERATION_0_WERE_UPDATED_1 = "Files for operation {0} were updated: {1}";
     public static final String ABORTED_OPERATIONS_0 = "Aborted operations: {0}";
     public static final String DELETED_OPERATIONS_0 = "Deleted operations: {0}";
@@ -297,6 +307,7 @@ public class Messages {
     public static final String DELETED_PROGRESS_MESSAGES_0 = "Deleted progress messages: {0}";
     public static final String DELETED_HISTORIC_OPERATION_EVENTS_0 = "Deleted historic operation events: {0}";
     public static final String REMOVED_TOKENS_0 = "Removed tokens: {0}";
+    public static final String REMOVED_RATE_LIMIT_BUCKETS_0 = "Removed rate limit buckets: {0}";
     public static final String DELETED_DATA_FOR_NON_EXISTING_USERS = "Deleted data for no-longer existing users.";
     public static final String CREATING_APP_FROM_DOCKER_IMAGE = "Creating app \"{0}\" from Docker image \"{1}\"...";
     public static final String CREATE_SUPPORT_TICKET_GENERIC_MESSAGE = "If the problem persists, please create a support ticket.";
@@ -326,6 +337,8 @@ public class Messages {
     public static final String DELETING_THE_FOLLOWING_FILE_ENTRIES_WITHOUT_CONTENT_0 = "Deleting the following file entries without content: {0}";
     public static final String DELETED_FILE_ENTRIES_0 = "Deleted file entries: {0}";
     public static final String APPLICATION_WITH_NAME_0_SAVED_TO_1 = "Application with name \"{0}\" saved to \"{1}\"";
+    public static final String REUSING_EXTRACTED_APPLICATION_0 = "Reusing application extracted to \"{0}\"";
+    public static final String DELETING_STALE_EXTRACTED_APPLICATION_0 = "Deleting stale application extracted to \"{0}\"";
     public static final String CLOSING_STREAM_FOR_PART_0 = "Closing stream for part: {0}";
     public static final String CLOSING_STREAM_FOR_PART_STREAM_FINISHED_0 = "Closing stream for part, stream finished: {0}";
     public static final String CLOSING_LAST_STREAM_FOR_PART_0 = "Closing the last stream, part: {0}";
@@ -339,6 +352,7 @@ public class Messages {
     public static final String DELETING_BACKUP_DESCRIPTORS_WITH_MTA_ID_0_SPACE_1_NAMESPACE_2_AND_SKIP_VERSIONS_3 = "Deleting backup descriptors with mta id \"{0}\" in space \"{1}\" namespace \"{2}\" and skip the following mta versions \"{3}\"";
     public static final String EXISTING_APPS_TO_BACKUP = "Existing apps to backup: {0}";
     public static final String TASK_0_ON_APPLICATION_1_IS_STILL_2 = "Task \"{0}\" on application \"{1}\" is still \"{2}\"";
+    public static final String DETERMINING_ENTRIES_OF_ARCHIVE_0_BY_STREAMING_ITS_CONTENT = "Determining entries of archive \"{0}\" by streaming its content";
 
     // Progress messages
     public static final String OPERATION_ID = "Operation ID: {0}";
@@ -551,6 +565,7 @@ public class Messages {
     public static final String UPLOADING_FILE_0_FOR_APP_1 = "Uploading file \"{0}\" for application \"{1}\"";
     public static final String STARTED_ASYNC_UPLOAD_OF_APP_0 = "Started async upload of application \"{0}\"";
     public static final String DELETING_HISTORIC_PROCESS_0 = "Deleting historic process \"{0}\"...";
+    public static final String DELETED_HISTORIC_PROCESSES_SO_FAR_0 = "Deleted historic processes so far: {0}";
     public static final String DELETING_FILES_MODIFIED_BEFORE_0 = "Deleting files modified before: {0}";
     public static final String DELETING_OPERATIONS_STARTED_BEFORE_0 = "Deleting operations started before: {0}";
     public static final String ABORTING_OPERATION_0 = "Aborting operation \"{0}\"...";
@@ -558,9 +573,12 @@ public class Messages {
     public static final String DELETING_PROCESS_LOGS_MODIFIED_BEFORE_0 = "Deleting process logs modified before \"{0}\"...";
     public static final String DELETING_PROGRESS_MESSAGES_STORED_BEFORE_0 = "Deleting progress messages stored before \"{0}\"...";
     public static final String REMOVING_EXPIRED_TOKENS_FROM_TOKEN_STORE = "Removing expired tokens from the token store...";
+    public static final String REMOVING_RATE_LIMIT_BUCKETS_REFILLED_BEFORE_0 = "Removing rate limit buckets refilled before {0}...";
     public static final String DELETING_HISTORIC_OPERATION_EVENTS_STORED_BEFORE_0 = "Deleting historic operation events stored before \"{0}\"...";
     public static final String DELETING_DATA_FOR_NON_EXISTING_USERS = "Deleting data for no-longer existing users...";
     public static final String REGISTERED_CLEANERS_IN_CLEAN_UP_JOB_0 = "Registered cleaners in clean-up job: {0}";
+    public static final String WAITING_FOR_CLEANERS_0_TO_COMPLETE = "Waiting for cleaners {0} to complete...";
+    public static final String SKIPPING_CLEANER_0_EXECUTED_BY_ANOTHER_INSTANCE = "Skipping cleaner \"{0}\", as it is being executed or was already executed by another instance";
     public static final String MISSING_SERVICE_TO_DELETE = "Missing service to delete.";
     public static final String NO_CONTENT_TO_UPLOAD = "No content to upload";
     public static final String NO_BUILD_FOUND_FOR_APPLICATION = "No build found for application \"{0}\"";
@@ -26,7 +26,7 @@ public class BackupDescriptorsCleaner implements Cleaner {
     }
 
     @Override
-    public void execute(LocalDateTime expirationTime) {
+    public int execute(LocalDateTime expirationTime) {
         LOGGER.debug(CleanUpJob.LOG_MARKER, MessageFormat.format(Messages.DELETING_BACKUP_DESCRIPTORS_STORED_BEFORE_0, expirationTime));
 
         int removedBackupDescriptors = descriptorBackupService.createQuery()
@@ -34,6 +34,7 @@ public class BackupDescriptorsCleaner implements Cleaner {
                                                                  .delete();
 
         LOGGER.debug(CleanUpJob.LOG_MARKER, MessageFormat.format(Messages.DELETED_BACKUP_DESCRIPTORS_0, removedBackupDescriptors));
+        return removedBackupDescriptors;
     }
 
 }
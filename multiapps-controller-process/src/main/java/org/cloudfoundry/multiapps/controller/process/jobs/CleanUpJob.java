@@ -2,40 +2,80 @@ package org.cloudfoundry.multiapps.controller.process.jobs;
 
 import static java.text.MessageFormat.format;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 
+import org.cloudfoundry.multiapps.common.SLException;
 import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
 import org.cloudfoundry.multiapps.controller.core.util.SafeExecutor;
+import org.cloudfoundry.multiapps.controller.persistence.services.CleanerLeaseService;
 import org.cloudfoundry.multiapps.controller.process.Messages;
+import org.flowable.engine.ProcessEngine;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Marker;
 import org.slf4j.MarkerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.OrderUtils;
 import org.springframework.scheduling.annotation.Scheduled;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Executes the registered cleaners on all instances. Each cleaner is executed by the single instance which acquires its lease from
+ * {@link CleanerLeaseService}. The cleaners with the same order are executed in parallel, while the groups of cleaners with different
+ * orders are executed one after another: an instance starts the next group only once the leases of the current group are completed,
+ * including the ones held by other instances. Each cleaner is interrupted once it exceeds its time budget, and the data it has not deleted
+ * is deleted by the next clean-up.
+ */
 @Named
 public class CleanUpJob {
 
     public static final Marker LOG_MARKER = MarkerFactory.getMarker("clean-up-job");
+    static final String CLEANER_DURATION_METRIC_NAME = "multiapps.cleanup.cleaner.duration";
+    static final String CLEANER_DELETED_ENTRIES_METRIC_NAME = "multiapps.cleanup.cleaner.deleted";
     private static final Logger LOGGER = LoggerFactory.getLogger(CleanUpJob.class);
-    private static final int SELECTED_INSTANCE_FOR_CLEAN_UP = 0;
+    private static final Duration LEASE_EXPIRATION_MARGIN = Duration.ofMinutes(5);
+    private static final Duration LEASE_COMPLETION_CHECK_INTERVAL = Duration.ofSeconds(10);
+    // The instances start the clean-up at the same time, but their clocks may differ:
+    private static final Duration START_TIME_TOLERANCE = Duration.ofMinutes(5);
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_FAILURE = "failure";
+    private static final String OUTCOME_TIME_BUDGET_EXCEEDED = "time_budget_exceeded";
 
     @Inject
     ApplicationConfiguration configuration;
     @Inject
     List<Cleaner> cleaners;
+    @Inject
+    CleanerLeaseService cleanerLeaseService;
+    @Inject
+    ProcessEngine processEngine;
+    MeterRegistry meterRegistry = Metrics.globalRegistry;
+    Duration leaseCompletionCheckInterval = LEASE_COMPLETION_CHECK_INTERVAL;
     private final SafeExecutor safeExecutor = new SafeExecutor(CleanUpJob::log);
 
     @Scheduled(cron = "#{@applicationConfiguration.getCronExpressionForOldData()}")
     public void execute() {
-        if (configuration.getApplicationInstanceIndex() != SELECTED_INSTANCE_FOR_CLEAN_UP) {
-            return;
-        }
         Instant cleanUpJobStartTime = Instant.now();
         LOGGER.info(LOG_MARKER, format(Messages.CLEAN_UP_JOB_STARTED_BY_APPLICATION_INSTANCE_0_AT_1,
                                        configuration.getApplicationInstanceIndex(), cleanUpJobStartTime));
@@ -43,8 +83,22 @@ public class CleanUpJob {
         LocalDateTime expirationTime = computeExpirationTime();
         LOGGER.info(LOG_MARKER, format(Messages.WILL_CLEAN_UP_DATA_STORED_BEFORE_0, expirationTime));
         LOGGER.info(LOG_MARKER, format(Messages.REGISTERED_CLEANERS_IN_CLEAN_UP_JOB_0, cleaners));
-        for (Cleaner cleaner : cleaners) {
-            safeExecutor.execute(() -> cleaner.execute(expirationTime));
+        CleanUp cleanUp = new CleanUp(expirationTime, LocalDateTime.ofInstant(cleanUpJobStartTime, ZoneId.systemDefault())
+                                                                   .minus(START_TIME_TOLERANCE),
+                                      getLockOwner());
+        ExecutorService cleanersExecutor = Executors.newFixedThreadPool(configuration.getCleanUpJobMaxParallelCleaners());
+        ScheduledExecutorService timeBudgetExecutor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            for (List<Cleaner> cleanersWithSameOrder : getCleanersGroupedByOrder()) {
+                cleanersExecutor.invokeAll(toCleanerTasks(cleanersWithSameOrder, cleanUp, timeBudgetExecutor));
+                waitForCleanersToComplete(cleanersWithSameOrder, cleanUp);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        } finally {
+            cleanersExecutor.shutdownNow();
+            timeBudgetExecutor.shutdownNow();
         }
 
         LOGGER.info(LOG_MARKER, format(Messages.CLEAN_UP_JOB_WHICH_STARTED_AT_0_HAS_FINISHED_AT_1, cleanUpJobStartTime, Instant.now()));
@@ -56,7 +110,156 @@ public class CleanUpJob {
                             .minusSeconds(maxTtlForOldData);
     }
 
+    private String getLockOwner() {
+        return processEngine.getProcessEngineConfiguration()
+                            .getAsyncExecutor()
+                            .getLockOwner();
+    }
+
+    private Collection<List<Cleaner>> getCleanersGroupedByOrder() {
+        return cleaners.stream()
+                       .collect(Collectors.groupingBy(cleaner -> OrderUtils.getOrder(cleaner.getClass(), Ordered.LOWEST_PRECEDENCE),
+                                                      TreeMap::new, Collectors.toList()))
+                       .values();
+    }
+
+    private List<Callable<Void>> toCleanerTasks(List<Cleaner> cleanersWithSameOrder, CleanUp cleanUp,
+                                                ScheduledExecutorService timeBudgetExecutor) {
+        // Each instance starts from a different cleaner, so that the instances do not compete for the same leases:
+        List<Cleaner> rotatedCleaners = new ArrayList<>(cleanersWithSameOrder);
+        Collections.rotate(rotatedCleaners, -configuration.getApplicationInstanceIndex());
+        return rotatedCleaners.stream()
+                              .map(cleaner -> (Callable<Void>) () -> {
+                                  safeExecutor.execute(() -> executeCleaner(cleaner, cleanUp, timeBudgetExecutor));
+                                  return null;
+                              })
+                              .toList();
+    }
+
+    private void executeCleaner(Cleaner cleaner, CleanUp cleanUp, ScheduledExecutorService timeBudgetExecutor) {
+        String cleanerName = getCleanerName(cleaner);
+        int timeBudgetInMinutes = configuration.getCleanUpJobCleanerTimeBudgetInMinutes();
+        Duration timeBudget = Duration.ofMinutes(timeBudgetInMinutes);
+        if (!cleanerLeaseService.tryAcquireLease(cleanerName, cleanUp.lockOwner(), cleanUp.notCompletedSince(),
+                                                 getLeaseDuration())) {
+            LOGGER.debug(LOG_MARKER, format(Messages.SKIPPING_CLEANER_0_EXECUTED_BY_ANOTHER_INSTANCE, cleanerName));
+            return;
+        }
+        long startTime = System.currentTimeMillis();
+        String outcome = OUTCOME_FAILURE;
+        CleanerTimeBudget cleanerTimeBudget = new CleanerTimeBudget(Thread.currentThread());
+        ScheduledFuture<?> timeBudgetExpiration = timeBudgetExecutor.schedule(cleanerTimeBudget::expire, timeBudget.toMillis(),
+                                                                              TimeUnit.MILLISECONDS);
+        try {
+            int deletedEntries = cleaner.execute(cleanUp.expirationTime());
+            timeBudgetExpiration.cancel(false);
+            if (!cleanerTimeBudget.finish()) {
+                meterRegistry.counter(CLEANER_DELETED_ENTRIES_METRIC_NAME, "cleaner", cleanerName)
+                             .increment(deletedEntries);
+                outcome = OUTCOME_SUCCESS;
+                LOGGER.info(LOG_MARKER, format(Messages.CLEANER_0_DELETED_1_ENTRIES_IN_2_MS, cleanerName, deletedEntries,
+                                               System.currentTimeMillis() - startTime));
+            }
+        } finally {
+            timeBudgetExpiration.cancel(false);
+            if (cleanerTimeBudget.finish()) {
+                outcome = OUTCOME_TIME_BUDGET_EXCEEDED;
+                LOGGER.warn(LOG_MARKER, format(Messages.CLEANER_0_EXCEEDED_ITS_TIME_BUDGET_OF_1_MINUTES, cleanerName, timeBudgetInMinutes));
+            }
+            Timer.builder(CLEANER_DURATION_METRIC_NAME)
+                 .tag("cleaner", cleanerName)
+                 .tag("outcome", outcome)
+                 .register(meterRegistry)
+                 .record(System.currentTimeMillis() - startTime, TimeUnit.MILLISECONDS);
+            // The lease is completed even if the cleaner failed, so that the instances waiting for it continue with the next cleaners. The
+            // cleaner is executed again by the next clean-up:
+            cleanerLeaseService.completeLease(cleanerName, cleanUp.lockOwner());
+        }
+    }
+
+    private Duration getLeaseDuration() {
+        return Duration.ofMinutes(configuration.getCleanUpJobCleanerTimeBudgetInMinutes())
+                       .plus(LEASE_EXPIRATION_MARGIN);
+    }
+
+    /**
+     * Waits for the cleaners executed by other instances. The wait is bounded by the lease duration, as a lease which is not completed by
+     * then was held by an instance which crashed or lost its connection to the database.
+     */
+    private void waitForCleanersToComplete(List<Cleaner> cleanersWithSameOrder, CleanUp cleanUp) throws InterruptedException {
+        List<String> cleanerNames = cleanersWithSameOrder.stream()
+                                                         .map(CleanUpJob::getCleanerName)
+                                                         .toList();
+        Duration leaseDuration = getLeaseDuration();
+        Instant waitDeadline = Instant.now()
+                                      .plus(leaseDuration);
+        while (!areCleanersCompleted(cleanerNames, cleanUp)) {
+            if (Instant.now()
+                       .isAfter(waitDeadline)) {
+                LOGGER.warn(LOG_MARKER, format(Messages.CLEANERS_0_DID_NOT_COMPLETE_WITHIN_1_MINUTES, cleanerNames,
+                                               leaseDuration.toMinutes()));
+                return;
+            }
+            LOGGER.debug(LOG_MARKER, format(Messages.WAITING_FOR_CLEANERS_0_TO_COMPLETE, cleanerNames));
+            Thread.sleep(leaseCompletionCheckInterval.toMillis());
+        }
+    }
+
+    private boolean areCleanersCompleted(List<String> cleanerNames, CleanUp cleanUp) {
+        try {
+            return cleanerLeaseService.areLeasesCompleted(cleanerNames, cleanUp.notCompletedSince());
+        } catch (SLException e) {
+            // The next cleaners are not blocked by errors of the database:
+            log(e);
+            return true;
+        }
+    }
+
+    private static String getCleanerName(Cleaner cleaner) {
+        return cleaner.getClass()
+                      .getSimpleName();
+    }
+
     private static void log(Exception e) {
         LOGGER.error(LOG_MARKER, format(Messages.ERROR_DURING_CLEAN_UP_0, e.getMessage()), e);
     }
+
+    /**
+     * Interrupts the thread of a cleaner which exceeds its time budget. The thread is returned to the pool once the cleaner finishes, so it
+     * is interrupted only while the cleaner is running.
+     */
+    private static class CleanerTimeBudget {
+
+        private final Thread cleanerThread;
+        private boolean isCleanerRunning = true;
+        private boolean isExceeded;
+
+        CleanerTimeBudget(Thread cleanerThread) {
+            this.cleanerThread = cleanerThread;
+        }
+
+        synchronized void expire() {
+            if (isCleanerRunning) {
+                isExceeded = true;
+                cleanerThread.interrupt();
+            }
+        }
+
+        /**
+         * Must be called by the cleaner thread. Clears the interrupt of the thread, if it was interrupted because of the time budget.
+         *
+         * @return whether the time budget was exceeded
+         */
+        synchronized boolean finish() {
+            isCleanerRunning = false;
+            if (isExceeded) {
+                Thread.interrupted();
+            }
+            return isExceeded;
+        }
+    }
+
+    private record CleanUp(LocalDateTime expirationTime, LocalDateTime notCompletedSince, String lockOwner) {
+    }
+
 }
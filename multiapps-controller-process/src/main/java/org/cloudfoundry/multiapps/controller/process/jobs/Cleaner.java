@@ -4,6 +4,9 @@ import java.time.LocalDateTime;
 
 public interface Cleaner {
 
-    void execute(LocalDateTime expirationTime);
+    /**
+     * @return the number of deleted entries
+     */
+    int execute(LocalDateTime expirationTime);
 
 }
@@ -32,7 +32,7 @@ public class FilesCleaner implements Cleaner {
     }
 
     @Override
-    public void execute(LocalDateTime expirationTime) {
+    public int execute(LocalDateTime expirationTime) {
         LOGGER.debug(CleanUpJob.LOG_MARKER, format(Messages.DELETING_FILES_MODIFIED_BEFORE_0, expirationTime));
         try {
             int removedOldFilesCount = fileService.deleteModifiedBefore(expirationTime);
@@ -41,6 +41,7 @@ public class FilesCleaner implements Cleaner {
                                               .addedBefore(expirationTime)
                                               .delete();
             LOGGER.info(CleanUpJob.LOG_MARKER, format(Messages.DELETED_FILE_UPLOAD_JOBS_0, deletedJobs));
+            return removedOldFilesCount + deletedJobs;
         } catch (FileStorageException e) {
             throw new SLException(e, Messages.COULD_NOT_DELETE_FILES_MODIFIED_BEFORE_0, expirationTime);
         }
@@ -31,22 +31,25 @@ public class FlowableDataCleaner implements Cleaner {
     }
 
     @Override
-    public void execute(LocalDateTime expirationTime) {
+    public int execute(LocalDateTime expirationTime) {
         LOGGER.info(CleanUpJob.LOG_MARKER, format(Messages.WILL_DELETE_FLOWABLE_PROCESSES_BEFORE_0, expirationTime));
         List<ProcessInstance> processInstances = flowableFacade.findAllRunningProcessInstanceStartedBefore(expirationTime);
         LOGGER.info(CleanUpJob.LOG_MARKER, MessageFormat.format(Messages.FLOWABLE_PROCESSES_TO_DELETE, processInstances.size()));
-        processInstances.stream()
-                        .map(ProcessInstance::getProcessInstanceId)
-                        .forEach(this::deleteProcessInstance);
+        return (int) processInstances.stream()
+                                     .map(ProcessInstance::getProcessInstanceId)
+                                     .filter(this::deleteProcessInstance)
+                                     .count();
     }
 
-    private void deleteProcessInstance(String processInstanceId) {
+    private boolean deleteProcessInstance(String processInstanceId) {
         try {
             LOGGER.info(CleanUpJob.LOG_MARKER, MessageFormat.format(Messages.DELETING_FLOWABLE_PROCESS_WITH_ID, processInstanceId));
             flowableFacade.deleteProcessInstance(processInstanceId, Operation.State.ABORTED.name());
+            return true;
         } catch (Exception e) {
             LOGGER.error(CleanUpJob.LOG_MARKER, MessageFormat.format(Messages.ERROR_DELETING_FLOWABLE_PROCESS_WITH_ID, processInstanceId),
                          e);
+            return false;
         }
     }
 
@@ -4,11 +4,18 @@ import static java.text.MessageFormat.format;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.flowable.engine.HistoryService;
 import org.flowable.engine.history.HistoricProcessInstance;
@@ -17,43 +24,74 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.annotation.Order;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * Deletes the finished historic processes that were started before the expiration time. The expired processes are read in chunks ordered
+ * by their ID and each chunk is split into pages, which are bulk deleted in parallel. The processes of a page that could not be bulk
+ * deleted are deleted one by one, and the ones that could not be deleted at all are skipped by the next reads.
+ */
 @Named
 @Order(20)
 public class FlowableHistoricDataCleaner implements Cleaner {
 
+    static final String DELETED_PROCESSES_METRIC_NAME = "multiapps.cleanup.historic.processes.deleted";
+    static final String FAILED_PROCESSES_METRIC_NAME = "multiapps.cleanup.historic.processes.failed";
     private static final Logger LOGGER = LoggerFactory.getLogger(FlowableHistoricDataCleaner.class);
     private static final int PAGE_SIZE = 100;
 
     private final HistoryService historyService;
     private final int pageSize;
+    private final int threads;
+    private final Counter deletedProcessesCounter;
+    private final Counter failedProcessesCounter;
 
     @Inject
-    public FlowableHistoricDataCleaner(HistoryService historyService) {
-        this(historyService, PAGE_SIZE);
+    public FlowableHistoricDataCleaner(HistoryService historyService, ApplicationConfiguration applicationConfiguration) {
+        this(historyService, PAGE_SIZE, applicationConfiguration.getHistoricProcessesDeletionThreads(), Metrics.globalRegistry);
     }
 
-    public FlowableHistoricDataCleaner(HistoryService historyService, int pageSize) {
+    public FlowableHistoricDataCleaner(HistoryService historyService, int pageSize, int threads, MeterRegistry meterRegistry) {
         this.historyService = historyService;
         this.pageSize = pageSize;
+        this.threads = threads;
+        this.deletedProcessesCounter = meterRegistry.counter(DELETED_PROCESSES_METRIC_NAME);
+        this.failedProcessesCounter = meterRegistry.counter(FAILED_PROCESSES_METRIC_NAME);
     }
 
     @Override
-    public void execute(LocalDateTime expirationTime) {
+    public int execute(LocalDateTime expirationTime) {
         LOGGER.info(CleanUpJob.LOG_MARKER, format(Messages.WILL_DELETE_HISTORIC_PROCESSES_BEFORE_0, expirationTime));
-        long deletedProcessesCount = 0;
-        long expiredProcessesPages = getExpiredProcessesPageCount(expirationTime);
-        for (int i = 0; i < expiredProcessesPages; i++) {
-            deletedProcessesCount += deleteExpiredProcessesPage(expirationTime);
+        int deletedProcessesCount = 0;
+        int undeletedProcessesCount = 0;
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            List<String> processIds = getExpiredProcessIds(expirationTime, undeletedProcessesCount);
+            while (!processIds.isEmpty()) {
+                int deletedProcessesInChunk = deleteProcesses(executorService, processIds);
+                deletedProcessesCount += deletedProcessesInChunk;
+                undeletedProcessesCount += processIds.size() - deletedProcessesInChunk;
+                LOGGER.debug(CleanUpJob.LOG_MARKER, format(Messages.DELETED_HISTORIC_PROCESSES_SO_FAR_0, deletedProcessesCount));
+                processIds = getExpiredProcessIds(expirationTime, undeletedProcessesCount);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        } finally {
+            executorService.shutdownNow();
         }
         LOGGER.info(CleanUpJob.LOG_MARKER, format(Messages.DELETED_HISTORIC_PROCESSES_0, deletedProcessesCount));
+        return deletedProcessesCount;
     }
 
-    private long getExpiredProcessesPageCount(LocalDateTime expirationTime) {
-        return (long) Math.ceil((double) getExpiredProcessesCount(expirationTime) / pageSize);
-    }
-
-    private long getExpiredProcessesCount(LocalDateTime expirationTime) {
-        return createExpiredHistoricProcessInstancesQuery(expirationTime).count();
+    private List<String> getExpiredProcessIds(LocalDateTime expirationTime, int undeletedProcessesCount) {
+        // The processes which could not be deleted are the first ones in the order of the query, so they are skipped:
+        return createExpiredHistoricProcessInstancesQuery(expirationTime).listPage(undeletedProcessesCount, pageSize * threads)
+                                                                         .stream()
+                                                                         .map(HistoricProcessInstance::getId)
+                                                                         .toList();
     }
 
     private HistoricProcessInstanceQuery createExpiredHistoricProcessInstancesQuery(LocalDateTime expirationTime) {
@@ -61,28 +99,58 @@ public class FlowableHistoricDataCleaner implements Cleaner {
                              .finished()
                              .excludeSubprocesses(true)
                              .startedBefore(java.util.Date.from(expirationTime.atZone(ZoneId.systemDefault())
-                                                                              .toInstant()));
+                                                                              .toInstant()))
+                             .orderByProcessInstanceId()
+                             .asc();
     }
 
-    private long deleteExpiredProcessesPage(LocalDateTime expirationTime) {
-        List<HistoricProcessInstance> processesToDelete = getExpiredProcessesPage(expirationTime);
-        return processesToDelete.stream()
-                                .filter(this::deleteProcessSafely)
-                                .count();
+    private int deleteProcesses(ExecutorService executorService, List<String> processIds) throws InterruptedException {
+        List<Callable<Integer>> deletionTasks = new ArrayList<>();
+        for (int i = 0; i < processIds.size(); i += pageSize) {
+            List<String> page = processIds.subList(i, Math.min(i + pageSize, processIds.size()));
+            deletionTasks.add(() -> deleteProcessesSafely(page));
+        }
+        int deletedProcessesCount = 0;
+        for (Future<Integer> executedDeletionTask : executorService.invokeAll(deletionTasks)) {
+            deletedProcessesCount += getDeletedProcessesCount(executedDeletionTask);
+        }
+        return deletedProcessesCount;
     }
 
-    private List<HistoricProcessInstance> getExpiredProcessesPage(LocalDateTime expirationTime) {
-        return createExpiredHistoricProcessInstancesQuery(expirationTime).listPage(0, pageSize);
+    private int getDeletedProcessesCount(Future<Integer> executedDeletionTask) throws InterruptedException {
+        try {
+            return executedDeletionTask.get();
+        } catch (ExecutionException e) {
+            // Not expected, as the deletion tasks handle their exceptions:
+            LOGGER.error(CleanUpJob.LOG_MARKER, e.getMessage(), e);
+            return 0;
+        }
+    }
+
+    private int deleteProcessesSafely(List<String> processIds) {
+        try {
+            historyService.bulkDeleteHistoricProcessInstances(processIds);
+            deletedProcessesCounter.increment(processIds.size());
+            return processIds.size();
+        } catch (Exception e) {
+            LOGGER.warn(CleanUpJob.LOG_MARKER, format(Messages.COULD_NOT_BULK_DELETE_HISTORIC_PROCESSES_0_DELETING_THEM_ONE_BY_ONE,
+                                                      processIds),
+                        e);
+            return (int) processIds.stream()
+                                   .filter(this::deleteProcessSafely)
+                                   .count();
+        }
     }
 
-    private boolean deleteProcessSafely(HistoricProcessInstance process) {
-        String processId = process.getId();
+    private boolean deleteProcessSafely(String processId) {
         try {
             LOGGER.debug(CleanUpJob.LOG_MARKER, format(Messages.DELETING_HISTORIC_PROCESS_0, processId));
             historyService.deleteHistoricProcessInstance(processId);
+            deletedProcessesCounter.increment();
             return true;
         } catch (Exception e) {
             LOGGER.warn(CleanUpJob.LOG_MARKER, format(Messages.COULD_NOT_DELETE_HISTORIC_PROCESS_0, processId), e);
+            failedProcessesCounter.increment();
             return false;
         }
     }
@@ -46,7 +46,7 @@ public class OperationsCleaner implements Cleaner {
     }
 
     @Override
-    public void execute(LocalDateTime expirationTime) {
+    public int execute(LocalDateTime expirationTime) {
         LOGGER.debug(CleanUpJob.LOG_MARKER, format(Messages.DELETING_OPERATIONS_STARTED_BEFORE_0, expirationTime));
         int abortedOperations = abortActiveOperations(expirationTime);
         LOGGER.info(CleanUpJob.LOG_MARKER, format(Messages.ABORTED_OPERATIONS_0, abortedOperations));
@@ -55,11 +55,13 @@ public class OperationsCleaner implements Cleaner {
                                                 .inFinalState()
                                                 .delete();
         LOGGER.info(CleanUpJob.LOG_MARKER, format(Messages.DELETED_OPERATIONS_0, deletedOperations));
+        return deletedOperations;
     }
 
     private int abortActiveOperations(LocalDateTime expirationTime) {
         int abortedOperations = 0;
-        for (int pageIndex = 0;; pageIndex++) {
+        for (int pageIndex = 0; !Thread.currentThread()
+                                       .isInterrupted(); pageIndex++) {
             List<Operation> operationsPage = getOperationsPage(expirationTime, pageIndex);
             for (Operation operation : operationsPage) {
                 if (inFinalState(operation)) {
@@ -74,6 +76,7 @@ public class OperationsCleaner implements Cleaner {
                 return abortedOperations;
             }
         }
+        return abortedOperations;
     }
 
     private List<Operation> getOperationsPage(LocalDateTime expirationTime, int pageIndex) {
@@ -0,0 +1,38 @@
+package org.cloudfoundry.multiapps.controller.process.jobs;
+
+import static java.text.MessageFormat.format;
+
+import java.time.LocalDateTime;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import org.cloudfoundry.multiapps.controller.persistence.services.RateLimitBucketService;
+import org.cloudfoundry.multiapps.controller.process.Messages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.Order;
+
+@Named
+@Order(20)
+public class RateLimitBucketsCleaner implements Cleaner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RateLimitBucketsCleaner.class);
+
+    private final RateLimitBucketService rateLimitBucketService;
+
+    @Inject
+    public RateLimitBucketsCleaner(RateLimitBucketService rateLimitBucketService) {
+        this.rateLimitBucketService = rateLimitBucketService;
+    }
+
+    @Override
+    public int execute(LocalDateTime expirationTime) {
+        // Buckets which have not been used for longer than the refill period are full, so deleting them does not change the limits
+        LOGGER.debug(CleanUpJob.LOG_MARKER, format(Messages.REMOVING_RATE_LIMIT_BUCKETS_REFILLED_BEFORE_0, expirationTime));
+        int removedBucketsCount = rateLimitBucketService.deleteBucketsRefilledBefore(expirationTime);
+        LOGGER.info(CleanUpJob.LOG_MARKER, format(Messages.REMOVED_RATE_LIMIT_BUCKETS_0, removedBucketsCount));
+        return removedBucketsCount;
+    }
+
+}
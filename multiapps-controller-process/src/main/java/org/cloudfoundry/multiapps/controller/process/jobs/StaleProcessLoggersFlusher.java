@@ -0,0 +1,47 @@
+package org.cloudfoundry.multiapps.controller.process.jobs;
+
+import java.text.MessageFormat;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import org.cloudfoundry.multiapps.controller.persistence.services.ProcessLoggerPersister;
+import org.cloudfoundry.multiapps.controller.persistence.services.ProcessLoggerProvider;
+import org.cloudfoundry.multiapps.controller.process.Messages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Persists the logs of activities which are no longer active, but whose loggers were never persisted, so that they do not stay in
+ * memory until the application is restarted.
+ */
+@Named
+public class StaleProcessLoggersFlusher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StaleProcessLoggersFlusher.class);
+    private static final long MAX_INACTIVITY_IN_HOURS = 3;
+
+    private final ProcessLoggerProvider processLoggerProvider;
+    private final ProcessLoggerPersister processLoggerPersister;
+
+    @Inject
+    public StaleProcessLoggersFlusher(ProcessLoggerProvider processLoggerProvider, ProcessLoggerPersister processLoggerPersister) {
+        this.processLoggerProvider = processLoggerProvider;
+        this.processLoggerPersister = processLoggerPersister;
+    }
+
+    @Scheduled(fixedRate = 30, timeUnit = TimeUnit.MINUTES)
+    public void run() {
+        LocalDateTime inactivityThreshold = LocalDateTime.now()
+                                                         .minusHours(MAX_INACTIVITY_IN_HOURS);
+        for (var loggersKey : processLoggerProvider.getLoggersNotUpdatedSince(inactivityThreshold)) {
+            LOGGER.warn(MessageFormat.format(Messages.LOGS_OF_OPERATION_0_AND_ACTIVITY_1_WERE_NOT_PERSISTED_SINCE_2,
+                                             loggersKey.operationId(), loggersKey.activityId(), inactivityThreshold));
+            processLoggerPersister.persistLogs(loggersKey.operationId(), loggersKey.activityId());
+        }
+    }
+
+}
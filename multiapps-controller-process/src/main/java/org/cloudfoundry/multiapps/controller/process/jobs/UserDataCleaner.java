@@ -21,10 +21,12 @@ public class UserDataCleaner implements Cleaner {
     private DataTerminationService dataTerminationService;
 
     @Override
-    public void execute(LocalDateTime expirationTime) {
+    public int execute(LocalDateTime expirationTime) {
         LOGGER.debug(CleanUpJob.LOG_MARKER, Messages.DELETING_DATA_FOR_NON_EXISTING_USERS);
         dataTerminationService.deleteOrphanUserData();
         LOGGER.info(CleanUpJob.LOG_MARKER, Messages.DELETED_DATA_FOR_NON_EXISTING_USERS);
+        // The number of the deleted entries is not reported by the data termination service
+        return 0;
     }
 
 }
@@ -64,6 +64,9 @@ public abstract class AbstractProcessExecutionListener implements ExecutionListe
     }
 
     protected void finalizeLogs(DelegateExecution execution) {
+        if (stepLogger != null) {
+            stepLogger.flushProgressMessages();
+        }
         String correlationId = VariableHandling.get(execution, Variables.CORRELATION_ID);
         String taskId = VariableHandling.get(execution, Variables.TASK_ID);
         processLoggerPersister.persistLogs(correlationId, taskId);
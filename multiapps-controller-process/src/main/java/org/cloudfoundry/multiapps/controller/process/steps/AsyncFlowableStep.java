@@ -4,9 +4,13 @@ import java.util.List;
 
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+
 public abstract class AsyncFlowableStep extends SyncFlowableStep {
 
     private static final Integer DEFAULT_STEP_EXECUTION_INDEX = 0;
+    private static final String FAILED_POLL_STATE = "failed";
 
     @Override
     protected StepPhase executeStep(ProcessContext context) throws Exception {
@@ -21,15 +25,36 @@ public abstract class AsyncFlowableStep extends SyncFlowableStep {
     private StepPhase executeStepExecution(ProcessContext context) throws Exception {
         List<AsyncExecution> stepExecutions = getAsyncStepExecutions(context);
         AsyncExecution stepExecution = getStepExecution(context, stepExecutions);
+        AsyncExecutionState stepExecutionStatus = null;
         try {
-            AsyncExecutionState stepExecutionStatus = stepExecution.execute(context);
+            stepExecutionStatus = stepExecution.execute(context);
             return handleStepExecutionStatus(context, stepExecutionStatus, stepExecutions);
         } catch (Exception e) {
             processException(e, stepExecution.getPollingErrorMessage(context), getStepErrorMessageAdditionalDescription(context));
+        } finally {
+            recordPoll(stepExecution, stepExecutionStatus);
         }
         return StepPhase.RETRY;
     }
 
+    private void recordPoll(AsyncExecution stepExecution, AsyncExecutionState stepExecutionStatus) {
+        String state = stepExecutionStatus == null ? FAILED_POLL_STATE : stepExecutionStatus.name()
+                                                                                            .toLowerCase();
+        Counter.builder(STEP_METRICS_PREFIX + "async.execution.polls")
+               .tag("step", getStepName())
+               .tag("execution", getExecutionName(stepExecution))
+               .tag("state", state)
+               .register(Metrics.globalRegistry)
+               .increment();
+    }
+
+    private static String getExecutionName(AsyncExecution stepExecution) {
+        Class<?> executionClass = stepExecution.getClass();
+        String executionName = executionClass.getSimpleName();
+        // Anonymous classes have no simple name
+        return executionName.isEmpty() ? executionClass.getName() : executionName;
+    }
+
     private AsyncExecution getStepExecution(ProcessContext context, List<AsyncExecution> stepExecutions) {
         Integer executionIndex = getStepExecutionIndex(context);
         return stepExecutions.get(executionIndex);
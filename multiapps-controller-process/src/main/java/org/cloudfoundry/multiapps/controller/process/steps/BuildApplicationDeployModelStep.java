@@ -1,5 +1,6 @@
 package org.cloudfoundry.multiapps.controller.process.steps;
 
+import java.text.MessageFormat;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -122,7 +123,8 @@ public class BuildApplicationDeployModelStep extends SyncFlowableStep {
         context.setVariable(Variables.CONFIGURATION_ENTRIES_TO_PUBLISH, updatedModuleNames);
         context.setVariable(Variables.SKIP_UPDATE_CONFIGURATION_ENTRIES, false);
 
-        getStepLogger().debug(Messages.CONFIGURATION_ENTRIES_TO_PUBLISH, SecureSerialization.toJson(updatedModuleNames));
+        getStepLogger().debug(() -> MessageFormat.format(Messages.CONFIGURATION_ENTRIES_TO_PUBLISH,
+                                                         SecureSerialization.toJson(updatedModuleNames)));
     }
 
     private ConfigurationEntriesCloudModelBuilder getConfigurationEntriesCloudModelBuilder(ProcessContext context) {
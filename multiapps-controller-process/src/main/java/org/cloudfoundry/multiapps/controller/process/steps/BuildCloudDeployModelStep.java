@@ -1,5 +1,6 @@
 package org.cloudfoundry.multiapps.controller.process.steps;
 
+import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -82,7 +83,7 @@ public class BuildCloudDeployModelStep extends SyncFlowableStep {
 
         // Build a map of service keys and save them in the context:
         Map<String, List<CloudServiceKey>> serviceKeys = getServiceKeysCloudModelBuilder(context).build();
-        getStepLogger().debug(Messages.SERVICE_KEYS_TO_CREATE, SecureSerialization.toJson(serviceKeys));
+        getStepLogger().debug(() -> MessageFormat.format(Messages.SERVICE_KEYS_TO_CREATE, SecureSerialization.toJson(serviceKeys)));
 
         context.setVariable(Variables.SERVICE_KEYS_TO_CREATE, serviceKeys);
 
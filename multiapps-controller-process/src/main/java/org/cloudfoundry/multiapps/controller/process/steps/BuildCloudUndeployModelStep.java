@@ -1,5 +1,6 @@
 package org.cloudfoundry.multiapps.controller.process.steps;
 
+import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -84,14 +85,16 @@ public class BuildCloudUndeployModelStep extends SyncFlowableStep {
                                                                                                   moduleToDeployHelper);
         List<DeployedMtaApplication> deployedAppsToUndeploy = modulesToUndeployCalculator.computeModulesToUndeploy(appNames);
 
-        getStepLogger().debug(Messages.MODULES_TO_UNDEPLOY, SecureSerialization.toJson(deployedAppsToUndeploy));
+        getStepLogger().debug(() -> MessageFormat.format(Messages.MODULES_TO_UNDEPLOY, SecureSerialization.toJson(deployedAppsToUndeploy)));
 
         List<DeployedMtaApplication> appsWithoutChange = modulesToUndeployCalculator.computeModulesWithoutChange(deployedAppsToUndeploy);
-        getStepLogger().debug(Messages.MODULES_NOT_TO_BE_CHANGED, SecureSerialization.toJson(appsWithoutChange));
+        getStepLogger().debug(() -> MessageFormat.format(Messages.MODULES_NOT_TO_BE_CHANGED,
+                                                         SecureSerialization.toJson(appsWithoutChange)));
 
         List<ConfigurationSubscription> subscriptionsToDelete = computeSubscriptionsToDelete(subscriptionsToCreate, deployedMta,
                                                                                              context.getVariable(Variables.SPACE_GUID));
-        getStepLogger().debug(Messages.SUBSCRIPTIONS_TO_DELETE, SecureSerialization.toJson(subscriptionsToDelete));
+        getStepLogger().debug(() -> MessageFormat.format(Messages.SUBSCRIPTIONS_TO_DELETE,
+                                                         SecureSerialization.toJson(subscriptionsToDelete)));
 
         Set<String> servicesForApplications = getServicesForApplications(context);
         List<String> servicesToDelete = computeServicesToDelete(context, appsWithoutChange, deployedMta.getServices(),
@@ -113,7 +116,7 @@ public class BuildCloudUndeployModelStep extends SyncFlowableStep {
         appsToUndeploy.removeAll(existingAppsToBackup);
         appsToUndeploy.addAll(backupAppsToUndeploy);
 
-        getStepLogger().debug(Messages.APPS_TO_UNDEPLOY, SecureSerialization.toJson(appsToUndeploy));
+        getStepLogger().debug(() -> MessageFormat.format(Messages.APPS_TO_UNDEPLOY, SecureSerialization.toJson(appsToUndeploy)));
 
         setComponentsToUndeploy(context, servicesToDelete, appsToUndeploy, subscriptionsToDelete, serviceKeysToDelete,
                                 existingAppsToBackup);
@@ -1,5 +1,6 @@
 package org.cloudfoundry.multiapps.controller.process.steps;
 
+import java.text.MessageFormat;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -26,7 +27,8 @@ public class CalculateServiceKeyForWaitingStep extends SyncFlowableStep {
         CloudControllerClient controllerClient = context.getControllerClient();
         List<CloudServiceKey> existingServiceKeys = ServiceUtil.getExistingServiceKeys(controllerClient, serviceToProcess, getStepLogger());
         List<CloudServiceKey> serviceKeysInProgress = getServiceKeysInProgress(existingServiceKeys);
-        getStepLogger().debug(Messages.SERVICE_KEYS_SCHEDULED_FOR_WAITING_0, SecureSerialization.toJson(serviceKeysInProgress));
+        getStepLogger().debug(() -> MessageFormat.format(Messages.SERVICE_KEYS_SCHEDULED_FOR_WAITING_0,
+                                                         SecureSerialization.toJson(serviceKeysInProgress)));
         context.setVariable(Variables.CLOUD_SERVICE_KEYS_FOR_WAITING, serviceKeysInProgress);
         return StepPhase.DONE;
     }
@@ -58,7 +58,8 @@ public class CollectSystemParametersStep extends SyncFlowableStep {
         checkForOverwrittenReadOnlyParameters(descriptor);
         SystemParameters systemParameters = createSystemParameters(context, defaultDomainName, reserveTemporaryRoutes, descriptor);
         systemParameters.injectInto(descriptor);
-        getStepLogger().debug(Messages.DESCRIPTOR_WITH_SYSTEM_PARAMETERS, SecureSerialization.toJson(descriptor));
+        getStepLogger().debug(() -> MessageFormat.format(Messages.DESCRIPTOR_WITH_SYSTEM_PARAMETERS,
+                                                         SecureSerialization.toJson(descriptor)));
 
         determineIsVersionAccepted(context, descriptor);
 
@@ -1,5 +1,6 @@
 package org.cloudfoundry.multiapps.controller.process.steps;
 
+import java.text.MessageFormat;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -52,7 +53,8 @@ public class ComputeNextModulesStep extends SyncFlowableStep {
         // Mark next iteration data as computed
         context.setVariable(Variables.ITERATED_MODULES_IN_PARALLEL, ListUtils.union(completedModules, modulesForNextIteration));
 
-        getStepLogger().debug(Messages.COMPUTED_NEXT_MODULES_FOR_PARALLEL_ITERATION, SecureSerialization.toJson(modulesForNextIteration));
+        getStepLogger().debug(() -> MessageFormat.format(Messages.COMPUTED_NEXT_MODULES_FOR_PARALLEL_ITERATION,
+                                                         SecureSerialization.toJson(modulesForNextIteration)));
         return StepPhase.DONE;
     }
 
@@ -65,7 +65,7 @@ public class DeleteDiscontinuedConfigurationEntriesStep extends SyncFlowableStep
                 getStepLogger().warn(Messages.COULD_NOT_DELETE_PROVIDED_DEPENDENCY, entry.getProviderId());
             }
         }
-        getStepLogger().debug(Messages.DELETED_ENTRIES, SecureSerialization.toJson(entriesToDelete));
+        getStepLogger().debug(() -> MessageFormat.format(Messages.DELETED_ENTRIES, SecureSerialization.toJson(entriesToDelete)));
         context.setVariable(Variables.DELETED_ENTRIES, entriesToDelete);
     }
 
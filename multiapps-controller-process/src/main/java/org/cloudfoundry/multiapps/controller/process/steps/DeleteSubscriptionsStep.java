@@ -27,7 +27,8 @@ public class DeleteSubscriptionsStep extends SyncFlowableStep {
         getStepLogger().debug(Messages.DELETING_SUBSCRIPTIONS);
 
         List<ConfigurationSubscription> subscriptionsToDelete = context.getVariable(Variables.SUBSCRIPTIONS_TO_DELETE);
-        getStepLogger().debug(Messages.SUBSCRIPTIONS_TO_DELETE, SecureSerialization.toJson(subscriptionsToDelete));
+        getStepLogger().debug(() -> MessageFormat.format(Messages.SUBSCRIPTIONS_TO_DELETE,
+                                                         SecureSerialization.toJson(subscriptionsToDelete)));
         for (ConfigurationSubscription subscription : subscriptionsToDelete) {
             infoSubscriptionDeletion(subscription);
             int removedSubscriptions = configurationSubscriptionService.createQuery()
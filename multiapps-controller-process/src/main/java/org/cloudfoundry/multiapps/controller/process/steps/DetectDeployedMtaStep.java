@@ -52,7 +52,8 @@ public class DetectDeployedMtaStep extends SyncFlowableStep {
 
         var deployedServiceKeys = detectDeployedServiceKeys(mtaId, mtaNamespace, deployedMta, context);
         context.setVariable(Variables.DEPLOYED_MTA_SERVICE_KEYS, deployedServiceKeys);
-        getStepLogger().debug(Messages.DEPLOYED_MTA_SERVICE_KEYS, SecureSerialization.toJson(deployedServiceKeys));
+        getStepLogger().debug(() -> MessageFormat.format(Messages.DEPLOYED_MTA_SERVICE_KEYS,
+                                                         SecureSerialization.toJson(deployedServiceKeys)));
 
         return StepPhase.DONE;
     }
@@ -69,7 +70,7 @@ public class DetectDeployedMtaStep extends SyncFlowableStep {
 
         DeployedMta deployedMta = optionalDeployedMta.get();
         context.setVariable(Variables.DEPLOYED_MTA, deployedMta);
-        getStepLogger().debug(Messages.DEPLOYED_MTA, SecureSerialization.toJson(deployedMta));
+        getStepLogger().debug(() -> MessageFormat.format(Messages.DEPLOYED_MTA, SecureSerialization.toJson(deployedMta)));
         MtaMetadata metadata = deployedMta.getMetadata();
         logDetectedDeployedMta(mtaNamespace, metadata);
         return deployedMta;
@@ -89,7 +90,7 @@ public class DetectDeployedMtaStep extends SyncFlowableStep {
 
         DeployedMta backupMta = optionalBackupMta.get();
         context.setVariable(Variables.BACKUP_MTA, backupMta);
-        getStepLogger().debug(Messages.DETECTED_BACKUP_MTA, SecureSerialization.toJson(backupMta));
+        getStepLogger().debug(() -> MessageFormat.format(Messages.DETECTED_BACKUP_MTA, SecureSerialization.toJson(backupMta)));
     }
 
     private List<DeployedMtaServiceKey> detectDeployedServiceKeys(String mtaId, String mtaNamespace, DeployedMta deployedMta,
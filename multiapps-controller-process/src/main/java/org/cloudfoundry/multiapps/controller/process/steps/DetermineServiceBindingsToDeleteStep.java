@@ -1,5 +1,6 @@
 package org.cloudfoundry.multiapps.controller.process.steps;
 
+import java.text.MessageFormat;
 import java.util.List;
 import java.util.UUID;
 
@@ -24,7 +25,7 @@ public class DetermineServiceBindingsToDeleteStep extends SyncFlowableStep {
         UUID applicationGuid = controllerClient.getApplicationGuid(appToDelete.getName());
         List<CloudServiceBinding> bindingsToDelete = controllerClient.getAppBindings(applicationGuid);
         context.setVariable(Variables.CLOUD_SERVICE_BINDINGS_TO_DELETE, bindingsToDelete);
-        getStepLogger().debug(Messages.EXISTING_SERVICE_BINDINGS, SecureSerialization.toJson(bindingsToDelete));
+        getStepLogger().debug(() -> MessageFormat.format(Messages.EXISTING_SERVICE_BINDINGS, SecureSerialization.toJson(bindingsToDelete)));
         return StepPhase.DONE;
     }
 
@@ -115,7 +115,7 @@ public class DetermineServiceCreateUpdateServiceActionsStep extends SyncFlowable
             context.setVariable(Variables.SERVICES_TO_CREATE, Collections.singletonList(service));
             return actions;
         }
-        getStepLogger().debug(Messages.EXISTING_SERVICE, SecureSerialization.toJson(existingService));
+        getStepLogger().debug(() -> MessageFormat.format(Messages.EXISTING_SERVICE, SecureSerialization.toJson(existingService)));
 
         boolean shouldRecreate = false;
         if (haveDifferentTypesOrLabels(service, existingService)) {
@@ -157,7 +157,8 @@ public class DetermineServiceCreateUpdateServiceActionsStep extends SyncFlowable
                                                        service.getName());
         } else {
             getStepLogger().debug(Messages.WILL_UPDATE_SERVICE_PARAMETERS);
-            getStepLogger().debug(Messages.NEW_SERVICE_PARAMETERS, SecureSerialization.toJson(service.getCredentials()));
+            getStepLogger().debug(() -> MessageFormat.format(Messages.NEW_SERVICE_PARAMETERS,
+                                                             SecureSerialization.toJson(service.getCredentials())));
             actions.add(ServiceAction.UPDATE_CREDENTIALS);
         }
 
@@ -179,7 +180,7 @@ public class DetermineServiceCreateUpdateServiceActionsStep extends SyncFlowable
 
         if (shouldUpdateMetadata(service, existingService)) {
             getStepLogger().debug(Messages.SHOULD_UPDATE_METADATA);
-            getStepLogger().debug(Messages.NEW_METADATA, SecureSerialization.toJson(service.getV3Metadata()));
+            getStepLogger().debug(() -> MessageFormat.format(Messages.NEW_METADATA, SecureSerialization.toJson(service.getV3Metadata())));
             actions.add(ServiceAction.UPDATE_METADATA);
         }
 
@@ -1,5 +1,6 @@
 package org.cloudfoundry.multiapps.controller.process.steps;
 
+import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -122,7 +123,7 @@ public class ExtractBatchedServicesWithResolvedDynamicParametersStep extends Syn
                                                                                              .filter(
                                                                                                  CloudServiceInstanceExtended::isManaged)
                                                                                              .collect(Collectors.toList());
-        getStepLogger().debug(Messages.SERVICES_TO_CREATE, SecureSerialization.toJson(servicesToCreate));
+        getStepLogger().debug(() -> MessageFormat.format(Messages.SERVICES_TO_CREATE, SecureSerialization.toJson(servicesToCreate)));
         context.setVariable(Variables.SERVICES_TO_CREATE, servicesToCreate);
         context.setVariable(Variables.SERVICES_TO_CREATE_COUNT, servicesToCreate.size());
     }
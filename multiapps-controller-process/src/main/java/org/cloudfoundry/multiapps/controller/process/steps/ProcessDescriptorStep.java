@@ -45,13 +45,13 @@ public class ProcessDescriptorStep extends SyncFlowableStep {
     protected StepPhase executeStep(ProcessContext context) {
         getStepLogger().debug(Messages.RESOLVING_DESCRIPTOR_PROPERTIES);
 
-        DeploymentDescriptor descriptor = context.getVariable(Variables.DEPLOYMENT_DESCRIPTOR_WITH_SYSTEM_PARAMETERS);
-        MtaDescriptorPropertiesResolver resolver = getMtaDescriptorPropertiesResolver(context, descriptor);
+        DeploymentDescriptor descriptorWithSystemParameters = context.getVariable(Variables.DEPLOYMENT_DESCRIPTOR_WITH_SYSTEM_PARAMETERS);
+        MtaDescriptorPropertiesResolver resolver = getMtaDescriptorPropertiesResolver(context, descriptorWithSystemParameters);
 
-        descriptor = resolver.resolve(descriptor);
+        DeploymentDescriptor descriptor = resolver.resolve(descriptorWithSystemParameters);
 
         List<ConfigurationSubscription> subscriptions = resolver.getSubscriptions();
-        getStepLogger().debug(Messages.SUBSCRIPTIONS, SecureSerialization.toJson(subscriptions));
+        getStepLogger().debug(() -> MessageFormat.format(Messages.SUBSCRIPTIONS, SecureSerialization.toJson(subscriptions)));
         context.setVariable(Variables.SUBSCRIPTIONS_TO_CREATE, subscriptions);
 
         setDynamicResolvableParametersIfAbsent(context, resolver);
@@ -68,7 +68,7 @@ public class ProcessDescriptorStep extends SyncFlowableStep {
         getStepLogger().debug(Messages.MTA_MODULES, mtaModules);
         context.setVariable(Variables.MTA_MODULES, mtaModules);
 
-        getStepLogger().debug(Messages.RESOLVED_DEPLOYMENT_DESCRIPTOR, SecureSerialization.toJson(descriptor));
+        getStepLogger().debug(() -> MessageFormat.format(Messages.RESOLVED_DEPLOYMENT_DESCRIPTOR, SecureSerialization.toJson(descriptor)));
         getStepLogger().debug(Messages.DESCRIPTOR_PROPERTIES_RESOLVED);
 
         return StepPhase.DONE;
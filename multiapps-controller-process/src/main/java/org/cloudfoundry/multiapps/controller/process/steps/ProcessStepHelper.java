@@ -40,6 +40,7 @@ public abstract class ProcessStepHelper {
                                                                      .getCurrentFlowElement()
                                                                      .getName()));
 
+        getStepLogger().flushProgressMessages();
         getProcessLoggerPersister().persistLogs(context.getVariable(Variables.CORRELATION_ID), context.getVariable(Variables.TASK_ID));
         context.setVariable(Variables.STEP_EXECUTION, state.toString());
     }
@@ -83,6 +84,8 @@ public abstract class ProcessStepHelper {
 
     private void storeExceptionInProgressMessageService(ProcessContext context, Throwable throwable) {
         try {
+            // The error message has to be persisted after the pending progress messages of the step:
+            getStepLogger().flushProgressMessages();
             getProgressMessageService().add(ImmutableProgressMessage.builder()
                                                                     .processId(context.getVariable(Variables.CORRELATION_ID))
                                                                     .taskId(getCurrentActivityId(context.getExecution()))
@@ -55,7 +55,7 @@ public class PublishConfigurationEntriesStep extends SyncFlowableStep {
 
         List<ConfigurationEntry> publishedEntries = publish(context, resolvedEntriesToPublish);
 
-        getStepLogger().debug(Messages.PUBLISHED_ENTRIES, SecureSerialization.toJson(publishedEntries));
+        getStepLogger().debug(() -> MessageFormat.format(Messages.PUBLISHED_ENTRIES, SecureSerialization.toJson(publishedEntries)));
         context.setVariable(Variables.PUBLISHED_ENTRIES, publishedEntries);
 
         getStepLogger().debug(Messages.PUBLIC_PROVIDED_DEPENDENCIES_PUBLISHED);
@@ -172,9 +172,9 @@ public class StepsUtil {
             appName = BlueGreenApplicationNameSuffix.removeSuffix(appName);
         }
         var loggerPrefix = getLoggerPrefix(logger);
+        var appLogger = processLoggerProvider.getLogger(context.getExecution(), appName);
         for (ApplicationLog log : recentLogs) {
-            processLoggerProvider.getLogger(context.getExecution(), appName)
-                                 .debug(loggerPrefix + log.toString());
+            appLogger.debug(loggerPrefix + log.toString());
         }
 
         var lastLog = recentLogs.get(recentLogs.size() - 1);
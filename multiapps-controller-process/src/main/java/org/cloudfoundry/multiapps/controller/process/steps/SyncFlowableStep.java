@@ -3,6 +3,8 @@ package org.cloudfoundry.multiapps.controller.process.steps;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import io.netty.handler.timeout.TimeoutException;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
@@ -34,6 +36,8 @@ import org.slf4j.LoggerFactory;
 
 public abstract class SyncFlowableStep implements JavaDelegate {
 
+    static final String STEP_METRICS_PREFIX = "multiapps.process.step.";
+
     protected final Logger logger = LoggerFactory.getLogger(getClass());
 
     @Inject
@@ -65,6 +69,7 @@ public abstract class SyncFlowableStep implements JavaDelegate {
     }
 
     private void executeInternal(DelegateExecution execution) {
+        Timer.Sample sample = Timer.start(Metrics.globalRegistry);
         initializeStepLogger(execution);
         ProcessContext context = createProcessContext(execution);
         StepPhase stepPhase = getInitialStepPhase(context);
@@ -80,10 +85,23 @@ public abstract class SyncFlowableStep implements JavaDelegate {
             handleException(context, e);
         } finally {
             context.setVariable(Variables.STEP_PHASE, stepPhase);
+            recordStepExecution(sample, stepPhase);
             postExecuteStep(context, stepPhase);
         }
     }
 
+    private void recordStepExecution(Timer.Sample sample, StepPhase stepPhase) {
+        sample.stop(Timer.builder(STEP_METRICS_PREFIX + "execution")
+                         .tag("step", getStepName())
+                         .tag("outcome", stepPhase.name()
+                                                  .toLowerCase())
+                         .register(Metrics.globalRegistry));
+    }
+
+    protected String getStepName() {
+        return getClass().getSimpleName();
+    }
+
     protected StepPhase getInitialStepPhase(ProcessContext context) {
         return StepPhase.EXECUTE;
     }
@@ -1,5 +1,6 @@
 package org.cloudfoundry.multiapps.controller.process.steps;
 
+import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -178,8 +179,8 @@ public class UpdateSubscribersStep extends SyncFlowableStep {
         CloudHandlerFactory handlerFactory = CloudHandlerFactory.forSchemaVersion(MAJOR_SCHEMA_VERSION);
 
         DeploymentDescriptor dummyDescriptor = buildDummyDescriptor(subscription, handlerFactory);
-        getStepLogger().debug(org.cloudfoundry.multiapps.controller.core.Messages.DEPLOYMENT_DESCRIPTOR,
-                              SecureSerialization.toJson(dummyDescriptor));
+        getStepLogger().debug(() -> MessageFormat.format(org.cloudfoundry.multiapps.controller.core.Messages.DEPLOYMENT_DESCRIPTOR,
+                                                         SecureSerialization.toJson(dummyDescriptor)));
 
         ConfigurationReferencesResolver resolver = handlerFactory.getConfigurationReferencesResolver(configurationEntryService,
                                                                                                      new DummyConfigurationFilterParser(
@@ -190,14 +191,16 @@ public class UpdateSubscribersStep extends SyncFlowableStep {
                                                                                                                          Variables.SPACE_NAME)),
                                                                                                      configuration);
         resolver.resolve(dummyDescriptor);
-        getStepLogger().debug(Messages.RESOLVED_DEPLOYMENT_DESCRIPTOR, SecureSerialization.toJson(dummyDescriptor));
-        dummyDescriptor = handlerFactory.getDescriptorReferenceResolver(dummyDescriptor, new ResolverBuilder(), new ResolverBuilder(),
-                                                                        new ResolverBuilder(),
-                                                                        SupportedParameters.DYNAMIC_RESOLVABLE_PARAMETERS)
-                                        .resolve();
-        getStepLogger().debug(Messages.RESOLVED_DEPLOYMENT_DESCRIPTOR, SecureSerialization.toJson(dummyDescriptor));
-
-        ApplicationCloudModelBuilder applicationCloudModelBuilder = handlerFactory.getApplicationCloudModelBuilder(dummyDescriptor,
+        getStepLogger().debug(() -> MessageFormat.format(Messages.RESOLVED_DEPLOYMENT_DESCRIPTOR,
+                                                         SecureSerialization.toJson(dummyDescriptor)));
+        DeploymentDescriptor resolvedDescriptor = handlerFactory.getDescriptorReferenceResolver(dummyDescriptor, new ResolverBuilder(),
+                                                                                                new ResolverBuilder(), new ResolverBuilder(),
+                                                                                                SupportedParameters.DYNAMIC_RESOLVABLE_PARAMETERS)
+                                                                .resolve();
+        getStepLogger().debug(() -> MessageFormat.format(Messages.RESOLVED_DEPLOYMENT_DESCRIPTOR,
+                                                         SecureSerialization.toJson(resolvedDescriptor)));
+
+        ApplicationCloudModelBuilder applicationCloudModelBuilder = handlerFactory.getApplicationCloudModelBuilder(resolvedDescriptor,
                                                                                                                    shouldUsePrettyPrinting(),
                                                                                                                    null, "",
                                                                                                                    context.getVariable(
@@ -207,8 +210,8 @@ public class UpdateSubscribersStep extends SyncFlowableStep {
                                                                                                                        context), client,
                                                                                                                    false);
 
-        Module module = dummyDescriptor.getModules()
-                                       .get(0);
+        Module module = resolvedDescriptor.getModules()
+                                          .get(0);
 
         CloudApplicationExtended application = applicationCloudModelBuilder.build(module, moduleToDeployHelper);
 
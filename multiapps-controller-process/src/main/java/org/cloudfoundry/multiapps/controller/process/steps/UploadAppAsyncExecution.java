@@ -1,5 +1,6 @@
 package org.cloudfoundry.multiapps.controller.process.steps;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.text.MessageFormat;
 import java.time.Duration;
@@ -29,6 +30,7 @@ import org.cloudfoundry.multiapps.controller.process.context.ApplicationToUpload
 import org.cloudfoundry.multiapps.controller.process.context.ImmutableApplicationToUploadContext;
 import org.cloudfoundry.multiapps.controller.process.util.ApplicationArchiveContext;
 import org.cloudfoundry.multiapps.controller.process.util.ApplicationZipBuilder;
+import org.cloudfoundry.multiapps.controller.process.util.ExtractedApplicationArchivesTracker;
 import org.cloudfoundry.multiapps.controller.process.util.StepLogger;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.slf4j.Logger;
@@ -41,13 +43,17 @@ public class UploadAppAsyncExecution implements AsyncExecution {
     private static final Logger LOGGER = LoggerFactory.getLogger(UploadAppAsyncExecution.class);
 
     private final ApplicationZipBuilder applicationZipBuilder;
+    private final ExtractedApplicationArchivesTracker extractedApplicationArchivesTracker;
     private final ProcessLoggerPersister processLoggerPersister;
     private final ApplicationConfiguration applicationConfiguration;
     private final ExecutorService appUploaderThreadPool;
 
-    public UploadAppAsyncExecution(ApplicationZipBuilder applicationZipBuilder, ProcessLoggerPersister processLoggerPersister,
-                                   ApplicationConfiguration applicationConfiguration, ExecutorService appUploaderThreadPool) {
+    public UploadAppAsyncExecution(ApplicationZipBuilder applicationZipBuilder,
+                                   ExtractedApplicationArchivesTracker extractedApplicationArchivesTracker,
+                                   ProcessLoggerPersister processLoggerPersister, ApplicationConfiguration applicationConfiguration,
+                                   ExecutorService appUploaderThreadPool) {
         this.applicationZipBuilder = applicationZipBuilder;
+        this.extractedApplicationArchivesTracker = extractedApplicationArchivesTracker;
         this.processLoggerPersister = processLoggerPersister;
         this.applicationConfiguration = applicationConfiguration;
         this.appUploaderThreadPool = appUploaderThreadPool;
@@ -129,20 +135,31 @@ public class UploadAppAsyncExecution implements AsyncExecution {
 
     private CloudPackage asyncUploadFiles(CloudControllerClient client, ApplicationToUploadContext applicationToUploadContext) {
         Path extractedAppPath = extractApplicationFromArchive(applicationToUploadContext);
-        LOGGER.debug(MessageFormat.format(Messages.APPLICATION_WITH_NAME_0_SAVED_TO_1, applicationToUploadContext.getApplication()
-                                                                                                                 .getName(),
-                                          extractedAppPath));
-        applicationToUploadContext.getStepLogger()
-                                  .infoWithoutProgressMessage(Messages.SIZE_OF_APP_0_IS_1_BYTES, applicationToUploadContext.getApplication()
-                                                                                                                           .getName(),
-                                                              extractedAppPath.toFile()
-                                                                              .length());
-        return upload(client, applicationToUploadContext, extractedAppPath);
+        try {
+            LOGGER.debug(MessageFormat.format(Messages.APPLICATION_WITH_NAME_0_SAVED_TO_1, applicationToUploadContext.getApplication()
+                                                                                                                     .getName(),
+                                              extractedAppPath));
+            applicationToUploadContext.getStepLogger()
+                                      .infoWithoutProgressMessage(Messages.SIZE_OF_APP_0_IS_1_BYTES,
+                                                                  applicationToUploadContext.getApplication()
+                                                                                            .getName(),
+                                                                  extractedAppPath.toFile()
+                                                                                  .length());
+            return upload(client, applicationToUploadContext, extractedAppPath);
+        } finally {
+            // The bits are uploaded by the time the upload is started, so the archive is no longer needed
+            FileUtils.cleanUp(extractedAppPath, LOGGER);
+        }
     }
 
     private Path extractApplicationFromArchive(ApplicationToUploadContext applicationToUploadContext) {
+        Path extractedAppPath = getAlreadyExtractedApplication(applicationToUploadContext);
+        if (extractedAppPath != null) {
+            LOGGER.debug(MessageFormat.format(Messages.REUSING_EXTRACTED_APPLICATION_0, extractedAppPath));
+            return extractedAppPath;
+        }
         LocalDateTime startTime = LocalDateTime.now();
-        Path extractedAppPath = extractFromMtar(
+        extractedAppPath = extractFromMtar(
             createApplicationArchiveContext(applicationToUploadContext, applicationConfiguration.getMaxResourceFileSize()));
         long timeElapsedForUpload = Duration.between(startTime, LocalDateTime.now())
                                             .toMillis();
@@ -152,6 +169,14 @@ public class UploadAppAsyncExecution implements AsyncExecution {
         return extractedAppPath;
     }
 
+    private Path getAlreadyExtractedApplication(ApplicationToUploadContext applicationToUploadContext) {
+        // The archive is tracked on the instance which executed the step, so it is missing if the upload runs on another instance
+        Path extractedAppPath = extractedApplicationArchivesTracker.take(applicationToUploadContext.getCorrelationId(),
+                                                                         applicationToUploadContext.getApplication()
+                                                                                                   .getName());
+        return extractedAppPath != null && Files.isRegularFile(extractedAppPath) ? extractedAppPath : null;
+    }
+
     protected ApplicationArchiveContext createApplicationArchiveContext(ApplicationToUploadContext applicationToUploadContext,
                                                                         long maxSize) {
         return new ApplicationArchiveContext(applicationToUploadContext.getModuleFileName(), maxSize,
@@ -174,7 +199,6 @@ public class UploadAppAsyncExecution implements AsyncExecution {
                                                                            applicationToUploadContext.getCorrelationId(),
                                                                            applicationToUploadContext.getTaskId()), null);
         } catch (Exception e) {
-            FileUtils.cleanUp(extractedModulePath, LOGGER);
             throw new SLException(e, Messages.ERROR_WHILE_STARTING_ASYNC_UPLOAD_OF_APP_WITH_NAME_0,
                                   applicationToUploadContext.getApplication()
                                                             .getName());
@@ -1,5 +1,6 @@
 package org.cloudfoundry.multiapps.controller.process.steps;
 
+import java.text.MessageFormat;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
@@ -24,11 +25,12 @@ import org.cloudfoundry.multiapps.controller.core.security.serialization.SecureS
 import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.cloudfoundry.multiapps.controller.process.util.ApplicationArchiveContext;
-import org.cloudfoundry.multiapps.controller.process.util.ApplicationDigestCalculator;
 import org.cloudfoundry.multiapps.controller.process.util.ApplicationStager;
 import org.cloudfoundry.multiapps.controller.process.util.ApplicationZipBuilder;
 import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryWithStreamPositions;
 import org.cloudfoundry.multiapps.controller.process.util.CloudPackagesGetter;
+import org.cloudfoundry.multiapps.controller.process.util.ExtractedApplicationArchive;
+import org.cloudfoundry.multiapps.controller.process.util.ExtractedApplicationArchivesTracker;
 import org.cloudfoundry.multiapps.controller.process.util.TimeoutType;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.slf4j.Logger;
@@ -44,17 +46,27 @@ public class UploadAppStep extends TimeoutAsyncFlowableStep {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(UploadAppStep.class);
 
-    @Inject
-    protected ApplicationDigestCalculator applicationDigestCalculator;
     @Inject
     protected ApplicationZipBuilder applicationZipBuilder;
     @Inject
     protected CloudPackagesGetter cloudPackagesGetter;
     @Inject
+    protected ExtractedApplicationArchivesTracker extractedApplicationArchivesTracker;
+    @Inject
     private ExecutorService appUploaderThreadPool;
 
     @Override
     public StepPhase executeAsyncStep(ProcessContext context) throws FileStorageException {
+        discardExtractedApplicationArchive(context);
+        try {
+            return uploadApplication(context);
+        } catch (RuntimeException e) {
+            discardExtractedApplicationArchive(context);
+            throw e;
+        }
+    }
+
+    private StepPhase uploadApplication(ProcessContext context) {
         CloudApplicationExtended applicationToProcess = context.getVariable(Variables.APP_TO_PROCESS);
         getStepLogger().info(Messages.UPLOADING_APP, applicationToProcess.getName());
 
@@ -78,7 +90,10 @@ public class UploadAppStep extends TimeoutAsyncFlowableStep {
             return StepPhase.POLL;
         } else {
             getStepLogger().infoWithoutProgressMessage(Messages.CALCULATING_APPLICATION_DIGEST_0, applicationToProcess.getName());
-            String newApplicationDigest = getNewApplicationDigest(context, moduleFileName);
+            ExtractedApplicationArchive extractedApplicationArchive = extractApplicationWithDigest(context, moduleFileName);
+            extractedApplicationArchivesTracker.track(context.getVariable(Variables.CORRELATION_ID), applicationToProcess.getName(),
+                                                      extractedApplicationArchive.path());
+            String newApplicationDigest = extractedApplicationArchive.digest();
             boolean contentChanged = detectApplicationFileDigestChanges(appEnv, newApplicationDigest);
             if (contentChanged) {
                 context.setVariable(Variables.SHOULD_UPDATE_APPLICATION_DIGEST, true);
@@ -95,7 +110,7 @@ public class UploadAppStep extends TimeoutAsyncFlowableStep {
         CloudPackage latestPackage = mostRecentPackage.get();
         Optional<CloudPackage> currentPackage = cloudPackagesGetter.getAppPackage(client, cloudApp.getGuid());
         if (currentPackage.isEmpty() && isPackageInValidState(latestPackage)) {
-            context.setVariable(Variables.SHOULD_SKIP_APPLICATION_UPLOAD, true);
+            skipApplicationUpload(context);
             return useLatestPackage(context, latestPackage);
         }
 
@@ -105,15 +120,26 @@ public class UploadAppStep extends TimeoutAsyncFlowableStep {
 
         if (isPackageInValidState(latestPackage) && (context.getVariable(Variables.APP_NEEDS_RESTAGE) || !packagesMatch(
             currentPackage.get(), latestPackage))) {
-            context.setVariable(Variables.SHOULD_SKIP_APPLICATION_UPLOAD, true);
+            skipApplicationUpload(context);
             return useLatestPackage(context, latestPackage);
         }
 
         getStepLogger().info(Messages.CONTENT_OF_APPLICATION_0_IS_NOT_CHANGED, applicationToProcess.getName());
-        context.setVariable(Variables.SHOULD_SKIP_APPLICATION_UPLOAD, true);
+        skipApplicationUpload(context);
         return StepPhase.DONE;
     }
 
+    private void skipApplicationUpload(ProcessContext context) {
+        context.setVariable(Variables.SHOULD_SKIP_APPLICATION_UPLOAD, true);
+        discardExtractedApplicationArchive(context);
+    }
+
+    private void discardExtractedApplicationArchive(ProcessContext context) {
+        extractedApplicationArchivesTracker.discard(context.getVariable(Variables.CORRELATION_ID),
+                                                    context.getVariable(Variables.APP_TO_PROCESS)
+                                                           .getName());
+    }
+
     private boolean packagesMatch(CloudPackage currentPackage, CloudPackage latestPackage) {
         return Objects.equals(currentPackage.getGuid(), latestPackage.getGuid());
     }
@@ -123,9 +149,9 @@ public class UploadAppStep extends TimeoutAsyncFlowableStep {
         return client.createDockerPackage(applicationGuid, application.getDockerInfo());
     }
 
-    private String getNewApplicationDigest(ProcessContext context, String fileName) {
+    private ExtractedApplicationArchive extractApplicationWithDigest(ProcessContext context, String fileName) {
         ApplicationArchiveContext applicationArchiveContext = createApplicationArchiveContext(context, fileName);
-        return applicationDigestCalculator.calculateApplicationDigest(applicationArchiveContext);
+        return applicationZipBuilder.extractApplicationWithDigest(applicationArchiveContext);
     }
 
     protected ApplicationArchiveContext createApplicationArchiveContext(ProcessContext context, String fileName) {
@@ -143,7 +169,8 @@ public class UploadAppStep extends TimeoutAsyncFlowableStep {
     }
 
     private StepPhase useLatestPackage(ProcessContext context, CloudPackage latestUnusedPackage) {
-        getStepLogger().debug(Messages.THE_NEWEST_PACKAGE_WILL_BE_USED_0, SecureSerialization.toJson(latestUnusedPackage));
+        getStepLogger().debug(() -> MessageFormat.format(Messages.THE_NEWEST_PACKAGE_WILL_BE_USED_0,
+                                                         SecureSerialization.toJson(latestUnusedPackage)));
         context.setVariable(Variables.CLOUD_PACKAGE, latestUnusedPackage);
         return StepPhase.POLL;
     }
@@ -179,7 +206,8 @@ public class UploadAppStep extends TimeoutAsyncFlowableStep {
 
     @Override
     protected List<AsyncExecution> getAsyncStepExecutions(ProcessContext context) {
-        return List.of(new UploadAppAsyncExecution(applicationZipBuilder, getProcessLogsPersister(), configuration, appUploaderThreadPool),
+        return List.of(new UploadAppAsyncExecution(applicationZipBuilder, extractedApplicationArchivesTracker, getProcessLogsPersister(),
+                                                   configuration, appUploaderThreadPool),
                        new PollUploadAppStatusExecution());
     }
 
@@ -6,16 +6,27 @@ import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.text.MessageFormat;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterOutputStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
 import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.input.BoundedInputStream;
+import org.apache.commons.io.input.TeeInputStream;
 import org.cloudfoundry.multiapps.common.ContentException;
 import org.cloudfoundry.multiapps.common.SLException;
 import org.cloudfoundry.multiapps.controller.core.util.FileUtils;
+import org.cloudfoundry.multiapps.controller.core.util.TempFilesSpaceTracker;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileContentToProcess;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
+import org.cloudfoundry.multiapps.controller.persistence.services.ImmutableFileContentToProcess;
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,6 +63,7 @@ public class ApplicationZipBuilder {
             } else {
                 extractModuleContent(applicationArchiveContext, appPath);
             }
+            TempFilesSpaceTracker.track(appPath);
             return appPath;
         } catch (Exception e) {
             FileUtils.cleanUp(appPath, LOGGER);
@@ -59,6 +71,16 @@ public class ApplicationZipBuilder {
         }
     }
 
+    /**
+     * Extracts the application in a new archive and calculates its digest from the same decompressed content, so that the module is
+     * read only once.
+     */
+    public ExtractedApplicationArchive extractApplicationWithDigest(ApplicationArchiveContext applicationArchiveContext) {
+        Path appPath = extractApplicationInNewArchive(applicationArchiveContext);
+        return new ExtractedApplicationArchive(appPath, applicationArchiveContext.getDigestCalculator()
+                                                                                 .getDigest());
+    }
+
     protected Path createTempFile() {
         try {
             return Files.createTempFile(null, getFileExtension());
@@ -72,7 +94,12 @@ public class ApplicationZipBuilder {
     }
 
     private void extractDirectoryContent(ApplicationArchiveContext applicationArchiveContext, Path applicationPath)
-        throws FileStorageException {
+        throws IOException, FileStorageException {
+        List<ArchiveEntryWithStreamPositions> moduleEntries = getModuleEntries(applicationArchiveContext);
+        if (canCopyCompressedEntries(moduleEntries)) {
+            copyCompressedEntries(applicationArchiveContext, moduleEntries, applicationPath);
+            return;
+        }
         fileService.consumeFileContent(applicationArchiveContext.getSpaceId(), applicationArchiveContext.getAppArchiveId(),
                                        archiveStream -> {
                                            try (ZipArchiveInputStream zipArchiveInputStream = new ZipArchiveInputStream(archiveStream)) {
@@ -81,6 +108,118 @@ public class ApplicationZipBuilder {
                                        });
     }
 
+    private List<ArchiveEntryWithStreamPositions> getModuleEntries(ApplicationArchiveContext applicationArchiveContext) {
+        return applicationArchiveContext.getArchiveEntryWithStreamPositions()
+                                        .stream()
+                                        .filter(entry -> entry.getName()
+                                                              .startsWith(applicationArchiveContext.getModuleFileName()))
+                                        .toList();
+    }
+
+    private boolean canCopyCompressedEntries(List<ArchiveEntryWithStreamPositions> moduleEntries) {
+        // Entries determined before their CRC and size were recorded are repackaged from their decompressed content
+        return !moduleEntries.isEmpty() && moduleEntries.get(0)
+                                                        .isDirectory()
+            && moduleEntries.stream()
+                            .allMatch(entry -> entry.isDirectory() || (entry.getCrc() != null && entry.getUncompressedSize() != null));
+    }
+
+    /**
+     * Transfers the compressed content of the module entries to the new archive as it is, so that it is not compressed again. The
+     * content is still decompressed once in order to update the application digest.
+     */
+    private void copyCompressedEntries(ApplicationArchiveContext applicationArchiveContext,
+                                       List<ArchiveEntryWithStreamPositions> moduleEntries, Path applicationPath)
+        throws IOException, FileStorageException {
+        List<ArchiveEntryWithStreamPositions> entriesToCopy = moduleEntries.stream()
+                                                                           .filter(entry -> !entry.isDirectory()
+                                                                               && !isAlreadyUploaded(entry.getName(),
+                                                                                                     applicationArchiveContext))
+                                                                           .sorted(Comparator.comparingLong(ArchiveEntryWithStreamPositions::getStartPosition))
+                                                                           .toList();
+        try (ZipArchiveOutputStream zipOutputStream = new ZipArchiveOutputStream(applicationPath)) {
+            if (entriesToCopy.isEmpty()) {
+                return;
+            }
+            // The entries of a module are next to each other in the archive, so they are read with a single request
+            fileService.consumeFileContentWithOffset(toFileContentToProcess(applicationArchiveContext, entriesToCopy),
+                                                     moduleContent -> copyCompressedEntries(zipOutputStream, applicationArchiveContext,
+                                                                                            entriesToCopy, moduleContent));
+        }
+    }
+
+    private FileContentToProcess toFileContentToProcess(ApplicationArchiveContext applicationArchiveContext,
+                                                        List<ArchiveEntryWithStreamPositions> entriesToCopy) {
+        return ImmutableFileContentToProcess.builder()
+                                            .guid(applicationArchiveContext.getAppArchiveId())
+                                            .spaceGuid(applicationArchiveContext.getSpaceId())
+                                            .startOffset(entriesToCopy.get(0)
+                                                                      .getStartPosition())
+                                            .endOffset(entriesToCopy.get(entriesToCopy.size() - 1)
+                                                                    .getEndPosition())
+                                            .build();
+    }
+
+    private void copyCompressedEntries(ZipArchiveOutputStream zipOutputStream, ApplicationArchiveContext applicationArchiveContext,
+                                       List<ArchiveEntryWithStreamPositions> entriesToCopy, InputStream moduleContent)
+        throws IOException {
+        long position = entriesToCopy.get(0)
+                                     .getStartPosition();
+        for (ArchiveEntryWithStreamPositions entryToCopy : entriesToCopy) {
+            moduleContent.skipNBytes(entryToCopy.getStartPosition() - position);
+            copyCompressedEntry(zipOutputStream, applicationArchiveContext, entryToCopy, moduleContent);
+            position = entryToCopy.getEndPosition();
+        }
+    }
+
+    private void copyCompressedEntry(ZipArchiveOutputStream zipOutputStream, ApplicationArchiveContext applicationArchiveContext,
+                                     ArchiveEntryWithStreamPositions entryToCopy, InputStream moduleContent)
+        throws IOException {
+        long uncompressedSize = entryToCopy.getUncompressedSize();
+        validateMaxSizeIsNotExceeded(applicationArchiveContext, uncompressedSize);
+        ZipArchiveEntry zipEntry = createCompressedZipEntry(entryToCopy, applicationArchiveContext.getModuleFileName());
+        BoundedInputStream compressedContent = BoundedInputStream.builder()
+                                                                 .setInputStream(moduleContent)
+                                                                 .setMaxCount(zipEntry.getCompressedSize())
+                                                                 .setPropagateClose(false)
+                                                                 .get();
+        Inflater inflater = new Inflater(true);
+        try (OutputStream digestOutputStream = createDigestOutputStream(zipEntry, applicationArchiveContext, inflater);
+            InputStream digestedContent = new TeeInputStream(compressedContent, digestOutputStream)) {
+            zipOutputStream.addRawArchiveEntry(zipEntry, digestedContent);
+        } finally {
+            inflater.end();
+        }
+        if (compressedContent.getCount() != zipEntry.getCompressedSize()) {
+            throw new ContentException(Messages.ARCHIVE_ENTRY_0_IS_TRUNCATED, entryToCopy.getName());
+        }
+        applicationArchiveContext.calculateCurrentSizeInBytes(uncompressedSize);
+    }
+
+    private ZipArchiveEntry createCompressedZipEntry(ArchiveEntryWithStreamPositions moduleEntry, String moduleFileName) {
+        ZipArchiveEntry zipEntry = new ZipArchiveEntry(FileUtils.getRelativePath(moduleFileName, moduleEntry.getName()));
+        zipEntry.setMethod(getZipCompressionMethod(moduleEntry));
+        zipEntry.setCrc(moduleEntry.getCrc());
+        zipEntry.setSize(moduleEntry.getUncompressedSize());
+        zipEntry.setCompressedSize(moduleEntry.getEndPosition() - moduleEntry.getStartPosition());
+        zipEntry.setTime(System.currentTimeMillis());
+        return zipEntry;
+    }
+
+    private int getZipCompressionMethod(ArchiveEntryWithStreamPositions moduleEntry) {
+        return moduleEntry.getCompressionMethod() == ArchiveEntryWithStreamPositions.CompressionMethod.STORED ? ZipEntry.STORED
+            : ZipEntry.DEFLATED;
+    }
+
+    private OutputStream createDigestOutputStream(ZipArchiveEntry zipEntry, ApplicationArchiveContext applicationArchiveContext,
+                                                  Inflater inflater) {
+        OutputStream digestOutputStream = new DigestOutputStream(applicationArchiveContext.getDigestCalculator());
+        if (zipEntry.getMethod() == ZipEntry.STORED) {
+            return digestOutputStream;
+        }
+        return new InflaterOutputStream(digestOutputStream, inflater, BUFFER_SIZE);
+    }
+
     private void saveAllEntries(Path dirPath, ApplicationArchiveContext applicationArchiveContext,
                                 ZipArchiveInputStream zipArchiveInputStream)
         throws IOException {
@@ -122,17 +261,23 @@ public class ApplicationZipBuilder {
     protected void copy(InputStream input, OutputStream output, ApplicationArchiveContext applicationArchiveContext) throws IOException {
         byte[] buffer = new byte[BUFFER_SIZE];
         int numberOfReadBytes = 0;
-        long maxSizeInBytes = applicationArchiveContext.getMaxSizeInBytes();
         while ((numberOfReadBytes = input.read(buffer)) != -1) {
-            long currentSizeInBytes = applicationArchiveContext.getCurrentSizeInBytes();
-            if (currentSizeInBytes + numberOfReadBytes > maxSizeInBytes) {
-                throw new ContentException(org.cloudfoundry.multiapps.mta.Messages.ERROR_SIZE_OF_FILE_EXCEEDS_CONFIGURED_MAX_SIZE_LIMIT,
-                                           currentSizeInBytes + numberOfReadBytes,
-                                           applicationArchiveContext.getModuleFileName(),
-                                           maxSizeInBytes);
-            }
+            validateMaxSizeIsNotExceeded(applicationArchiveContext, numberOfReadBytes);
             output.write(buffer, 0, numberOfReadBytes);
             applicationArchiveContext.calculateCurrentSizeInBytes(numberOfReadBytes);
+            applicationArchiveContext.getDigestCalculator()
+                                     .updateDigest(buffer, 0, numberOfReadBytes);
+        }
+    }
+
+    private void validateMaxSizeIsNotExceeded(ApplicationArchiveContext applicationArchiveContext, long additionalSizeInBytes) {
+        long currentSizeInBytes = applicationArchiveContext.getCurrentSizeInBytes();
+        long maxSizeInBytes = applicationArchiveContext.getMaxSizeInBytes();
+        if (currentSizeInBytes + additionalSizeInBytes > maxSizeInBytes) {
+            throw new ContentException(org.cloudfoundry.multiapps.mta.Messages.ERROR_SIZE_OF_FILE_EXCEEDS_CONFIGURED_MAX_SIZE_LIMIT,
+                                       currentSizeInBytes + additionalSizeInBytes,
+                                       applicationArchiveContext.getModuleFileName(),
+                                       maxSizeInBytes);
         }
     }
 
@@ -159,16 +304,41 @@ public class ApplicationZipBuilder {
                                                                                     .build(),
                                                         archiveEntryWithStreamPositions,
                                                         (bytesBuffer, bytesRead) -> writeModuleContent(bytesBuffer, bytesRead,
-                                                                                                       fileOutputStream));
+                                                                                                       fileOutputStream,
+                                                                                                       applicationArchiveContext));
         }
     }
 
-    private void writeModuleContent(byte[] bytesBuffer, Integer bytesRead, OutputStream fileOutputStream) {
+    private void writeModuleContent(byte[] bytesBuffer, Integer bytesRead, OutputStream fileOutputStream,
+                                    ApplicationArchiveContext applicationArchiveContext) {
         try {
             fileOutputStream.write(bytesBuffer, 0, bytesRead);
+            applicationArchiveContext.calculateCurrentSizeInBytes(bytesRead);
+            applicationArchiveContext.getDigestCalculator()
+                                     .updateDigest(bytesBuffer, 0, bytesRead);
         } catch (IOException e) {
             throw new SLException(e, e.getMessage());
         }
     }
 
+    private static class DigestOutputStream extends OutputStream {
+
+        private final DigestCalculator digestCalculator;
+
+        DigestOutputStream(DigestCalculator digestCalculator) {
+            this.digestCalculator = digestCalculator;
+        }
+
+        @Override
+        public void write(int b) {
+            digestCalculator.updateDigest(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            digestCalculator.updateDigest(bytes, offset, length);
+        }
+
+    }
+
 }
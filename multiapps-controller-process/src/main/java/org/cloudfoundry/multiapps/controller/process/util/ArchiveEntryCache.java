@@ -0,0 +1,289 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.cloudfoundry.multiapps.controller.core.util.FileUtils;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileContentConsumer;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileContentProcessor;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileContentToProcess;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
+import org.cloudfoundry.multiapps.controller.process.Messages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+/**
+ * Node-local disk cache of archive entry content, keyed by file id and entry offsets. The least recently used entries are evicted
+ * once the total size of the cached content exceeds the configured limit. A limit of zero disables the cache. Each instance removes the
+ * entries of its own cache which have not been used for the maximum TTL of old data. The hits, misses, evictions and size of the cache
+ * are published as meters.
+ */
+@Named
+public class ArchiveEntryCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ArchiveEntryCache.class);
+    private static final String CACHE_DIRECTORY_NAME = "archive-entry-cache";
+    private static final String DOWNLOAD_FILE_SUFFIX = ".download";
+    static final String METRICS_PREFIX = "multiapps.archive.entry.cache.";
+
+    private final FileService fileService;
+    private final Path cacheDirectory;
+    private final long maxSizeInBytes;
+    private final Duration maxIdleTime;
+    private final Map<CacheKey, CachedEntry> cachedEntries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private long sizeInBytes;
+    private boolean isCacheDirectoryInitialized;
+
+    @Inject
+    public ArchiveEntryCache(FileService fileService, ApplicationConfiguration applicationConfiguration) {
+        this(fileService, Path.of(System.getProperty("java.io.tmpdir"), CACHE_DIRECTORY_NAME),
+             applicationConfiguration.getArchiveEntryCacheMaxSizeInBytes(),
+             Duration.ofSeconds(applicationConfiguration.getMaxTtlForOldData()), Metrics.globalRegistry);
+    }
+
+    public ArchiveEntryCache(FileService fileService, Path cacheDirectory, long maxSizeInBytes) {
+        this(fileService, cacheDirectory, maxSizeInBytes, Duration.ofSeconds(ApplicationConfiguration.DEFAULT_MAX_TTL_FOR_OLD_DATA),
+             Metrics.globalRegistry);
+    }
+
+    public ArchiveEntryCache(FileService fileService, Path cacheDirectory, long maxSizeInBytes, Duration maxIdleTime,
+                             MeterRegistry meterRegistry) {
+        this.fileService = fileService;
+        this.cacheDirectory = cacheDirectory;
+        this.maxSizeInBytes = maxSizeInBytes;
+        this.maxIdleTime = maxIdleTime;
+        this.hits = meterRegistry.counter(METRICS_PREFIX + "hits");
+        this.misses = meterRegistry.counter(METRICS_PREFIX + "misses");
+        this.evictions = meterRegistry.counter(METRICS_PREFIX + "evictions");
+        Gauge.builder(METRICS_PREFIX + "size", this, ArchiveEntryCache::getSizeInBytes)
+             .baseUnit("bytes")
+             .register(meterRegistry);
+    }
+
+    public <T> T processEntryContent(FileContentToProcess fileContentToProcess, FileContentProcessor<T> fileContentProcessor)
+        throws FileStorageException {
+        if (!isCacheable(fileContentToProcess)) {
+            return fileService.processFileContentWithOffset(fileContentToProcess, fileContentProcessor);
+        }
+        CacheKey cacheKey = CacheKey.of(fileContentToProcess);
+        InputStream cachedContent = openCachedEntry(cacheKey);
+        if (cachedContent == null) {
+            cachedContent = downloadEntry(cacheKey, fileContentToProcess);
+        }
+        if (cachedContent == null) {
+            return fileService.processFileContentWithOffset(fileContentToProcess, fileContentProcessor);
+        }
+        try (InputStream content = cachedContent) {
+            return fileContentProcessor.process(content);
+        } catch (IOException e) {
+            throw new FileStorageException(e);
+        }
+    }
+
+    public void consumeEntryContent(FileContentToProcess fileContentToProcess, FileContentConsumer fileContentConsumer)
+        throws FileStorageException {
+        if (!isCacheable(fileContentToProcess)) {
+            fileService.consumeFileContentWithOffset(fileContentToProcess, fileContentConsumer);
+            return;
+        }
+        processEntryContent(fileContentToProcess, content -> {
+            fileContentConsumer.consume(content);
+            return null;
+        });
+    }
+
+    @Scheduled(fixedRate = 30, timeUnit = TimeUnit.MINUTES)
+    public void removeIdleEntries() {
+        LocalDateTime lastAccessTime = LocalDateTime.now()
+                                                    .minus(maxIdleTime);
+        int removedEntries = removeEntriesLastAccessedBefore(lastAccessTime);
+        LOGGER.debug(MessageFormat.format(Messages.DELETED_CACHED_ARCHIVE_ENTRIES_NOT_USED_SINCE_0_1, lastAccessTime, removedEntries));
+    }
+
+    public synchronized int removeEntriesLastAccessedBefore(LocalDateTime lastAccessTime) {
+        int removedEntries = 0;
+        Iterator<CachedEntry> iterator = cachedEntries.values()
+                                                      .iterator();
+        while (iterator.hasNext()) {
+            CachedEntry cachedEntry = iterator.next();
+            if (!cachedEntry.lastAccessTime.isBefore(lastAccessTime)) {
+                break;
+            }
+            iterator.remove();
+            deleteCachedEntry(cachedEntry);
+            removedEntries++;
+        }
+        return removedEntries;
+    }
+
+    public synchronized long getSizeInBytes() {
+        return sizeInBytes;
+    }
+
+    private boolean isCacheable(FileContentToProcess fileContentToProcess) {
+        return getEntrySize(fileContentToProcess) <= maxSizeInBytes;
+    }
+
+    private long getEntrySize(FileContentToProcess fileContentToProcess) {
+        return fileContentToProcess.getEndOffset() - fileContentToProcess.getStartOffset() + 1;
+    }
+
+    private InputStream openCachedEntry(CacheKey cacheKey) {
+        CachedEntry cachedEntry = getCachedEntry(cacheKey);
+        if (cachedEntry == null) {
+            return null;
+        }
+        try {
+            InputStream cachedContent = Files.newInputStream(cachedEntry.path);
+            hits.increment();
+            return cachedContent;
+        } catch (IOException e) {
+            removeCachedEntry(cacheKey, cachedEntry);
+            return null;
+        }
+    }
+
+    private synchronized CachedEntry getCachedEntry(CacheKey cacheKey) {
+        CachedEntry cachedEntry = cachedEntries.get(cacheKey);
+        if (cachedEntry != null) {
+            cachedEntry.lastAccessTime = LocalDateTime.now();
+        }
+        return cachedEntry;
+    }
+
+    private InputStream downloadEntry(CacheKey cacheKey, FileContentToProcess fileContentToProcess) throws FileStorageException {
+        misses.increment();
+        Path downloadedEntry = null;
+        try {
+            initializeCacheDirectory();
+            downloadedEntry = Files.createTempFile(cacheDirectory, cacheKey.toFileName(), DOWNLOAD_FILE_SUFFIX);
+            Path downloadedEntryPath = downloadedEntry;
+            fileService.consumeFileContentWithOffset(fileContentToProcess,
+                                                     content -> Files.copy(content, downloadedEntryPath,
+                                                                           StandardCopyOption.REPLACE_EXISTING));
+            Path cachedEntryPath = addCachedEntry(cacheKey, downloadedEntry);
+            return Files.newInputStream(cachedEntryPath);
+        } catch (IOException e) {
+            LOGGER.warn(MessageFormat.format(Messages.COULD_NOT_CACHE_CONTENT_OF_FILE_0_1, fileContentToProcess.getGuid(),
+                                             e.getMessage()),
+                        e);
+            deleteQuietly(downloadedEntry);
+            return null;
+        } catch (FileStorageException e) {
+            deleteQuietly(downloadedEntry);
+            throw e;
+        }
+    }
+
+    private synchronized void initializeCacheDirectory() throws IOException {
+        if (isCacheDirectoryInitialized) {
+            return;
+        }
+        if (Files.exists(cacheDirectory)) {
+            FileUtils.deleteDirectory(cacheDirectory);
+        }
+        Files.createDirectories(cacheDirectory);
+        isCacheDirectoryInitialized = true;
+    }
+
+    private synchronized Path addCachedEntry(CacheKey cacheKey, Path downloadedEntry) throws IOException {
+        CachedEntry existingEntry = cachedEntries.get(cacheKey);
+        if (existingEntry != null) {
+            deleteQuietly(downloadedEntry);
+            return existingEntry.path;
+        }
+        Path cachedEntryPath = Files.move(downloadedEntry, cacheDirectory.resolve(cacheKey.toFileName()),
+                                          StandardCopyOption.REPLACE_EXISTING);
+        CachedEntry cachedEntry = new CachedEntry(cachedEntryPath, Files.size(cachedEntryPath));
+        cachedEntries.put(cacheKey, cachedEntry);
+        sizeInBytes += cachedEntry.sizeInBytes;
+        evictEntriesAboveMaxSize(cacheKey);
+        return cachedEntryPath;
+    }
+
+    private void evictEntriesAboveMaxSize(CacheKey keptCacheKey) {
+        Iterator<Map.Entry<CacheKey, CachedEntry>> iterator = cachedEntries.entrySet()
+                                                                           .iterator();
+        while (sizeInBytes > maxSizeInBytes && iterator.hasNext()) {
+            Map.Entry<CacheKey, CachedEntry> eldestEntry = iterator.next();
+            if (eldestEntry.getKey()
+                           .equals(keptCacheKey)) {
+                continue;
+            }
+            iterator.remove();
+            deleteCachedEntry(eldestEntry.getValue());
+            evictions.increment();
+        }
+    }
+
+    private synchronized void removeCachedEntry(CacheKey cacheKey, CachedEntry cachedEntry) {
+        if (cachedEntries.remove(cacheKey, cachedEntry)) {
+            deleteCachedEntry(cachedEntry);
+        }
+    }
+
+    private void deleteCachedEntry(CachedEntry cachedEntry) {
+        sizeInBytes -= cachedEntry.sizeInBytes;
+        deleteQuietly(cachedEntry.path);
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            LOGGER.warn(MessageFormat.format(Messages.COULD_NOT_DELETE_CACHED_FILE_0, path), e);
+        }
+    }
+
+    private record CacheKey(String fileId, long startOffset, long endOffset) {
+
+        static CacheKey of(FileContentToProcess fileContentToProcess) {
+            return new CacheKey(fileContentToProcess.getGuid(), fileContentToProcess.getStartOffset(), fileContentToProcess.getEndOffset());
+        }
+
+        String toFileName() {
+            return fileId + "_" + startOffset + "_" + endOffset;
+        }
+
+    }
+
+    private static class CachedEntry {
+
+        private final Path path;
+        private final long sizeInBytes;
+        private LocalDateTime lastAccessTime = LocalDateTime.now();
+
+        CachedEntry(Path path, long sizeInBytes) {
+            this.path = path;
+            this.sizeInBytes = sizeInBytes;
+        }
+
+    }
+
+}
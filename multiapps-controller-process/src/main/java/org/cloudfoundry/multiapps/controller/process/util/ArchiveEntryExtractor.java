@@ -7,7 +7,6 @@ import java.util.function.ObjIntConsumer;
 
 import org.cloudfoundry.multiapps.common.SLException;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileContentToProcess;
-import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
 import org.cloudfoundry.multiapps.controller.persistence.services.ImmutableFileContentToProcess;
 import org.cloudfoundry.multiapps.controller.process.stream.DefaultLimitedInputStream;
@@ -22,20 +21,20 @@ public class ArchiveEntryExtractor {
 
     private static final int BUFFER_SIZE = 4 * 1024; // 4KB
 
-    private final FileService fileService;
+    private final ArchiveEntryCache archiveEntryCache;
 
     @Inject
-    public ArchiveEntryExtractor(FileService fileService) {
-        this.fileService = fileService;
+    public ArchiveEntryExtractor(ArchiveEntryCache archiveEntryCache) {
+        this.archiveEntryCache = archiveEntryCache;
     }
 
     public byte[] extractEntryBytes(FileEntryProperties fileEntryProperties,
                                     ArchiveEntryWithStreamPositions archiveEntryWithStreamPositions) {
         try {
-            return fileService.processFileContentWithOffset(toFileContentToProcess(fileEntryProperties, archiveEntryWithStreamPositions),
-                                                            fileEntryStream -> processArchiveEntryStream(fileEntryProperties,
-                                                                                                         archiveEntryWithStreamPositions,
-                                                                                                         fileEntryStream));
+            return archiveEntryCache.processEntryContent(toFileContentToProcess(fileEntryProperties, archiveEntryWithStreamPositions),
+                                                         fileEntryStream -> processArchiveEntryStream(fileEntryProperties,
+                                                                                                      archiveEntryWithStreamPositions,
+                                                                                                      fileEntryStream));
         } catch (FileStorageException e) {
             throw new SLException(e, e.getMessage());
         }
@@ -77,15 +76,15 @@ public class ArchiveEntryExtractor {
                                       ObjIntConsumer<byte[]> decompressedBytesConsumer) {
         try {
             if (archiveEntryWithStreamPositions.getCompressionMethod() == ArchiveEntryWithStreamPositions.CompressionMethod.STORED) {
-                fileService.consumeFileContentWithOffset(toFileContentToProcess(fileEntryProperties, archiveEntryWithStreamPositions),
-                                                         fileEntryStream -> processStoredEntryStream(fileEntryProperties,
-                                                                                                     decompressedBytesConsumer,
-                                                                                                     fileEntryStream));
+                archiveEntryCache.consumeEntryContent(toFileContentToProcess(fileEntryProperties, archiveEntryWithStreamPositions),
+                                                      fileEntryStream -> processStoredEntryStream(fileEntryProperties,
+                                                                                                  decompressedBytesConsumer,
+                                                                                                  fileEntryStream));
             } else {
-                fileService.consumeFileContentWithOffset(toFileContentToProcess(fileEntryProperties, archiveEntryWithStreamPositions),
-                                                         fileEntryStream -> processInflatedEntryStream(fileEntryProperties,
-                                                                                                       decompressedBytesConsumer,
-                                                                                                       fileEntryStream));
+                archiveEntryCache.consumeEntryContent(toFileContentToProcess(fileEntryProperties, archiveEntryWithStreamPositions),
+                                                      fileEntryStream -> processInflatedEntryStream(fileEntryProperties,
+                                                                                                    decompressedBytesConsumer,
+                                                                                                    fileEntryStream));
             }
         } catch (FileStorageException e) {
             throw new SLException(e, e.getMessage());
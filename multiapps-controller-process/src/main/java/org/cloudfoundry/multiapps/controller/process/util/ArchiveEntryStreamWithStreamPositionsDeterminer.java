@@ -1,9 +1,10 @@
 package org.cloudfoundry.multiapps.controller.process.util;
 
 import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.zip.ZipEntry;
+import java.util.Optional;
 
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
@@ -11,6 +12,9 @@ import org.cloudfoundry.multiapps.common.SLException;
 import org.cloudfoundry.multiapps.controller.core.util.FileUtils;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
+import org.cloudfoundry.multiapps.controller.process.Messages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
@@ -18,50 +22,75 @@ import jakarta.inject.Named;
 @Named
 public class ArchiveEntryStreamWithStreamPositionsDeterminer {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(ArchiveEntryStreamWithStreamPositionsDeterminer.class);
+
     public static final int BUFFER_SIZE = 4 * 1024; // 4KB
 
     private final FileService fileService;
+    private final ZipCentralDirectoryReader zipCentralDirectoryReader;
 
     @Inject
-    public ArchiveEntryStreamWithStreamPositionsDeterminer(FileService fileService) {
+    public ArchiveEntryStreamWithStreamPositionsDeterminer(FileService fileService,
+                                                           ZipCentralDirectoryReader zipCentralDirectoryReader) {
         this.fileService = fileService;
+        this.zipCentralDirectoryReader = zipCentralDirectoryReader;
     }
 
     public List<ArchiveEntryWithStreamPositions> determineArchiveEntries(String spaceGuid, String appArchiveId) {
         try {
-            return fileService.processFileContent(spaceGuid, appArchiveId, archiveStream -> {
-                List<ArchiveEntryWithStreamPositions> archiveEntriesWithPositions = new ArrayList<>();
-                try (
-                    ZipArchiveInputStream zipStream = new ZipArchiveInputStream(archiveStream, StandardCharsets.UTF_8.name(), true, true)) {
-                    ZipArchiveEntry entry = zipStream.getNextEntry();
-                    while (entry != null) {
-                        validateEntry(entry);
-                        long startOffset = entry.getDataOffset();
-                        long endOffset = startOffset;
-                        byte[] buffer = new byte[BUFFER_SIZE];
-                        while (zipStream.read(buffer, 0, buffer.length) != -1) {
-                            // read the entry, to calculate the compressed size
-                        }
-                        endOffset += zipStream.getCompressedCount();
-                        archiveEntriesWithPositions.add(ImmutableArchiveEntryWithStreamPositions.builder()
-                                                                                                .name(entry.getName())
-                                                                                                .startPosition(startOffset)
-                                                                                                .endPosition(endOffset)
-                                                                                                .compressionMethod(ArchiveEntryWithStreamPositions.CompressionMethod.parseValue(entry.getMethod()))
-                                                                                                .isDirectory(entry.isDirectory())
-                                                                                                .build());
-                        entry = zipStream.getNextEntry();
-                    }
-                }
-                return archiveEntriesWithPositions;
-            });
+            Optional<List<ArchiveEntryWithStreamPositions>> archiveEntries = zipCentralDirectoryReader.readArchiveEntries(spaceGuid,
+                                                                                                                          appArchiveId);
+            if (archiveEntries.isPresent()) {
+                archiveEntries.get()
+                              .forEach(entry -> validateEntryName(entry.getName()));
+                return archiveEntries.get();
+            }
+            LOGGER.info(MessageFormat.format(Messages.DETERMINING_ENTRIES_OF_ARCHIVE_0_BY_STREAMING_ITS_CONTENT, appArchiveId));
+            return determineArchiveEntriesByStreaming(spaceGuid, appArchiveId);
         } catch (FileStorageException e) {
             throw new SLException(e, e.getMessage());
         }
     }
 
-    protected void validateEntry(ZipEntry entry) {
-        FileUtils.validatePath(entry.getName());
+    private List<ArchiveEntryWithStreamPositions> determineArchiveEntriesByStreaming(String spaceGuid, String appArchiveId)
+        throws FileStorageException {
+        return fileService.processFileContent(spaceGuid, appArchiveId, archiveStream -> {
+            List<ArchiveEntryWithStreamPositions> archiveEntriesWithPositions = new ArrayList<>();
+            try (
+                ZipArchiveInputStream zipStream = new ZipArchiveInputStream(archiveStream, StandardCharsets.UTF_8.name(), true, true)) {
+                ZipArchiveEntry entry = zipStream.getNextEntry();
+                while (entry != null) {
+                    validateEntryName(entry.getName());
+                    long startOffset = entry.getDataOffset();
+                    long endOffset = startOffset;
+                    byte[] buffer = new byte[BUFFER_SIZE];
+                    while (zipStream.read(buffer, 0, buffer.length) != -1) {
+                        // read the entry, to calculate the compressed size
+                    }
+                    endOffset += zipStream.getCompressedCount();
+                    archiveEntriesWithPositions.add(ImmutableArchiveEntryWithStreamPositions.builder()
+                                                                                            .name(entry.getName())
+                                                                                            .startPosition(startOffset)
+                                                                                            .endPosition(endOffset)
+                                                                                            .compressionMethod(ArchiveEntryWithStreamPositions.CompressionMethod.parseValue(entry.getMethod()))
+                                                                                            .isDirectory(entry.isDirectory())
+                                                                                            .crc(getKnownValue(entry.getCrc()))
+                                                                                            .uncompressedSize(getKnownValue(entry.getSize()))
+                                                                                            .build());
+                    entry = zipStream.getNextEntry();
+                }
+            }
+            return archiveEntriesWithPositions;
+        });
+    }
+
+    private Long getKnownValue(long value) {
+        // The CRC and the size of entries which are followed by a data descriptor are known only after their content is read
+        return value == -1 ? null : value;
+    }
+
+    protected void validateEntryName(String entryName) {
+        FileUtils.validatePath(entryName);
     }
 
 }
@@ -2,6 +2,7 @@ package org.cloudfoundry.multiapps.controller.process.util;
 
 import java.util.Arrays;
 
+import org.cloudfoundry.multiapps.common.Nullable;
 import org.cloudfoundry.multiapps.common.SLException;
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.immutables.value.Value;
@@ -24,6 +25,12 @@ public interface ArchiveEntryWithStreamPositions {
 
     boolean isDirectory();
 
+    @Nullable
+    Long getCrc();
+
+    @Nullable
+    Long getUncompressedSize();
+
     enum CompressionMethod {
         STORED(0), DEFLATED(8);
 
@@ -0,0 +1,6 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import java.nio.file.Path;
+
+public record ExtractedApplicationArchive(Path path, String digest) {
+}
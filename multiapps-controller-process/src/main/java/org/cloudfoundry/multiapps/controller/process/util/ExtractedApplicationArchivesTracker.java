@@ -0,0 +1,82 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.cloudfoundry.multiapps.controller.core.util.FileUtils;
+import org.cloudfoundry.multiapps.controller.process.Messages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import jakarta.inject.Named;
+
+/**
+ * Node-local registry of the application archives extracted while calculating the application digests, so that the upload of an
+ * application can reuse its archive when it runs on the instance which extracted it. The archives which are not taken by an upload, for
+ * example because the upload ran on another instance, are deleted once they are older than the maximum upload timeout.
+ */
+@Named
+public class ExtractedApplicationArchivesTracker {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExtractedApplicationArchivesTracker.class);
+    private static final Duration MAX_ARCHIVE_AGE = Duration.ofSeconds(TimeoutType.UPLOAD.getMaxAllowedValue());
+
+    private final Map<String, TrackedArchive> archives = new ConcurrentHashMap<>();
+    private final Duration maxArchiveAge;
+
+    public ExtractedApplicationArchivesTracker() {
+        this(MAX_ARCHIVE_AGE);
+    }
+
+    ExtractedApplicationArchivesTracker(Duration maxArchiveAge) {
+        this.maxArchiveAge = maxArchiveAge;
+    }
+
+    public void track(String correlationId, String applicationName, Path archive) {
+        TrackedArchive previousArchive = archives.put(getKey(correlationId, applicationName),
+                                                      new TrackedArchive(archive, LocalDateTime.now()));
+        if (previousArchive != null) {
+            FileUtils.cleanUp(previousArchive.path(), LOGGER);
+        }
+    }
+
+    /**
+     * Returns the archive extracted on this instance for the given application and stops tracking it, so the caller becomes responsible
+     * for deleting it. Returns null if the archive was not extracted on this instance.
+     */
+    public Path take(String correlationId, String applicationName) {
+        TrackedArchive archive = archives.remove(getKey(correlationId, applicationName));
+        return archive != null ? archive.path() : null;
+    }
+
+    public void discard(String correlationId, String applicationName) {
+        FileUtils.cleanUp(take(correlationId, applicationName), LOGGER);
+    }
+
+    @Scheduled(fixedRate = 30, timeUnit = TimeUnit.MINUTES)
+    public void removeStaleArchives() {
+        LocalDateTime expirationTime = LocalDateTime.now()
+                                                    .minus(maxArchiveAge);
+        archives.forEach((key, archive) -> {
+            if (archive.extractedAt()
+                       .isBefore(expirationTime) && archives.remove(key, archive)) {
+                LOGGER.debug(MessageFormat.format(Messages.DELETING_STALE_EXTRACTED_APPLICATION_0, archive.path()));
+                FileUtils.cleanUp(archive.path(), LOGGER);
+            }
+        });
+    }
+
+    private static String getKey(String correlationId, String applicationName) {
+        return correlationId + ":" + applicationName;
+    }
+
+    private record TrackedArchive(Path path, LocalDateTime extractedAt) {
+    }
+
+}
@@ -28,6 +28,7 @@ import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
 import org.cloudfoundry.multiapps.controller.persistence.services.HistoricOperationEventService;
 import org.cloudfoundry.multiapps.controller.persistence.services.OperationService;
+import org.cloudfoundry.multiapps.controller.persistence.services.ProcessLogsBatchPersister;
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.cloudfoundry.multiapps.controller.process.dynatrace.DynatraceProcessDuration;
 import org.cloudfoundry.multiapps.controller.process.dynatrace.DynatracePublisher;
@@ -60,6 +61,8 @@ public class OperationInFinalStateHandler {
     private OperationTimeAggregator operationTimeAggregator;
     @Inject
     private DynatracePublisher dynatracePublisher;
+    @Inject
+    private ProcessLogsBatchPersister processLogsBatchPersister;
     private final SafeExecutor safeExecutor = new SafeExecutor();
 
     public void handle(DelegateExecution execution, ProcessType processType, Operation.State state) {
@@ -71,6 +74,8 @@ public class OperationInFinalStateHandler {
         String correlationId = VariableHandling.get(execution, Variables.CORRELATION_ID);
         safeExecutor.execute(() -> deleteDeploymentFiles(correlationId, execution));
         safeExecutor.execute(() -> deleteCloudControllerClientForProcess(execution));
+        // The logs of the operation must be persisted before it is reported as final, since clients download them right after that
+        safeExecutor.execute(processLogsBatchPersister::flush);
         safeExecutor.execute(() -> setOperationState(correlationId, state));
         safeExecutor.execute(() -> deletePreviousBackupDescriptors(execution, processType, state));
         safeExecutor.execute(() -> trackOperationDuration(correlationId, execution, processType, state));
@@ -1,24 +1,32 @@
 package org.cloudfoundry.multiapps.controller.process.util;
 
 import java.text.MessageFormat;
+import java.util.function.Supplier;
 
+import jakarta.inject.Inject;
 import jakarta.inject.Named;
 
 import org.cloudfoundry.multiapps.common.SLException;
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
 import org.cloudfoundry.multiapps.controller.core.util.UserMessageLogger;
 import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableProgressMessage;
+import org.cloudfoundry.multiapps.controller.persistence.model.ProgressMessage;
 import org.cloudfoundry.multiapps.controller.persistence.model.ProgressMessage.ProgressMessageType;
 import org.cloudfoundry.multiapps.controller.persistence.services.ProcessLogger;
 import org.cloudfoundry.multiapps.controller.persistence.services.ProcessLoggerProvider;
 import org.cloudfoundry.multiapps.controller.persistence.services.ProgressMessageService;
+import org.cloudfoundry.multiapps.controller.persistence.services.ProgressMessagesBatchPersister;
 import org.cloudfoundry.multiapps.controller.process.Messages;
 import org.cloudfoundry.multiapps.controller.process.variables.VariableHandling;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.slf4j.Logger;
+import org.slf4j.event.Level;
 
 /**
- * The purpose of this class is to group logging of progress messages and process logs in a single place.
+ * The purpose of this class is to group logging of progress messages and process logs in a single place. Only the messages with a level
+ * at least as severe as the process logs level are written to the process logs. When a {@link ProgressMessagesBatchPersister} is given,
+ * the progress messages are persisted asynchronously and {@link #flushProgressMessages()} has to be called at the end of the step.
  *
  */
 public class StepLogger implements UserMessageLogger {
@@ -27,13 +35,29 @@ public class StepLogger implements UserMessageLogger {
     protected final ProgressMessageService progressMessageService;
     protected final ProcessLoggerProvider processLoggerProvider;
     protected final Logger simpleStepLogger;
+    protected final Level processLogsLevel;
+    protected final ProgressMessagesBatchPersister progressMessagesBatchPersister;
 
     public StepLogger(DelegateExecution execution, ProgressMessageService progressMessageService,
                       ProcessLoggerProvider processLoggerProvider, Logger simpleStepLogger) {
+        this(execution, progressMessageService, processLoggerProvider, simpleStepLogger,
+             ApplicationConfiguration.DEFAULT_PROCESS_LOGS_LEVEL);
+    }
+
+    public StepLogger(DelegateExecution execution, ProgressMessageService progressMessageService,
+                      ProcessLoggerProvider processLoggerProvider, Logger simpleStepLogger, Level processLogsLevel) {
+        this(execution, progressMessageService, processLoggerProvider, simpleStepLogger, processLogsLevel, null);
+    }
+
+    public StepLogger(DelegateExecution execution, ProgressMessageService progressMessageService,
+                      ProcessLoggerProvider processLoggerProvider, Logger simpleStepLogger, Level processLogsLevel,
+                      ProgressMessagesBatchPersister progressMessagesBatchPersister) {
         this.execution = execution;
         this.progressMessageService = progressMessageService;
         this.processLoggerProvider = processLoggerProvider;
         this.simpleStepLogger = simpleStepLogger;
+        this.processLogsLevel = processLogsLevel;
+        this.progressMessagesBatchPersister = progressMessagesBatchPersister;
     }
 
     public void logFlowableTask() {
@@ -46,7 +70,9 @@ public class StepLogger implements UserMessageLogger {
 
     public void infoWithoutProgressMessage(String message) {
         simpleStepLogger.info(message);
-        getProcessLogger().info(getPrefix(simpleStepLogger) + message);
+        if (isLoggedInProcessLogs(Level.INFO)) {
+            getProcessLogger().info(getPrefix(simpleStepLogger) + message);
+        }
     }
 
     public void info(String pattern, Object... arguments) {
@@ -72,7 +98,9 @@ public class StepLogger implements UserMessageLogger {
 
     public void errorWithoutProgressMessage(String message) {
         simpleStepLogger.error(message);
-        getProcessLogger().error(getPrefix(simpleStepLogger) + message);
+        if (isLoggedInProcessLogs(Level.ERROR)) {
+            getProcessLogger().error(getPrefix(simpleStepLogger) + message);
+        }
     }
 
     public void error(Exception e, String pattern, Object... arguments) {
@@ -98,7 +126,9 @@ public class StepLogger implements UserMessageLogger {
 
     public void warnWithoutProgressMessage(Exception e, String message) {
         simpleStepLogger.warn(message, e);
-        getProcessLogger().warn(getPrefix(simpleStepLogger) + message, e);
+        if (isLoggedInProcessLogs(Level.WARN)) {
+            getProcessLogger().warn(getPrefix(simpleStepLogger) + message, e);
+        }
     }
 
     public void warnWithoutProgressMessage(String pattern, Object... arguments) {
@@ -107,7 +137,9 @@ public class StepLogger implements UserMessageLogger {
 
     public void warnWithoutProgressMessage(String message) {
         simpleStepLogger.warn(message);
-        getProcessLogger().warn(getPrefix(simpleStepLogger) + message);
+        if (isLoggedInProcessLogs(Level.WARN)) {
+            getProcessLogger().warn(getPrefix(simpleStepLogger) + message);
+        }
     }
 
     public void warn(Exception e, String pattern, Object... arguments) {
@@ -134,21 +166,53 @@ public class StepLogger implements UserMessageLogger {
     }
 
     public void debug(String pattern, Object... arguments) {
-        debug(MessageFormat.format(pattern, arguments));
+        if (isDebugEnabled()) {
+            debug(MessageFormat.format(pattern, arguments));
+        }
+    }
+
+    public void debug(Supplier<String> messageSupplier) {
+        if (isDebugEnabled()) {
+            debug(messageSupplier.get());
+        }
     }
 
     public void debug(String message) {
         simpleStepLogger.debug(message);
-        getProcessLogger().debug(getPrefix(simpleStepLogger) + message);
+        if (isLoggedInProcessLogs(Level.DEBUG)) {
+            getProcessLogger().debug(getPrefix(simpleStepLogger) + message);
+        }
     }
 
     public void trace(String pattern, Object... arguments) {
-        trace(MessageFormat.format(pattern, arguments));
+        if (isTraceEnabled()) {
+            trace(MessageFormat.format(pattern, arguments));
+        }
+    }
+
+    public void trace(Supplier<String> messageSupplier) {
+        if (isTraceEnabled()) {
+            trace(messageSupplier.get());
+        }
     }
 
     public void trace(String message) {
         simpleStepLogger.trace(message);
-        getProcessLogger().trace(getPrefix(simpleStepLogger) + message);
+        if (isLoggedInProcessLogs(Level.TRACE)) {
+            getProcessLogger().trace(getPrefix(simpleStepLogger) + message);
+        }
+    }
+
+    public boolean isDebugEnabled() {
+        return simpleStepLogger.isDebugEnabled() || isLoggedInProcessLogs(Level.DEBUG);
+    }
+
+    public boolean isTraceEnabled() {
+        return simpleStepLogger.isTraceEnabled() || isLoggedInProcessLogs(Level.TRACE);
+    }
+
+    private boolean isLoggedInProcessLogs(Level level) {
+        return level.toInt() >= processLogsLevel.toInt();
     }
 
     private static String getExtendedMessage(String message, Exception e) {
@@ -161,19 +225,33 @@ public class StepLogger implements UserMessageLogger {
 
     private void sendProgressMessage(String message, ProgressMessageType type) {
         try {
+            String processId = VariableHandling.get(execution, Variables.CORRELATION_ID);
             String taskId = VariableHandling.get(execution, Variables.TASK_ID);
-            progressMessageService.add(ImmutableProgressMessage.builder()
-                                                               .processId(VariableHandling.get(execution, Variables.CORRELATION_ID))
-                                                               .taskId(taskId)
-                                                               .type(type)
-                                                               .text(message)
-                                                               .build());
-
+            ProgressMessage progressMessage = ImmutableProgressMessage.builder()
+                                                                      .processId(processId)
+                                                                      .taskId(taskId)
+                                                                      .type(type)
+                                                                      .text(message)
+                                                                      .build();
+            if (progressMessagesBatchPersister == null) {
+                progressMessageService.add(progressMessage);
+            } else {
+                progressMessagesBatchPersister.add(progressMessage);
+            }
         } catch (SLException e) {
             getProcessLogger().error(e);
         }
     }
 
+    /**
+     * Persists the progress messages which are still pending, so that they are visible to the readers once the step has finished.
+     */
+    public void flushProgressMessages() {
+        if (progressMessagesBatchPersister != null) {
+            progressMessagesBatchPersister.flush(VariableHandling.get(execution, Variables.CORRELATION_ID));
+        }
+    }
+
     public ProcessLogger getProcessLogger() {
         return processLoggerProvider.getLogger(execution);
     }
@@ -190,9 +268,19 @@ public class StepLogger implements UserMessageLogger {
     @Named
     public static class Factory {
 
+        private final ApplicationConfiguration configuration;
+        private final ProgressMessagesBatchPersister progressMessagesBatchPersister;
+
+        @Inject
+        public Factory(ApplicationConfiguration configuration, ProgressMessagesBatchPersister progressMessagesBatchPersister) {
+            this.configuration = configuration;
+            this.progressMessagesBatchPersister = progressMessagesBatchPersister;
+        }
+
         public StepLogger create(DelegateExecution execution, ProgressMessageService progressMessageService,
                                  ProcessLoggerProvider processLoggerProvider, Logger logger) {
-            return new StepLogger(execution, progressMessageService, processLoggerProvider, logger);
+            return new StepLogger(execution, progressMessageService, processLoggerProvider, logger, configuration.getProcessLogsLevel(),
+                                  progressMessagesBatchPersister);
         }
 
     }
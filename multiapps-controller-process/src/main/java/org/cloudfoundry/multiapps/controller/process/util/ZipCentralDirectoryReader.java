@@ -0,0 +1,348 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import org.cloudfoundry.multiapps.controller.persistence.model.FileEntry;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileContentToProcess;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
+import org.cloudfoundry.multiapps.controller.persistence.services.ImmutableFileContentToProcess;
+import org.cloudfoundry.multiapps.controller.process.Messages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+/**
+ * Determines the positions of the entries in a ZIP archive by reading its central directory with ranged reads, instead of streaming
+ * through the whole archive. Only the tail of the archive (end of central directory record, ZIP64 records and the central directory
+ * itself) and the fixed-size parts of the local file headers are downloaded.
+ */
+@Named
+public class ZipCentralDirectoryReader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ZipCentralDirectoryReader.class);
+
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06064b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int CENTRAL_FILE_HEADER_SIGNATURE = 0x02014b50;
+    private static final int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+
+    private static final int END_OF_CENTRAL_DIRECTORY_LENGTH = 22;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_LENGTH = 20;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LENGTH = 56;
+    private static final int CENTRAL_FILE_HEADER_LENGTH = 46;
+    private static final int LOCAL_FILE_HEADER_LENGTH = 30;
+    private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+    private static final int ZIP64_EXTRA_FIELD_ID = 0x0001;
+    private static final int ZIP64_MAGIC_SHORT = 0xFFFF;
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+
+    // Local headers which are closer than this are fetched with a single ranged read, skipping the entry data in between
+    private static final long MAX_LOCAL_HEADERS_GAP = 64 * 1024L; // 64KB
+
+    private final FileService fileService;
+
+    @Inject
+    public ZipCentralDirectoryReader(FileService fileService) {
+        this.fileService = fileService;
+    }
+
+    /**
+     * @return the archive entries sorted by their position in the archive or an empty {@link Optional} if the archive does not have a
+     *         usable central directory
+     */
+    public Optional<List<ArchiveEntryWithStreamPositions>> readArchiveEntries(String spaceGuid, String fileId)
+        throws FileStorageException {
+        FileEntry fileEntry = fileService.getFile(spaceGuid, fileId);
+        if (fileEntry == null || fileEntry.getSize() == null) {
+            return Optional.empty();
+        }
+        ArchiveFile archiveFile = new ArchiveFile(spaceGuid, fileId, fileEntry.getSize()
+                                                                              .longValueExact());
+        try {
+            Optional<CentralDirectory> centralDirectory = findCentralDirectory(archiveFile);
+            if (centralDirectory.isEmpty()) {
+                return Optional.empty();
+            }
+            List<CentralDirectoryEntry> centralDirectoryEntries = readCentralDirectoryEntries(archiveFile, centralDirectory.get());
+            return Optional.of(toArchiveEntries(archiveFile, centralDirectoryEntries));
+        } catch (InvalidCentralDirectoryException e) {
+            LOGGER.warn(MessageFormat.format(Messages.CENTRAL_DIRECTORY_OF_ARCHIVE_0_IS_NOT_USABLE_1, fileId, e.getMessage()));
+            return Optional.empty();
+        }
+    }
+
+    private Optional<CentralDirectory> findCentralDirectory(ArchiveFile archiveFile) throws FileStorageException {
+        long tailLength = Math.min(archiveFile.size(),
+                                   END_OF_CENTRAL_DIRECTORY_LENGTH + MAX_COMMENT_LENGTH + ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_LENGTH);
+        if (tailLength < END_OF_CENTRAL_DIRECTORY_LENGTH) {
+            return Optional.empty();
+        }
+        long tailStart = archiveFile.size() - tailLength;
+        ByteBuffer tail = readRange(archiveFile, tailStart, tailLength);
+        int endOfCentralDirectoryIndex = findEndOfCentralDirectory(tail);
+        if (endOfCentralDirectoryIndex < 0) {
+            return Optional.empty();
+        }
+        int diskNumber = getUnsignedShort(tail, endOfCentralDirectoryIndex + 4);
+        int centralDirectoryDiskNumber = getUnsignedShort(tail, endOfCentralDirectoryIndex + 6);
+        long entriesCount = getUnsignedShort(tail, endOfCentralDirectoryIndex + 10);
+        long centralDirectorySize = getUnsignedInt(tail, endOfCentralDirectoryIndex + 12);
+        long centralDirectoryOffset = getUnsignedInt(tail, endOfCentralDirectoryIndex + 16);
+        long centralDirectoryEnd = tailStart + endOfCentralDirectoryIndex;
+
+        if (entriesCount == ZIP64_MAGIC_SHORT || centralDirectorySize == ZIP64_MAGIC || centralDirectoryOffset == ZIP64_MAGIC) {
+            int locatorIndex = endOfCentralDirectoryIndex - ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_LENGTH;
+            if (locatorIndex < 0 || tail.getInt(locatorIndex) != ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE) {
+                throw new InvalidCentralDirectoryException("missing ZIP64 end of central directory locator");
+            }
+            long zip64EndOfCentralDirectoryOffset = tail.getLong(locatorIndex + 8);
+            if (getUnsignedInt(tail, locatorIndex + 16) > 1) {
+                return Optional.empty();
+            }
+            ByteBuffer zip64EndOfCentralDirectory = readRange(archiveFile, zip64EndOfCentralDirectoryOffset,
+                                                              ZIP64_END_OF_CENTRAL_DIRECTORY_LENGTH);
+            if (zip64EndOfCentralDirectory.getInt(0) != ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+                throw new InvalidCentralDirectoryException("missing ZIP64 end of central directory record");
+            }
+            diskNumber = zip64EndOfCentralDirectory.getInt(16);
+            centralDirectoryDiskNumber = zip64EndOfCentralDirectory.getInt(20);
+            entriesCount = zip64EndOfCentralDirectory.getLong(32);
+            centralDirectorySize = zip64EndOfCentralDirectory.getLong(40);
+            centralDirectoryOffset = zip64EndOfCentralDirectory.getLong(48);
+            centralDirectoryEnd = zip64EndOfCentralDirectoryOffset;
+        }
+        if (diskNumber != 0 || centralDirectoryDiskNumber != 0) {
+            // Multi-volume archives are not supported
+            return Optional.empty();
+        }
+        if (centralDirectoryOffset < 0 || centralDirectorySize < 0 || centralDirectoryOffset + centralDirectorySize > centralDirectoryEnd
+            || centralDirectorySize > Integer.MAX_VALUE) {
+            // The archive has data prepended to it or the records are corrupted, so the offsets cannot be trusted
+            return Optional.empty();
+        }
+        return Optional.of(new CentralDirectory(centralDirectoryOffset, centralDirectorySize, entriesCount));
+    }
+
+    private int findEndOfCentralDirectory(ByteBuffer tail) {
+        for (int i = tail.limit() - END_OF_CENTRAL_DIRECTORY_LENGTH; i >= 0; i--) {
+            if (tail.getInt(i) == END_OF_CENTRAL_DIRECTORY_SIGNATURE
+                && i + END_OF_CENTRAL_DIRECTORY_LENGTH + getUnsignedShort(tail, i + 20) <= tail.limit()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private List<CentralDirectoryEntry> readCentralDirectoryEntries(ArchiveFile archiveFile, CentralDirectory centralDirectory)
+        throws FileStorageException {
+        ByteBuffer buffer = readRange(archiveFile, centralDirectory.offset(), centralDirectory.size());
+        List<CentralDirectoryEntry> entries = new ArrayList<>();
+        int position = 0;
+        for (long i = 0; i < centralDirectory.entriesCount(); i++) {
+            if (position + CENTRAL_FILE_HEADER_LENGTH > buffer.limit() || buffer.getInt(position) != CENTRAL_FILE_HEADER_SIGNATURE) {
+                throw new InvalidCentralDirectoryException("unexpected central file header at offset "
+                    + (centralDirectory.offset() + position));
+            }
+            int compressionMethod = getUnsignedShort(buffer, position + 10);
+            long crc = getUnsignedInt(buffer, position + 16);
+            long compressedSize = getUnsignedInt(buffer, position + 20);
+            long uncompressedSize = getUnsignedInt(buffer, position + 24);
+            int nameLength = getUnsignedShort(buffer, position + 28);
+            int extraLength = getUnsignedShort(buffer, position + 30);
+            int commentLength = getUnsignedShort(buffer, position + 32);
+            long localHeaderOffset = getUnsignedInt(buffer, position + 42);
+            int nameStart = position + CENTRAL_FILE_HEADER_LENGTH;
+            int extraStart = nameStart + nameLength;
+            int nextPosition = extraStart + extraLength + commentLength;
+            if (nextPosition > buffer.limit()) {
+                throw new InvalidCentralDirectoryException("truncated central file header at offset " + (centralDirectory.offset() + position));
+            }
+            String name = new String(buffer.array(), nameStart, nameLength, StandardCharsets.UTF_8);
+            if (uncompressedSize == ZIP64_MAGIC || compressedSize == ZIP64_MAGIC || localHeaderOffset == ZIP64_MAGIC) {
+                Zip64ExtendedInformation zip64Information = readZip64ExtendedInformation(buffer, extraStart, extraLength,
+                                                                                         uncompressedSize == ZIP64_MAGIC,
+                                                                                         compressedSize == ZIP64_MAGIC,
+                                                                                         localHeaderOffset == ZIP64_MAGIC);
+                uncompressedSize = zip64Information.uncompressedSize() != null ? zip64Information.uncompressedSize()
+                    : uncompressedSize;
+                compressedSize = zip64Information.compressedSize() != null ? zip64Information.compressedSize() : compressedSize;
+                localHeaderOffset = zip64Information.localHeaderOffset() != null ? zip64Information.localHeaderOffset()
+                    : localHeaderOffset;
+            }
+            entries.add(new CentralDirectoryEntry(name, compressionMethod, crc, compressedSize, uncompressedSize, localHeaderOffset));
+            position = nextPosition;
+        }
+        return entries;
+    }
+
+    private Zip64ExtendedInformation readZip64ExtendedInformation(ByteBuffer buffer, int extraStart, int extraLength,
+                                                                  boolean hasUncompressedSize, boolean hasCompressedSize,
+                                                                  boolean hasLocalHeaderOffset) {
+        int position = extraStart;
+        int extraEnd = extraStart + extraLength;
+        while (position + 4 <= extraEnd) {
+            int headerId = getUnsignedShort(buffer, position);
+            int dataSize = getUnsignedShort(buffer, position + 2);
+            int dataPosition = position + 4;
+            if (headerId == ZIP64_EXTRA_FIELD_ID) {
+                int requiredSize = (hasUncompressedSize ? 8 : 0) + (hasCompressedSize ? 8 : 0) + (hasLocalHeaderOffset ? 8 : 0);
+                if (dataSize < requiredSize || dataPosition + dataSize > extraEnd) {
+                    throw new InvalidCentralDirectoryException("truncated ZIP64 extended information extra field");
+                }
+                Long uncompressedSize = null;
+                if (hasUncompressedSize) {
+                    uncompressedSize = buffer.getLong(dataPosition);
+                    dataPosition += 8;
+                }
+                Long compressedSize = null;
+                if (hasCompressedSize) {
+                    compressedSize = buffer.getLong(dataPosition);
+                    dataPosition += 8;
+                }
+                Long localHeaderOffset = hasLocalHeaderOffset ? buffer.getLong(dataPosition) : null;
+                return new Zip64ExtendedInformation(uncompressedSize, compressedSize, localHeaderOffset);
+            }
+            position = dataPosition + dataSize;
+        }
+        throw new InvalidCentralDirectoryException("missing ZIP64 extended information extra field");
+    }
+
+    private List<ArchiveEntryWithStreamPositions> toArchiveEntries(ArchiveFile archiveFile,
+                                                                   List<CentralDirectoryEntry> centralDirectoryEntries)
+        throws FileStorageException {
+        List<CentralDirectoryEntry> sortedEntries = new ArrayList<>(centralDirectoryEntries);
+        sortedEntries.sort(Comparator.comparingLong(CentralDirectoryEntry::localHeaderOffset));
+        List<ArchiveEntryWithStreamPositions> archiveEntries = new ArrayList<>(sortedEntries.size());
+        int windowStartIndex = 0;
+        while (windowStartIndex < sortedEntries.size()) {
+            int windowEndIndex = windowStartIndex + 1;
+            while (windowEndIndex < sortedEntries.size() && sortedEntries.get(windowEndIndex)
+                                                                         .localHeaderOffset()
+                - sortedEntries.get(windowEndIndex - 1)
+                               .localHeaderOffset() <= MAX_LOCAL_HEADERS_GAP) {
+                windowEndIndex++;
+            }
+            archiveEntries.addAll(readLocalHeaders(archiveFile, sortedEntries.subList(windowStartIndex, windowEndIndex)));
+            windowStartIndex = windowEndIndex;
+        }
+        return archiveEntries;
+    }
+
+    private List<ArchiveEntryWithStreamPositions> readLocalHeaders(ArchiveFile archiveFile, List<CentralDirectoryEntry> entries)
+        throws FileStorageException {
+        long windowStart = entries.get(0)
+                                  .localHeaderOffset();
+        long windowEnd = entries.get(entries.size() - 1)
+                                .localHeaderOffset()
+            + LOCAL_FILE_HEADER_LENGTH;
+        FileContentToProcess localHeadersRange = toFileContentToProcess(archiveFile, windowStart, windowEnd - windowStart);
+        List<ArchiveEntryWithStreamPositions> archiveEntries = fileService.processFileContentWithOffset(localHeadersRange,
+                                                                                                        inputStream -> readLocalHeaders(inputStream,
+                                                                                                                                        windowStart,
+                                                                                                                                        entries));
+        if (archiveEntries == null) {
+            throw new InvalidCentralDirectoryException("missing local file header at offset " + windowStart);
+        }
+        return archiveEntries;
+    }
+
+    private List<ArchiveEntryWithStreamPositions> readLocalHeaders(InputStream inputStream, long windowStart,
+                                                                   List<CentralDirectoryEntry> entries)
+        throws IOException {
+        List<ArchiveEntryWithStreamPositions> archiveEntries = new ArrayList<>(entries.size());
+        long position = windowStart;
+        for (CentralDirectoryEntry entry : entries) {
+            inputStream.skipNBytes(entry.localHeaderOffset() - position);
+            byte[] localHeaderBytes = inputStream.readNBytes(LOCAL_FILE_HEADER_LENGTH);
+            position = entry.localHeaderOffset() + localHeaderBytes.length;
+            ByteBuffer localHeader = ByteBuffer.wrap(localHeaderBytes)
+                                               .order(ByteOrder.LITTLE_ENDIAN);
+            if (localHeaderBytes.length != LOCAL_FILE_HEADER_LENGTH || localHeader.getInt(0) != LOCAL_FILE_HEADER_SIGNATURE) {
+                // Exceptions thrown here would be wrapped by the file storage, so signal the failure to the caller instead
+                return null;
+            }
+            long dataOffset = entry.localHeaderOffset() + LOCAL_FILE_HEADER_LENGTH + getUnsignedShort(localHeader, 26)
+                + getUnsignedShort(localHeader, 28);
+            archiveEntries.add(ImmutableArchiveEntryWithStreamPositions.builder()
+                                                                       .name(entry.name())
+                                                                       .startPosition(dataOffset)
+                                                                       .endPosition(dataOffset + entry.compressedSize())
+                                                                       .compressionMethod(ArchiveEntryWithStreamPositions.CompressionMethod.parseValue(entry.compressionMethod()))
+                                                                       .isDirectory(entry.name()
+                                                                                         .endsWith("/"))
+                                                                       .crc(entry.crc())
+                                                                       .uncompressedSize(entry.uncompressedSize())
+                                                                       .build());
+        }
+        return archiveEntries;
+    }
+
+    private ByteBuffer readRange(ArchiveFile archiveFile, long startOffset, long length) throws FileStorageException {
+        if (startOffset < 0 || startOffset + length > archiveFile.size()) {
+            throw new InvalidCentralDirectoryException("range " + startOffset + "-" + (startOffset + length) + " is outside of the archive");
+        }
+        int bytesToRead = Math.toIntExact(length);
+        byte[] bytes = fileService.processFileContentWithOffset(toFileContentToProcess(archiveFile, startOffset, length),
+                                                                inputStream -> inputStream.readNBytes(bytesToRead));
+        if (bytes.length != bytesToRead) {
+            throw new InvalidCentralDirectoryException("expected " + bytesToRead + " bytes at offset " + startOffset + " but got "
+                + bytes.length);
+        }
+        return ByteBuffer.wrap(bytes)
+                         .order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private FileContentToProcess toFileContentToProcess(ArchiveFile archiveFile, long startOffset, long length) {
+        // The end offset is inclusive
+        return ImmutableFileContentToProcess.builder()
+                                            .guid(archiveFile.id())
+                                            .spaceGuid(archiveFile.spaceGuid())
+                                            .startOffset(startOffset)
+                                            .endOffset(startOffset + length - 1)
+                                            .build();
+    }
+
+    private static int getUnsignedShort(ByteBuffer buffer, int index) {
+        return Short.toUnsignedInt(buffer.getShort(index));
+    }
+
+    private static long getUnsignedInt(ByteBuffer buffer, int index) {
+        return Integer.toUnsignedLong(buffer.getInt(index));
+    }
+
+    private record ArchiveFile(String spaceGuid, String id, long size) {
+    }
+
+    private record CentralDirectory(long offset, long size, long entriesCount) {
+    }
+
+    private record CentralDirectoryEntry(String name, int compressionMethod, long crc, long compressedSize, long uncompressedSize,
+                                         long localHeaderOffset) {
+    }
+
+    private record Zip64ExtendedInformation(Long uncompressedSize, Long compressedSize, Long localHeaderOffset) {
+    }
+
+    private static class InvalidCentralDirectoryException extends IllegalStateException {
+
+        private static final long serialVersionUID = 1L;
+
+        InvalidCentralDirectoryException(String message) {
+            super(message);
+        }
+    }
+
+}
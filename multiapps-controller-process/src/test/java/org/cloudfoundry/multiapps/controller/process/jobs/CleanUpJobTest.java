@@ -1,14 +1,41 @@
 package org.cloudfoundry.multiapps.controller.process.jobs;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.cloudfoundry.multiapps.common.SLException;
 import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.cloudfoundry.multiapps.controller.persistence.services.CleanerLeaseService;
+import org.flowable.engine.ProcessEngine;
 import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
 import org.mockito.Mockito;
+import org.springframework.core.annotation.Order;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 class CleanUpJobTest {
 
+    private static final String LOCK_OWNER = "lock-owner";
+
+    private final CleanerLeaseService cleanerLeaseService = Mockito.mock(CleanerLeaseService.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @Test
     void testExecutionResilience() {
         Cleaner cleaner1 = Mockito.mock(Cleaner.class);
@@ -18,6 +45,7 @@ class CleanUpJobTest {
                .execute(Mockito.any());
         Cleaner cleaner3 = Mockito.mock(Cleaner.class);
         List<Cleaner> cleaners = List.of(cleaner1, cleaner2, cleaner3);
+        mockLeaseAvailability(true);
 
         CleanUpJob cleanUpJob = createCleanUpJob(getMockedApplicationConfiguration(), cleaners);
         cleanUpJob.execute();
@@ -31,20 +59,207 @@ class CleanUpJobTest {
                .execute(Mockito.any());
     }
 
+    @Test
+    void testCompletedCleanerIsReported() {
+        Cleaner cleaner = Mockito.mock(Cleaner.class);
+        Mockito.when(cleaner.execute(Mockito.any()))
+               .thenReturn(5);
+        mockLeaseAvailability(true);
+
+        CleanUpJob cleanUpJob = createCleanUpJob(getMockedApplicationConfiguration(), List.of(cleaner));
+        cleanUpJob.execute();
+
+        String cleanerName = cleaner.getClass()
+                                    .getSimpleName();
+        Mockito.verify(cleanerLeaseService)
+               .completeLease(cleanerName, LOCK_OWNER);
+        assertEquals(5, meterRegistry.get(CleanUpJob.CLEANER_DELETED_ENTRIES_METRIC_NAME)
+                                     .tag("cleaner", cleanerName)
+                                     .counter()
+                                     .count());
+        assertEquals(1, meterRegistry.get(CleanUpJob.CLEANER_DURATION_METRIC_NAME)
+                                     .tag("cleaner", cleanerName)
+                                     .tag("outcome", "success")
+                                     .timer()
+                                     .count());
+    }
+
+    @Test
+    void testCleanerLeasedByAnotherInstanceIsSkipped() {
+        Cleaner cleaner = Mockito.mock(Cleaner.class);
+        mockLeaseAvailability(false);
+
+        CleanUpJob cleanUpJob = createCleanUpJob(getMockedApplicationConfiguration(), List.of(cleaner));
+        cleanUpJob.execute();
+
+        Mockito.verify(cleaner, Mockito.never())
+               .execute(Mockito.any());
+        Mockito.verify(cleanerLeaseService, Mockito.never())
+               .completeLease(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void testNextCleanersWaitForCleanersExecutedByAnotherInstance() throws Exception {
+        SharedLeases sharedLeases = new SharedLeases();
+        List<String> executionEvents = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch leaseRefused = new CountDownLatch(1);
+        sharedLeases.onLeaseRefused = leaseRefused::countDown;
+        SlowCleaner slowCleaner = new SlowCleaner(executionEvents, leaseRefused);
+        NextCleaner nextCleaner = new NextCleaner(executionEvents);
+        CleanUpJob firstInstance = createCleanUpJob(0, "lock-owner-0", sharedLeases, List.of(slowCleaner, nextCleaner));
+        CleanUpJob secondInstance = createCleanUpJob(1, "lock-owner-1", sharedLeases, List.of(slowCleaner, nextCleaner));
+
+        CompletableFuture<Void> firstExecution = CompletableFuture.runAsync(firstInstance::execute);
+        assertTrue(slowCleaner.started.await(10, TimeUnit.SECONDS));
+        CompletableFuture<Void> secondExecution = CompletableFuture.runAsync(secondInstance::execute);
+        CompletableFuture.allOf(firstExecution, secondExecution)
+                         .get(10, TimeUnit.SECONDS);
+
+        assertEquals(List.of("SlowCleaner finished", "NextCleaner started"), executionEvents);
+    }
+
+    private void mockLeaseAvailability(boolean isLeaseAvailable) {
+        Mockito.when(cleanerLeaseService.tryAcquireLease(Mockito.any(), Mockito.eq(LOCK_OWNER), Mockito.any(), Mockito.any()))
+               .thenReturn(isLeaseAvailable);
+        Mockito.when(cleanerLeaseService.areLeasesCompleted(Mockito.any(), Mockito.any()))
+               .thenReturn(true);
+    }
+
     private CleanUpJob createCleanUpJob(ApplicationConfiguration applicationConfiguration, List<Cleaner> cleaners) {
         CleanUpJob cleanUpJob = new CleanUpJob();
         cleanUpJob.configuration = applicationConfiguration;
         cleanUpJob.cleaners = cleaners;
+        cleanUpJob.cleanerLeaseService = cleanerLeaseService;
+        cleanUpJob.processEngine = getMockedProcessEngine(LOCK_OWNER);
+        cleanUpJob.meterRegistry = meterRegistry;
+        return cleanUpJob;
+    }
+
+    private CleanUpJob createCleanUpJob(int applicationInstanceIndex, String lockOwner, SharedLeases sharedLeases,
+                                        List<Cleaner> cleaners) {
+        CleanUpJob cleanUpJob = new CleanUpJob();
+        cleanUpJob.configuration = getMockedApplicationConfiguration(applicationInstanceIndex);
+        cleanUpJob.cleaners = cleaners;
+        cleanUpJob.cleanerLeaseService = sharedLeases.createCleanerLeaseService();
+        cleanUpJob.processEngine = getMockedProcessEngine(lockOwner);
+        cleanUpJob.meterRegistry = meterRegistry;
+        cleanUpJob.leaseCompletionCheckInterval = Duration.ofMillis(10);
         return cleanUpJob;
     }
 
+    private ProcessEngine getMockedProcessEngine(String lockOwner) {
+        ProcessEngine processEngine = Mockito.mock(ProcessEngine.class, Answers.RETURNS_DEEP_STUBS);
+        Mockito.when(processEngine.getProcessEngineConfiguration()
+                                  .getAsyncExecutor()
+                                  .getLockOwner())
+               .thenReturn(lockOwner);
+        return processEngine;
+    }
+
     private ApplicationConfiguration getMockedApplicationConfiguration() {
+        return getMockedApplicationConfiguration(0);
+    }
+
+    private ApplicationConfiguration getMockedApplicationConfiguration(int applicationInstanceIndex) {
         ApplicationConfiguration configuration = Mockito.mock(ApplicationConfiguration.class);
         Mockito.when(configuration.getApplicationInstanceIndex())
-               .thenReturn(0);
+               .thenReturn(applicationInstanceIndex);
         Mockito.when(configuration.getMaxTtlForOldData())
                .thenReturn(ApplicationConfiguration.DEFAULT_MAX_TTL_FOR_OLD_DATA);
+        Mockito.when(configuration.getCleanUpJobMaxParallelCleaners())
+               .thenReturn(2);
+        Mockito.when(configuration.getCleanUpJobCleanerTimeBudgetInMinutes())
+               .thenReturn(ApplicationConfiguration.DEFAULT_CLEAN_UP_JOB_CLEANER_TIME_BUDGET_IN_MINUTES);
         return  configuration;
     }
 
+    /**
+     * Leases shared by the instances in a test, in place of the cleaner_lease table.
+     */
+    private static class SharedLeases {
+
+        private final Map<String, String> lockOwners = new HashMap<>();
+        private final Set<String> completedCleaners = new HashSet<>();
+        private Runnable onLeaseRefused = () -> {
+        };
+
+        CleanerLeaseService createCleanerLeaseService() {
+            CleanerLeaseService cleanerLeaseService = Mockito.mock(CleanerLeaseService.class);
+            Mockito.when(cleanerLeaseService.tryAcquireLease(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+                   .thenAnswer(invocation -> tryAcquireLease(invocation.getArgument(0), invocation.getArgument(1)));
+            Mockito.doAnswer(invocation -> {
+                       completeLease(invocation.getArgument(0));
+                       return null;
+                   })
+                   .when(cleanerLeaseService)
+                   .completeLease(Mockito.any(), Mockito.any());
+            Mockito.when(cleanerLeaseService.areLeasesCompleted(Mockito.any(), Mockito.any()))
+                   .thenAnswer(invocation -> areLeasesCompleted(invocation.getArgument(0)));
+            return cleanerLeaseService;
+        }
+
+        private boolean tryAcquireLease(String cleanerName, String lockOwner) {
+            synchronized (this) {
+                if (!lockOwners.containsKey(cleanerName)) {
+                    lockOwners.put(cleanerName, lockOwner);
+                    return true;
+                }
+            }
+            onLeaseRefused.run();
+            return false;
+        }
+
+        private synchronized void completeLease(String cleanerName) {
+            completedCleaners.add(cleanerName);
+        }
+
+        private synchronized boolean areLeasesCompleted(Collection<String> cleanerNames) {
+            return completedCleaners.containsAll(cleanerNames);
+        }
+    }
+
+    @Order(10)
+    private static class SlowCleaner implements Cleaner {
+
+        private final List<String> executionEvents;
+        private final CountDownLatch leaseRefused;
+        private final CountDownLatch started = new CountDownLatch(1);
+
+        SlowCleaner(List<String> executionEvents, CountDownLatch leaseRefused) {
+            this.executionEvents = executionEvents;
+            this.leaseRefused = leaseRefused;
+        }
+
+        @Override
+        public int execute(LocalDateTime expirationTime) {
+            started.countDown();
+            try {
+                // Keeps running after the other instance has skipped this cleaner:
+                leaseRefused.await(10, TimeUnit.SECONDS);
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+            }
+            executionEvents.add("SlowCleaner finished");
+            return 0;
+        }
+    }
+
+    @Order(20)
+    private static class NextCleaner implements Cleaner {
+
+        private final List<String> executionEvents;
+
+        NextCleaner(List<String> executionEvents) {
+            this.executionEvents = executionEvents;
+        }
+
+        @Override
+        public int execute(LocalDateTime expirationTime) {
+            executionEvents.add("NextCleaner started");
+            return 0;
+        }
+    }
+
 }
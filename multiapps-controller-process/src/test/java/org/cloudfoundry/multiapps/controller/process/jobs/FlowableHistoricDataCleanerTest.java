@@ -1,16 +1,18 @@
 package org.cloudfoundry.multiapps.controller.process.jobs;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -24,6 +26,9 @@ import org.mockito.AdditionalAnswers;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 class FlowableHistoricDataCleanerTest {
 
     private static final LocalDateTime EXPIRATION_TIME = LocalDateTime.ofInstant(Instant.ofEpochMilli(5000), ZoneId.systemDefault());
@@ -31,6 +36,9 @@ class FlowableHistoricDataCleanerTest {
     private static final String OPERATION_ID_2 = "2";
     private static final String OPERATION_ID_3 = "3";
     private static final int PAGE_SIZE = 2;
+    private static final int THREADS = 1;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     @Mock
     private HistoryService historyService;
@@ -40,7 +48,7 @@ class FlowableHistoricDataCleanerTest {
     void initMocks() throws Exception {
         MockitoAnnotations.openMocks(this)
                           .close();
-        this.cleaner = new FlowableHistoricDataCleaner(historyService, PAGE_SIZE);
+        this.cleaner = new FlowableHistoricDataCleaner(historyService, PAGE_SIZE, THREADS, meterRegistry);
     }
 
     @Test
@@ -56,9 +64,10 @@ class FlowableHistoricDataCleanerTest {
         when(historyService.createHistoricProcessInstanceQuery()).thenReturn(query);
 
         cleaner.execute(EXPIRATION_TIME);
-        verify(historyService).deleteHistoricProcessInstance(OPERATION_ID_1);
-        verify(historyService).deleteHistoricProcessInstance(OPERATION_ID_2);
-        verify(historyService).deleteHistoricProcessInstance(OPERATION_ID_3);
+        verify(historyService).bulkDeleteHistoricProcessInstances(List.of(OPERATION_ID_1, OPERATION_ID_2));
+        verify(historyService).bulkDeleteHistoricProcessInstances(List.of(OPERATION_ID_3));
+        verify(query, times(3)).listPage(0, PAGE_SIZE * THREADS);
+        assertEquals(3, getCount(FlowableHistoricDataCleaner.DELETED_PROCESSES_METRIC_NAME));
     }
 
     private HistoricProcessInstance mockHistoricProcessInstanceWithId(String id) {
@@ -73,16 +82,16 @@ class FlowableHistoricDataCleanerTest {
                                                                                            .toInstant()))).thenReturn(historicProcessInstanceQuery);
         when(historicProcessInstanceQuery.finished()).thenReturn(historicProcessInstanceQuery);
         when(historicProcessInstanceQuery.excludeSubprocesses(anyBoolean())).thenReturn(historicProcessInstanceQuery);
+        when(historicProcessInstanceQuery.orderByProcessInstanceId()).thenReturn(historicProcessInstanceQuery);
+        when(historicProcessInstanceQuery.asc()).thenReturn(historicProcessInstanceQuery);
         when(historicProcessInstanceQuery.listPage(anyInt(), anyInt())).thenAnswer(AdditionalAnswers.returnsElementsOf(pages));
-        long processesCount = getTotalProcessesCount(pages);
-        when(historicProcessInstanceQuery.count()).thenReturn(processesCount);
         return historicProcessInstanceQuery;
     }
 
-    private long getTotalProcessesCount(List<List<HistoricProcessInstance>> pages) {
-        return pages.stream()
-                    .mapToLong(Collection::size)
-                    .sum();
+    private double getCount(String metricName) {
+        return meterRegistry.get(metricName)
+                            .counter()
+                            .count();
     }
 
     @Test
@@ -94,12 +103,18 @@ class FlowableHistoricDataCleanerTest {
 
         HistoricProcessInstanceQuery query = mockHistoricProcessInstanceQueryWithPages(List.of(page1, page2));
         when(historyService.createHistoricProcessInstanceQuery()).thenReturn(query);
+        doThrow(new FlowableObjectNotFoundException("Oops! Someone was faster than you!")).when(historyService)
+                                                                                          .bulkDeleteHistoricProcessInstances(List.of(OPERATION_ID_1,
+                                                                                                                                      OPERATION_ID_2));
         doThrow(new FlowableObjectNotFoundException("Oops! Someone was faster than you!")).when(historyService)
                                                                                           .deleteHistoricProcessInstance(OPERATION_ID_1);
 
         cleaner.execute(EXPIRATION_TIME);
         verify(historyService).deleteHistoricProcessInstance(OPERATION_ID_1);
         verify(historyService).deleteHistoricProcessInstance(OPERATION_ID_2);
+        verify(query).listPage(eq(1), anyInt());
+        assertEquals(1, getCount(FlowableHistoricDataCleaner.DELETED_PROCESSES_METRIC_NAME));
+        assertEquals(1, getCount(FlowableHistoricDataCleaner.FAILED_PROCESSES_METRIC_NAME));
     }
 
 }
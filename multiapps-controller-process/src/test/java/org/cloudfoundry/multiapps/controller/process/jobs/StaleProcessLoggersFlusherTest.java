@@ -0,0 +1,44 @@
+package org.cloudfoundry.multiapps.controller.process.jobs;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.cloudfoundry.multiapps.controller.persistence.services.ProcessLoggerPersister;
+import org.cloudfoundry.multiapps.controller.persistence.services.ProcessLoggerProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class StaleProcessLoggersFlusherTest {
+
+    private static final String OPERATION_ID = "operation-id";
+    private static final String ACTIVITY_ID = "activity-id";
+
+    @Mock
+    private ProcessLoggerProvider processLoggerProvider;
+    @Mock
+    private ProcessLoggerPersister processLoggerPersister;
+    @InjectMocks
+    private StaleProcessLoggersFlusher flusher;
+
+    @BeforeEach
+    void initMocks() throws Exception {
+        MockitoAnnotations.openMocks(this)
+                          .close();
+    }
+
+    @Test
+    void testStaleLoggersArePersisted() {
+        var loggersKey = new ProcessLoggerProvider.LoggersKey(OPERATION_ID, ACTIVITY_ID);
+        when(processLoggerProvider.getLoggersNotUpdatedSince(any())).thenReturn(List.of(loggersKey));
+
+        flusher.run();
+        verify(processLoggerPersister).persistLogs(OPERATION_ID, ACTIVITY_ID);
+    }
+
+}
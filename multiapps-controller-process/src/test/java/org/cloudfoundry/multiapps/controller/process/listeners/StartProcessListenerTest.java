@@ -65,7 +65,7 @@ class StartProcessListenerTest {
     @Mock(answer = Answers.RETURNS_SELF)
     private OperationQuery operationQuery;
     @Mock
-    private StepLogger.Factory stepLoggerFactory = new StepLogger.Factory();
+    private StepLogger.Factory stepLoggerFactory;
     @Mock
     private StepLogger stepLogger;
     @Mock
@@ -0,0 +1,137 @@
+package org.cloudfoundry.multiapps.controller.process.steps;
+
+import java.util.List;
+
+import org.cloudfoundry.multiapps.controller.process.variables.Variables;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AsyncFlowableStepTest extends SyncFlowableStepTest<AsyncFlowableStepTest.TestAsyncStep> {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void addMeterRegistry() {
+        Metrics.globalRegistry.add(meterRegistry);
+    }
+
+    @AfterEach
+    void removeMeterRegistry() {
+        Metrics.globalRegistry.remove(meterRegistry);
+    }
+
+    @Test
+    void testStepExecutionIsMetered() {
+        step.execute(execution);
+
+        assertEquals(StepPhase.POLL.toString(), getExecutionStatus());
+        assertEquals(1, getStepExecutionCount("poll"));
+    }
+
+    @Test
+    void testPollIsMetered() {
+        step.stepExecution = new FinishedExecution();
+        prepareContextForPolling();
+
+        step.execute(execution);
+
+        assertStepFinishedSuccessfully();
+        assertEquals(1, getStepExecutionCount("done"));
+        assertEquals(1, getPollCount(FinishedExecution.class.getSimpleName(), "finished"));
+    }
+
+    @Test
+    void testPollOfAnonymousExecutionIsTaggedWithClassName() {
+        step.stepExecution = new AsyncExecution() {
+
+            @Override
+            public AsyncExecutionState execute(ProcessContext context) {
+                return AsyncExecutionState.RUNNING;
+            }
+
+            @Override
+            public String getPollingErrorMessage(ProcessContext context) {
+                return "Polling failed";
+            }
+
+        };
+        prepareContextForPolling();
+
+        step.execute(execution);
+
+        assertEquals(StepPhase.POLL.toString(), getExecutionStatus());
+        assertEquals(1, getPollCount(step.stepExecution.getClass()
+                                                       .getName(),
+                                     "running"));
+    }
+
+    private void prepareContextForPolling() {
+        context.setVariable(Variables.STEP_PHASE, StepPhase.POLL);
+        context.setVariable(Variables.ASYNC_STEP_EXECUTION_INDEX, 0);
+    }
+
+    private long getStepExecutionCount(String outcome) {
+        return meterRegistry.get(SyncFlowableStep.STEP_METRICS_PREFIX + "execution")
+                            .tag("step", TestAsyncStep.class.getSimpleName())
+                            .tag("outcome", outcome)
+                            .timer()
+                            .count();
+    }
+
+    private double getPollCount(String executionName, String state) {
+        return meterRegistry.get(SyncFlowableStep.STEP_METRICS_PREFIX + "async.execution.polls")
+                            .tag("step", TestAsyncStep.class.getSimpleName())
+                            .tag("execution", executionName)
+                            .tag("state", state)
+                            .counter()
+                            .count();
+    }
+
+    @Override
+    protected TestAsyncStep createStep() {
+        return new TestAsyncStep();
+    }
+
+    static class TestAsyncStep extends AsyncFlowableStep {
+
+        private AsyncExecution stepExecution = new FinishedExecution();
+
+        @Override
+        protected StepPhase executeAsyncStep(ProcessContext context) {
+            return StepPhase.POLL;
+        }
+
+        @Override
+        protected List<AsyncExecution> getAsyncStepExecutions(ProcessContext context) {
+            return List.of(stepExecution);
+        }
+
+        @Override
+        protected String getStepErrorMessage(ProcessContext context) {
+            return "Step failed";
+        }
+
+    }
+
+    private static class FinishedExecution implements AsyncExecution {
+
+        @Override
+        public AsyncExecutionState execute(ProcessContext context) {
+            return AsyncExecutionState.FINISHED;
+        }
+
+        @Override
+        public String getPollingErrorMessage(ProcessContext context) {
+            return "Polling failed";
+        }
+
+    }
+
+}
@@ -26,6 +26,7 @@ import org.cloudfoundry.multiapps.controller.persistence.services.FileContentPro
 import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryExtractor;
 import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryStreamWithStreamPositionsDeterminer;
 import org.cloudfoundry.multiapps.controller.process.util.ProcessConflictPreventer;
+import org.cloudfoundry.multiapps.controller.process.util.ZipCentralDirectoryReader;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.cloudfoundry.multiapps.mta.handlers.DescriptorParserFacade;
 import org.junit.jupiter.api.BeforeEach;
@@ -77,7 +78,8 @@ class ProcessMtaArchiveStepTest extends SyncFlowableStepTest<ProcessMtaArchiveSt
 
         }).when(fileService)
           .processFileContent(any(), any(), any());
-        step.archiveEntryStreamWithStreamPositionsDeterminer = spy(new ArchiveEntryStreamWithStreamPositionsDeterminer(fileService));
+        step.archiveEntryStreamWithStreamPositionsDeterminer = spy(new ArchiveEntryStreamWithStreamPositionsDeterminer(fileService,
+                                                                                                                       new ZipCentralDirectoryReader(fileService)));
     }
 
     @Test
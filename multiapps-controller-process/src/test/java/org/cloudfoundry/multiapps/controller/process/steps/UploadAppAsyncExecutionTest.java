@@ -30,8 +30,10 @@ import org.cloudfoundry.multiapps.controller.persistence.services.FileContentCon
 import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
 import org.cloudfoundry.multiapps.controller.process.util.ApplicationArchiveIterator;
 import org.cloudfoundry.multiapps.controller.process.util.ApplicationZipBuilder;
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryCache;
 import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryExtractor;
 import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryWithStreamPositions;
+import org.cloudfoundry.multiapps.controller.process.util.ExtractedApplicationArchivesTracker;
 import org.cloudfoundry.multiapps.controller.process.util.ImmutableArchiveEntryWithStreamPositions;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.junit.jupiter.api.BeforeEach;
@@ -49,7 +51,9 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class UploadAppAsyncExecutionTest extends AsyncStepOperationTest<UploadAppStep> {
@@ -99,7 +103,8 @@ class UploadAppAsyncExecutionTest extends AsyncStepOperationTest<UploadAppStep>
         prepareContext();
         step.applicationZipBuilder = spy(new ApplicationZipBuilderMock(fileService,
                                                                        new ApplicationArchiveIterator(),
-                                                                       new ArchiveEntryExtractor(fileService)));
+                                                                       new ArchiveEntryExtractor(new ArchiveEntryCache(fileService, null, 0))));
+        step.extractedApplicationArchivesTracker = new ExtractedApplicationArchivesTracker();
     }
 
     @SuppressWarnings("rawtypes")
@@ -189,6 +194,23 @@ class UploadAppAsyncExecutionTest extends AsyncStepOperationTest<UploadAppStep>
         testExecuteOperations();
         assertEquals(CLOUD_PACKAGE, context.getVariable(Variables.CLOUD_PACKAGE));
         assertTrue(context.getVariable(Variables.APP_CONTENT_CHANGED));
+        assertFalse(appFile.toFile()
+                           .exists());
+    }
+
+    @Test
+    void testUploadReusesTrackedArchive() {
+        prepareExecutorService();
+        context.setVariable(Variables.ARCHIVE_ENTRIES_POSITIONS, List.of(ARCHIVE_ENTRY_WITH_STREAM_POSITIONS));
+        step.extractedApplicationArchivesTracker.track(TEST_CORRELATION_ID, APP_NAME, appFile);
+        when(client.asyncUploadApplicationWithExponentialBackoff(eq(APP_NAME), eq(appFile), any(UploadStatusCallback.class),
+                                                                 any())).thenReturn(CLOUD_PACKAGE);
+        expectedStatus = AsyncExecutionState.FINISHED;
+        testExecuteOperations();
+        verify(step.applicationZipBuilder, never()).extractApplicationInNewArchive(any());
+        assertNull(step.extractedApplicationArchivesTracker.take(TEST_CORRELATION_ID, APP_NAME));
+        assertFalse(appFile.toFile()
+                           .exists());
     }
 
     @Test
@@ -218,6 +240,7 @@ class UploadAppAsyncExecutionTest extends AsyncStepOperationTest<UploadAppStep>
         @Override
         protected List<AsyncExecution> getAsyncStepExecutions(ProcessContext context) {
             return List.of(new UploadAppAsyncExecution(applicationZipBuilder,
+                                                       extractedApplicationArchivesTracker,
                                                        getProcessLogsPersister(),
                                                        configuration,
                                                        appUploaderThreadPool) {
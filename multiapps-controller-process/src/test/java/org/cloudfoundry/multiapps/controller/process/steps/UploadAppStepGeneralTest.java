@@ -32,11 +32,13 @@ import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileContentConsumer;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
 import org.cloudfoundry.multiapps.controller.process.util.ApplicationArchiveIterator;
-import org.cloudfoundry.multiapps.controller.process.util.ApplicationDigestCalculator;
 import org.cloudfoundry.multiapps.controller.process.util.ApplicationZipBuilder;
+import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryCache;
 import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryExtractor;
 import org.cloudfoundry.multiapps.controller.process.util.ArchiveEntryWithStreamPositions;
 import org.cloudfoundry.multiapps.controller.process.util.CloudPackagesGetter;
+import org.cloudfoundry.multiapps.controller.process.util.ExtractedApplicationArchive;
+import org.cloudfoundry.multiapps.controller.process.util.ExtractedApplicationArchivesTracker;
 import org.cloudfoundry.multiapps.controller.process.util.ImmutableArchiveEntryWithStreamPositions;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.junit.jupiter.api.AfterEach;
@@ -48,10 +50,12 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
@@ -135,8 +139,10 @@ class UploadAppStepGeneralTest extends SyncFlowableStepTest<UploadAppStep> {
         prepareFileService();
         prepareContext();
         step.applicationZipBuilder = spy(
-            new ApplicationZipBuilderMock(fileService, new ApplicationArchiveIterator(), new ArchiveEntryExtractor(fileService)));
-        step.applicationDigestCalculator = mock(ApplicationDigestCalculator.class);
+            new ApplicationZipBuilderMock(fileService,
+                                          new ApplicationArchiveIterator(),
+                                          new ArchiveEntryExtractor(new ArchiveEntryCache(fileService, null, 0))));
+        step.extractedApplicationArchivesTracker = new ExtractedApplicationArchivesTracker();
     }
 
     @SuppressWarnings("rawtypes")
@@ -185,6 +191,17 @@ class UploadAppStepGeneralTest extends SyncFlowableStepTest<UploadAppStep> {
         prepareClients(NEW_MODULE_DIGEST);
         step.execute(execution);
         assertEquals(StepPhase.POLL.toString(), getExecutionStatus());
+        assertEquals(appFile, step.extractedApplicationArchivesTracker.take(TEST_CORRELATION_ID, APP_NAME));
+    }
+
+    @Test
+    void testArchiveOfPreviousExecutionIsDiscarded() throws Exception {
+        Path previousAppFile = Files.createFile(tempDir.resolve("previous-" + APP_FILE));
+        step.extractedApplicationArchivesTracker.track(TEST_CORRELATION_ID, APP_NAME, previousAppFile);
+        prepareClients(NEW_MODULE_DIGEST);
+        step.execute(execution);
+        assertFalse(Files.exists(previousAppFile));
+        assertEquals(appFile, step.extractedApplicationArchivesTracker.take(TEST_CORRELATION_ID, APP_NAME));
     }
 
     @Test
@@ -239,6 +256,9 @@ class UploadAppStepGeneralTest extends SyncFlowableStepTest<UploadAppStep> {
         prepareClients(CURRENT_MODULE_DIGEST);
         step.execute(execution);
         assertEquals(stepPhase.toString(), getExecutionStatus());
+        if (stepPhase == StepPhase.DONE) {
+            assertFalse(Files.exists(appFile));
+        }
     }
 
     private CloudPackage createCloudPackage(Status status) {
@@ -269,7 +289,8 @@ class UploadAppStepGeneralTest extends SyncFlowableStepTest<UploadAppStep> {
         CloudApplicationExtended application = createApplication(applicationDigest);
         when(client.getApplicationEnvironment(APP_GUID)).thenReturn(application.getEnv());
         when(client.getApplication(APP_NAME)).thenReturn(application);
-        when(step.applicationDigestCalculator.calculateApplicationDigest(any())).thenReturn(applicationDigest);
+        doReturn(new ExtractedApplicationArchive(appFile, applicationDigest)).when(step.applicationZipBuilder)
+                                                                             .extractApplicationWithDigest(any());
     }
 
     private CloudApplicationExtended createApplication(String digest) {
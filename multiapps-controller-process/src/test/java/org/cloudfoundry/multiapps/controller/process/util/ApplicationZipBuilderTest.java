@@ -1,5 +1,6 @@
 package org.cloudfoundry.multiapps.controller.process.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -8,12 +9,15 @@ import static org.mockito.Mockito.doAnswer;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.text.MessageFormat;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -35,6 +39,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
@@ -83,7 +88,7 @@ class ApplicationZipBuilderTest {
         ApplicationArchiveContext applicationArchiveContext = getApplicationArchiveContext(mtar, fileName);
         ApplicationZipBuilder zipBuilder = new ApplicationZipBuilder(fileService,
                                                                      new ApplicationArchiveIterator(),
-                                                                     new ArchiveEntryExtractor(fileService));
+                                                                     new ArchiveEntryExtractor(new ArchiveEntryCache(fileService, null, 0)));
         appPath = zipBuilder.extractApplicationInNewArchive(applicationArchiveContext);
         assertTrue(Files.exists(appPath));
         try (InputStream zipStream = Files.newInputStream(appPath)) {
@@ -92,11 +97,66 @@ class ApplicationZipBuilderTest {
         }
     }
 
+    @ParameterizedTest
+    @MethodSource
+    void testExtractApplicationWithDigest(String fileName, String expectedDigest) throws Exception {
+        ApplicationArchiveContext applicationArchiveContext = getApplicationArchiveContext(SAMPLE_MTAR, fileName);
+        ApplicationZipBuilder zipBuilder = new ApplicationZipBuilder(fileService,
+                                                                     new ApplicationArchiveIterator(),
+                                                                     new ArchiveEntryExtractor(new ArchiveEntryCache(fileService, null, 0)));
+        ExtractedApplicationArchive extractedApplicationArchive = zipBuilder.extractApplicationWithDigest(applicationArchiveContext);
+        appPath = extractedApplicationArchive.path();
+        assertTrue(Files.exists(appPath));
+        assertEquals(expectedDigest, extractedApplicationArchive.digest());
+    }
+
+    static Stream<Arguments> testExtractApplicationWithDigest() {
+        return Stream.of(Arguments.of("db/", "71017C6429E2E1FA4ED2AD97ABF321A0"),
+                         Arguments.of("web/web-server.zip", "4C64A36CDC073B5D07947005F630DACC"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "db/", "web/" })
+    void testCopyCompressedEntriesOfDirectoryModule(String fileName) throws Exception {
+        ApplicationArchiveContext applicationArchiveContext = getApplicationArchiveContext(SAMPLE_MTAR, fileName);
+        List<ArchiveEntryWithStreamPositions> entriesWithoutCrc = applicationArchiveContext.getArchiveEntryWithStreamPositions()
+                                                                                           .stream()
+                                                                                           .map(entry -> ImmutableArchiveEntryWithStreamPositions.copyOf(entry)
+                                                                                                                                                 .withCrc(null))
+                                                                                           .collect(Collectors.toList());
+        ApplicationArchiveContext repackagingContext = new ApplicationArchiveContext(fileName, MAX_UPLOAD_FILE_SIZE, entriesWithoutCrc,
+                                                                                     "123", "123");
+        ApplicationZipBuilder zipBuilder = new ApplicationZipBuilder(fileService,
+                                                                     new ApplicationArchiveIterator(),
+                                                                     new ArchiveEntryExtractor(new ArchiveEntryCache(fileService, null, 0)));
+
+        ExtractedApplicationArchive copiedApplication = zipBuilder.extractApplicationWithDigest(applicationArchiveContext);
+        appPath = copiedApplication.path();
+        ExtractedApplicationArchive repackagedApplication = zipBuilder.extractApplicationWithDigest(repackagingContext);
+        try {
+            assertEquals(repackagedApplication.digest(), copiedApplication.digest());
+            assertEquals(getZipEntriesContent(repackagedApplication.path()), getZipEntriesContent(copiedApplication.path()));
+        } finally {
+            Files.deleteIfExists(repackagedApplication.path());
+        }
+    }
+
+    private Map<String, String> getZipEntriesContent(Path zipPath) throws IOException {
+        Map<String, String> zipEntriesContent = new HashMap<>();
+        try (ZipInputStream zipInputStream = new ZipInputStream(Files.newInputStream(zipPath))) {
+            for (ZipEntry zipEntry; (zipEntry = zipInputStream.getNextEntry()) != null;) {
+                zipEntriesContent.put(zipEntry.getName(), new String(zipInputStream.readAllBytes(), StandardCharsets.ISO_8859_1));
+            }
+        }
+        return zipEntriesContent;
+    }
+
     private ApplicationArchiveContext getApplicationArchiveContext(String mtar, String fileName) throws FileStorageException {
         mockProcessingOfFileContent(mtar);
         mockConsumptionOfFileContent(mtar);
         mockConsumptionOfFileContentWithOffset(mtar);
-        ArchiveEntryStreamWithStreamPositionsDeterminer archiveEntryStreamWithStreamPositionsDeterminer = new ArchiveEntryStreamWithStreamPositionsDeterminer(fileService);
+        ArchiveEntryStreamWithStreamPositionsDeterminer archiveEntryStreamWithStreamPositionsDeterminer = new ArchiveEntryStreamWithStreamPositionsDeterminer(fileService,
+                                                                                                                                              new ZipCentralDirectoryReader(fileService));
         List<ArchiveEntryWithStreamPositions> archiveEntriesWithStreamPositions = archiveEntryStreamWithStreamPositionsDeterminer.determineArchiveEntries("123",
                                                                                                                                                           "123");
         return new ApplicationArchiveContext(fileName, MAX_UPLOAD_FILE_SIZE, archiveEntriesWithStreamPositions, "123", "123");
@@ -153,7 +213,7 @@ class ApplicationZipBuilderTest {
         ApplicationArchiveContext applicationArchiveContext = getApplicationArchiveContext(mtar, fileName);
         ApplicationZipBuilder zipBuilder = new ApplicationZipBuilder(fileService,
                                                                      new ApplicationArchiveIterator(),
-                                                                     new ArchiveEntryExtractor(fileService));
+                                                                     new ArchiveEntryExtractor(new ArchiveEntryCache(fileService, null, 0)));
         appPath = zipBuilder.extractApplicationInNewArchive(applicationArchiveContext);
         assertTrue(Files.exists(appPath));
         Set<String> relativizedFilePaths = relativizeUploadedFilesPaths(fileName, alreadyUploadedFiles);
@@ -187,7 +247,7 @@ class ApplicationZipBuilderTest {
         String fileName = "db/";
         ApplicationZipBuilder zipBuilder = new ApplicationZipBuilder(fileService,
                                                                      new ApplicationArchiveIterator(),
-                                                                     new ArchiveEntryExtractor(fileService)) {
+                                                                     new ArchiveEntryExtractor(new ArchiveEntryCache(fileService, null, 0))) {
             @Override
             protected void copy(InputStream input, OutputStream output, ApplicationArchiveContext applicationArchiveContext)
                 throws IOException {
@@ -0,0 +1,181 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import org.cloudfoundry.multiapps.controller.persistence.services.FileContentConsumer;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileContentToProcess;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
+import org.cloudfoundry.multiapps.controller.persistence.services.ImmutableFileContentToProcess;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ArchiveEntryCacheTest {
+
+    private static final String SPACE_GUID = "space-guid";
+    private static final String FILE_ID = "file-id";
+    private static final byte[] FILE_CONTENT = "0123456789abcdefghijklmnopqrstuvwxyz".getBytes();
+
+    @TempDir
+    Path cacheDirectory;
+
+    @Mock
+    private FileService fileService;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this)
+                          .close();
+        doAnswer(answer -> {
+            FileContentToProcess fileContentToProcess = answer.getArgument(0);
+            FileContentConsumer fileContentConsumer = answer.getArgument(1);
+            fileContentConsumer.consume(new ByteArrayInputStream(FILE_CONTENT, (int) fileContentToProcess.getStartOffset(),
+                                                                 (int) (fileContentToProcess.getEndOffset()
+                                                                     - fileContentToProcess.getStartOffset() + 1)));
+            return null;
+        }).when(fileService)
+          .consumeFileContentWithOffset(any(), any());
+    }
+
+    @Test
+    void testEntryIsDownloadedOnlyOnce() throws Exception {
+        ArchiveEntryCache archiveEntryCache = createArchiveEntryCache(FILE_CONTENT.length);
+
+        assertArrayEquals(getExpectedContent(0, 9), readEntry(archiveEntryCache, 0, 9));
+        assertArrayEquals(getExpectedContent(0, 9), readEntry(archiveEntryCache, 0, 9));
+
+        verify(fileService, times(1)).consumeFileContentWithOffset(any(), any());
+        assertEquals(1, getCount("hits"));
+        assertEquals(1, getCount("misses"));
+        assertEquals(10, archiveEntryCache.getSizeInBytes());
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvicted() throws Exception {
+        ArchiveEntryCache archiveEntryCache = createArchiveEntryCache(20);
+
+        readEntry(archiveEntryCache, 0, 9);
+        readEntry(archiveEntryCache, 10, 19);
+        readEntry(archiveEntryCache, 0, 9);
+        readEntry(archiveEntryCache, 20, 29);
+
+        assertEquals(1, getCount("evictions"));
+        assertEquals(20, archiveEntryCache.getSizeInBytes());
+        assertArrayEquals(getExpectedContent(0, 9), readEntry(archiveEntryCache, 0, 9));
+        assertArrayEquals(getExpectedContent(10, 19), readEntry(archiveEntryCache, 10, 19));
+        assertEquals(4, getCount("misses"));
+    }
+
+    @Test
+    void testRemoveEntriesLastAccessedBefore() throws Exception {
+        ArchiveEntryCache archiveEntryCache = createArchiveEntryCache(FILE_CONTENT.length);
+        readEntry(archiveEntryCache, 0, 9);
+        readEntry(archiveEntryCache, 10, 19);
+
+        assertEquals(2, archiveEntryCache.removeEntriesLastAccessedBefore(LocalDateTime.now()
+                                                                                       .plusMinutes(1)));
+
+        assertEquals(0, archiveEntryCache.getSizeInBytes());
+        readEntry(archiveEntryCache, 0, 9);
+        assertEquals(3, getCount("misses"));
+    }
+
+    @Test
+    void testIdleEntriesAreRemoved() throws Exception {
+        ArchiveEntryCache archiveEntryCache = new ArchiveEntryCache(fileService, cacheDirectory, FILE_CONTENT.length, Duration.ZERO,
+                                                                    meterRegistry);
+        readEntry(archiveEntryCache, 0, 9);
+
+        archiveEntryCache.removeIdleEntries();
+
+        assertEquals(0, archiveEntryCache.getSizeInBytes());
+        assertEquals(0, meterRegistry.get(ArchiveEntryCache.METRICS_PREFIX + "size")
+                                     .gauge()
+                                     .value());
+    }
+
+    @Test
+    void testEntryLargerThanCacheIsNotCached() throws Exception {
+        ArchiveEntryCache archiveEntryCache = createArchiveEntryCache(5);
+
+        archiveEntryCache.processEntryContent(buildFileContentToProcess(0, 9), InputStream::readAllBytes);
+
+        verify(fileService).processFileContentWithOffset(any(), any());
+        verify(fileService, never()).consumeFileContentWithOffset(any(), any());
+        assertEquals(0, getCount("misses"));
+    }
+
+    @Test
+    void testEntriesAreNotCachedWhenCacheIsDisabled() throws Exception {
+        ArchiveEntryCache archiveEntryCache = createArchiveEntryCache(0);
+
+        archiveEntryCache.consumeEntryContent(buildFileContentToProcess(0, 9), InputStream::readAllBytes);
+        archiveEntryCache.consumeEntryContent(buildFileContentToProcess(0, 9), InputStream::readAllBytes);
+
+        verify(fileService, times(2)).consumeFileContentWithOffset(any(), any());
+        assertEquals(0, getCount("misses"));
+        assertEquals(0, archiveEntryCache.getSizeInBytes());
+    }
+
+    @Test
+    void testFailedDownloadIsNotCached() throws Exception {
+        ArchiveEntryCache archiveEntryCache = createArchiveEntryCache(FILE_CONTENT.length);
+        doThrow(new FileStorageException("Download failed")).when(fileService)
+                                                            .consumeFileContentWithOffset(any(), any());
+
+        assertThrows(FileStorageException.class, () -> readEntry(archiveEntryCache, 0, 9));
+
+        assertEquals(0, archiveEntryCache.getSizeInBytes());
+    }
+
+    private ArchiveEntryCache createArchiveEntryCache(long maxSizeInBytes) {
+        return new ArchiveEntryCache(fileService, cacheDirectory, maxSizeInBytes, Duration.ofDays(1), meterRegistry);
+    }
+
+    private double getCount(String counterName) {
+        return meterRegistry.get(ArchiveEntryCache.METRICS_PREFIX + counterName)
+                            .counter()
+                            .count();
+    }
+
+    private byte[] readEntry(ArchiveEntryCache archiveEntryCache, long startOffset, long endOffset) throws FileStorageException {
+        return archiveEntryCache.processEntryContent(buildFileContentToProcess(startOffset, endOffset), InputStream::readAllBytes);
+    }
+
+    private FileContentToProcess buildFileContentToProcess(long startOffset, long endOffset) {
+        return ImmutableFileContentToProcess.builder()
+                                            .guid(FILE_ID)
+                                            .spaceGuid(SPACE_GUID)
+                                            .startOffset(startOffset)
+                                            .endOffset(endOffset)
+                                            .build();
+    }
+
+    private byte[] getExpectedContent(int startOffset, int endOffset) {
+        return Arrays.copyOfRange(FILE_CONTENT, startOffset, endOffset + 1);
+    }
+
+}
@@ -61,7 +61,7 @@ class ArchiveEntryExtractorTest {
     void setUp() throws Exception {
         MockitoAnnotations.openMocks(this)
                           .close();
-        archiveEntryExtractor = new ArchiveEntryExtractor(fileService);
+        archiveEntryExtractor = new ArchiveEntryExtractor(new ArchiveEntryCache(fileService, null, 0));
     }
 
     static Stream<Arguments> readFullDeploymentDescriptorFile() {
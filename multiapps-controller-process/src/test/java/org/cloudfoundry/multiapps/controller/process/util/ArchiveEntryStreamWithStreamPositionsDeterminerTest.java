@@ -0,0 +1,121 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.util.List;
+
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableFileEntry;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileContentProcessor;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileContentToProcess;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
+import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class ArchiveEntryStreamWithStreamPositionsDeterminerTest {
+
+    private static final String SPACE_GUID = "space-guid";
+    private static final String FILE_ID = "file-id";
+
+    @Mock
+    private FileService fileService;
+
+    private ArchiveEntryStreamWithStreamPositionsDeterminer archiveEntryStreamWithStreamPositionsDeterminer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this)
+                          .close();
+        archiveEntryStreamWithStreamPositionsDeterminer = new ArchiveEntryStreamWithStreamPositionsDeterminer(fileService,
+                                                                                                              new ZipCentralDirectoryReader(fileService));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "com.sap.mta.sample-1.2.1-beta.mtar", "com.sap.mta.sample-1.2.1-beta-flat.mtar", "stored-mta.mtar",
+        "deflated-mta.mtar" })
+    void testDetermineArchiveEntriesFromCentralDirectory(String mtarFileName) throws Exception {
+        byte[] archiveContent = readResource(mtarFileName);
+        prepareProcessingOfFileContent(archiveContent);
+        List<ArchiveEntryWithStreamPositions> streamedArchiveEntries = archiveEntryStreamWithStreamPositionsDeterminer.determineArchiveEntries(SPACE_GUID,
+                                                                                                                                               FILE_ID);
+        prepareProcessingOfFileContentWithOffset(archiveContent);
+
+        List<ArchiveEntryWithStreamPositions> archiveEntries = archiveEntryStreamWithStreamPositionsDeterminer.determineArchiveEntries(SPACE_GUID,
+                                                                                                                                       FILE_ID);
+
+        assertFalse(archiveEntries.isEmpty());
+        assertEquals(streamedArchiveEntries, archiveEntries);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "stored-mta.mtar", "deflated-mta.mtar" })
+    void testDetermineArchiveEntriesDoesNotStreamArchiveWithCentralDirectory(String mtarFileName) throws Exception {
+        prepareProcessingOfFileContentWithOffset(readResource(mtarFileName));
+
+        archiveEntryStreamWithStreamPositionsDeterminer.determineArchiveEntries(SPACE_GUID, FILE_ID);
+
+        verify(fileService, never()).processFileContent(anyString(), anyString(), any());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "stored-mta.mtar", "deflated-mta.mtar" })
+    void testDetermineArchiveEntriesFallsBackToStreamingWithoutCentralDirectory(String mtarFileName) throws Exception {
+        byte[] archiveContent = readResource(mtarFileName);
+        byte[] truncatedArchiveContent = new byte[archiveContent.length - 4];
+        System.arraycopy(archiveContent, 0, truncatedArchiveContent, 0, truncatedArchiveContent.length);
+        prepareProcessingOfFileContentWithOffset(truncatedArchiveContent);
+        prepareProcessingOfFileContent(archiveContent);
+
+        List<ArchiveEntryWithStreamPositions> archiveEntries = archiveEntryStreamWithStreamPositionsDeterminer.determineArchiveEntries(SPACE_GUID,
+                                                                                                                                       FILE_ID);
+
+        assertFalse(archiveEntries.isEmpty());
+        verify(fileService).processFileContent(eq(SPACE_GUID), eq(FILE_ID), any());
+    }
+
+    private byte[] readResource(String mtarFileName) throws IOException {
+        try (InputStream inputStream = getClass().getResourceAsStream(mtarFileName)) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    private void prepareProcessingOfFileContent(byte[] archiveContent) throws FileStorageException {
+        doAnswer(answer -> {
+            FileContentProcessor<?> fileContentProcessor = answer.getArgument(2);
+            return fileContentProcessor.process(new ByteArrayInputStream(archiveContent));
+        }).when(fileService)
+          .processFileContent(any(), any(), any());
+    }
+
+    private void prepareProcessingOfFileContentWithOffset(byte[] archiveContent) throws FileStorageException {
+        when(fileService.getFile(SPACE_GUID, FILE_ID)).thenReturn(ImmutableFileEntry.builder()
+                                                                                    .id(FILE_ID)
+                                                                                    .space(SPACE_GUID)
+                                                                                    .size(BigInteger.valueOf(archiveContent.length))
+                                                                                    .build());
+        doAnswer(answer -> {
+            FileContentToProcess fileContentToProcess = answer.getArgument(0);
+            FileContentProcessor<?> fileContentProcessor = answer.getArgument(1);
+            int startOffset = (int) fileContentToProcess.getStartOffset();
+            int length = (int) (fileContentToProcess.getEndOffset() - fileContentToProcess.getStartOffset() + 1);
+            return fileContentProcessor.process(new ByteArrayInputStream(archiveContent, startOffset, length));
+        }).when(fileService)
+          .processFileContentWithOffset(any(), any());
+    }
+
+}
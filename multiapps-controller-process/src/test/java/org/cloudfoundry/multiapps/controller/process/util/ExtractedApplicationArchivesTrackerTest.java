@@ -0,0 +1,72 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExtractedApplicationArchivesTrackerTest {
+
+    private static final String CORRELATION_ID = "correlation-id";
+    private static final String APP_NAME = "app";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testTakeStopsTrackingArchive() throws Exception {
+        ExtractedApplicationArchivesTracker tracker = new ExtractedApplicationArchivesTracker();
+        Path archive = Files.createFile(tempDir.resolve("app.zip"));
+        tracker.track(CORRELATION_ID, APP_NAME, archive);
+
+        assertEquals(archive, tracker.take(CORRELATION_ID, APP_NAME));
+        assertNull(tracker.take(CORRELATION_ID, APP_NAME));
+        assertTrue(Files.exists(archive));
+    }
+
+    @Test
+    void testTrackingNewArchiveDeletesPreviousOne() throws Exception {
+        ExtractedApplicationArchivesTracker tracker = new ExtractedApplicationArchivesTracker();
+        Path previousArchive = Files.createFile(tempDir.resolve("previous-app.zip"));
+        Path archive = Files.createFile(tempDir.resolve("app.zip"));
+        tracker.track(CORRELATION_ID, APP_NAME, previousArchive);
+
+        tracker.track(CORRELATION_ID, APP_NAME, archive);
+
+        assertFalse(Files.exists(previousArchive));
+        assertEquals(archive, tracker.take(CORRELATION_ID, APP_NAME));
+    }
+
+    @Test
+    void testDiscard() throws Exception {
+        ExtractedApplicationArchivesTracker tracker = new ExtractedApplicationArchivesTracker();
+        Path archive = Files.createFile(tempDir.resolve("app.zip"));
+        tracker.track(CORRELATION_ID, APP_NAME, archive);
+
+        tracker.discard(CORRELATION_ID, APP_NAME);
+
+        assertFalse(Files.exists(archive));
+        assertNull(tracker.take(CORRELATION_ID, APP_NAME));
+    }
+
+    @Test
+    void testStaleArchivesAreRemoved() throws Exception {
+        ExtractedApplicationArchivesTracker tracker = new ExtractedApplicationArchivesTracker(Duration.ZERO);
+        Path archive = Files.createFile(tempDir.resolve("app.zip"));
+        tracker.track(CORRELATION_ID, APP_NAME, archive);
+        Thread.sleep(10);
+
+        tracker.removeStaleArchives();
+
+        assertFalse(Files.exists(archive));
+        assertNull(tracker.take(CORRELATION_ID, APP_NAME));
+    }
+
+}
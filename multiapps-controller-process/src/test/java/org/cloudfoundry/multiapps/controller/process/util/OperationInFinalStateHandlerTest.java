@@ -16,6 +16,7 @@ import org.cloudfoundry.multiapps.controller.persistence.query.impl.OperationQue
 import org.cloudfoundry.multiapps.controller.persistence.services.FileService;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
 import org.cloudfoundry.multiapps.controller.persistence.services.OperationService;
+import org.cloudfoundry.multiapps.controller.persistence.services.ProcessLogsBatchPersister;
 import org.cloudfoundry.multiapps.controller.process.dynatrace.DynatraceProcessDuration;
 import org.cloudfoundry.multiapps.controller.process.dynatrace.DynatracePublisher;
 import org.cloudfoundry.multiapps.controller.process.variables.VariableHandling;
@@ -61,6 +62,8 @@ class OperationInFinalStateHandlerTest {
     private ProcessTime processTime;
     @Mock
     private OperationService operationService;
+    @Mock
+    private ProcessLogsBatchPersister processLogsBatchPersister;
 
     @InjectMocks
     private final OperationInFinalStateHandler eventHandler = new OperationInFinalStateHandler();
@@ -106,6 +109,8 @@ class OperationInFinalStateHandlerTest {
         verifyOperationSetState();
         verifyDeleteDeploymentFiles(expectedFileIdsToSweep);
         verifyDynatracePublisher();
+        Mockito.verify(processLogsBatchPersister)
+               .flush();
     }
 
     private void prepareContext(String archiveIds, String extensionDescriptorIds, boolean keepFiles) {
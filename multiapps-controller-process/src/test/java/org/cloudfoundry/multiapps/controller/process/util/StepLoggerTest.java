@@ -0,0 +1,117 @@
+package org.cloudfoundry.multiapps.controller.process.util;
+
+import java.util.function.Supplier;
+
+import org.cloudfoundry.multiapps.controller.persistence.services.ProcessLogger;
+import org.cloudfoundry.multiapps.controller.persistence.services.ProcessLoggerProvider;
+import org.cloudfoundry.multiapps.controller.persistence.services.ProgressMessageService;
+import org.flowable.engine.delegate.DelegateExecution;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class StepLoggerTest {
+
+    private static final String MESSAGE = "message";
+    private static final String PROCESS_LOGS_MESSAGE = "[TestStep] " + MESSAGE;
+
+    private final DelegateExecution execution = MockDelegateExecution.createSpyInstance();
+
+    @Mock
+    private ProgressMessageService progressMessageService;
+    @Mock
+    private ProcessLoggerProvider processLoggerProvider;
+    @Mock
+    private ProcessLogger processLogger;
+    @Mock
+    private Logger simpleStepLogger;
+    @Mock
+    private Supplier<String> messageSupplier;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this)
+                          .close();
+        when(processLoggerProvider.getLogger(execution)).thenReturn(processLogger);
+        when(simpleStepLogger.getName()).thenReturn("org.cloudfoundry.multiapps.controller.process.steps.TestStep");
+        when(messageSupplier.get()).thenReturn(MESSAGE);
+    }
+
+    @Test
+    void testMessagesBelowProcessLogsLevelAreNotBuilt() {
+        StepLogger stepLogger = createStepLogger(Level.INFO);
+
+        stepLogger.debug(messageSupplier);
+        stepLogger.trace(messageSupplier);
+
+        assertFalse(stepLogger.isDebugEnabled());
+        assertFalse(stepLogger.isTraceEnabled());
+        verifyNoInteractions(messageSupplier);
+        verify(processLogger, never()).debug(any());
+        verify(processLogger, never()).trace(any());
+    }
+
+    @Test
+    void testMessagesBelowProcessLogsLevelAreBuiltWhenStepLoggerIsEnabled() {
+        when(simpleStepLogger.isDebugEnabled()).thenReturn(true);
+        StepLogger stepLogger = createStepLogger(Level.INFO);
+
+        stepLogger.debug(messageSupplier);
+
+        assertTrue(stepLogger.isDebugEnabled());
+        verify(simpleStepLogger).debug(MESSAGE);
+        verify(processLogger, never()).debug(any());
+    }
+
+    @Test
+    void testMessagesAtProcessLogsLevelAreWrittenToProcessLogs() {
+        StepLogger stepLogger = createStepLogger(Level.DEBUG);
+
+        stepLogger.debug(messageSupplier);
+        stepLogger.trace(messageSupplier);
+
+        assertTrue(stepLogger.isDebugEnabled());
+        assertFalse(stepLogger.isTraceEnabled());
+        verify(processLogger).debug(PROCESS_LOGS_MESSAGE);
+        verify(processLogger, never()).trace(any());
+    }
+
+    @Test
+    void testMessagesAboveProcessLogsLevelAreWrittenToProcessLogs() {
+        StepLogger stepLogger = createStepLogger(Level.INFO);
+
+        stepLogger.infoWithoutProgressMessage(MESSAGE);
+        stepLogger.warnWithoutProgressMessage(MESSAGE);
+        stepLogger.errorWithoutProgressMessage(MESSAGE);
+
+        verify(processLogger).info(PROCESS_LOGS_MESSAGE);
+        verify(processLogger).warn(PROCESS_LOGS_MESSAGE);
+        verify(processLogger).error(PROCESS_LOGS_MESSAGE);
+    }
+
+    @Test
+    void testTraceMessagesAreWrittenToProcessLogsByDefault() {
+        StepLogger stepLogger = new StepLogger(execution, progressMessageService, processLoggerProvider, simpleStepLogger);
+
+        stepLogger.trace(messageSupplier);
+
+        assertTrue(stepLogger.isTraceEnabled());
+        verify(processLogger).trace(PROCESS_LOGS_MESSAGE);
+    }
+
+    private StepLogger createStepLogger(Level processLogsLevel) {
+        return new StepLogger(execution, progressMessageService, processLoggerProvider, simpleStepLogger, processLogsLevel);
+    }
+
+}
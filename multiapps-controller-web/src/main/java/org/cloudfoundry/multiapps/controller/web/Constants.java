@@ -61,6 +61,7 @@ public class Constants {
         public static final String CONFIGURATION_ENTRIES = "/rest/configuration-entries";
         public static final String CSRF_TOKEN = "/rest/csrf-token";
         public static final String HEALTH_CHECK = "/public/health";
+        public static final String METRICS = "/rest/admin/metrics";
         public static final String PING = "/public/ping";
     }
 
@@ -10,9 +10,13 @@ public final class Messages {
     public static final String MAX_UPLOAD_SIZE_EXCEEDED = "Cannot upload file, size is bigger than the configured maximum upload size \"{0}\" bytes";
     public static final String COULD_NOT_GET_FILES_0 = "Could not get files: {0}";
     public static final String COULD_NOT_UPLOAD_FILE_0 = "Could not upload file: {0}";
+    public static final String COULD_NOT_UPLOAD_FILES_0 = "Could not upload files: {0}";
     public static final String NO_FILES_TO_UPLOAD = "Request has no files to upload!";
     public static final String ACTION_0_CANNOT_BE_EXECUTED_OVER_OPERATION_1_IN_STATE_2 = "Action \"{0}\" cannot be executed over operation \"{1}\" in state \"{2}\".";
     public static final String OPERATION_0_NOT_FOUND = "Operation \"{0}\" was not found.";
+    public static final String INVALID_OPERATIONS_CURSOR_0 = "Invalid operations cursor \"{0}\"";
+    public static final String PAGE_SIZE_MUST_BE_POSITIVE_BUT_WAS_0 = "Page size must be a positive number, but was \"{0}\"";
+    public static final String PARAMETERS_0_AND_1_CANNOT_BE_COMBINED = "Parameters \"{0}\" and \"{1}\" cannot be combined";
     public static final String TEMPORARY_PROBLEM_WITH_PERSISTENCE_LAYER = "Temporary problem with persistence layer of the service";
     public static final String FILE_URL_RESPONSE_DID_NOT_RETURN_CONTENT_LENGTH = "File URL response did not return Content-Length header";
     public static final String ERROR_FROM_REMOTE_MTAR_ENDPOINT = "Error from remote MTAR endpoint {0} with status code {1}, message: {2}";
@@ -61,6 +65,8 @@ public final class Messages {
 
     // WARN log messages
     public static final String THE_JOB_EXISTS_BUT_IT_IS_NOT_RUNNING_DELETING = "The job exists but it is not running. Deleting";
+    public static final String COULD_NOT_DELETE_FILE_0_OF_FAILED_UPLOAD_1 = "Could not delete file \"{0}\" of failed upload: {1}";
+    public static final String COULD_NOT_RESERVE_SHARED_RATE_LIMIT_PERMITS_FOR_0_USING_LOCAL_LIMITS = "Could not reserve shared rate limit permits for \"{0}\", using the limits of this instance: {1}";
 
     // INFO log messages
     public static final String ALM_SERVICE_ENV_INITIALIZED = "Deploy service environment initialized";
@@ -77,6 +83,7 @@ public final class Messages {
     public static final String RECEIVED_UPLOAD_REQUEST = "Received upload request on URI: {}";
     public static final String RECEIVED_UPLOAD_FROM_URL_REQUEST = "Received upload from URL {} request";
     public static final String UPLOADED_FILE = "Uploaded file \"{}\" with name {}, size {}, space {}, and digest {} (algorithm {}) for {} ms.";
+    public static final String UPLOADED_FILES = "Uploaded {} files in space {} for {} ms.";
     public static final String ASYNC_UPLOAD_JOB_EXISTS = "Async upload job for URL {} exists: {}";
     public static final String CREATING_ASYNC_UPLOAD_JOB = "Creating async upload job for URL {} with ID: {}";
     public static final String ASYNC_UPLOAD_JOB_REJECTED = "Async upload job {} rejected. Deleting entry";
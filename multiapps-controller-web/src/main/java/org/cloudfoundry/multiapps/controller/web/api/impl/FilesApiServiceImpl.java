@@ -16,13 +16,17 @@ import java.text.MessageFormat;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
@@ -69,6 +73,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.multipart.MultipartHttpServletRequest;
 
+import com.google.common.util.concurrent.Uninterruptibles;
+
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 
@@ -81,12 +87,15 @@ public class FilesApiServiceImpl implements FilesApiService {
     private static final Duration HTTP_CONNECT_TIMEOUT = Duration.ofMinutes(10);
     private static final String RETRY_AFTER_SECONDS = "30";
     private static final String USERNAME_PASSWORD_URL_FORMAT = "{0}:{1}";
+    private static final int MAX_CACHED_ASYNC_UPLOAD_JOBS = 1000;
     static {
         System.setProperty(Constants.RETRY_LIMIT_PROPERTY, "0");
     }
 
-    private final CachedMap<String, AtomicLong> jobCounters = new CachedMap<>(Duration.ofHours(1));
-    private final CachedMap<String, Future<?>> runningTasks = new CachedMap<>(Duration.ofHours(1));
+    private final CachedMap<String, AtomicLong> jobCounters = new CachedMap<>("async-upload-job-counters", Duration.ofHours(1),
+                                                                              MAX_CACHED_ASYNC_UPLOAD_JOBS);
+    // Not bounded in size, since evicting the future of an upload in progress would make its job look abandoned
+    private final CachedMap<String, Future<?>> runningTasks = new CachedMap<>("async-upload-running-tasks", Duration.ofHours(1));
     private final ResilientOperationExecutor resilientOperationExecutor = getResilientOperationExecutor();
     @Inject
     @Named("fileService")
@@ -140,6 +149,47 @@ public class FilesApiServiceImpl implements FilesApiService {
         }
     }
 
+    /**
+     * Stores the contents of all files of the request concurrently and then stores their attributes with a single batch, so that the parts
+     * of a chunked archive can be uploaded with one request and one database transaction.
+     */
+    @Override
+    public ResponseEntity<List<FileMetadata>> uploadFiles(MultipartHttpServletRequest request, String spaceGuid, String namespace) {
+        LOGGER.trace(Messages.RECEIVED_UPLOAD_REQUEST, ServletUtil.decodeUri(request));
+        List<MultipartFile> multipartFiles = getFilesFromRequest(request);
+        var startTime = LocalDateTime.now();
+        List<Future<FileEntry>> uploadTasks = new ArrayList<>(multipartFiles.size());
+        AtomicBoolean isUploadFailed = new AtomicBoolean();
+        try {
+            for (MultipartFile multipartFile : multipartFiles) {
+                uploadTasks.add(fileStorageThreadPool.submit(createUploadFileContentTask(spaceGuid, namespace, multipartFile,
+                                                                                         isUploadFailed)));
+            }
+            List<FileEntry> fileEntries = new ArrayList<>(uploadTasks.size());
+            for (Future<FileEntry> uploadTask : uploadTasks) {
+                fileEntries.add(uploadTask.get());
+            }
+            fileService.addFilesAttributes(fileEntries);
+            List<FileMetadata> files = fileEntries.stream()
+                                                  .map(this::parseFileEntry)
+                                                  .toList();
+            files.forEach(file -> filesApiServiceAuditLog.logUploadFile(SecurityContextUtil.getUsername(), spaceGuid, file));
+            LOGGER.trace(Messages.UPLOADED_FILES, files.size(), spaceGuid, ChronoUnit.MILLIS.between(startTime, LocalDateTime.now()));
+            return ResponseEntity.status(HttpStatus.CREATED)
+                                 .body(files);
+        } catch (Exception e) {
+            // The running uploads are not cancelled, as they may store their files regardless, but the ones which have not started are
+            // skipped:
+            isUploadFailed.set(true);
+            deleteUploadedFiles(uploadTasks);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread()
+                      .interrupt();
+            }
+            throw new SLException(e, Messages.COULD_NOT_UPLOAD_FILES_0, e.getMessage());
+        }
+    }
+
     @Override
     public ResponseEntity<Void> startUploadFromUrl(String spaceGuid, String namespace, FileUrl fileUrl) {
         String decodedUrl = new String(Base64.getUrlDecoder()
@@ -238,6 +288,58 @@ public class FilesApiServiceImpl implements FilesApiService {
         return it.next();
     }
 
+    private List<MultipartFile> getFilesFromRequest(MultipartHttpServletRequest request) {
+        List<MultipartFile> multipartFiles = request.getMultiFileMap()
+                                                    .values()
+                                                    .stream()
+                                                    .flatMap(List::stream)
+                                                    .toList();
+        if (multipartFiles.isEmpty()) {
+            throw new SLException(Messages.NO_FILES_TO_UPLOAD);
+        }
+        return multipartFiles;
+    }
+
+    /**
+     * Waits for the uploads of a failed batch and deletes the files they stored. Depending on the file service, their attributes may have
+     * been stored together with the contents, so the files would otherwise be listed until the clean-up of old files.
+     */
+    private void deleteUploadedFiles(List<Future<FileEntry>> uploadTasks) {
+        for (Future<FileEntry> uploadTask : uploadTasks) {
+            FileEntry fileEntry = getUploadedFile(uploadTask);
+            if (fileEntry == null) {
+                continue;
+            }
+            try {
+                fileService.deleteFile(fileEntry.getSpace(), fileEntry.getId());
+            } catch (FileStorageException e) {
+                LOGGER.warn(MessageFormat.format(Messages.COULD_NOT_DELETE_FILE_0_OF_FAILED_UPLOAD_1, fileEntry.getId(),
+                                                 e.getMessage()),
+                            e);
+            }
+        }
+    }
+
+    private FileEntry getUploadedFile(Future<FileEntry> uploadTask) {
+        try {
+            return Uninterruptibles.getUninterruptibly(uploadTask);
+        } catch (ExecutionException | CancellationException e) {
+            return null;
+        }
+    }
+
+    private PriorityCallable<FileEntry> createUploadFileContentTask(String spaceGuid, String namespace, MultipartFile multipartFile,
+                                                                    AtomicBoolean isUploadFailed) {
+        return new PriorityCallable<>(PriorityFuture.Priority.LOWEST, () -> {
+            if (isUploadFailed.get()) {
+                return null;
+            }
+            try (InputStream in = new BufferedInputStream(multipartFile.getInputStream(), INPUT_STREAM_BUFFER_SIZE)) {
+                return fileService.addFileContent(buildFileEntry(spaceGuid, namespace, multipartFile), in);
+            }
+        });
+    }
+
     private PriorityCallable<FileEntry> createUploadFileTask(String spaceGuid, String namespace, MultipartFile multipartFile,
                                                              InputStream in) {
         return new PriorityCallable<>(PriorityFuture.Priority.LOWEST, () -> doUploadFile(spaceGuid, namespace, multipartFile, in));
@@ -245,13 +347,16 @@ public class FilesApiServiceImpl implements FilesApiService {
 
     private FileEntry doUploadFile(String spaceGuid, String namespace, MultipartFile multipartFile, InputStream in)
         throws FileStorageException {
-        return fileService.addFile(ImmutableFileEntry.builder()
-                                                     .space(spaceGuid)
-                                                     .namespace(namespace)
-                                                     .name(multipartFile.getOriginalFilename())
-                                                     .size(BigInteger.valueOf(multipartFile.getSize()))
-                                                     .build(),
-                                   in);
+        return fileService.addFile(buildFileEntry(spaceGuid, namespace, multipartFile), in);
+    }
+
+    private FileEntry buildFileEntry(String spaceGuid, String namespace, MultipartFile multipartFile) {
+        return ImmutableFileEntry.builder()
+                                 .space(spaceGuid)
+                                 .namespace(namespace)
+                                 .name(multipartFile.getOriginalFilename())
+                                 .size(BigInteger.valueOf(multipartFile.getSize()))
+                                 .build();
     }
 
     protected ResilientOperationExecutor getResilientOperationExecutor() {
@@ -1,5 +1,6 @@
 package org.cloudfoundry.multiapps.controller.web.api.impl;
 
+import java.io.InputStream;
 import java.security.Principal;
 import java.text.MessageFormat;
 import java.time.ZoneId;
@@ -13,6 +14,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import jakarta.inject.Inject;
@@ -22,6 +24,9 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.apache.commons.collections4.ListUtils;
 import org.cloudfoundry.multiapps.common.ContentException;
 import org.cloudfoundry.multiapps.common.NotFoundException;
+import org.cloudfoundry.multiapps.controller.api.Constants.QueryVariables;
+import org.cloudfoundry.multiapps.controller.api.Constants.RequestVariables;
+import org.cloudfoundry.multiapps.controller.api.Constants.Resources;
 import org.cloudfoundry.multiapps.controller.api.OperationsApiService;
 import org.cloudfoundry.multiapps.controller.api.model.ImmutableLog;
 import org.cloudfoundry.multiapps.controller.api.model.ImmutableMessage;
@@ -41,6 +46,7 @@ import org.cloudfoundry.multiapps.controller.core.security.token.TokenService;
 import org.cloudfoundry.multiapps.controller.core.util.UserInfo;
 import org.cloudfoundry.multiapps.controller.persistence.Constants;
 import org.cloudfoundry.multiapps.controller.persistence.OrderDirection;
+import org.cloudfoundry.multiapps.controller.persistence.model.OperationLogChunk;
 import org.cloudfoundry.multiapps.controller.persistence.model.ProgressMessage;
 import org.cloudfoundry.multiapps.controller.persistence.model.ProgressMessage.ProgressMessageType;
 import org.cloudfoundry.multiapps.controller.persistence.query.OperationQuery;
@@ -48,6 +54,7 @@ import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageExc
 import org.cloudfoundry.multiapps.controller.persistence.services.OperationService;
 import org.cloudfoundry.multiapps.controller.persistence.services.ProcessLogsPersistenceService;
 import org.cloudfoundry.multiapps.controller.persistence.services.ProgressMessageService;
+import org.cloudfoundry.multiapps.controller.persistence.services.ProgressMessagesBatchPersister;
 import org.cloudfoundry.multiapps.controller.process.flowable.Action;
 import org.cloudfoundry.multiapps.controller.process.flowable.FlowableFacade;
 import org.cloudfoundry.multiapps.controller.process.flowable.ProcessAction;
@@ -56,13 +63,19 @@ import org.cloudfoundry.multiapps.controller.process.metadata.ProcessTypeToOpera
 import org.cloudfoundry.multiapps.controller.process.util.OperationsHelper;
 import org.cloudfoundry.multiapps.controller.process.variables.Variables;
 import org.cloudfoundry.multiapps.controller.web.Messages;
+import org.cloudfoundry.multiapps.controller.web.util.GzipCompressingInputStream;
 import org.cloudfoundry.multiapps.controller.web.util.SecurityContextUtil;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import static org.cloudfoundry.multiapps.controller.web.Constants.NAMES_OF_SERVICE_PARAMETERS;
 
@@ -70,6 +83,9 @@ import static org.cloudfoundry.multiapps.controller.web.Constants.NAMES_OF_SERVI
 public class OperationsApiServiceImpl implements OperationsApiService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(OperationsApiServiceImpl.class);
+    private static final String GZIP_ENCODING = "gzip";
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final Pattern ZERO_QUALITY_VALUE_PATTERN = Pattern.compile("q\\s*=\\s*0(\\.0{0,3})?", Pattern.CASE_INSENSITIVE);
     @Inject
     private CloudControllerClientFactory clientFactory;
     @Inject
@@ -87,17 +103,80 @@ public class OperationsApiServiceImpl implements OperationsApiService {
     @Inject
     private ProgressMessageService progressMessageService;
     @Inject
+    private ProgressMessagesBatchPersister progressMessagesBatchPersister;
+    @Inject
     private ProcessActionRegistry processActionRegistry;
     @Inject
     private OperationsApiServiceAuditLog operationsApiServiceAuditLog;
 
     @Override
-    public ResponseEntity<List<Operation>> getOperations(String spaceGuid, String mtaId, List<String> stateStrings, Integer last) {
+    public ResponseEntity<List<Operation>> getOperations(String spaceGuid, String mtaId, List<String> stateStrings, Integer last,
+                                                         Integer pageSize, String cursor) {
         operationsApiServiceAuditLog.logGetOperations(SecurityContextUtil.getUsername(), spaceGuid, mtaId);
         List<Operation.State> states = getStates(stateStrings);
-        List<Operation> operations = filterByQueryParameters(last, states, spaceGuid, mtaId);
-        return ResponseEntity.ok()
-                             .body(operations);
+        if (pageSize == null && cursor == null) {
+            List<Operation> operations = filterByQueryParameters(last, states, spaceGuid, mtaId);
+            return ResponseEntity.ok()
+                                 .body(operations);
+        }
+        return getOperationsPage(spaceGuid, mtaId, stateStrings, states, last, pageSize, cursor);
+    }
+
+    private ResponseEntity<List<Operation>> getOperationsPage(String spaceGuid, String mtaId, List<String> stateStrings,
+                                                              List<Operation.State> states, Integer last, Integer pageSize,
+                                                              String cursor) {
+        validatePageParameters(last, pageSize);
+        int size = pageSize == null ? DEFAULT_PAGE_SIZE : pageSize;
+        OperationQuery operationQuery = operationService.createQuery()
+                                                        .orderByStartTimeAndProcessId(OrderDirection.ASCENDING)
+                                                        .spaceId(spaceGuid)
+                                                        .limitOnSelect(size + 1);
+        if (mtaId != null) {
+            operationQuery.mtaId(mtaId);
+        }
+        if (!states.isEmpty()) {
+            operationQuery.withStateAnyOf(states);
+        }
+        if (cursor != null) {
+            OperationsPageCursor pageCursor = OperationsPageCursor.decode(cursor);
+            operationQuery.startedAfter(pageCursor.startedAt(), pageCursor.processId());
+        }
+        // One operation more than the page size is read only to find out whether there is a next page:
+        List<Operation> operations = operationQuery.list();
+        boolean hasNextPage = operations.size() > size;
+        List<Operation> page = operationsHelper.releaseLocksIfNeeded(operations.subList(0, Math.min(size, operations.size())));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (hasNextPage) {
+            String nextCursor = OperationsPageCursor.of(page.get(page.size() - 1))
+                                                    .encode();
+            response.header(HttpHeaders.LINK, "<" + getNextPageUrl(spaceGuid, mtaId, stateStrings, size, nextCursor) + ">; rel=\"next\"");
+        }
+        return response.body(page);
+    }
+
+    private void validatePageParameters(Integer last, Integer pageSize) {
+        if (last != null) {
+            throw new IllegalArgumentException(MessageFormat.format(Messages.PARAMETERS_0_AND_1_CANNOT_BE_COMBINED, QueryVariables.LAST,
+                                                                    QueryVariables.PAGE_SIZE));
+        }
+        if (pageSize != null && pageSize <= 0) {
+            throw new IllegalArgumentException(MessageFormat.format(Messages.PAGE_SIZE_MUST_BE_POSITIVE_BUT_WAS_0, pageSize));
+        }
+    }
+
+    private String getNextPageUrl(String spaceGuid, String mtaId, List<String> stateStrings, int pageSize, String cursor) {
+        UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromPath(Resources.OPERATIONS);
+        if (mtaId != null) {
+            uriBuilder.queryParam(RequestVariables.MTA_ID, mtaId);
+        }
+        if (stateStrings != null && !stateStrings.isEmpty()) {
+            uriBuilder.queryParam(QueryVariables.STATE, stateStrings.toArray());
+        }
+        return uriBuilder.queryParam(QueryVariables.PAGE_SIZE, pageSize)
+                         .queryParam(QueryVariables.CURSOR, cursor)
+                         .buildAndExpand(spaceGuid)
+                         .encode()
+                         .toUriString();
     }
 
     @Override
@@ -137,18 +216,95 @@ public class OperationsApiServiceImpl implements OperationsApiService {
     }
 
     @Override
-    public ResponseEntity<String> getOperationLogContent(String spaceGuid, String operationId, String logId) {
+    public ResponseEntity<Resource> getOperationLogContent(String spaceGuid, String operationId, String logId, Long offset, String range,
+                                                           String acceptEncoding) {
         try {
             operationsApiServiceAuditLog.logGetOperationLogContent(SecurityContextUtil.getUsername(), spaceGuid, operationId, logId);
-            String content = logsService.getOperationLog(spaceGuid, operationId, logId);
-
+            List<OperationLogChunk> chunks = logsService.listOperationLogChunks(spaceGuid, operationId, logId);
+            long logSize = chunks.stream()
+                                 .mapToLong(OperationLogChunk::getSize)
+                                 .sum();
+            if (range != null) {
+                return getOperationLogRange(chunks, logSize, range);
+            }
+            // Offsets past the end of the log result in an empty body, since there is no new content for the client yet
+            long start = offset == null ? 0 : Math.min(Math.max(offset, 0), logSize);
+            InputStream content = logsService.openOperationLog(chunks, start, logSize - start);
+            if (isGzipAccepted(acceptEncoding)) {
+                return ResponseEntity.ok()
+                                     .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                                     .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                                     .header(HttpHeaders.CONTENT_ENCODING, GZIP_ENCODING)
+                                     .body(new InputStreamResource(new GzipCompressingInputStream(content)));
+            }
             return ResponseEntity.ok()
-                                 .body(content);
+                                 .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                                 .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                                 .contentLength(logSize - start)
+                                 .body(new InputStreamResource(content));
         } catch (FileStorageException e) {
             throw new ContentException(e, e.getMessage());
         }
     }
 
+    private boolean isGzipAccepted(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String contentCoding : acceptEncoding.split(",")) {
+            String[] contentCodingParts = contentCoding.split(";");
+            if (GZIP_ENCODING.equalsIgnoreCase(contentCodingParts[0].trim()) && !hasZeroQualityValue(contentCodingParts)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasZeroQualityValue(String[] contentCodingParts) {
+        return Arrays.stream(contentCodingParts)
+                     .skip(1)
+                     .map(String::trim)
+                     .anyMatch(parameter -> ZERO_QUALITY_VALUE_PATTERN.matcher(parameter)
+                                                                      .matches());
+    }
+
+    private HttpRange getSingleRange(String range) {
+        try {
+            List<HttpRange> httpRanges = HttpRange.parseRanges(range);
+            return httpRanges.size() == 1 ? httpRanges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private ResponseEntity<Resource> getOperationLogRange(List<OperationLogChunk> chunks, long logSize, String range) {
+        HttpRange httpRange = getSingleRange(range);
+        // Multiple and malformed ranges are rejected, since the log is streamed and cannot be split into several byte ranges
+        if (httpRange == null || logSize == 0) {
+            return getRangeNotSatisfiableResponse(logSize);
+        }
+        long start;
+        long end;
+        try {
+            start = httpRange.getRangeStart(logSize);
+            end = httpRange.getRangeEnd(logSize);
+        } catch (IllegalArgumentException e) {
+            return getRangeNotSatisfiableResponse(logSize);
+        }
+        long rangeSize = end - start + 1;
+        return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                             .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                             .header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + logSize)
+                             .contentLength(rangeSize)
+                             .body(new InputStreamResource(logsService.openOperationLog(chunks, start, rangeSize)));
+    }
+
+    private ResponseEntity<Resource> getRangeNotSatisfiableResponse(long logSize) {
+        return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                             .header(HttpHeaders.CONTENT_RANGE, "bytes */" + logSize)
+                             .build();
+    }
+
     @Override
     public ResponseEntity<Operation> startOperation(HttpServletRequest request, String spaceGuid, Operation operation) {
         operationsApiServiceAuditLog.logStartOperation(SecurityContextUtil.getUsername(), spaceGuid, operation);
@@ -342,6 +498,8 @@ public class OperationsApiServiceImpl implements OperationsApiService {
     }
 
     private List<Message> getOperationMessages(Operation operation) {
+        // The pending messages have no IDs yet, which the clients use to track the messages they have already shown:
+        progressMessagesBatchPersister.flush(operation.getProcessId());
         List<ProgressMessage> progressMessages = progressMessageService.createQuery()
                                                                        .processId(operation.getProcessId())
                                                                        .orderById(OrderDirection.ASCENDING)
@@ -0,0 +1,48 @@
+package org.cloudfoundry.multiapps.controller.web.api.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+
+import org.cloudfoundry.multiapps.controller.api.model.Operation;
+import org.cloudfoundry.multiapps.controller.web.Messages;
+
+/**
+ * The position of the last operation of a page, from which the next page of operations continues. It is passed to the clients as an
+ * opaque URL-safe string.
+ */
+record OperationsPageCursor(ZonedDateTime startedAt, String processId) {
+
+    private static final String SEPARATOR = ":";
+
+    static OperationsPageCursor of(Operation operation) {
+        return new OperationsPageCursor(operation.getStartedAt(), operation.getProcessId());
+    }
+
+    static OperationsPageCursor decode(String cursor) {
+        try {
+            String decodedCursor = new String(Base64.getUrlDecoder()
+                                                    .decode(cursor),
+                                              StandardCharsets.UTF_8);
+            String[] cursorParts = decodedCursor.split(SEPARATOR, 2);
+            ZonedDateTime startedAt = Instant.ofEpochMilli(Long.parseLong(cursorParts[0]))
+                                             .atZone(ZoneOffset.UTC);
+            return new OperationsPageCursor(startedAt, cursorParts[1]);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException(MessageFormat.format(Messages.INVALID_OPERATIONS_CURSOR_0, cursor), e);
+        }
+    }
+
+    String encode() {
+        String cursor = startedAt.toInstant()
+                                 .toEpochMilli()
+            + SEPARATOR + processId;
+        return Base64.getUrlEncoder()
+                     .withoutPadding()
+                     .encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
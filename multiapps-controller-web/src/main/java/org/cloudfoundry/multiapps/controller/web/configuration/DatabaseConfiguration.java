@@ -34,9 +34,10 @@ public class DatabaseConfiguration {
         return new CloudDataSourceFactoryBean(DATA_SOURCE_SERVICE_NAME, dataSourceFactory, vcapServiceFinder, configuration);
     }
 
+    @Inject
     @Bean
-    public DefaultDataSourceDialect dataSourceDialect() {
-        return new DefaultDataSourceDialect();
+    public DefaultDataSourceDialect dataSourceDialect(DataSource dataSource) {
+        return new DefaultDataSourceDialect(dataSource);
     }
 
     @Inject
@@ -13,10 +13,13 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.config.MeterFilter;
 import io.micrometer.jmx.JmxConfig;
 import io.micrometer.jmx.JmxMeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
 
 @Configuration
 public class MicrometerConfiguration {
@@ -24,6 +27,7 @@ public class MicrometerConfiguration {
     private static final Logger LOGGER = LoggerFactory.getLogger(MicrometerConfiguration.class);
     public static final String DYNATRACE_SERVICE_NAME = "deploy-service-dynatrace";
     private static final String CLIENT_CONNECTIONS_METRICS_PREFIX = "reactor.netty.connection.provider.cloudfoundry-client.";
+    private static final String MULTIAPPS_METRICS_PREFIX = "multiapps.";
 
     @Inject
     @Bean
@@ -51,11 +55,23 @@ public class MicrometerConfiguration {
             }
         };
         JmxMeterRegistry registry = new JmxMeterRegistry(jmxConfig, Clock.SYSTEM);
+        addToGlobalRegistry(registry);
+        return registry;
+    }
+
+    @Bean
+    public PrometheusMeterRegistry prometheusMeterRegistry() {
+        PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        addToGlobalRegistry(registry);
+        return registry;
+    }
+
+    private void addToGlobalRegistry(MeterRegistry registry) {
         registry.config()
                 .meterFilter(MeterFilter.acceptNameStartsWith(CLIENT_CONNECTIONS_METRICS_PREFIX))
+                .meterFilter(MeterFilter.acceptNameStartsWith(MULTIAPPS_METRICS_PREFIX))
                 .meterFilter(MeterFilter.deny());
         Metrics.globalRegistry.add(registry);
-        return registry;
     }
 
 }
@@ -8,15 +8,22 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.google.common.base.Joiner;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.pivotal.cfenv.core.CfService;
 import org.apache.commons.lang3.StringUtils;
 import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
 import org.cloudfoundry.multiapps.controller.core.util.UriUtil;
 import org.cloudfoundry.multiapps.controller.persistence.services.ObjectStoreFileStorage;
+import org.cloudfoundry.multiapps.controller.persistence.services.ParallelDownloadOptions;
+import org.cloudfoundry.multiapps.controller.persistence.services.ParallelUploadOptions;
 import org.cloudfoundry.multiapps.controller.persistence.util.EnvironmentServicesFinder;
 import org.cloudfoundry.multiapps.controller.web.Constants;
 import org.cloudfoundry.multiapps.controller.web.Messages;
@@ -27,19 +34,25 @@ import org.jclouds.aws.domain.Region;
 import org.jclouds.blobstore.BlobStoreContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.InitializingBean;
 
-public class ObjectStoreFileStorageFactoryBean implements FactoryBean<ObjectStoreFileStorage>, InitializingBean {
+public class ObjectStoreFileStorageFactoryBean implements FactoryBean<ObjectStoreFileStorage>, InitializingBean, DisposableBean {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ObjectStoreFileStorageFactoryBean.class);
     private static final Set<String> CUSTOM_REGIONS = Set.of("eu-south-1");
     private static final String JCLOUDS_REGIONS = "jclouds.regions";
+    private static final long DOWNLOAD_THREADS_KEEP_ALIVE_TIME_IN_SECONDS = 60;
+    private static final long UPLOAD_THREADS_KEEP_ALIVE_TIME_IN_SECONDS = 60;
+    private static final String DOWNLOAD_THREAD_NAME_FORMAT = "file-storage-download-%d";
 
     private final String serviceName;
     private final EnvironmentServicesFinder environmentServicesFinder;
     private final ApplicationConfiguration applicationConfiguration;
     private ObjectStoreFileStorage objectStoreFileStorage;
+    private ParallelDownloadOptions parallelDownloadOptions;
+    private ParallelUploadOptions parallelUploadOptions;
 
     public ObjectStoreFileStorageFactoryBean(String serviceName, EnvironmentServicesFinder environmentServicesFinder,
                                              ApplicationConfiguration applicationConfiguration) {
@@ -182,7 +195,66 @@ public class ObjectStoreFileStorageFactoryBean implements FactoryBean<ObjectStor
     }
 
     protected ObjectStoreFileStorage createFileStorage(ObjectStoreServiceInfo objectStoreServiceInfo, BlobStoreContext context) {
-        return new ObjectStoreFileStorage(context.getBlobStore(), objectStoreServiceInfo.getContainer());
+        return new ObjectStoreFileStorage(context.getBlobStore(), objectStoreServiceInfo.getContainer(), getParallelDownloadOptions(),
+                                          getParallelUploadOptions());
+    }
+
+    private ParallelDownloadOptions getParallelDownloadOptions() {
+        if (parallelDownloadOptions == null) {
+            parallelDownloadOptions = new ParallelDownloadOptions(applicationConfiguration.getFileStorageDownloadChunkSize(),
+                                                                  applicationConfiguration.getFileStorageDownloadMaxChunksInFlight(),
+                                                                  applicationConfiguration.getFileStorageDownloadMaxBufferedSize(),
+                                                                  createDownloadThreadPool());
+        }
+        return parallelDownloadOptions;
+    }
+
+    private ExecutorService createDownloadThreadPool() {
+        int threads = applicationConfiguration.getThreadsForFileStorageDownload();
+        ThreadPoolExecutor downloadThreadPool = new ThreadPoolExecutor(threads,
+                                                                       threads,
+                                                                       DOWNLOAD_THREADS_KEEP_ALIVE_TIME_IN_SECONDS,
+                                                                       TimeUnit.SECONDS,
+                                                                       new LinkedBlockingQueue<>(),
+                                                                       new ThreadFactoryBuilder().setNameFormat(DOWNLOAD_THREAD_NAME_FORMAT)
+                                                                                                 .build());
+        downloadThreadPool.allowCoreThreadTimeOut(true);
+        return downloadThreadPool;
+    }
+
+    private ParallelUploadOptions getParallelUploadOptions() {
+        if (parallelUploadOptions == null) {
+            parallelUploadOptions = new ParallelUploadOptions(applicationConfiguration.getFileStorageUploadPartSize(),
+                                                              applicationConfiguration.getFileStorageUploadMaxPartsInFlight(),
+                                                              applicationConfiguration.getFileStorageUploadMaxBufferedSize(),
+                                                              createUploadThreadPool());
+        }
+        return parallelUploadOptions;
+    }
+
+    private ExecutorService createUploadThreadPool() {
+        // Each of the concurrent uploads to the file storage keeps up to the max parts in flight uploading:
+        int threads = applicationConfiguration.getThreadsForFileStorageUpload()
+            * applicationConfiguration.getFileStorageUploadMaxPartsInFlight();
+        ThreadPoolExecutor uploadThreadPool = new ThreadPoolExecutor(threads,
+                                                                     threads,
+                                                                     UPLOAD_THREADS_KEEP_ALIVE_TIME_IN_SECONDS,
+                                                                     TimeUnit.SECONDS,
+                                                                     new LinkedBlockingQueue<>());
+        uploadThreadPool.allowCoreThreadTimeOut(true);
+        return uploadThreadPool;
+    }
+
+    @Override
+    public void destroy() {
+        if (parallelDownloadOptions != null) {
+            parallelDownloadOptions.executorService()
+                                   .shutdownNow();
+        }
+        if (parallelUploadOptions != null) {
+            parallelUploadOptions.executorService()
+                                 .shutdownNow();
+        }
     }
 
     @Override
@@ -1,30 +1,48 @@
 package org.cloudfoundry.multiapps.controller.web.interceptors;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.List;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
 import org.cloudfoundry.multiapps.controller.web.Constants;
+import org.cloudfoundry.multiapps.controller.web.util.RateLimitQuota;
+import org.cloudfoundry.multiapps.controller.web.util.RateLimitResult;
+import org.cloudfoundry.multiapps.controller.web.util.RateLimiter;
 import org.cloudfoundry.multiapps.controller.web.util.RateLimiterProvider;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-
-import io.github.resilience4j.ratelimiter.RateLimiterConfig;
-import io.github.resilience4j.ratelimiter.internal.AtomicRateLimiter;
-import io.github.resilience4j.ratelimiter.internal.AtomicRateLimiter.AtomicRateLimiterMetrics;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
 
 @Named
 public class RateLimitingInterceptor implements CustomHandlerInterceptor {
 
-    private final RateLimiterProvider rateLimiterProvider;
+    static final Duration QUOTA_PERIOD = Duration.ofHours(1);
+    static final RateLimitQuota DEFAULT_QUOTA = new RateLimitQuota("/**", 5000, QUOTA_PERIOD);
+
+    private final RateLimiter rateLimiter;
+    private final List<RateLimitQuota> endpointQuotas;
+    private final PathMatcher pathMatcher = new AntPathMatcher();
 
     @Inject
-    public RateLimitingInterceptor(RateLimiterProvider rateLimiterProvider) {
-        this.rateLimiterProvider = rateLimiterProvider;
+    public RateLimitingInterceptor(RateLimiterProvider rateLimiterProvider, ApplicationConfiguration applicationConfiguration) {
+        this.rateLimiter = rateLimiterProvider.getRateLimiter();
+        this.endpointQuotas = getEndpointQuotas(applicationConfiguration);
+    }
+
+    private static List<RateLimitQuota> getEndpointQuotas(ApplicationConfiguration applicationConfiguration) {
+        return applicationConfiguration.getRateLimitEndpointQuotas()
+                                       .entrySet()
+                                       .stream()
+                                       .map(quota -> new RateLimitQuota(quota.getKey(), quota.getValue(), QUOTA_PERIOD))
+                                       .toList();
     }
 
     @Override
@@ -33,17 +51,14 @@ public class RateLimitingInterceptor implements CustomHandlerInterceptor {
             return true;
         }
         String ipAddress = request.getRemoteAddr();
-        AtomicRateLimiter rateLimiter = rateLimiterProvider.getRateLimiter(ipAddress);
+        RateLimitQuota quota = getQuota(request);
+        RateLimitResult result = rateLimiter.tryAcquire(ipAddress, quota);
 
-        boolean hasAcquiredPermission = rateLimiter.acquirePermission();
-        AtomicRateLimiterMetrics metrics = rateLimiter.getDetailedMetrics();
-        RateLimiterConfig config = rateLimiter.getRateLimiterConfig();
+        response.setHeader(Constants.RATE_LIMIT, Long.toString(quota.limitForPeriod()));
+        response.setHeader(Constants.RATE_LIMIT_REMAINING, Long.toString(result.remainingPermits()));
 
-        response.setHeader(Constants.RATE_LIMIT, Integer.toString(config.getLimitForPeriod()));
-        response.setHeader(Constants.RATE_LIMIT_REMAINING, Integer.toString(metrics.getAvailablePermissions()));
-
-        if (!hasAcquiredPermission) {
-            response.setHeader(Constants.RATE_LIMIT_RESET, Long.toString(getUtcTimeForNextReset(metrics.getNanosToWait())));
+        if (!result.isAcquired()) {
+            response.setHeader(Constants.RATE_LIMIT_RESET, Long.toString(getUtcTimeForNextReset(result.millisUntilNextPermit())));
             response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase());
             return false;
         }
@@ -54,9 +69,17 @@ public class RateLimitingInterceptor implements CustomHandlerInterceptor {
         return request.getHeader(HttpHeaders.AUTHORIZATION) == null;
     }
 
-    private static long getUtcTimeForNextReset(long nanosToWaitForReset) {
+    private RateLimitQuota getQuota(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return endpointQuotas.stream()
+                             .filter(quota -> pathMatcher.match(quota.pathPattern(), path))
+                             .findFirst()
+                             .orElse(DEFAULT_QUOTA);
+    }
+
+    private static long getUtcTimeForNextReset(long millisToWaitForReset) {
         return OffsetDateTime.now(ZoneOffset.UTC)
-                             .plusNanos(nanosToWaitForReset)
+                             .plus(Duration.ofMillis(millisToWaitForReset))
                              .toEpochSecond();
     }
 
@@ -1,58 +1,61 @@
 package org.cloudfoundry.multiapps.controller.web.monitoring;
 
-import java.io.File;
-import java.time.LocalDateTime;
+import java.io.IOException;
+import java.nio.file.FileStore;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
-import jakarta.inject.Inject;
 import jakarta.inject.Named;
 
-import org.apache.commons.io.FileUtils;
-import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.cloudfoundry.multiapps.controller.core.util.TempFilesSpaceTracker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
 
+/**
+ * Monitors the used space of the file stores of the application. The used space is queried from the file store periodically and is
+ * adjusted in between with the size of the temporary files written or deleted since the last query, which are accounted by
+ * {@link TempFilesSpaceTracker}.
+ */
 @Named
 public class FssMonitor {
 
-    final Map<File, Long> usedSpaceMap = new ConcurrentHashMap<>(1);
-    final Map<File, LocalDateTime> updateTimesMap = new ConcurrentHashMap<>(1);
     private static final Logger LOGGER = LoggerFactory.getLogger(FssMonitor.class);
 
-    private final Integer updateTimeoutMinutes;
+    final Map<Path, UsedSpaceSnapshot> usedSpaceSnapshots = new ConcurrentHashMap<>(1);
 
-    @Inject
-    public FssMonitor(ApplicationConfiguration appConfigurations) {
-        this.updateTimeoutMinutes = appConfigurations.getFssCacheUpdateTimeoutMinutes();
+    public long calculateUsedSpace(String path) {
+        UsedSpaceSnapshot snapshot = usedSpaceSnapshots.computeIfAbsent(Paths.get(path), this::takeSnapshot);
+        return Math.max(0, snapshot.usedSpace() + TempFilesSpaceTracker.getTrackedBytes() - snapshot.trackedBytes());
     }
 
-    public long calculateUsedSpace(String path) {
-        File filePath = new File(path);
-        if (!updateTimesMap.containsKey(filePath)) {
-            return getUsedSpace(filePath);
-        }
-        if (isCacheValid(filePath)) {
-            return usedSpaceMap.get(filePath);
-        }
-        return getUsedSpace(filePath);
+    @Scheduled(fixedRateString = "#{@applicationConfiguration.getFssCacheUpdateTimeoutMinutes()}", timeUnit = TimeUnit.MINUTES)
+    public void reconcileUsedSpace() {
+        usedSpaceSnapshots.replaceAll((path, snapshot) -> takeSnapshot(path, snapshot));
     }
 
-    private boolean isCacheValid(File filePath) {
-        LocalDateTime lastChecked = updateTimesMap.get(filePath);
-        LocalDateTime invalidateDeadline = LocalDateTime.now()
-                                                        .minusMinutes(updateTimeoutMinutes);
-        return invalidateDeadline.isBefore(lastChecked);
+    private UsedSpaceSnapshot takeSnapshot(Path path) {
+        return takeSnapshot(path, new UsedSpaceSnapshot(0, TempFilesSpaceTracker.getTrackedBytes()));
     }
 
-    private long getUsedSpace(File path) {
-        LOGGER.debug("Calculating space for path {}.", path);
-        updateTimesMap.put(path, LocalDateTime.now());
-        long startTime = System.currentTimeMillis();
-        long usedSpace = FileUtils.sizeOf(path);
-        long endTime = System.currentTimeMillis();
-        LOGGER.info("Calculated space for path {} : {} bytes in {} ms", path, usedSpace, endTime - startTime);
-        usedSpaceMap.put(path, usedSpace);
-        return usedSpace;
+    private UsedSpaceSnapshot takeSnapshot(Path path, UsedSpaceSnapshot previousSnapshot) {
+        long trackedBytes = TempFilesSpaceTracker.getTrackedBytes();
+        try {
+            FileStore fileStore = Files.getFileStore(path);
+            long usedSpace = fileStore.getTotalSpace() - fileStore.getUnallocatedSpace();
+            LOGGER.debug("Used space of the file store of path {} : {} bytes", path, usedSpace);
+            return new UsedSpaceSnapshot(usedSpace, trackedBytes);
+        } catch (IOException e) {
+            LOGGER.warn("Could not query the file store of path {}: {}", path, e.getMessage());
+            return previousSnapshot;
+        }
+    }
+
+    record UsedSpaceSnapshot(long usedSpace, long trackedBytes) {
     }
+
 }
@@ -0,0 +1,29 @@
+package org.cloudfoundry.multiapps.controller.web.resources;
+
+import org.cloudfoundry.multiapps.controller.web.Constants;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import jakarta.inject.Inject;
+
+@RestController
+@RequestMapping(value = Constants.Resources.METRICS)
+public class MetricsResource {
+
+    static final String PROMETHEUS_TEXT_FORMAT = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final PrometheusMeterRegistry prometheusMeterRegistry;
+
+    @Inject
+    public MetricsResource(PrometheusMeterRegistry prometheusMeterRegistry) {
+        this.prometheusMeterRegistry = prometheusMeterRegistry;
+    }
+
+    @GetMapping(produces = PROMETHEUS_TEXT_FORMAT)
+    public String scrape() {
+        return prometheusMeterRegistry.scrape();
+    }
+
+}
@@ -33,6 +33,7 @@ import org.springframework.web.server.ResponseStatusException;
 public class AuthorizationChecker implements DisposableBean {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AuthorizationChecker.class);
+    private static final int MAX_CACHED_USER_ROLES = 10000;
     private CachedMap<SpaceWithUser, Set<UserRole>> userRolesCache = null;
 
     private final CloudControllerClientFactory clientFactory;
@@ -55,7 +56,7 @@ public class AuthorizationChecker implements DisposableBean {
             return;
         }
         Integer cacheExpirationInSeconds = applicationConfiguration.getSpaceDeveloperCacheExpirationInSeconds();
-        userRolesCache = new CachedMap<>(Duration.ofSeconds(cacheExpirationInSeconds));
+        userRolesCache = new CachedMap<>("user-roles", Duration.ofSeconds(cacheExpirationInSeconds), MAX_CACHED_USER_ROLES);
     }
 
     public void ensureUserIsAuthorized(HttpServletRequest request, UserInfo userInfo, CloudTarget target, String action) {
@@ -0,0 +1,97 @@
+package org.cloudfoundry.multiapps.controller.web.util;
+
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.cloudfoundry.multiapps.common.SLException;
+import org.cloudfoundry.multiapps.controller.core.model.CachedMap;
+import org.cloudfoundry.multiapps.controller.persistence.model.RateLimitReservation;
+import org.cloudfoundry.multiapps.controller.persistence.services.RateLimitBucketService;
+import org.cloudfoundry.multiapps.controller.web.Messages;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Rate limiter whose permits are shared between all instances through token buckets in the database. To avoid a database round trip
+ * per request, each instance reserves permits in blocks and hands them out locally, so an instance holds at most one block of permits
+ * per client which other instances cannot use. Once the shared bucket of a client is empty, its requests are rejected without querying
+ * the database until the bucket has been refilled with a permit. If the database cannot be reached, the fallback rate limiter is used for
+ * the client until the retry backoff elapses, so that the requests do not keep waiting for the unavailable database.
+ */
+public class DatabaseRateLimiter implements RateLimiter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DatabaseRateLimiter.class);
+    static final int PERMIT_BLOCKS_PER_QUOTA = 100;
+    static final Duration DATABASE_RETRY_BACKOFF = Duration.ofSeconds(30);
+
+    private final RateLimitBucketService rateLimitBucketService;
+    private final RateLimiter fallbackRateLimiter;
+    private final Map<RateLimitQuota, CachedMap<String, PermitBlock>> permitBlocksByQuota = new ConcurrentHashMap<>();
+
+    public DatabaseRateLimiter(RateLimitBucketService rateLimitBucketService, RateLimiter fallbackRateLimiter) {
+        this.rateLimitBucketService = rateLimitBucketService;
+        this.fallbackRateLimiter = fallbackRateLimiter;
+    }
+
+    @Override
+    public RateLimitResult tryAcquire(String key, RateLimitQuota quota) {
+        PermitBlock permitBlock = getPermitBlocks(quota).computeIfAbsent(key, PermitBlock::new);
+        synchronized (permitBlock) {
+            long currentTime = System.currentTimeMillis();
+            if (currentTime < permitBlock.fallbackEndTime) {
+                return fallbackRateLimiter.tryAcquire(key, quota);
+            }
+            if (permitBlock.permits == 0 && currentTime >= permitBlock.nextPermitTime) {
+                try {
+                    reservePermitBlock(permitBlock, key, quota, currentTime);
+                } catch (SLException e) {
+                    LOGGER.warn(MessageFormat.format(Messages.COULD_NOT_RESERVE_SHARED_RATE_LIMIT_PERMITS_FOR_0_USING_LOCAL_LIMITS, key,
+                                                     e.getMessage()),
+                                e);
+                    permitBlock.fallbackEndTime = currentTime + DATABASE_RETRY_BACKOFF.toMillis();
+                    return fallbackRateLimiter.tryAcquire(key, quota);
+                }
+            }
+            if (permitBlock.permits == 0) {
+                return new RateLimitResult(false, 0, Math.max(0, permitBlock.nextPermitTime - currentTime));
+            }
+            permitBlock.permits--;
+            return new RateLimitResult(true, permitBlock.permits + permitBlock.sharedPermits, 0);
+        }
+    }
+
+    private void reservePermitBlock(PermitBlock permitBlock, String key, RateLimitQuota quota, long currentTime) {
+        RateLimitReservation reservation = rateLimitBucketService.reservePermits(getBucketKey(key, quota), quota.limitForPeriod(),
+                                                                                 quota.period(), getPermitBlockSize(quota));
+        permitBlock.permits = reservation.getReservedPermits();
+        permitBlock.sharedPermits = reservation.getAvailablePermits();
+        permitBlock.nextPermitTime = currentTime + reservation.getMillisUntilNextPermit();
+    }
+
+    private String getBucketKey(String key, RateLimitQuota quota) {
+        return quota.pathPattern() + ":" + key;
+    }
+
+    private long getPermitBlockSize(RateLimitQuota quota) {
+        return Math.max(1, quota.limitForPeriod() / PERMIT_BLOCKS_PER_QUOTA);
+    }
+
+    private CachedMap<String, PermitBlock> getPermitBlocks(RateLimitQuota quota) {
+        // Permits left in an evicted block are not returned to the shared bucket, which only makes the limit stricter
+        return permitBlocksByQuota.computeIfAbsent(quota, newQuota -> new CachedMap<>("rate-limit-permit-blocks " + newQuota.pathPattern(),
+                                                                                      newQuota.period(),
+                                                                                      LocalRateLimiter.MAX_BUCKETS_PER_QUOTA, true));
+    }
+
+    private static class PermitBlock {
+
+        private long permits;
+        private long sharedPermits;
+        private long nextPermitTime;
+        private long fallbackEndTime;
+
+    }
+
+}
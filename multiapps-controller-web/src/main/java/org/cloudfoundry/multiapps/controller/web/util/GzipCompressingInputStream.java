@@ -0,0 +1,80 @@
+package org.cloudfoundry.multiapps.controller.web.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterInputStream;
+
+/**
+ * Stream of the content of another stream in gzip format, compressed while it is read. Unlike {@link java.util.zip.GZIPOutputStream},
+ * it can be passed as a response body without buffering the compressed content.
+ */
+public class GzipCompressingInputStream extends FilterInputStream {
+
+    private static final byte[] HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff };
+    private static final int TRAILER_SIZE = 8;
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Deflater deflater;
+
+    public GzipCompressingInputStream(InputStream content) {
+        this(new CheckedInputStream(content, new CRC32()), new Deflater(Deflater.DEFAULT_COMPRESSION, true));
+    }
+
+    private GzipCompressingInputStream(CheckedInputStream content, Deflater deflater) {
+        super(new SequenceInputStream(getMemberParts(content, deflater)));
+        this.deflater = deflater;
+    }
+
+    private static Enumeration<InputStream> getMemberParts(CheckedInputStream content, Deflater deflater) {
+        // The trailer is built only after the compressed content is read, since it contains the checksum and the size of the content
+        Iterator<Supplier<InputStream>> parts = List.<Supplier<InputStream>> of(() -> new ByteArrayInputStream(HEADER),
+                                                                                () -> new DeflaterInputStream(content, deflater, BUFFER_SIZE),
+                                                                                () -> new ByteArrayInputStream(getTrailer(content, deflater)))
+                                                    .iterator();
+        return new Enumeration<>() {
+
+            @Override
+            public boolean hasMoreElements() {
+                return parts.hasNext();
+            }
+
+            @Override
+            public InputStream nextElement() {
+                return parts.next()
+                            .get();
+            }
+
+        };
+    }
+
+    private static byte[] getTrailer(CheckedInputStream content, Deflater deflater) {
+        return ByteBuffer.allocate(TRAILER_SIZE)
+                         .order(ByteOrder.LITTLE_ENDIAN)
+                         .putInt((int) content.getChecksum()
+                                              .getValue())
+                         .putInt((int) deflater.getBytesRead())
+                         .array();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            deflater.end();
+        }
+    }
+
+}
@@ -0,0 +1,29 @@
+package org.cloudfoundry.multiapps.controller.web.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.cloudfoundry.multiapps.controller.core.model.CachedMap;
+
+/**
+ * Rate limiter whose permits are counted separately by each instance. The buckets of clients which have been idle for the whole period
+ * of a quota are full, so they are evicted. The number of buckets per quota is bounded, evicting the least recently used ones first.
+ */
+public class LocalRateLimiter implements RateLimiter {
+
+    static final int MAX_BUCKETS_PER_QUOTA = 10000;
+
+    private final Map<RateLimitQuota, CachedMap<String, TokenBucket>> bucketsByQuota = new ConcurrentHashMap<>();
+
+    @Override
+    public RateLimitResult tryAcquire(String key, RateLimitQuota quota) {
+        return getBuckets(quota).computeIfAbsent(key, () -> new TokenBucket(quota))
+                                .tryAcquire();
+    }
+
+    private CachedMap<String, TokenBucket> getBuckets(RateLimitQuota quota) {
+        return bucketsByQuota.computeIfAbsent(quota, newQuota -> new CachedMap<>("rate-limit-buckets " + newQuota.pathPattern(),
+                                                                                 newQuota.period(), MAX_BUCKETS_PER_QUOTA, true));
+    }
+
+}
@@ -0,0 +1,10 @@
+package org.cloudfoundry.multiapps.controller.web.util;
+
+import java.time.Duration;
+
+/**
+ * Maximum number of requests per period to the endpoints whose path matches {@code pathPattern}. The pattern also identifies the
+ * permits of the quota, so endpoints with different quotas do not share permits.
+ */
+public record RateLimitQuota(String pathPattern, long limitForPeriod, Duration period) {
+}
@@ -0,0 +1,9 @@
+package org.cloudfoundry.multiapps.controller.web.util;
+
+/**
+ * @param isAcquired whether a permit was acquired
+ * @param remainingPermits the number of permits which can still be acquired in the current period
+ * @param millisUntilNextPermit the time until a permit can be acquired, if none was acquired
+ */
+public record RateLimitResult(boolean isAcquired, long remainingPermits, long millisUntilNextPermit) {
+}
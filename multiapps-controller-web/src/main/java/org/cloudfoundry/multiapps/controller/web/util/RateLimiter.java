@@ -0,0 +1,10 @@
+package org.cloudfoundry.multiapps.controller.web.util;
+
+public interface RateLimiter {
+
+    /**
+     * Acquires a permit of the given quota for the client identified by the key, if the client has not used up the quota.
+     */
+    RateLimitResult tryAcquire(String key, RateLimitQuota quota);
+
+}
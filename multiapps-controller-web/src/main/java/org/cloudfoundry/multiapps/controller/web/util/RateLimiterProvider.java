@@ -1,29 +1,31 @@
 package org.cloudfoundry.multiapps.controller.web.util;
 
-import java.time.Duration;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
+import jakarta.inject.Inject;
 import jakarta.inject.Named;
 
-import io.github.resilience4j.ratelimiter.RateLimiterConfig;
-import io.github.resilience4j.ratelimiter.internal.AtomicRateLimiter;
+import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
+import org.cloudfoundry.multiapps.controller.persistence.services.RateLimitBucketService;
 
 @Named
 public class RateLimiterProvider {
 
-    private final Map<String, AtomicRateLimiter> rateLimiters = new ConcurrentHashMap<>();
+    private final RateLimiter rateLimiter;
+
+    @Inject
+    public RateLimiterProvider(ApplicationConfiguration applicationConfiguration, RateLimitBucketService rateLimitBucketService) {
+        this.rateLimiter = createRateLimiter(applicationConfiguration, rateLimitBucketService);
+    }
 
-    public AtomicRateLimiter getRateLimiter(String ipAddress) {
-        return rateLimiters.computeIfAbsent(ipAddress, k -> createRateLimiter());
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
     }
 
-    private AtomicRateLimiter createRateLimiter() {
-        RateLimiterConfig config = RateLimiterConfig.custom()
-                                                    .limitForPeriod(5000)
-                                                    .limitRefreshPeriod(Duration.ofHours(1))
-                                                    .timeoutDuration(Duration.ZERO)
-                                                    .build();
-        return new AtomicRateLimiter("MTA Rate Limiter", config);
+    private static RateLimiter createRateLimiter(ApplicationConfiguration applicationConfiguration,
+                                                 RateLimitBucketService rateLimitBucketService) {
+        LocalRateLimiter localRateLimiter = new LocalRateLimiter();
+        if (applicationConfiguration.isDistributedRateLimitingEnabled()) {
+            return new DatabaseRateLimiter(rateLimitBucketService, localRateLimiter);
+        }
+        return localRateLimiter;
     }
 }
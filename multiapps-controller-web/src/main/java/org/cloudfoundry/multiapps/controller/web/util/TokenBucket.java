@@ -0,0 +1,39 @@
+package org.cloudfoundry.multiapps.controller.web.util;
+
+/**
+ * Token bucket which holds at most the limit of a quota and is refilled continuously, so that an empty bucket is full again after the
+ * period of the quota.
+ */
+class TokenBucket {
+
+    private final long capacity;
+    private final double tokensPerMilli;
+    private double tokens;
+    private long lastRefillTime;
+
+    TokenBucket(RateLimitQuota quota) {
+        this.capacity = quota.limitForPeriod();
+        this.tokensPerMilli = (double) capacity / Math.max(1, quota.period()
+                                                                .toMillis());
+        this.tokens = capacity;
+        this.lastRefillTime = System.currentTimeMillis();
+    }
+
+    synchronized RateLimitResult tryAcquire() {
+        refill(System.currentTimeMillis());
+        if (tokens < 1) {
+            return new RateLimitResult(false, 0, (long) Math.ceil((1 - tokens) / tokensPerMilli));
+        }
+        tokens--;
+        return new RateLimitResult(true, (long) tokens, 0);
+    }
+
+    private void refill(long currentTime) {
+        if (currentTime <= lastRefillTime) {
+            return;
+        }
+        tokens = Math.min(capacity, tokens + (currentTime - lastRefillTime) * tokensPerMilli);
+        lastRefillTime = currentTime;
+    }
+
+}
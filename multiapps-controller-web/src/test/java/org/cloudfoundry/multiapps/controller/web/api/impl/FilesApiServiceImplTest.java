@@ -23,9 +23,12 @@ import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang3.RandomStringUtils;
 import org.cloudfoundry.multiapps.common.SLException;
@@ -62,9 +65,12 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
 import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.multipart.MultipartHttpServletRequest;
 
+import com.google.common.util.concurrent.Uninterruptibles;
+
 import jakarta.persistence.NoResultException;
 
 class FilesApiServiceImplTest {
@@ -196,6 +202,115 @@ class FilesApiServiceImplTest {
         assertMetadataMatches(fileEntry, fileMetadata);
     }
 
+    @Test
+    void testUploadMtaFiles() throws Exception {
+        FileEntry firstPartEntry = createFileEntry("test.mtar.part.0");
+        FileEntry secondPartEntry = createFileEntry("test.mtar.part.1");
+        MultipartFile firstPart = mockMultipartFile(firstPartEntry);
+        MultipartFile secondPart = mockMultipartFile(secondPartEntry);
+        LinkedMultiValueMap<String, MultipartFile> multiFileMap = new LinkedMultiValueMap<>();
+        multiFileMap.addAll("file", List.of(firstPart, secondPart));
+        Mockito.when(request.getMultiFileMap())
+               .thenReturn(multiFileMap);
+        mockAddFileContent(firstPartEntry);
+        mockAddFileContent(secondPartEntry);
+
+        ResponseEntity<List<FileMetadata>> response = testedClass.uploadFiles(request, SPACE_GUID, NAMESPACE);
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        List<FileMetadata> files = response.getBody();
+        assertEquals(2, files.size());
+        assertMetadataMatches(firstPartEntry, files.get(0));
+        assertMetadataMatches(secondPartEntry, files.get(1));
+        Mockito.verify(fileService)
+               .addFilesAttributes(List.of(firstPartEntry, secondPartEntry));
+        Mockito.verify(fileService, Mockito.never())
+               .addFile(Mockito.any(), Mockito.any(InputStream.class));
+    }
+
+    @Test
+    void testUploadMtaFilesWithoutFiles() {
+        Mockito.when(request.getMultiFileMap())
+               .thenReturn(new LinkedMultiValueMap<>());
+
+        assertThrows(SLException.class, () -> testedClass.uploadFiles(request, SPACE_GUID, NAMESPACE));
+    }
+
+    @Test
+    void testUploadMtaFilesDeletesStoredContentsWhenContentUploadFails() throws Exception {
+        FileEntry firstPartEntry = createFileEntry("test.mtar.part.0");
+        FileEntry secondPartEntry = createFileEntry("test.mtar.part.1");
+        prepareMultiFileMap(firstPartEntry, secondPartEntry);
+        mockAddFileContent(firstPartEntry);
+        Mockito.when(fileService.addFileContent(Mockito.argThat(fileEntry -> secondPartEntry.getName()
+                                                                                            .equals(fileEntry.getName())),
+                                                Mockito.any(InputStream.class)))
+               .thenThrow(new FileStorageException("expected exception"));
+
+        assertThrows(SLException.class, () -> testedClass.uploadFiles(request, SPACE_GUID, NAMESPACE));
+        Mockito.verify(fileService)
+               .deleteFile(SPACE_GUID, firstPartEntry.getId());
+        Mockito.verify(fileService, Mockito.never())
+               .addFilesAttributes(Mockito.any());
+    }
+
+    @Test
+    void testUploadMtaFilesDeletesContentStoredAfterAnotherPartFailed() throws Exception {
+        FileEntry firstPartEntry = createFileEntry("test.mtar.part.0");
+        FileEntry secondPartEntry = createFileEntry("test.mtar.part.1");
+        prepareMultiFileMap(firstPartEntry, secondPartEntry);
+        CountDownLatch secondPartStarted = new CountDownLatch(1);
+        Mockito.when(fileService.addFileContent(Mockito.argThat(fileEntry -> firstPartEntry.getName()
+                                                                                           .equals(fileEntry.getName())),
+                                                Mockito.any(InputStream.class)))
+               .thenAnswer(invocation -> {
+                   secondPartStarted.await(10, TimeUnit.SECONDS);
+                   throw new FileStorageException("expected exception");
+               });
+        Mockito.when(fileService.addFileContent(Mockito.argThat(fileEntry -> secondPartEntry.getName()
+                                                                                            .equals(fileEntry.getName())),
+                                                Mockito.any(InputStream.class)))
+               .thenAnswer(invocation -> {
+                   secondPartStarted.countDown();
+                   // The part is still being stored when the first one fails, like a database write which ignores interrupts:
+                   Uninterruptibles.sleepUninterruptibly(200, TimeUnit.MILLISECONDS);
+                   return secondPartEntry;
+               });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        when(fileStorageThreadPool.submit(any(Callable.class))).thenAnswer(invocation -> {
+            Callable<?> callable = invocation.getArgument(0);
+            return executor.submit(callable);
+        });
+
+        try {
+            assertThrows(SLException.class, () -> testedClass.uploadFiles(request, SPACE_GUID, NAMESPACE));
+        } finally {
+            executor.shutdownNow();
+        }
+        Mockito.verify(fileService)
+               .deleteFile(SPACE_GUID, secondPartEntry.getId());
+        Mockito.verify(fileService, Mockito.never())
+               .addFilesAttributes(Mockito.any());
+    }
+
+    @Test
+    void testUploadMtaFilesDeletesStoredContentsWhenAttributesUploadFails() throws Exception {
+        FileEntry firstPartEntry = createFileEntry("test.mtar.part.0");
+        FileEntry secondPartEntry = createFileEntry("test.mtar.part.1");
+        prepareMultiFileMap(firstPartEntry, secondPartEntry);
+        mockAddFileContent(firstPartEntry);
+        mockAddFileContent(secondPartEntry);
+        Mockito.doThrow(new FileStorageException("expected exception"))
+               .when(fileService)
+               .addFilesAttributes(Mockito.any());
+
+        assertThrows(SLException.class, () -> testedClass.uploadFiles(request, SPACE_GUID, NAMESPACE));
+        Mockito.verify(fileService)
+               .deleteFile(SPACE_GUID, firstPartEntry.getId());
+        Mockito.verify(fileService)
+               .deleteFile(SPACE_GUID, secondPartEntry.getId());
+    }
+
     @Test
     void testUploadFileFromUrl() throws Exception {
         String fileName = "test.mtar";
@@ -558,6 +673,38 @@ class FilesApiServiceImplTest {
         assertEquals(expected.getDigestAlgorithm(), actual.getDigestAlgorithm());
     }
 
+    private void prepareMultiFileMap(FileEntry... fileEntries) throws Exception {
+        LinkedMultiValueMap<String, MultipartFile> multiFileMap = new LinkedMultiValueMap<>();
+        for (FileEntry fileEntry : fileEntries) {
+            multiFileMap.add("file", mockMultipartFile(fileEntry));
+        }
+        Mockito.when(request.getMultiFileMap())
+               .thenReturn(multiFileMap);
+    }
+
+    private MultipartFile mockMultipartFile(FileEntry fileEntry) throws Exception {
+        MultipartFile multipartFile = Mockito.mock(MultipartFile.class);
+        Mockito.when(multipartFile.getSize())
+               .thenReturn(fileEntry.getSize()
+                                    .longValue());
+        Mockito.when(multipartFile.getOriginalFilename())
+               .thenReturn(fileEntry.getName());
+        Mockito.when(multipartFile.getInputStream())
+               .thenReturn(new ByteArrayInputStream(new byte[0]));
+        return multipartFile;
+    }
+
+    private void mockAddFileContent(FileEntry fileEntry) throws Exception {
+        Mockito.when(fileService.addFileContent(Mockito.eq(ImmutableFileEntry.builder()
+                                                                             .space(SPACE_GUID)
+                                                                             .namespace(NAMESPACE)
+                                                                             .name(fileEntry.getName())
+                                                                             .size(fileEntry.getSize())
+                                                                             .build()),
+                                                Mockito.any(InputStream.class)))
+               .thenReturn(fileEntry);
+    }
+
     private FileEntry createFileEntry(String name) {
         return ImmutableFileEntry.builder()
                                  .id(UUID.randomUUID()
@@ -1,6 +1,10 @@
 package org.cloudfoundry.multiapps.controller.web.api.impl;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.security.Principal;
+import java.time.ZonedDateTime;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
@@ -8,6 +12,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
 
 import jakarta.persistence.NoResultException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,11 +30,14 @@ import org.cloudfoundry.multiapps.controller.client.util.TokenProperties;
 import org.cloudfoundry.multiapps.controller.core.auditlogging.OperationsApiServiceAuditLog;
 import org.cloudfoundry.multiapps.controller.core.cf.CloudControllerClientFactory;
 import org.cloudfoundry.multiapps.controller.core.security.token.TokenService;
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableOperationLogChunk;
+import org.cloudfoundry.multiapps.controller.persistence.model.OperationLogChunk;
 import org.cloudfoundry.multiapps.controller.persistence.query.OperationQuery;
 import org.cloudfoundry.multiapps.controller.persistence.services.FileStorageException;
 import org.cloudfoundry.multiapps.controller.persistence.services.OperationService;
 import org.cloudfoundry.multiapps.controller.persistence.services.ProcessLogsPersistenceService;
 import org.cloudfoundry.multiapps.controller.persistence.services.ProgressMessageService;
+import org.cloudfoundry.multiapps.controller.persistence.services.ProgressMessagesBatchPersister;
 import org.cloudfoundry.multiapps.controller.process.flowable.Action;
 import org.cloudfoundry.multiapps.controller.process.flowable.FlowableFacade;
 import org.cloudfoundry.multiapps.controller.process.flowable.ProcessAction;
@@ -41,6 +49,8 @@ import org.flowable.engine.runtime.ProcessInstance;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Answers;
 import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
@@ -48,6 +58,9 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
@@ -56,6 +69,7 @@ import org.springframework.web.server.ResponseStatusException;
 
 import static org.cloudfoundry.multiapps.controller.core.util.SecurityUtil.USER_INFO;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -80,6 +94,8 @@ class OperationsApiServiceImplTest {
     @Mock
     private ProgressMessageService progressMessageService;
     @Mock
+    private ProgressMessagesBatchPersister progressMessagesBatchPersister;
+    @Mock
     private ProcessActionRegistry processActionRegistry;
     @Mock
     private ProcessAction processAction;
@@ -103,6 +119,7 @@ class OperationsApiServiceImplTest {
     private static final String RUNNING_PROCESS = "2";
     private static final String ERROR_PROCESS = "3";
     private static final String ABORTED_PROCESS = "4";
+    private static final ZonedDateTime STARTED_AT = ZonedDateTime.parse("2024-01-01T10:00:00Z");
 
     private List<Operation> operations;
     private String processId;
@@ -129,7 +146,8 @@ class OperationsApiServiceImplTest {
     void testGetOperations() {
         ResponseEntity<List<Operation>> response = operationsApiService.getOperations(SPACE_GUID, null,
                                                                                       List.of(Operation.State.FINISHED.toString(),
-                                                                                              Operation.State.ABORTED.toString()), 1);
+                                                                                              Operation.State.ABORTED.toString()), 1,
+                                                                                      null, null);
 
         List<Operation> operations = response.getBody();
         assertEquals(2, operations.size());
@@ -142,13 +160,56 @@ class OperationsApiServiceImplTest {
     @Test
     void testGetOperationsNotFound() {
         ResponseEntity<List<Operation>> response = operationsApiService.getOperations(SPACE_GUID, MTA_ID, Collections.singletonList(
-            Operation.State.ACTION_REQUIRED.toString()), 1);
+            Operation.State.ACTION_REQUIRED.toString()), 1, null, null);
 
         List<Operation> operations = response.getBody();
         assertTrue(operations.isEmpty());
 
     }
 
+    @Test
+    void testGetOperationsPage() {
+        ResponseEntity<List<Operation>> response = operationsApiService.getOperations(SPACE_GUID, MTA_ID, null, null, 2, null);
+
+        List<Operation> page = response.getBody();
+        assertEquals(operations.subList(0, 2), page);
+        String nextCursor = new OperationsPageCursor(STARTED_AT, RUNNING_PROCESS).encode();
+        String nextPageUrl = "/api/v1/spaces/" + SPACE_GUID + "/operations?mtaId=" + MTA_ID + "&pageSize=2&cursor=" + nextCursor;
+        assertEquals("<" + nextPageUrl + ">; rel=\"next\"", response.getHeaders()
+                                                                    .getFirst(HttpHeaders.LINK));
+        Mockito.verify(operationQuery)
+               .limitOnSelect(3);
+        Mockito.verify(operationsHelper)
+               .releaseLocksIfNeeded(operations.subList(0, 2));
+    }
+
+    @Test
+    void testGetLastOperationsPage() {
+        String cursor = new OperationsPageCursor(STARTED_AT, RUNNING_PROCESS).encode();
+        Mockito.doAnswer(invocation -> operations.subList(2, 4))
+               .when(operationQuery)
+               .list();
+
+        ResponseEntity<List<Operation>> response = operationsApiService.getOperations(SPACE_GUID, null, null, null, 2, cursor);
+
+        assertEquals(operations.subList(2, 4), response.getBody());
+        assertNull(response.getHeaders()
+                           .getFirst(HttpHeaders.LINK));
+        Mockito.verify(operationQuery)
+               .startedAfter(STARTED_AT, RUNNING_PROCESS);
+    }
+
+    @Test
+    void testGetOperationsPageWithInvalidCursor() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> operationsApiService.getOperations(SPACE_GUID, null, null, null, 2, "not-a-cursor"));
+    }
+
+    @Test
+    void testGetOperationsPageWithLast() {
+        assertThrows(IllegalArgumentException.class, () -> operationsApiService.getOperations(SPACE_GUID, null, null, 1, 2, null));
+    }
+
     @Test
     void testGetOperation() {
         String processId = FINISHED_PROCESS;
@@ -264,20 +325,137 @@ class OperationsApiServiceImplTest {
         String processId = FINISHED_PROCESS;
         String logName = "OPERATION.log";
         String expectedLogContent = "somelogcontentstring\n1234";
-        Mockito.when(logsService.getOperationLog(Mockito.eq(SPACE_GUID), Mockito.eq(processId), Mockito.eq(logName)))
-               .thenReturn(expectedLogContent);
-        ResponseEntity<String> response = operationsApiService.getOperationLogContent(SPACE_GUID, processId, logName);
-        String logContent = response.getBody();
-        assertEquals(expectedLogContent, logContent);
+        mockOperationLog(processId, logName, expectedLogContent, 0, expectedLogContent.length());
+        ResponseEntity<Resource> response = operationsApiService.getOperationLogContent(SPACE_GUID, processId, logName, null, null, null);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(expectedLogContent, readContent(response));
+    }
+
+    @Test
+    void testGetOperationLogContentWithRange() throws Exception {
+        String processId = FINISHED_PROCESS;
+        String logName = "OPERATION.log";
+        String logContent = "somelogcontentstring\n1234";
+        mockOperationLog(processId, logName, "1234", 21, 4);
+        ResponseEntity<Resource> response = operationsApiService.getOperationLogContent(SPACE_GUID, processId, logName, null, "bytes=21-", "gzip");
+        assertEquals(HttpStatus.PARTIAL_CONTENT, response.getStatusCode());
+        assertEquals("bytes 21-24/" + logContent.length(), response.getHeaders()
+                                                                   .getFirst(HttpHeaders.CONTENT_RANGE));
+        assertNull(response.getHeaders()
+                           .getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("1234", readContent(response));
+    }
+
+    @Test
+    void testGetOperationLogContentWithUnsatisfiableRange() throws Exception {
+        String processId = FINISHED_PROCESS;
+        String logName = "OPERATION.log";
+        String logContent = "somelogcontentstring\n1234";
+        mockOperationLog(processId, logName, logContent, 0, logContent.length());
+        ResponseEntity<Resource> response = operationsApiService.getOperationLogContent(SPACE_GUID, processId, logName, null, "bytes=100-", null);
+        assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, response.getStatusCode());
+        Mockito.verify(logsService, Mockito.never())
+               .openOperationLog(Mockito.any(), Mockito.anyLong(), Mockito.anyLong());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "bytes=0-3,21-", "bytes=abc" })
+    void testGetOperationLogContentWithMultipleOrMalformedRanges(String range) throws Exception {
+        String processId = FINISHED_PROCESS;
+        String logName = "OPERATION.log";
+        String logContent = "somelogcontentstring\n1234";
+        mockOperationLog(processId, logName, logContent, 0, logContent.length());
+        ResponseEntity<Resource> response = operationsApiService.getOperationLogContent(SPACE_GUID, processId, logName, null, range, null);
+        assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, response.getStatusCode());
+        assertEquals("bytes */" + logContent.length(), response.getHeaders()
+                                                               .getFirst(HttpHeaders.CONTENT_RANGE));
+        Mockito.verify(logsService, Mockito.never())
+               .openOperationLog(Mockito.any(), Mockito.anyLong(), Mockito.anyLong());
+    }
+
+    @Test
+    void testGetOperationLogContentFromOffset() throws Exception {
+        String processId = FINISHED_PROCESS;
+        String logName = "OPERATION.log";
+        mockOperationLog(processId, logName, "1234", 21, 4);
+        ResponseEntity<Resource> response = operationsApiService.getOperationLogContent(SPACE_GUID, processId, logName, 21L, null, null);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(4, response.getHeaders()
+                                .getContentLength());
+        assertEquals("1234", readContent(response));
+    }
+
+    @Test
+    void testGetOperationLogContentFromOffsetAfterEndOfLog() throws Exception {
+        String processId = FINISHED_PROCESS;
+        String logName = "OPERATION.log";
+        mockOperationLog(processId, logName, "", 25, 0);
+        ResponseEntity<Resource> response = operationsApiService.getOperationLogContent(SPACE_GUID, processId, logName, 100L, null, null);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("", readContent(response));
+    }
+
+    @Test
+    void testGetOperationLogContentCompressed() throws Exception {
+        String processId = FINISHED_PROCESS;
+        String logName = "OPERATION.log";
+        String expectedLogContent = "somelogcontentstring\n1234";
+        mockOperationLog(processId, logName, expectedLogContent, 0, expectedLogContent.length());
+        ResponseEntity<Resource> response = operationsApiService.getOperationLogContent(SPACE_GUID, processId, logName, null, null,
+                                                                                        "deflate, gzip;q=0.8");
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("gzip", response.getHeaders()
+                                     .getFirst(HttpHeaders.CONTENT_ENCODING));
+        try (InputStream content = new GZIPInputStream(response.getBody()
+                                                               .getInputStream())) {
+            assertEquals(expectedLogContent, new String(content.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void testGetOperationLogContentWithRejectedGzip() throws Exception {
+        String processId = FINISHED_PROCESS;
+        String logName = "OPERATION.log";
+        String expectedLogContent = "somelogcontentstring\n1234";
+        mockOperationLog(processId, logName, expectedLogContent, 0, expectedLogContent.length());
+        ResponseEntity<Resource> response = operationsApiService.getOperationLogContent(SPACE_GUID, processId, logName, null, null,
+                                                                                        "gzip;q=0, identity");
+        assertNull(response.getHeaders()
+                           .getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(expectedLogContent, readContent(response));
     }
 
     @Test
     void testGetOperationLogContentNotFound() throws Exception {
         String processId = FINISHED_PROCESS;
         String logName = "OPERATION.log";
-        Mockito.when(logsService.getOperationLog(Mockito.eq(SPACE_GUID), Mockito.eq(processId), Mockito.eq(logName)))
+        Mockito.when(logsService.listOperationLogChunks(Mockito.eq(SPACE_GUID), Mockito.eq(processId), Mockito.eq(logName)))
                .thenThrow(new NoResultException("log file not found"));
-        Assertions.assertThrows(NoResultException.class, () -> operationsApiService.getOperationLogContent(SPACE_GUID, processId, logName));
+        Assertions.assertThrows(NoResultException.class,
+                                () -> operationsApiService.getOperationLogContent(SPACE_GUID, processId, logName, null, null, null));
+    }
+
+    private void mockOperationLog(String processId, String logName, String content, long offset, long length)
+        throws FileStorageException {
+        List<OperationLogChunk> chunks = List.of(ImmutableOperationLogChunk.builder()
+                                                                           .id("first-chunk")
+                                                                           .size(21)
+                                                                           .build(),
+                                                 ImmutableOperationLogChunk.builder()
+                                                                           .id("second-chunk")
+                                                                           .size(4)
+                                                                           .build());
+        Mockito.when(logsService.listOperationLogChunks(Mockito.eq(SPACE_GUID), Mockito.eq(processId), Mockito.eq(logName)))
+               .thenReturn(chunks);
+        Mockito.when(logsService.openOperationLog(chunks, offset, length))
+               .thenReturn(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private String readContent(ResponseEntity<Resource> response) throws Exception {
+        return new String(response.getBody()
+                                  .getInputStream()
+                                  .readAllBytes(),
+                          StandardCharsets.UTF_8);
     }
 
     @Test
@@ -436,6 +614,7 @@ class OperationsApiServiceImplTest {
                                  .spaceId(SPACE_GUID)
                                  .processId(processId)
                                  .processType(ProcessType.DEPLOY)
+                                 .startedAt(STARTED_AT)
                                  .parameters(parameters)
                                  .build();
     }
@@ -1,68 +1,65 @@
 package org.cloudfoundry.multiapps.controller.web.monitoring;
 
-import java.io.File;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.time.LocalDateTime;
-import java.util.stream.Stream;
 
-import org.apache.commons.io.FileUtils;
-import org.cloudfoundry.multiapps.controller.core.util.ApplicationConfiguration;
-import org.junit.jupiter.api.AfterAll;
-import org.junit.jupiter.api.BeforeAll;
+import org.cloudfoundry.multiapps.controller.core.util.TempFilesSpaceTracker;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.Arguments;
-import org.junit.jupiter.params.provider.MethodSource;
-import org.mockito.MockitoAnnotations;
-
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
 
 class FssMonitorTest {
 
-    private static Path tempDir;
+    private static final long USED_SPACE = 1000;
+
+    private Path tempDir;
+    private Path tempFile;
 
     private FssMonitor fssMonitor;
 
-    @BeforeAll
-    static void setUpBeforeAll() throws IOException {
+    @BeforeEach
+    void setUp() throws IOException {
         tempDir = Files.createTempDirectory("testMonitor");
+        tempFile = tempDir.resolve("module.zip");
+        fssMonitor = new FssMonitor();
     }
 
-    @AfterAll
-    static void teardownAfterAll() throws IOException {
+    @AfterEach
+    void tearDown() throws IOException {
+        TempFilesSpaceTracker.untrack(tempFile);
+        Files.deleteIfExists(tempFile);
         Files.delete(tempDir);
     }
 
-    @BeforeEach
-    void setUpBefore() {
-        MockitoAnnotations.openMocks(this);
-        ApplicationConfiguration appConfigurations = new ApplicationConfiguration();
-        fssMonitor = new FssMonitor(appConfigurations);
+    @Test
+    void testUsedSpaceIsQueriedFromFileStore() {
+        assertTrue(fssMonitor.calculateUsedSpace(tempDir.toString()) > 0);
     }
 
-    @ParameterizedTest
-    @MethodSource
-    void testGetUsedSpace(File path, LocalDateTime lastCheck, long cachedValue, long expectedResult) {
-        fssMonitor.updateTimesMap.put(path, lastCheck);
-        fssMonitor.usedSpaceMap.put(path, cachedValue);
-        long actualResult = fssMonitor.calculateUsedSpace(path.getAbsolutePath());
-        assertEquals(expectedResult, actualResult);
-    }
+    @Test
+    void testUsedSpaceIsAdjustedWithTrackedTempFiles() throws IOException {
+        fssMonitor.usedSpaceSnapshots.put(tempDir, new FssMonitor.UsedSpaceSnapshot(USED_SPACE, TempFilesSpaceTracker.getTrackedBytes()));
+
+        Files.write(tempFile, new byte[100]);
+        TempFilesSpaceTracker.track(tempFile);
+        assertEquals(USED_SPACE + 100, fssMonitor.calculateUsedSpace(tempDir.toString()));
 
-    static Stream<Arguments> testGetUsedSpace() throws IOException {
-        return Stream.of(Arguments.of(tempDir.toFile(), LocalDateTime.now(), 10, 10), Arguments.of(tempDir.toFile(), LocalDateTime.now()
-                                                                                                                                  .minusMinutes(
-                                                                                                                                      10),
-                                                                                                   200, 200),
-                         Arguments.of(tempDir.toFile(), LocalDateTime.now()
-                                                                     .minusMinutes(50),
-                                      0, getSizeOfDir(tempDir)));
+        TempFilesSpaceTracker.untrack(tempFile);
+        assertEquals(USED_SPACE, fssMonitor.calculateUsedSpace(tempDir.toString()));
     }
 
-    private static long getSizeOfDir(Path filePath) {
-        return FileUtils.sizeOf(filePath.toFile());
+    @Test
+    void testReconciliationReplacesSnapshot() {
+        fssMonitor.usedSpaceSnapshots.put(tempDir, new FssMonitor.UsedSpaceSnapshot(-USED_SPACE, TempFilesSpaceTracker.getTrackedBytes()));
+        assertEquals(0, fssMonitor.calculateUsedSpace(tempDir.toString()));
+
+        fssMonitor.reconcileUsedSpace();
+
+        assertTrue(fssMonitor.calculateUsedSpace(tempDir.toString()) > 0);
     }
 
 }
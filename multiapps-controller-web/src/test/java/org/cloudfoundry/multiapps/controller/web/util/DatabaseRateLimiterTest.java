@@ -0,0 +1,107 @@
+package org.cloudfoundry.multiapps.controller.web.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.cloudfoundry.multiapps.common.SLException;
+import org.cloudfoundry.multiapps.controller.persistence.model.ImmutableRateLimitReservation;
+import org.cloudfoundry.multiapps.controller.persistence.model.RateLimitReservation;
+import org.cloudfoundry.multiapps.controller.persistence.services.RateLimitBucketService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class DatabaseRateLimiterTest {
+
+    private static final RateLimitQuota QUOTA = new RateLimitQuota("/api/**", 500, Duration.ofHours(1));
+    private static final long PERMIT_BLOCK_SIZE = 5;
+    private static final String KEY = "127.0.0.1";
+    private static final String BUCKET_KEY = "/api/**:127.0.0.1";
+
+    @Mock
+    private RateLimitBucketService rateLimitBucketService;
+    @Mock
+    private RateLimiter fallbackRateLimiter;
+
+    private DatabaseRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this)
+                          .close();
+        rateLimiter = new DatabaseRateLimiter(rateLimitBucketService, fallbackRateLimiter);
+    }
+
+    @Test
+    void testPermitsAreReservedInBlocks() {
+        RateLimitReservation reservation = createReservation(5, 490, 0);
+        when(rateLimitBucketService.reservePermits(BUCKET_KEY, 500, QUOTA.period(), PERMIT_BLOCK_SIZE)).thenReturn(reservation);
+
+        for (int i = 0; i < 5; i++) {
+            RateLimitResult result = rateLimiter.tryAcquire(KEY, QUOTA);
+            assertTrue(result.isAcquired());
+            assertEquals(490 + 4 - i, result.remainingPermits());
+        }
+        rateLimiter.tryAcquire(KEY, QUOTA);
+
+        verify(rateLimitBucketService, times(2)).reservePermits(BUCKET_KEY, 500, QUOTA.period(), PERMIT_BLOCK_SIZE);
+    }
+
+    @Test
+    void testRequestsAreRejectedWithoutReservationUntilNextPermit() {
+        RateLimitReservation reservation = createReservation(0, 0, 60000);
+        when(rateLimitBucketService.reservePermits(anyString(), anyLong(), eq(QUOTA.period()), anyLong())).thenReturn(reservation);
+
+        RateLimitResult firstResult = rateLimiter.tryAcquire(KEY, QUOTA);
+        RateLimitResult secondResult = rateLimiter.tryAcquire(KEY, QUOTA);
+
+        assertFalse(firstResult.isAcquired());
+        assertFalse(secondResult.isAcquired());
+        assertTrue(secondResult.millisUntilNextPermit() > 0);
+        verify(rateLimitBucketService, times(1)).reservePermits(anyString(), anyLong(), eq(QUOTA.period()), anyLong());
+    }
+
+    @Test
+    void testFallbackRateLimiterIsUsedWhenReservationFails() {
+        RateLimitResult fallbackResult = new RateLimitResult(true, 10, 0);
+        when(rateLimitBucketService.reservePermits(anyString(), anyLong(), eq(QUOTA.period()),
+                                                   anyLong())).thenThrow(new SLException("Database is not available"));
+        when(fallbackRateLimiter.tryAcquire(KEY, QUOTA)).thenReturn(fallbackResult);
+
+        assertEquals(fallbackResult, rateLimiter.tryAcquire(KEY, QUOTA));
+    }
+
+    @Test
+    void testDatabaseIsNotQueriedDuringBackoffAfterFailedReservation() {
+        RateLimitResult fallbackResult = new RateLimitResult(true, 10, 0);
+        when(rateLimitBucketService.reservePermits(anyString(), anyLong(), eq(QUOTA.period()),
+                                                   anyLong())).thenThrow(new SLException("Database is not available"));
+        when(fallbackRateLimiter.tryAcquire(KEY, QUOTA)).thenReturn(fallbackResult);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(fallbackResult, rateLimiter.tryAcquire(KEY, QUOTA));
+        }
+
+        verify(rateLimitBucketService, times(1)).reservePermits(anyString(), anyLong(), eq(QUOTA.period()), anyLong());
+        verify(fallbackRateLimiter, times(3)).tryAcquire(KEY, QUOTA);
+    }
+
+    private RateLimitReservation createReservation(long reservedPermits, long availablePermits, long millisUntilNextPermit) {
+        return ImmutableRateLimitReservation.builder()
+                                            .reservedPermits(reservedPermits)
+                                            .availablePermits(availablePermits)
+                                            .millisUntilNextPermit(millisUntilNextPermit)
+                                            .build();
+    }
+
+}
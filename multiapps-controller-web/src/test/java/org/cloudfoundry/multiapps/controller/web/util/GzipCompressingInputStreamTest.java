@@ -0,0 +1,36 @@
+package org.cloudfoundry.multiapps.controller.web.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class GzipCompressingInputStreamTest {
+
+    static Stream<Arguments> testCompressedContentCanBeDecompressed() {
+        byte[] randomContent = new byte[100_000];
+        new Random(42).nextBytes(randomContent);
+        return Stream.of(Arguments.of((Object) new byte[0]),
+                         Arguments.of((Object) "Deploying application \"foo\"...\n".repeat(10_000)
+                                                                                   .getBytes(StandardCharsets.UTF_8)),
+                         Arguments.of((Object) randomContent));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testCompressedContentCanBeDecompressed(byte[] content) throws IOException {
+        try (InputStream decompressedContent = new GZIPInputStream(new GzipCompressingInputStream(new ByteArrayInputStream(content)))) {
+            assertArrayEquals(content, decompressedContent.readAllBytes());
+        }
+    }
+
+}
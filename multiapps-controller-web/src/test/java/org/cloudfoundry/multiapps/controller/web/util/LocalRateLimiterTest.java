@@ -0,0 +1,58 @@
+package org.cloudfoundry.multiapps.controller.web.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class LocalRateLimiterTest {
+
+    private static final RateLimitQuota QUOTA = new RateLimitQuota("/api/**", 3, Duration.ofHours(1));
+    private static final String KEY = "127.0.0.1";
+
+    private final LocalRateLimiter rateLimiter = new LocalRateLimiter();
+
+    @Test
+    void testPermitsAreLimitedPerPeriod() {
+        for (int i = 2; i >= 0; i--) {
+            RateLimitResult result = rateLimiter.tryAcquire(KEY, QUOTA);
+            assertTrue(result.isAcquired());
+            assertEquals(i, result.remainingPermits());
+        }
+
+        RateLimitResult result = rateLimiter.tryAcquire(KEY, QUOTA);
+
+        assertFalse(result.isAcquired());
+        assertEquals(0, result.remainingPermits());
+        assertTrue(result.millisUntilNextPermit() > 0);
+    }
+
+    @Test
+    void testPermitsAreSeparatedByKeyAndQuota() {
+        RateLimitQuota otherQuota = new RateLimitQuota("/public/**", 1, Duration.ofHours(1));
+        rateLimiter.tryAcquire(KEY, otherQuota);
+
+        assertFalse(rateLimiter.tryAcquire(KEY, otherQuota)
+                               .isAcquired());
+        assertTrue(rateLimiter.tryAcquire("127.0.0.2", otherQuota)
+                              .isAcquired());
+        assertTrue(rateLimiter.tryAcquire(KEY, QUOTA)
+                              .isAcquired());
+    }
+
+    @Test
+    void testPermitsAreRefilled() throws InterruptedException {
+        RateLimitQuota shortQuota = new RateLimitQuota("/short/**", 2, Duration.ofMillis(100));
+        rateLimiter.tryAcquire(KEY, shortQuota);
+        rateLimiter.tryAcquire(KEY, shortQuota);
+
+        Thread.sleep(200);
+
+        assertTrue(rateLimiter.tryAcquire(KEY, shortQuota)
+                              .isAcquired());
+    }
+
+}